@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.SortedMap;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
@@ -41,17 +42,20 @@ import com.opengamma.strata.calc.marketdata.PerturbationMapping;
 import com.opengamma.strata.calc.marketdata.ScenarioDefinition;
 import com.opengamma.strata.calc.runner.CalculationFunctions;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
 import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.data.scenario.ScenarioPerturbation;
 import com.opengamma.strata.examples.marketdata.ExampleMarketDataBuilder;
 import com.opengamma.strata.market.ShiftType;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.RatesCurveGroup;
+import com.opengamma.strata.market.observable.HistoricalQuoteScenarioArray;
 import com.opengamma.strata.market.param.ParameterizedData;
-import com.opengamma.strata.market.param.PointShifts;
-import com.opengamma.strata.market.param.PointShiftsBuilder;
 import com.opengamma.strata.measure.Measures;
 import com.opengamma.strata.measure.StandardComponents;
 import com.opengamma.strata.product.AttributeType;
@@ -76,7 +80,8 @@ import com.opengamma.strata.product.swap.SwapTrade;
  * <p>
  * The differences between the zero rates in consecutive historical curves (dates d-1 and d)
  * are used to generate a scenario, later attributed to date d, containing these relative curve
- * shifts. The swap is then valued on the valuation date, applying each scenario to the base
+ * shifts. The differences are derived from a time series of the zero rate at each node
+ * using {@link HistoricalQuoteScenarioArray}. The swap is then valued on the valuation date, applying each scenario to the base
  * snapshot from the valuation date, to produce a PV series. A P&L series is then generated from
  * this.
  * <p>
@@ -161,19 +166,19 @@ public class HistoricalScenarioExample {
         .map(group -> group.findForwardCurve(IborIndices.USD_LIBOR_6M).get())
         .collect(toImmutableList());
 
-    // create mappings which will cause the point shift perturbations generated above
+    // create mappings which will cause the node shift perturbations generated above
     // to be applied to the correct curves
     PerturbationMapping<ParameterizedData> discountCurveMappings = PerturbationMapping.of(
         MarketDataFilter.ofName(CurveName.of("USD-Disc")),
-        buildShifts(usdDiscountCurves));
+        buildShifts(scenarioDates, usdDiscountCurves));
 
     PerturbationMapping<ParameterizedData> libor3mMappings = PerturbationMapping.of(
         MarketDataFilter.ofName(CurveName.of("USD-3ML")),
-        buildShifts(libor3mCurves));
+        buildShifts(scenarioDates, libor3mCurves));
 
     PerturbationMapping<ParameterizedData> libor6mMappings = PerturbationMapping.of(
         MarketDataFilter.ofName(CurveName.of("USD-6ML")),
-        buildShifts(libor6mCurves));
+        buildShifts(scenarioDates, libor6mCurves));
 
     // create a scenario definition from these mappings
     return ScenarioDefinition.ofMappings(
@@ -182,24 +187,25 @@ public class HistoricalScenarioExample {
         libor6mMappings);
   }
 
-  private static PointShifts buildShifts(List<Curve> historicalCurves) {
-    PointShiftsBuilder builder = PointShifts.builder(ShiftType.ABSOLUTE);
-
-    for (int scenarioIndex = 1; scenarioIndex < historicalCurves.size(); scenarioIndex++) {
-      Curve previousCurve = historicalCurves.get(scenarioIndex - 1);
-      Curve curve = historicalCurves.get(scenarioIndex);
-
-      // build up the shifts to apply to each node
-      // these are calculated as the actual change in the zero rate at that node between the two scenario dates
-      for (int curveNodeIdx = 0; curveNodeIdx < curve.getParameterCount(); curveNodeIdx++) {
-        double zeroRate = curve.getParameter(curveNodeIdx);
-        double previousZeroRate = previousCurve.getParameter(curveNodeIdx);
-        double shift = (zeroRate - previousZeroRate);
-        // the parameter metadata is used to identify a node to apply a perturbation to
-        builder.addShift(scenarioIndex, curve.getParameterMetadata(curveNodeIdx).getIdentifier(), shift);
+  private static HistoricalNodeShifts buildShifts(List<LocalDate> scenarioDates, List<Curve> historicalCurves) {
+    ImmutableMap.Builder<Object, HistoricalQuoteScenarioArray> builder = ImmutableMap.builder();
+    Curve baseCurve = historicalCurves.get(0);
+
+    for (int curveNodeIdx = 0; curveNodeIdx < baseCurve.getParameterCount(); curveNodeIdx++) {
+      // build the time series of the zero rate at the node
+      LocalDateDoubleTimeSeriesBuilder zeroRates = LocalDateDoubleTimeSeries.builder();
+      for (int dateIdx = 0; dateIdx < scenarioDates.size(); dateIdx++) {
+        zeroRates.put(scenarioDates.get(dateIdx), historicalCurves.get(dateIdx).getParameter(curveNodeIdx));
       }
+      // the shifts to apply to the node are the actual change in the zero rate between consecutive scenario dates
+      // these are calculated from the time series as they are accessed, rather than being stored
+      HistoricalQuoteScenarioArray shifts = HistoricalQuoteScenarioArray.ofReturns(zeroRates.build(), ShiftType.ABSOLUTE, 0d, 1);
+
+      // the parameter metadata is used to identify a node to apply a perturbation to
+      Object nodeIdentifier = baseCurve.getParameterMetadata(curveNodeIdx).getIdentifier();
+      builder.put(nodeIdentifier, shifts);
     }
-    return builder.build();
+    return new HistoricalNodeShifts(builder.build(), scenarioDates.size());
   }
 
   private static void outputPnl(List<LocalDate> scenarioDates, ScenarioArray<?> scenarioValuations) {
@@ -216,6 +222,50 @@ public class HistoricalScenarioExample {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * A perturbation applying the historical changes of the nodes of a curve.
+   * <p>
+   * Scenario zero is the base scenario. Scenario {@code i} shifts each node by the change
+   * between the scenario dates {@code i - 1} and {@code i}, which is read from the historical
+   * time series when the scenario is built, rather than every shift being stored up front.
+   */
+  private static final class HistoricalNodeShifts implements ScenarioPerturbation<ParameterizedData> {
+
+    private final Map<Object, HistoricalQuoteScenarioArray> shifts;
+    private final int scenarioCount;
+
+    private HistoricalNodeShifts(Map<Object, HistoricalQuoteScenarioArray> shifts, int scenarioCount) {
+      this.shifts = shifts;
+      this.scenarioCount = scenarioCount;
+    }
+
+    @Override
+    public MarketDataBox<ParameterizedData> applyTo(MarketDataBox<ParameterizedData> marketData, ReferenceData refData) {
+      return marketData.mapWithIndex(
+          scenarioCount,
+          (prams, scenarioIndex) -> scenarioIndex == 0 ?
+              prams :
+              prams.withPerturbation((index, value, meta) -> value + shift(meta.getIdentifier(), scenarioIndex - 1)));
+    }
+
+    // the shift of a node in a scenario, zero if the node has no history
+    private double shift(Object nodeIdentifier, int shiftIndex) {
+      HistoricalQuoteScenarioArray nodeShifts = shifts.get(nodeIdentifier);
+      return nodeShifts != null ? nodeShifts.get(shiftIndex) : 0d;
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return scenarioCount;
+    }
+
+    @Override
+    public Class<ParameterizedData> getMarketDataType() {
+      return ParameterizedData.class;
+    }
+  }
+
   //-------------------------------------------------------------------------
   // create a libor 3m vs libor 6m swap
   private static Trade createTrade() {
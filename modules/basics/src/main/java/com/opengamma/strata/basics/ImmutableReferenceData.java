@@ -17,6 +17,7 @@ import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableConstructor;
 import org.joda.beans.gen.PropertyDefinition;
 import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
@@ -27,6 +28,7 @@ import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.date.HolidayCalendarId;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.map.LookupMap;
 
 /**
  * An immutable set of reference data
@@ -47,6 +49,23 @@ public final class ImmutableReferenceData
    */
   @PropertyDefinition(validate = "notNull", builderType = "Map<? extends ReferenceDataId<?>, ?>")
   private final ImmutableMap<ReferenceDataId<?>, Object> values;
+  /**
+   * The values, optimized for lookup.
+   */
+  private final transient LookupMap<ReferenceDataId<?>, Object> lookup;  // derived
+
+  //-------------------------------------------------------------------------
+  @ImmutableConstructor
+  private ImmutableReferenceData(Map<? extends ReferenceDataId<?>, ?> values) {
+    JodaBeanUtils.notNull(values, "values");
+    this.values = ImmutableMap.copyOf(values);
+    this.lookup = LookupMap.of(this.values);
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new ImmutableReferenceData(values);
+  }
 
   //-------------------------------------------------------------------------
   /**
@@ -119,7 +138,7 @@ public final class ImmutableReferenceData
   @SuppressWarnings("unchecked")
   public <T> T queryValueOrNull(ReferenceDataId<T> id) {
     // no type check against id.getReferenceDataType() as checked in factory
-    return (T) values.get(id);
+    return (T) lookup.get(id);
   }
 
   @Override
@@ -160,12 +179,6 @@ public final class ImmutableReferenceData
    */
   private static final long serialVersionUID = 1L;
 
-  private ImmutableReferenceData(
-      Map<? extends ReferenceDataId<?>, ?> values) {
-    JodaBeanUtils.notNull(values, "values");
-    this.values = ImmutableMap.copyOf(values);
-  }
-
   @Override
   public ImmutableReferenceData.Meta metaBean() {
     return ImmutableReferenceData.Meta.INSTANCE;
@@ -20,6 +20,8 @@ import com.google.common.base.CharMatcher;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.map.OrdinalMap;
+import com.opengamma.strata.collect.map.OrdinalRegistry;
 
 /**
  * A unit of currency.
@@ -47,6 +49,10 @@ public final class Currency
    * The matcher for the code.
    */
   static final CharMatcher CODE_MATCHER = CharMatcher.inRange('A', 'Z');
+  /**
+   * The ordinals, keyed by code, initialized before any instance is created.
+   */
+  private static final OrdinalRegistry<String> ORDINALS = OrdinalRegistry.create();
   /**
    * The configured instances.
    */
@@ -301,6 +307,10 @@ public final class Currency
    * The cached hash code.
    */
   private final transient int cachedHashCode;
+  /**
+   * The ordinal.
+   */
+  private final transient int ordinal;
 
   //-------------------------------------------------------------------------
   /**
@@ -378,6 +388,7 @@ public final class Currency
     this.triangulationCurrency = triangulationCurrency;
     // total universe is (26 * 26 * 26) codes, which can provide a unique hash code
     this.cachedHashCode = ((code.charAt(0) - 64) << 16) + ((code.charAt(1) - 64) << 8) + (code.charAt(2) - 64);
+    this.ordinal = ORDINALS.ordinal(code);
   }
 
   /**
@@ -427,6 +438,19 @@ public final class Currency
     return Currency.of(triangulationCurrency);
   }
 
+  /**
+   * Gets the ordinal of the currency.
+   * <p>
+   * Each currency code is assigned a dense ordinal, starting from zero, when first used.
+   * The ordinal can be used as an array index, allowing fast lookup by currency, see {@link OrdinalMap}.
+   * The ordinal is not stable between JVM instances, thus it must not be stored or sent across a network.
+   * 
+   * @return the ordinal
+   */
+  public int ordinal() {
+    return ordinal;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Rounds the specified amount according to the minor units.
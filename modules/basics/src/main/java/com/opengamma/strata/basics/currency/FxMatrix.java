@@ -21,6 +21,7 @@ import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableConstructor;
 import org.joda.beans.gen.PropertyDefinition;
 import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
@@ -33,6 +34,7 @@ import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.map.OrdinalMap;
 import com.opengamma.strata.collect.tuple.Pair;
 
 /**
@@ -82,6 +84,33 @@ public final class FxMatrix
    */
   @PropertyDefinition(validate = "notNull")
   private final DoubleMatrix rates;
+  /**
+   * The position of each currency within the {@code rates} array, keyed by the ordinal of the currency.
+   */
+  private final transient OrdinalMap<Currency, Integer> currencyIndices;  // derived
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance.
+   *
+   * @param currencies  the currencies
+   * @param rates  the rates
+   */
+  @ImmutableConstructor
+  FxMatrix(
+      Map<Currency, Integer> currencies,
+      DoubleMatrix rates) {
+    JodaBeanUtils.notNull(currencies, "currencies");
+    JodaBeanUtils.notNull(rates, "rates");
+    this.currencies = ImmutableMap.copyOf(currencies);
+    this.rates = rates;
+    this.currencyIndices = OrdinalMap.of(this.currencies, Currency::ordinal);
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new FxMatrix(currencies, rates);
+  }
 
   //-------------------------------------------------------------------------
   /**
@@ -199,8 +228,8 @@ public final class FxMatrix
     if (baseCurrency.equals(counterCurrency)) {
       return 1d;
     }
-    Integer index1 = currencies.get(baseCurrency);
-    Integer index2 = currencies.get(counterCurrency);
+    Integer index1 = currencyIndices.get(baseCurrency);
+    Integer index2 = currencyIndices.get(counterCurrency);
     if (index1 != null && index2 != null) {
       return rates.get(index1, index2);
     } else {
@@ -304,20 +333,6 @@ public final class FxMatrix
    */
   private static final long serialVersionUID = 1L;
 
-  /**
-   * Creates an instance.
-   * @param currencies  the value of the property, not null
-   * @param rates  the value of the property, not null
-   */
-  FxMatrix(
-      Map<Currency, Integer> currencies,
-      DoubleMatrix rates) {
-    JodaBeanUtils.notNull(currencies, "currencies");
-    JodaBeanUtils.notNull(rates, "rates");
-    this.currencies = ImmutableMap.copyOf(currencies);
-    this.rates = rates;
-  }
-
   @Override
   public FxMatrix.Meta metaBean() {
     return FxMatrix.Meta.INSTANCE;
@@ -167,6 +167,17 @@ public class CurrencyTest {
     assertThat(Currency.of("CAD").getTriangulationCurrency()).isEqualTo(Currency.USD);
   }
 
+  @Test
+  public void test_ordinal() {
+    Set<Integer> ordinals = Currency.getAvailableCurrencies().stream()
+        .map(Currency::ordinal)
+        .collect(toImmutableSet());
+    assertThat(ordinals).hasSize(Currency.getAvailableCurrencies().size());
+    assertThat(Currency.of("USD").ordinal()).isEqualTo(Currency.USD.ordinal());
+    assertThat(Currency.of("XXY").ordinal()).isEqualTo(Currency.parse("xxy").ordinal());
+    assertThat(ordinals).doesNotContain(Currency.of("XXY").ordinal());
+  }
+
   //-----------------------------------------------------------------------
   @Test
   public void test_roundMinorUnits_double() {
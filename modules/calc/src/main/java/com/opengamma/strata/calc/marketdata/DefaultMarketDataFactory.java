@@ -9,16 +9,25 @@ import static com.opengamma.strata.collect.Guavate.not;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.collect.MapStream;
+import com.opengamma.strata.collect.concurrent.TaskScope;
 import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
@@ -42,6 +51,18 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   /** Market data functions, keyed by the type of the market data ID they can handle. */
   private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
 
+  /** The executor used to invoke the providers concurrently, null if the providers are invoked directly. */
+  private final Executor providerExecutor;
+
+  /** The permits bounding the requests in flight to the observable data provider, null if invoked directly. */
+  private final Semaphore observablePermits;
+
+  /** The permits bounding the requests in flight to the time-series provider, null if invoked directly. */
+  private final Semaphore timeSeriesPermits;
+
+  /** The number of observable identifiers requested in each task when invoking the provider concurrently. */
+  private static final int OBSERVABLE_BATCH_SIZE = 100;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance of the factory based on providers of market data and time-series.
@@ -52,14 +73,39 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param timeSeriesProvider  the provider time-series
    * @param functions  the functions that create the market data
    */
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    this(observableDataProvider, timeSeriesProvider, null, 0, functions);
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * where the providers are invoked concurrently using the executor.
+   * <p>
+   * The market data functions are used to build the market data.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param providerExecutor  the executor used to invoke the providers, null to invoke them directly
+   * @param maxConcurrentRequests  the maximum number of requests in flight to each provider, ignored if there is no executor
+   * @param functions  the functions that create the market data
+   */
   @SuppressWarnings("unchecked")
   DefaultMarketDataFactory(
       ObservableDataProvider observableDataProvider,
       TimeSeriesProvider timeSeriesProvider,
+      Executor providerExecutor,
+      int maxConcurrentRequests,
       List<MarketDataFunction<?, ?>> functions) {
 
     this.observableDataProvider = observableDataProvider;
     this.timeSeriesProvider = timeSeriesProvider;
+    this.providerExecutor = providerExecutor;
+    this.observablePermits = providerExecutor != null ? new Semaphore(maxConcurrentRequests) : null;
+    this.timeSeriesPermits = providerExecutor != null ? new Semaphore(maxConcurrentRequests) : null;
 
     // Use a HashMap instead of an ImmutableMap.Builder so values can be overwritten.
     // If the functions argument includes a missing mapping builder it can overwrite the one inserted below
@@ -141,10 +187,12 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       // Time series of observable data ------------------------------------------------------------
 
       // Build any time series that are required but not available
-      leafRequirements.getTimeSeries().stream()
+      Set<ObservableId> timeSeriesIds = leafRequirements.getTimeSeries().stream()
           .filter(id -> marketData.getTimeSeries(id).isEmpty())
           .filter(id -> suppliedData.getTimeSeries(id).isEmpty())
-          .forEach(id -> dataBuilder.addTimeSeriesResult(id, timeSeriesProvider.provideTimeSeries(id)));
+          .collect(toImmutableSet());
+      provideTimeSeries(timeSeriesIds)
+          .forEach(dataBuilder::addTimeSeriesResult);
 
       // Copy supplied time series to the scenario data
       leafRequirements.getTimeSeries().stream()
@@ -161,7 +209,7 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
 
       // Observable data is built in bulk so it can be efficiently requested from data provider in one operation
       if (!observableIds.isEmpty()) {
-        Map<ObservableId, Result<Double>> observableResults = observableDataProvider.provideObservableData(observableIds);
+        Map<ObservableId, Result<Double>> observableResults = provideObservableData(observableIds);
         MapStream.of(observableResults)
             .forEach((id, res) -> addObservableResult(id, res, refData, scenarioDefinition, dataBuilder));
       }
@@ -201,6 +249,52 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     return builtData;
   }
 
+  //-------------------------------------------------------------------------
+  // requests the time-series from the provider, one task per identifier if there is an executor
+  // each task waits for a permit, bounding the requests in flight
+  private Map<ObservableId, Result<LocalDateDoubleTimeSeries>> provideTimeSeries(Set<ObservableId> ids) {
+    if (providerExecutor == null || ids.size() <= 1) {
+      return MapStream.of(ids).mapValues(timeSeriesProvider::provideTimeSeries).toMap();
+    }
+    Map<ObservableId, Supplier<Result<LocalDateDoubleTimeSeries>>> tasks = new LinkedHashMap<>();
+    try (TaskScope scope = TaskScope.of(providerExecutor)) {
+      for (ObservableId id : ids) {
+        tasks.put(id, scope.fork(() -> withPermit(timeSeriesPermits, () -> timeSeriesProvider.provideTimeSeries(id))));
+      }
+      scope.join();
+    }
+    return MapStream.of(tasks).mapValues(Supplier::get).toMap();
+  }
+
+  // requests the observable data from the provider, one task per batch of identifiers if there is an executor
+  // each task waits for a permit, bounding the requests in flight
+  private Map<ObservableId, Result<Double>> provideObservableData(Set<ObservableId> ids) {
+    if (providerExecutor == null || ids.size() <= OBSERVABLE_BATCH_SIZE) {
+      return observableDataProvider.provideObservableData(ids);
+    }
+    List<Supplier<Map<ObservableId, Result<Double>>>> tasks = new ArrayList<>();
+    try (TaskScope scope = TaskScope.of(providerExecutor)) {
+      for (List<ObservableId> batch : Iterables.partition(ids, OBSERVABLE_BATCH_SIZE)) {
+        tasks.add(scope.fork(() -> withPermit(
+            observablePermits, () -> observableDataProvider.provideObservableData(ImmutableSet.copyOf(batch)))));
+      }
+      scope.join();
+    }
+    Map<ObservableId, Result<Double>> results = new LinkedHashMap<>();
+    tasks.forEach(task -> results.putAll(task.get()));
+    return results;
+  }
+
+  // invokes the provider once a permit is available
+  private static <T> T withPermit(Semaphore permits, Supplier<T> request) throws InterruptedException {
+    permits.acquire();
+    try {
+      return request.get();
+    } finally {
+      permits.release();
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds items of non-observable market data using a market data function.
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.MappedTimeSeriesStore;
+import com.opengamma.strata.data.ObservableId;
+
+/**
+ * A time-series provider backed by a memory-mapped file.
+ * <p>
+ * The time-series are read from a {@link MappedTimeSeriesStore}.
+ * Each time-series returned is a view of the file, thus no data is copied onto the heap.
+ * Multiple processes on the same host reading the same file share a single copy of the data.
+ * <p>
+ * The key of each time-series in the store is formed from the standard identifier,
+ * field name and observable source of the {@link ObservableId}, see {@link #key(ObservableId)}.
+ * The store is typically populated using {@link #append(Path, Map)}.
+ */
+public final class MappedTimeSeriesProvider implements TimeSeriesProvider {
+
+  /**
+   * The underlying store.
+   */
+  private final MappedTimeSeriesStore store;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance backed by the specified store.
+   * <p>
+   * The store must remain open while the provider is in use.
+   *
+   * @param store  the store
+   * @return the time-series provider
+   */
+  public static MappedTimeSeriesProvider of(MappedTimeSeriesStore store) {
+    return new MappedTimeSeriesProvider(store);
+  }
+
+  /**
+   * Appends time-series to the store in the specified file, creating it if necessary.
+   * <p>
+   * Only points after the latest date already stored for each identifier are appended.
+   * See {@link MappedTimeSeriesStore#append(Path, Map)} for details.
+   *
+   * @param file  the file
+   * @param updates  the time-series to append, keyed by identifier
+   * @throws UncheckedIOException if an IO error occurs
+   * @throws IllegalArgumentException if a key is too long or the file is not a valid store
+   * @throws IllegalStateException if the index of the store is full
+   */
+  public static void append(Path file, Map<? extends ObservableId, ? extends LocalDateDoubleTimeSeries> updates) {
+    ArgChecker.noNulls(updates, "updates");
+    Map<String, LocalDateDoubleTimeSeries> keyed = new LinkedHashMap<>();
+    for (Entry<? extends ObservableId, ? extends LocalDateDoubleTimeSeries> entry : updates.entrySet()) {
+      keyed.put(key(entry.getKey()), entry.getValue());
+    }
+    MappedTimeSeriesStore.append(file, keyed);
+  }
+
+  /**
+   * Gets the key used in the store for the specified identifier.
+   * <p>
+   * The key is the standard identifier, field name and observable source separated by '/'.
+   *
+   * @param id  the identifier
+   * @return the key
+   */
+  public static String key(ObservableId id) {
+    ArgChecker.notNull(id, "id");
+    return id.getStandardId() + "/" + id.getFieldName() + "/" + id.getObservableSource();
+  }
+
+  // restricted constructor
+  private MappedTimeSeriesProvider(MappedTimeSeriesStore store) {
+    this.store = ArgChecker.notNull(store, "store");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Result<LocalDateDoubleTimeSeries> provideTimeSeries(ObservableId identifier) {
+    return store.get(key(identifier))
+        .map(Result::success)
+        .orElseGet(() -> Result.failure(
+            FailureReason.MISSING_DATA,
+            "No time-series found in store for '{}'",
+            identifier));
+  }
+
+  @Override
+  public String toString() {
+    return "MappedTimeSeriesProvider[" + store + "]";
+  }
+
+}
@@ -6,10 +6,13 @@
 package com.opengamma.strata.calc.marketdata;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.concurrent.CloseableExecutor;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -74,6 +77,44 @@ public interface MarketDataFactory {
     return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions);
   }
 
+  /**
+   * Obtains an instance of the factory based on providers of market data and time-series,
+   * where the providers are invoked concurrently.
+   * <p>
+   * The market data functions are used to build the market data.
+   * <p>
+   * The providers typically block while loading data, thus requesting many identifiers one at a time is slow.
+   * This factory uses the executor to fan out the requests to the providers,
+   * requesting each time-series, and each batch of observable data, as a separate task.
+   * Each provider has at most the specified number of requests in flight at the same time,
+   * with the other tasks waiting for a request to complete,
+   * thus the load on the providers is bounded however many identifiers are requested.
+   * The executor would typically be one of {@linkplain CloseableExecutor#ofVirtualThreads(String) virtual threads},
+   * allowing the requests to block without exhausting platform threads.
+   * The providers must be thread-safe.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param providerExecutor  the executor used to invoke the providers
+   * @param maxConcurrentRequests  the maximum number of requests in flight to each provider, greater than zero
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory of(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Executor providerExecutor,
+      int maxConcurrentRequests,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    ArgChecker.notNull(providerExecutor, "providerExecutor");
+    ArgChecker.notNegativeOrZero(maxConcurrentRequests, "maxConcurrentRequests");
+    return new DefaultMarketDataFactory(
+        observableDataProvider, timeSeriesProvider, providerExecutor, maxConcurrentRequests, functions);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds a set of market data.
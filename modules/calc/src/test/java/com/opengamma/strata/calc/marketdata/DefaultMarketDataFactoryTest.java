@@ -8,11 +8,14 @@ package com.opengamma.strata.calc.marketdata;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +24,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.concurrent.CloseableExecutor;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
@@ -119,6 +123,96 @@ public class DefaultMarketDataFactoryTest {
     assertThat(marketData.getValue(idC)).isEqualTo(new TestMarketDataC(timeSeries));
   }
 
+  /**
+   * Tests building time series and observable data with the providers invoked concurrently.
+   */
+  @Test
+  public void buildWithProviderExecutor() {
+    Map<ObservableId, LocalDateDoubleTimeSeries> timeSeries = new HashMap<>();
+    MarketDataRequirementsBuilder requirementsBuilder = MarketDataRequirements.builder();
+    for (int i = 0; i < 250; i++) {
+      TestObservableId id = TestObservableId.of(Integer.toString(i));
+      timeSeries.put(id, LocalDateDoubleTimeSeries.of(date(2011, 3, 8), i));
+      requirementsBuilder.addTimeSeries(id).addValues(id);
+    }
+    TestObservableId missingId = TestObservableId.of("Missing");
+    requirementsBuilder.addTimeSeries(missingId);
+    MarketDataRequirements requirements = requirementsBuilder.build();
+    MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+
+    try (CloseableExecutor executor = CloseableExecutor.ofVirtualThreads("MarketData")) {
+      MarketDataFactory factory = MarketDataFactory.of(
+          new TestObservableDataProvider(),
+          new TestTimeSeriesProvider(timeSeries),
+          executor.getExecutorService(),
+          16,
+          ImmutableList.of());
+      BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+      for (int i = 0; i < 250; i++) {
+        TestObservableId id = TestObservableId.of(Integer.toString(i));
+        assertThat(marketData.getTimeSeries(id)).isEqualTo(timeSeries.get(id));
+        assertThat(marketData.getValue(id)).isEqualTo((double) i);
+      }
+      assertThat(marketData.getTimeSeries(missingId)).isEqualTo(LocalDateDoubleTimeSeries.empty());
+      assertThat(marketData.getTimeSeriesFailures()).containsOnlyKeys(missingId);
+    }
+  }
+
+  /**
+   * Tests that the number of concurrent requests to each provider is bounded.
+   */
+  @Test
+  public void buildWithProviderExecutor_bounded() {
+    MarketDataRequirementsBuilder requirementsBuilder = MarketDataRequirements.builder();
+    for (int i = 0; i < 1000; i++) {
+      TestObservableId id = TestObservableId.of(Integer.toString(i));
+      requirementsBuilder.addTimeSeries(id).addValues(id);
+    }
+    MarketDataRequirements requirements = requirementsBuilder.build();
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    TimeSeriesProvider timeSeriesProvider = id -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      pause();
+      inFlight.decrementAndGet();
+      return Result.success(LocalDateDoubleTimeSeries.of(date(2011, 3, 8), 1d));
+    };
+    AtomicInteger observableInFlight = new AtomicInteger();
+    AtomicInteger observableMaxInFlight = new AtomicInteger();
+    ObservableDataProvider observableDataProvider = ids -> {
+      observableMaxInFlight.accumulateAndGet(observableInFlight.incrementAndGet(), Math::max);
+      pause();
+      observableInFlight.decrementAndGet();
+      return ids.stream().collect(toImmutableMap(id -> id, id -> Result.success(1d)));
+    };
+
+    try (CloseableExecutor executor = CloseableExecutor.ofVirtualThreads("MarketData")) {
+      MarketDataFactory factory = MarketDataFactory.of(
+          observableDataProvider,
+          timeSeriesProvider,
+          executor.getExecutorService(),
+          3,
+          ImmutableList.of());
+      BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, MarketData.empty(date(2011, 3, 8)), REF_DATA);
+      assertThat(marketData.getTimeSeriesIds()).hasSize(1000);
+      assertThat(marketData.getValue(TestObservableId.of("999"))).isEqualTo(1d);
+      assertThat(maxInFlight.get()).isBetween(1, 3);
+      assertThat(observableMaxInFlight.get()).isBetween(1, 3);
+    }
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> MarketDataFactory.of(
+            observableDataProvider, timeSeriesProvider, Runnable::run, 0, ImmutableList.of()));
+  }
+
+  // pauses the calling thread briefly, simulating a blocking request
+  private static void pause() {
+    try {
+      Thread.sleep(1);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   /**
    * Tests building observable market data values.
    */
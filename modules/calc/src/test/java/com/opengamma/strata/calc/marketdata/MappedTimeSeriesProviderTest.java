@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.MappedTimeSeriesStore;
+import com.opengamma.strata.data.ObservableSource;
+
+/**
+ * Test {@link MappedTimeSeriesProvider}.
+ */
+public class MappedTimeSeriesProviderTest {
+
+  private static final TestObservableId ID1 = TestObservableId.of("1");
+  private static final TestObservableId ID2 = TestObservableId.of("2");
+  private static final TestObservableId ID1_SOURCE = TestObservableId.of("1", ObservableSource.of("Vendor"));
+  private static final LocalDateDoubleTimeSeries SERIES = LocalDateDoubleTimeSeries.builder()
+      .put(LocalDate.of(2020, 1, 6), 1d)
+      .put(LocalDate.of(2020, 1, 7), 2d)
+      .build();
+
+  @Test
+  public void test_provideTimeSeries() throws Exception {
+    Path file = Files.createTempFile("strata", ".ldtm");
+    try {
+      Files.delete(file);
+      MappedTimeSeriesProvider.append(file, ImmutableMap.of(ID1, SERIES));
+      try (MappedTimeSeriesStore store = MappedTimeSeriesStore.open(file)) {
+        MappedTimeSeriesProvider test = MappedTimeSeriesProvider.of(store);
+        Result<LocalDateDoubleTimeSeries> result = test.provideTimeSeries(ID1);
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getValue().toBuilder().build()).isEqualTo(SERIES);
+        Result<LocalDateDoubleTimeSeries> missing = test.provideTimeSeries(ID2);
+        assertThat(missing.isFailure()).isTrue();
+        assertThat(missing.getFailure().getReason()).isEqualTo(FailureReason.MISSING_DATA);
+        assertThat(test.provideTimeSeries(ID1_SOURCE).isFailure()).isTrue();
+        assertThat(test.toString()).contains("MappedTimeSeriesProvider");
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void test_key() {
+    assertThat(MappedTimeSeriesProvider.key(ID1)).isEqualTo(ID1.getStandardId() + "/" + ID1.getFieldName() + "/None");
+    assertThat(MappedTimeSeriesProvider.key(ID1_SOURCE)).isNotEqualTo(MappedTimeSeriesProvider.key(ID1));
+  }
+
+}
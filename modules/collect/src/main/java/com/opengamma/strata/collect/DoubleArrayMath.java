@@ -87,6 +87,26 @@ public final class DoubleArrayMath {
     return total;
   }
 
+  /**
+   * Calculates the dot product of two arrays.
+   * <p>
+   * This is the sum total of the products of the matching elements in the two arrays.
+   * The values are summed in index order.
+   * The two input arrays must have the same length and are not mutated.
+   * 
+   * @param array1  the first array
+   * @param array2  the second array
+   * @return the dot product
+   */
+  public static double dotProduct(double[] array1, double[] array2) {
+    int length = length(array1, array2);
+    double total = 0d;
+    for (int i = 0; i < length; i++) {
+      total += array1[i] * array2[i];
+    }
+    return total;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Applies an addition to each element in the array, returning a new array.
@@ -170,6 +190,23 @@ public final class DoubleArrayMath {
     }
   }
 
+  /**
+   * Adds values in the second array multiplied by a factor to the first array, mutating the first array.
+   * <p>
+   * The arrays must be the same length. Each value in {@code arrayToAdd} is multiplied by the factor
+   * and added to the value at the corresponding index in {@code array}.
+   *
+   * @param array  the array to mutate
+   * @param arrayToAdd  the array containing values to add
+   * @param factor  the factor to multiply the values to add by
+   */
+  public static void mutateByAddition(double[] array, double[] arrayToAdd, double factor) {
+    int length = length(array, arrayToAdd);
+    for (int i = 0; i < length; i++) {
+      array[i] += arrayToAdd[i] * factor;
+    }
+  }
+
   /**
    * Multiplies each element in the array by a value by mutation.
    * <p>
@@ -236,7 +273,12 @@ public final class DoubleArrayMath {
    * @return an array combining the two input arrays using the plus operator
    */
   public static double[] combineByAddition(double[] array1, double[] array2) {
-    return combine(array1, array2, (a, b) -> a + b);
+    int length = length(array1, array2);
+    double[] result = new double[length];
+    for (int i = 0; i < length; i++) {
+      result[i] = array1[i] + array2[i];
+    }
+    return result;
   }
 
   /**
@@ -260,7 +302,12 @@ public final class DoubleArrayMath {
    * @return an array combining the two input arrays using the multiply operator
    */
   public static double[] combineByMultiplication(double[] array1, double[] array2) {
-    return combine(array1, array2, (a, b) -> a * b);
+    int length = length(array1, array2);
+    double[] result = new double[length];
+    for (int i = 0; i < length; i++) {
+      result[i] = array1[i] * array2[i];
+    }
+    return result;
   }
 
   /**
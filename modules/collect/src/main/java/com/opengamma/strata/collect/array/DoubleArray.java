@@ -894,6 +894,34 @@ public final class DoubleArray
     return new DoubleArray(result);
   }
 
+  /**
+   * Returns an instance where each element is the sum of the matching value in this array
+   * and the matching value in the other array multiplied by a factor.
+   * <p>
+   * This is used to add a multiple of another array, returning a new array.
+   * Element {@code n} in the resulting array is equal to element {@code n} in this array
+   * plus element {@code n} in the other array multiplied by the factor.
+   * The arrays must be of the same size.
+   * <p>
+   * This is equivalent to {@code plus(other.multipliedBy(factor))} without the intermediate array.
+   * This instance is immutable and unaffected by this method.
+   *
+   * @param other  the other array
+   * @param factor  the multiplicative factor applied to the other array
+   * @return a copy of this array with the multiplied elements of the other array added
+   * @throws IllegalArgumentException if the arrays have different sizes
+   */
+  public DoubleArray plus(DoubleArray other, double factor) {
+    if (array.length != other.array.length) {
+      throw new IllegalArgumentException("Arrays have different sizes");
+    }
+    double[] result = new double[array.length];
+    for (int i = 0; i < array.length; i++) {
+      result[i] = array[i] + other.array[i] * factor;
+    }
+    return new DoubleArray(result);
+  }
+
   /**
    * Returns an instance where each element is formed by some combination of the matching
    * values in this array and the other array.
@@ -950,6 +978,26 @@ public final class DoubleArray
     return result;
   }
 
+  /**
+   * Returns the dot product of this array and the other array.
+   * <p>
+   * This is the sum of the products of the matching values in the two arrays.
+   * The arrays must be of the same size.
+   * <p>
+   * This is a special case of {@link #combineReduce(DoubleArray, DoubleTernaryOperator)}.
+   * The values are summed in index order, thus the result is identical to that reduction.
+   * 
+   * @param other  the other array
+   * @return the dot product
+   * @throws IllegalArgumentException if the arrays have different sizes
+   */
+  public double dotProduct(DoubleArray other) {
+    if (array.length != other.array.length) {
+      throw new IllegalArgumentException("Arrays have different sizes");
+    }
+    return DoubleArrayMath.dotProduct(array, other.array);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Returns an array that combines this array and the specified array.
@@ -54,6 +54,10 @@ public final class DoubleMatrix
    * Serialization version.
    */
   private static final long serialVersionUID = 1L;
+  /**
+   * The size of the square tiles used when transposing.
+   */
+  private static final int TRANSPOSE_TILE_SIZE = 32;
 
   /**
    * The underlying array of doubles.
@@ -740,11 +744,30 @@ public final class DoubleMatrix
    * <p>
    * This converts a matrix of {@code m x n} into a matrix of {@code n x m}.
    * Each element is moved to the opposite position.
+   * <p>
+   * The elements are copied in square tiles, so that both the source and destination
+   * are accessed in a cache-friendly manner for large matrices.
    * 
    * @return the transposed matrix
    */
   public DoubleMatrix transpose() {
-    return DoubleMatrix.of(columns, rows, (i, j) -> array[j][i]);
+    if (elements == 0) {
+      return EMPTY;
+    }
+    double[][] result = new double[columns][rows];
+    for (int ii = 0; ii < rows; ii += TRANSPOSE_TILE_SIZE) {
+      int iEnd = Math.min(ii + TRANSPOSE_TILE_SIZE, rows);
+      for (int jj = 0; jj < columns; jj += TRANSPOSE_TILE_SIZE) {
+        int jEnd = Math.min(jj + TRANSPOSE_TILE_SIZE, columns);
+        for (int i = ii; i < iEnd; i++) {
+          double[] row = array[i];
+          for (int j = jj; j < jEnd; j++) {
+            result[j][i] = row[j];
+          }
+        }
+      }
+    }
+    return new DoubleMatrix(result, columns, rows);
   }
 
   //-------------------------------------------------------------------------
@@ -6,7 +6,13 @@
 package com.opengamma.strata.collect.concurrent;
 
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -16,9 +22,16 @@ import com.opengamma.strata.collect.Unchecked;
  * AutoCloseable wrapper around an executor.
  * <p>
  * This shuts down the wrapped executor when it is closed, and can wait for tasks to exit.
+ * <p>
+ * An executor suited to blocking I/O-bound tasks can be created using {@link #ofVirtualThreads(String, Duration)}.
  */
 public class CloseableExecutor implements AutoCloseable {
 
+  /**
+   * The maximum number of platform threads used when virtual threads are not available.
+   */
+  static final int MAX_PLATFORM_THREADS = 256;
+
   /**
    * The wrapped executor service.
    */
@@ -66,6 +79,115 @@ public class CloseableExecutor implements AutoCloseable {
     return new CloseableExecutor(executor, duration);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a closeable executor that runs each task in a new virtual thread.
+   * <p>
+   * The returned executor is intended for blocking I/O-bound tasks, such as requesting market data,
+   * where thousands of tasks may be blocked at the same time.
+   * Virtual threads are cheap to create and do not hold a platform thread while blocked.
+   * <p>
+   * Virtual threads are only available from Java 21.
+   * On earlier versions, up to 256 daemon platform threads are created on demand, being discarded once idle.
+   * Once all the platform threads are in use, further tasks are queued until a thread is available.
+   * <p>
+   * The executor is shut down when the returned CloseableExecutor is closed.
+   *
+   * @param threadNamePrefix  the prefix of the name of each thread
+   * @return a CloseableExecutor
+   */
+  public static CloseableExecutor ofVirtualThreads(String threadNamePrefix) {
+    return ofVirtualThreads(threadNamePrefix, Duration.ZERO);
+  }
+
+  /**
+   * Returns a closeable executor that runs each task in a new virtual thread.
+   * <p>
+   * The returned executor is intended for blocking I/O-bound tasks, such as requesting market data,
+   * where thousands of tasks may be blocked at the same time.
+   * Virtual threads are cheap to create and do not hold a platform thread while blocked.
+   * <p>
+   * Virtual threads are only available from Java 21.
+   * On earlier versions, up to 256 daemon platform threads are created on demand, being discarded once idle.
+   * Once all the platform threads are in use, further tasks are queued until a thread is available.
+   * <p>
+   * The executor is shut down when the returned CloseableExecutor is closed, and waits for the given
+   * duration for tasks to finish.
+   *
+   * @param threadNamePrefix  the prefix of the name of each thread
+   * @param duration  the duration to wait for tasks to exit
+   * @return a CloseableExecutor
+   */
+  public static CloseableExecutor ofVirtualThreads(String threadNamePrefix, Duration duration) {
+    ArgChecker.notBlank(threadNamePrefix, "threadNamePrefix");
+    ExecutorService executor = virtualThreadFactory(threadNamePrefix)
+        .map(factory -> threadPerTaskExecutor(factory, 0))
+        .orElseGet(() -> boundedExecutor(platformThreadFactory(threadNamePrefix), MAX_PLATFORM_THREADS));
+    return new CloseableExecutor(executor, duration);
+  }
+
+  /**
+   * Checks if virtual threads are supported by the running JVM.
+   * <p>
+   * If this returns false, {@link #ofVirtualThreads(String)} uses platform threads.
+   *
+   * @return true if virtual threads are supported
+   */
+  public static boolean isVirtualThreadsSupported() {
+    return virtualThreadFactory("check").isPresent();
+  }
+
+  // finds the virtual thread factory reflectively, as the code is compiled against Java 8
+  private static Optional<ThreadFactory> virtualThreadFactory(String threadNamePrefix) {
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix + "-", 0L);
+      return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      return Optional.empty();
+    }
+  }
+
+  // creates a factory of daemon platform threads
+  private static ThreadFactory platformThreadFactory(String threadNamePrefix) {
+    ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+    return r -> {
+      Thread t = defaultFactory.newThread(r);
+      t.setName(threadNamePrefix + "-" + t.getName());
+      t.setDaemon(true);
+      return t;
+    };
+  }
+
+  // creates an unbounded executor that hands each task to an idle thread, or to a new thread if none is idle
+  // this is only used for virtual threads, which are cheap to create
+  private static ExecutorService threadPerTaskExecutor(ThreadFactory threadFactory, long keepAliveSeconds) {
+    return new ThreadPoolExecutor(
+        0, Integer.MAX_VALUE, keepAliveSeconds, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+  }
+
+  // creates an executor with a bounded number of threads, queueing tasks when all the threads are busy
+  // the threads are created on demand and discarded once idle
+  static ExecutorService boundedExecutor(ThreadFactory threadFactory, int maxThreads) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        maxThreads, maxThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the wrapped executor service.
+   * <p>
+   * Tasks may be submitted to the returned executor until this instance is closed.
+   *
+   * @return the executor service
+   */
+  public ExecutorService getExecutorService() {
+    return executorService;
+  }
+
   @Override
   public void close() {
     Unchecked.wrap(() -> {
@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.google.common.util.concurrent.UncheckedTimeoutException;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+
+/**
+ * A scope that runs a group of tasks concurrently, and waits for them all to complete.
+ * <p>
+ * Tasks are forked within the scope and run using an executor, typically one of
+ * {@linkplain CloseableExecutor#ofVirtualThreads(String) virtual threads}.
+ * The {@link #join()} method waits for all the forked tasks to complete.
+ * If any task fails, or the optional deadline passes, the scope is shut down,
+ * cancelling all the unfinished tasks by interrupting them, and {@code join()} throws an exception.
+ * <p>
+ * A scope should be used in a try-with-resources block, ensuring that no task outlives the scope:
+ * <pre>
+ *   try (TaskScope scope = TaskScope.of(executor, Duration.ofSeconds(30))) {
+ *     Supplier&lt;Double&gt; rate = scope.fork(() -&gt; loadRate(id));
+ *     Supplier&lt;LocalDateDoubleTimeSeries&gt; series = scope.fork(() -&gt; loadSeries(id));
+ *     scope.join();
+ *     return build(rate.get(), series.get());
+ *   }
+ * </pre>
+ * <p>
+ * This is a simplified form of the structured concurrency added to later versions of Java.
+ * <p>
+ * Instances are thread-safe, tasks may fork further tasks within the same scope.
+ */
+public final class TaskScope implements AutoCloseable {
+
+  /**
+   * The executor used to run the tasks.
+   */
+  private final Executor executor;
+  /**
+   * The deadline, as defined by {@link System#nanoTime()}, only used if {@code hasDeadline} is true.
+   */
+  private final long deadline;
+  /**
+   * Whether there is a deadline.
+   */
+  private final boolean hasDeadline;
+  /**
+   * The tasks that have been forked and not yet completed, guarded by this.
+   */
+  private final List<ScopedTask<?>> pending = new ArrayList<>();
+  /**
+   * The first failure, guarded by this.
+   */
+  private Throwable failure;
+  /**
+   * Whether the scope has been shut down, guarded by this.
+   */
+  private boolean shutdown;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a scope that runs tasks using the specified executor, with no deadline.
+   *
+   * @param executor  the executor used to run the tasks
+   * @return the scope
+   */
+  public static TaskScope of(Executor executor) {
+    return new TaskScope(executor, 0, false);
+  }
+
+  /**
+   * Obtains a scope that runs tasks using the specified executor, with a deadline.
+   * <p>
+   * The deadline is the specified duration after this method is called.
+   * If the forked tasks have not completed by the deadline, they are cancelled.
+   *
+   * @param executor  the executor used to run the tasks
+   * @param timeout  the duration after which the tasks are cancelled
+   * @return the scope
+   */
+  public static TaskScope of(Executor executor, Duration timeout) {
+    ArgChecker.notNull(timeout, "timeout");
+    ArgChecker.isFalse(timeout.isNegative(), "Timeout must be positive or zero: {}", timeout);
+    return new TaskScope(executor, System.nanoTime() + timeout.toNanos(), true);
+  }
+
+  // restricted constructor
+  private TaskScope(Executor executor, long deadline, boolean hasDeadline) {
+    this.executor = ArgChecker.notNull(executor, "executor");
+    this.deadline = deadline;
+    this.hasDeadline = hasDeadline;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Forks a task, running it using the executor.
+   * <p>
+   * The returned supplier provides the result of the task once {@link #join()} has returned normally.
+   * Calling the supplier before then, or if the task did not complete successfully, throws an exception.
+   *
+   * @param <T>  the type of the result
+   * @param task  the task to run
+   * @return the supplier of the result of the task
+   * @throws IllegalStateException if the scope has been shut down
+   */
+  public <T> Supplier<T> fork(Callable<T> task) {
+    ArgChecker.notNull(task, "task");
+    ScopedTask<T> scopedTask = new ScopedTask<>(task);
+    synchronized (this) {
+      if (shutdown) {
+        throw new IllegalStateException("Unable to fork task, scope has been shut down");
+      }
+      pending.add(scopedTask);
+    }
+    try {
+      executor.execute(scopedTask);
+    } catch (RejectedExecutionException ex) {
+      scopedTask.setException(ex);
+    }
+    return scopedTask;
+  }
+
+  /**
+   * Waits for all the forked tasks to complete.
+   * <p>
+   * If a task fails, the scope is shut down and the failure is rethrown.
+   * If the deadline passes, or the calling thread is interrupted, the scope is shut down and an exception is thrown.
+   * When the scope is shut down, all the unfinished tasks are cancelled.
+   *
+   * @throws UncheckedTimeoutException if the deadline passes before the tasks complete
+   * @throws RuntimeException if a task fails, or the calling thread is interrupted
+   */
+  public void join() {
+    Throwable thrown;
+    boolean timedOut = false;
+    synchronized (this) {
+      try {
+        while (!pending.isEmpty() && failure == null && !shutdown && !timedOut) {
+          if (hasDeadline) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0) {
+              TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            } else {
+              timedOut = true;
+            }
+          } else {
+            wait();
+          }
+        }
+        thrown = failure;
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        thrown = ex;
+      }
+      if (thrown == null && !timedOut && shutdown && !pending.isEmpty()) {
+        throw new IllegalStateException("Unable to join tasks, scope has been shut down");
+      }
+    }
+    if (thrown != null) {
+      shutdown();
+      throw Unchecked.propagate(thrown);
+    }
+    if (timedOut) {
+      shutdown();
+      throw new UncheckedTimeoutException("Tasks did not complete before the deadline");
+    }
+  }
+
+  /**
+   * Shuts down the scope, cancelling all unfinished tasks.
+   * <p>
+   * Unfinished tasks are interrupted. No further tasks may be forked.
+   */
+  public void shutdown() {
+    List<ScopedTask<?>> toCancel;
+    synchronized (this) {
+      shutdown = true;
+      toCancel = new ArrayList<>(pending);
+      notifyAll();
+    }
+    // cancel outside the lock, as cancellation calls back into this class
+    for (ScopedTask<?> task : toCancel) {
+      task.cancel(true);
+    }
+  }
+
+  /**
+   * Closes the scope, cancelling any unfinished tasks.
+   */
+  @Override
+  public void close() {
+    shutdown();
+  }
+
+  // called when a task completes
+  private synchronized void completed(ScopedTask<?> task, Throwable taskFailure) {
+    pending.remove(task);
+    if (taskFailure != null && failure == null && !shutdown) {
+      failure = taskFailure;
+    }
+    notifyAll();
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "TaskScope[" + pending.size() + " pending" + (shutdown ? ", shutdown" : "") + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A task running within the scope.
+   */
+  private final class ScopedTask<T> extends FutureTask<T> implements Supplier<T> {
+
+    private ScopedTask(Callable<T> task) {
+      super(task);
+    }
+
+    // exposed to allow a rejected task to be failed
+    @Override
+    protected void setException(Throwable ex) {
+      super.setException(ex);
+    }
+
+    @Override
+    protected void done() {
+      Throwable taskFailure = null;
+      if (!isCancelled()) {
+        try {
+          super.get();
+        } catch (ExecutionException ex) {
+          taskFailure = ex.getCause();
+        } catch (InterruptedException | CancellationException ex) {
+          // not possible, the task is complete
+        }
+      }
+      completed(this, taskFailure);
+    }
+
+    @Override
+    public T get() {
+      if (!isDone() || isCancelled()) {
+        throw new IllegalStateException("Task has not completed");
+      }
+      try {
+        return super.get();
+      } catch (ExecutionException ex) {
+        throw new IllegalStateException("Task failed", ex.getCause());
+      } catch (InterruptedException ex) {
+        throw new IllegalStateException("Task has not completed", ex);
+      }
+    }
+  }
+
+}
@@ -11,18 +11,20 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.CharSource;
-import com.google.common.io.CharStreams;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Unchecked;
 
@@ -34,6 +36,11 @@ import com.opengamma.strata.collect.Unchecked;
  * <p>
  * This class loads the entire CSV file into memory.
  * To process the CSV file row-by-row, use {@link CsvIterator}.
+ * Each row refers to the characters of the file that were read, creating the string form of each field on demand.
+ * As such, the rows share large character buffers, and retaining a single row retains the buffer it was parsed from.
+ * This is not an issue when the rows are used together with the file, but a row that is stored for longer than
+ * the file should be copied, such as by {@link CsvRow#subRow(int)} with an index of zero.
+ * For very large files, {@link #ofParallel(CharSource, boolean, char)} parses the file using multiple threads.
  * <p>
  * The CSV file format is a general-purpose comma-separated value format.
  * The format is parsed line-by-line, with lines separated by CR, LF or CRLF.
@@ -53,6 +60,11 @@ import com.opengamma.strata.collect.Unchecked;
  */
 public final class CsvFile {
 
+  /**
+   * The minimum number of characters in each chunk when parsing in parallel.
+   */
+  private static final int MIN_CHUNK_SIZE = 65536;
+
   /**
    * The header row, ordered as the headers appear in the file.
    */
@@ -101,8 +113,11 @@ public final class CsvFile {
    */
   public static CsvFile of(CharSource source, boolean headerRow, char separator) {
     ArgChecker.notNull(source, "source");
-    List<String> lines = Unchecked.wrap(() -> source.readLines());
-    return create(lines, headerRow, separator);
+    return Unchecked.wrap(() -> {
+      try (Reader reader = source.openStream()) {
+        return parse(new CsvLineReader(reader, separator), headerRow);
+      }
+    });
   }
 
   /**
@@ -150,23 +165,167 @@ public final class CsvFile {
    */
   public static CsvFile of(Reader reader, boolean headerRow, char separator) {
     ArgChecker.notNull(reader, "source");
-    List<String> lines = Unchecked.wrap(() -> CharStreams.readLines(reader));
-    return create(lines, headerRow, separator);
+    return Unchecked.wrap(() -> parse(new CsvLineReader(reader, separator), headerRow));
+  }
+
+  /**
+   * Parses the specified source as a CSV file in parallel, using a comma as the separator.
+   * <p>
+   * See {@link #ofParallel(CharSource, boolean, char)}.
+   * 
+   * @param source  the CSV file resource
+   * @param headerRow  whether the source has a header row, an empty source must still contain the header
+   * @return the CSV file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static CsvFile ofParallel(CharSource source, boolean headerRow) {
+    return ofParallel(source, headerRow, ',');
   }
 
-  // creates the file
-  private static CsvFile create(List<String> lines, boolean headerRow, char separator) {
-    if (headerRow) {
-      for (int i = 0; i < lines.size(); i++) {
-        ImmutableList<String> headers = parseLine(lines.get(i), separator);
-        if (!headers.isEmpty()) {
-          ImmutableMap<String, Integer> searchHeaders = buildSearchHeaders(headers);
-          return parseAll(lines, i + 1, separator, headers, searchHeaders);
+  /**
+   * Parses the specified source as a CSV file in parallel, where the separator is specified and might not be a comma.
+   * <p>
+   * This is intended for very large files.
+   * The whole file is read into memory, then split into chunks at line boundaries.
+   * The chunks are parsed in parallel using the common fork-join pool.
+   * The result is the same as {@link #of(CharSource, boolean, char)}, including the order and line number of each row.
+   * Small files are parsed without using parallelism.
+   * <p>
+   * CSV files sometimes contain a Unicode Byte Order Mark.
+   * Callers are responsible for handling this, such as by using {@link UnicodeBom}.
+   * 
+   * @param source  the file resource
+   * @param headerRow  whether the source has a header row, an empty source must still contain the header
+   * @param separator  the separator used to separate each field, typically a comma, but a tab is sometimes used
+   * @return the CSV file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static CsvFile ofParallel(CharSource source, boolean headerRow, char separator) {
+    ArgChecker.notNull(source, "source");
+    char[] buffer = Unchecked.wrap(() -> readAll(source));
+    int length = buffer.length;
+    // parse the header sequentially
+    CsvLineReader headerReader = new CsvLineReader(buffer, 0, length, separator);
+    Header header = Unchecked.wrap(() -> parseHeader(headerReader, headerRow));
+    int start = headerReader.position();
+    // split the remainder into chunks at line boundaries
+    int chunkCount = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, (length - start) / MIN_CHUNK_SIZE));
+    int[] bounds = new int[chunkCount + 1];
+    bounds[0] = start;
+    bounds[chunkCount] = length;
+    for (int i = 1; i < chunkCount; i++) {
+      long nominal = start + (long) (length - start) * i / chunkCount;
+      bounds[i] = nextLineStart(buffer, Math.max((int) nominal, bounds[i - 1]), length);
+    }
+    // count the lines in each chunk, to determine the line numbers
+    int[] lineCounts = IntStream.range(0, chunkCount).parallel()
+        .map(i -> countLines(buffer, bounds[i], bounds[i + 1]))
+        .toArray();
+    int[] firstLineNumbers = new int[chunkCount];
+    firstLineNumbers[0] = header.lineNumber;
+    for (int i = 1; i < chunkCount; i++) {
+      firstLineNumbers[i] = firstLineNumbers[i - 1] + lineCounts[i - 1];
+    }
+    // parse each chunk, retaining the order
+    List<ImmutableList<CsvRow>> chunks = IntStream.range(0, chunkCount).parallel()
+        .mapToObj(i -> Unchecked.wrap(() -> parseRows(
+            new CsvLineReader(buffer, bounds[i], bounds[i + 1], separator),
+            firstLineNumbers[i],
+            header.headers,
+            header.searchHeaders)))
+        .collect(toImmutableList());
+    ImmutableList.Builder<CsvRow> rows = ImmutableList.builder();
+    for (ImmutableList<CsvRow> chunk : chunks) {
+      rows.addAll(chunk);
+    }
+    return new CsvFile(header.headers, header.searchHeaders, rows.build());
+  }
+
+  // reads the whole source into a single buffer
+  private static char[] readAll(CharSource source) throws IOException {
+    try (Reader reader = source.openStream()) {
+      char[] buffer = new char[(int) Math.min(Math.max(source.lengthIfKnown().or(0L) + 1, 8192), Integer.MAX_VALUE - 8)];
+      int length = 0;
+      while (true) {
+        if (length == buffer.length) {
+          buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = reader.read(buffer, length, buffer.length - length);
+        if (read < 0) {
+          return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
         }
+        length += read;
+      }
+    }
+  }
+
+  // finds the start of the first line at or after the specified index
+  private static int nextLineStart(char[] buffer, int index, int length) {
+    for (int i = Math.max(index, 1); i < length; i++) {
+      char previous = buffer[i - 1];
+      if (previous == '\n' || (previous == '\r' && buffer[i] != '\n')) {
+        return i;
+      }
+    }
+    return length;
+  }
+
+  // counts the lines in a chunk that ends at a line boundary
+  private static int countLines(char[] buffer, int start, int end) {
+    int count = 0;
+    for (int i = start; i < end; i++) {
+      char ch = buffer[i];
+      if (ch == '\n' || (ch == '\r' && (i + 1 == end || buffer[i + 1] != '\n'))) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  //-------------------------------------------------------------------------
+  // parses the CSV file format
+  private static CsvFile parse(CsvLineReader lineReader, boolean headerRow) throws IOException {
+    Header header = parseHeader(lineReader, headerRow);
+    ImmutableList<CsvRow> rows = parseRows(lineReader, header.lineNumber, header.headers, header.searchHeaders);
+    return new CsvFile(header.headers, header.searchHeaders, rows);
+  }
+
+  // parses the header, if there is one
+  private static Header parseHeader(CsvLineReader lineReader, boolean headerRow) throws IOException {
+    if (!headerRow) {
+      return new Header(ImmutableList.of(), ImmutableMap.of(), 0);
+    }
+    int lineNumber = 0;
+    while (lineReader.nextLine()) {
+      lineNumber++;
+      CsvLine line = lineReader.parseLine();
+      if (line != null) {
+        ImmutableList<String> headers = line.toList();
+        return new Header(headers, buildSearchHeaders(headers), lineNumber);
+      }
+    }
+    throw new IllegalArgumentException("Could not read header row from empty CSV file");
+  }
+
+  // parses the data rows
+  private static ImmutableList<CsvRow> parseRows(
+      CsvLineReader lineReader,
+      int lineNumber,
+      ImmutableList<String> headers,
+      ImmutableMap<String, Integer> searchHeaders) throws IOException {
+
+    ImmutableList.Builder<CsvRow> rows = ImmutableList.builder();
+    int currentLineNumber = lineNumber;
+    while (lineReader.nextLine()) {
+      currentLineNumber++;
+      CsvLine line = lineReader.parseLine();
+      if (line != null) {
+        rows.add(new CsvRow(headers, searchHeaders, currentLineNumber, line));
       }
-      throw new IllegalArgumentException("Could not read header row from empty CSV file");
     }
-    return parseAll(lines, 0, separator, ImmutableList.of(), ImmutableMap.of());
+    return rows.build();
   }
 
   //-------------------------------------------------------------------------
@@ -311,96 +470,10 @@ public final class CsvFile {
   }
 
   //------------------------------------------------------------------------
-  // parses the CSV file format
-  private static CsvFile parseAll(
-      List<String> lines,
-      int lineIndex,
-      char separator,
-      ImmutableList<String> headers,
-      ImmutableMap<String, Integer> searchHeaders) {
-
-    ImmutableList.Builder<CsvRow> rows = ImmutableList.builder();
-    for (int i = lineIndex; i < lines.size(); i++) {
-      ImmutableList<String> fields = parseLine(lines.get(i), separator);
-      if (!fields.isEmpty()) {
-        rows.add(new CsvRow(headers, searchHeaders, i + 1, fields));
-      }
-    }
-    return new CsvFile(headers, searchHeaders, rows.build());
-  }
-
   // parse a single line
   static ImmutableList<String> parseLine(String line, char separator) {
-    if (line.length() == 0 || line.startsWith("#") || (line.startsWith(";") && separator != ';')) {
-      return ImmutableList.of();
-    }
-    ImmutableList.Builder<String> builder = ImmutableList.builder();
-    String terminated = line + separator;
-    // three modes of parsing - base, value and quote
-    // to match other lenient parsers, when quote mode finishes, the mode switches to value with the result combined
-    int pos = 0;
-    int startPos = 0;
-    String value = "";
-    boolean valueMode = false;
-    boolean quoteMode = false;
-    while (pos < terminated.length()) {
-      char ch = terminated.charAt(pos++);
-      if (quoteMode) {
-        // currently in quote mode
-        if (ch == '"' && pos < terminated.length() - 1 && terminated.charAt(pos) == '"') {
-          // two double quotes will become one
-          pos++;
-        } else if (ch == '"') {
-          // end of quoted section
-          value = terminated.substring(startPos, pos - 1).replace("\"\"", "\"");
-          startPos = pos;
-          quoteMode = false;
-        } else if (pos == terminated.length()) {
-          // end of string with quote not terminated properly
-          builder.add(terminated.substring(startPos, pos - 1).replace("\"\"", "\""));
-        }
-      } else if (valueMode) {
-        // currently in value mode
-        if (ch == separator) {
-          builder.add(value + terminated.substring(startPos, pos - 1).trim());
-          valueMode = false;
-          value = "";
-        }
-      } else if (ch == separator) {
-        // handle empty value
-        builder.add("");
-      } else if (ch == ' ') {
-        // ignore spaces after separators
-      } else if (ch == '=' && pos < terminated.length() - 1 && terminated.charAt(pos) == '"') {
-        // handle convention where ="xxx" means xxx by simply ignoring the equals
-      } else if (ch == '"') {
-        // quoted mode
-        startPos = pos;
-        quoteMode = true;
-        valueMode = true;
-      } else {
-        // non-quoted mode
-        startPos = pos - 1;
-        valueMode = true;
-      }
-    }
-    // check line has content
-    ImmutableList<String> fields = builder.build();
-    if (!hasContent(fields)) {
-      return ImmutableList.of();
-    }
-    return fields;
-  }
-
-  // determines whether there is any content on a line
-  // this handles lines that contain separators but nothing else
-  private static boolean hasContent(ImmutableList<String> fields) {
-    for (String field : fields) {
-      if (!field.isEmpty()) {
-        return true;
-      }
-    }
-    return false;
+    CsvLine parsed = CsvLineReader.parse(line, separator);
+    return parsed == null ? ImmutableList.of() : parsed.toList();
   }
 
   // build the search headers
@@ -414,6 +487,21 @@ public final class CsvFile {
     return ImmutableMap.copyOf(searchHeaders);
   }
 
+  //------------------------------------------------------------------------
+  // the parsed header row
+  private static final class Header {
+    private final ImmutableList<String> headers;
+    private final ImmutableMap<String, Integer> searchHeaders;
+    // the line number of the header, zero if none
+    private final int lineNumber;
+
+    private Header(ImmutableList<String> headers, ImmutableMap<String, Integer> searchHeaders, int lineNumber) {
+      this.headers = headers;
+      this.searchHeaders = searchHeaders;
+      this.lineNumber = lineNumber;
+    }
+  }
+
   //------------------------------------------------------------------------
   /**
    * Restricted constructor.
@@ -5,7 +5,6 @@
  */
 package com.opengamma.strata.collect.io;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.UncheckedIOException;
@@ -62,13 +61,9 @@ import com.opengamma.strata.collect.Unchecked;
 public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow> {
 
   /**
-   * The buffered reader.
+   * The line reader.
    */
-  private final BufferedReader reader;
-  /**
-   * The separator
-   */
-  private final char separator;
+  private final CsvLineReader reader;
   /**
    * The header row, ordered as the headers appear in the file.
    */
@@ -116,8 +111,8 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
   public static CsvIterator of(CharSource source, boolean headerRow, char separator) {
     ArgChecker.notNull(source, "source");
     @SuppressWarnings("resource")
-    BufferedReader reader = Unchecked.wrap(() -> source.openBufferedStream());
-    return create(reader, headerRow, separator);
+    Reader reader = Unchecked.wrap(() -> source.openStream());
+    return create(new CsvLineReader(reader, separator), headerRow);
   }
 
   /**
@@ -152,32 +147,29 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
    */
   public static CsvIterator of(Reader reader, boolean headerRow, char separator) {
     ArgChecker.notNull(reader, "reader");
-    @SuppressWarnings("resource")
-    BufferedReader breader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
-    return create(breader, headerRow, separator);
+    return create(new CsvLineReader(reader, separator), headerRow);
   }
 
   // create the iterator
-  private static CsvIterator create(BufferedReader breader, boolean headerRow, char separator) {
+  private static CsvIterator create(CsvLineReader lineReader, boolean headerRow) {
     try {
       if (!headerRow) {
-        return new CsvIterator(breader, separator, ImmutableList.of(), ImmutableMap.of(), 0);
+        return new CsvIterator(lineReader, ImmutableList.of(), ImmutableMap.of(), 0);
       }
-      String line = breader.readLine();
-      int lineNumber = 1;
-      while (line != null) {
-        ImmutableList<String> headers = CsvFile.parseLine(line, separator);
-        if (!headers.isEmpty()) {
-          return new CsvIterator(breader, separator, headers, CsvFile.buildSearchHeaders(headers), lineNumber);
-        }
-        line = breader.readLine();
+      int lineNumber = 0;
+      while (lineReader.nextLine()) {
         lineNumber++;
+        CsvLine line = lineReader.parseLine();
+        if (line != null) {
+          ImmutableList<String> headers = line.toList();
+          return new CsvIterator(lineReader, headers, CsvFile.buildSearchHeaders(headers), lineNumber);
+        }
       }
       throw new IllegalArgumentException("Could not read header row from empty CSV file");
 
     } catch (RuntimeException ex) {
       try {
-        breader.close();
+        lineReader.close();
       } catch (IOException ex2) {
         ex.addSuppressed(ex2);
       }
@@ -185,7 +177,7 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
 
     } catch (IOException ex) {
       try {
-        breader.close();
+        lineReader.close();
       } catch (IOException ex2) {
         ex.addSuppressed(ex2);
       }
@@ -197,19 +189,18 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
   /**
    * Restricted constructor.
    * 
-   * @param reader  the buffered reader
+   * @param reader  the line reader
    * @param headers  the header row
    * @param searchHeaders  the search headers
+   * @param currentLineNumber  the line number of the last line read
    */
   private CsvIterator(
-      BufferedReader reader,
-      char separator,
+      CsvLineReader reader,
       ImmutableList<String> headers,
       ImmutableMap<String, Integer> searchHeaders,
       int currentLineNumber) {
 
     this.reader = reader;
-    this.separator = separator;
     this.headers = headers;
     this.searchHeaders = searchHeaders;
     this.currentLineNumber = currentLineNumber;
@@ -314,12 +305,12 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
     if (nextRow != null) {
       return true;
     } else {
-      String line = null;
-      while ((line = Unchecked.wrap(() -> reader.readLine())) != null) {
+      while (Unchecked.wrap(() -> reader.nextLine())) {
         currentLineNumber++;
-        ImmutableList<String> fields = CsvFile.parseLine(line, separator);
-        if (!fields.isEmpty()) {
-          nextRow = new CsvRow(headers, searchHeaders, currentLineNumber, fields);
+        // copy the line, as the caller may retain the row after the buffer is no longer needed
+        CsvLine line = reader.parseLineCopy();
+        if (line != null) {
+          nextRow = new CsvRow(headers, searchHeaders, currentLineNumber, line);
           return true;
         }
       }
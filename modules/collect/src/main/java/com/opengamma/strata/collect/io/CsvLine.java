@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * The fields of a single parsed line of a CSV file.
+ * <p>
+ * Most fields are held as start and end offsets into a character buffer.
+ * The buffer is either shared by many lines, or a copy of the characters of this line.
+ * A line parsed from a shared buffer retains the whole buffer.
+ * The string form of each field is only created when it is accessed, and is then cached.
+ * Fields that required unescaping during parsing are held as strings.
+ * <p>
+ * This class is effectively immutable. The cache of strings may be populated by multiple threads,
+ * as the string for a given field is always the same.
+ */
+final class CsvLine {
+
+  /**
+   * The character buffer, which may be shared.
+   */
+  private final char[] buffer;
+  /**
+   * The start and end offset of each field in the buffer, -1 if the value is held as a string.
+   */
+  private final int[] bounds;
+  /**
+   * The cached string value of each field.
+   */
+  private final String[] values;
+
+  /**
+   * Creates an instance.
+   *
+   * @param buffer  the shared buffer
+   * @param bounds  the bounds of each field, two entries per field
+   * @param values  the string values, with non-null entries for fields that are not held in the buffer
+   */
+  CsvLine(char[] buffer, int[] bounds, String[] values) {
+    this.buffer = buffer;
+    this.bounds = bounds;
+    this.values = values;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of fields.
+   *
+   * @return the number of fields
+   */
+  int size() {
+    return values.length;
+  }
+
+  /**
+   * Gets a field.
+   *
+   * @param index  the field index
+   * @return the field
+   * @throws IndexOutOfBoundsException if the field index is invalid
+   */
+  String get(int index) {
+    String value = values[index];
+    if (value == null) {
+      int start = bounds[index * 2];
+      int end = bounds[index * 2 + 1];
+      value = start == end ? "" : new String(buffer, start, end - start);
+      values[index] = value;
+    }
+    return value;
+  }
+
+  /**
+   * Converts the fields to a list, creating the string form of every field.
+   *
+   * @return the list of fields
+   */
+  ImmutableList<String> toList() {
+    String[] array = new String[values.length];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = get(i);
+    }
+    return ImmutableList.copyOf(array);
+  }
+
+}
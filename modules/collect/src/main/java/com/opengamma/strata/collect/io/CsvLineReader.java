@@ -0,0 +1,350 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Reads and parses the lines of a CSV file.
+ * <p>
+ * The characters are read into large buffers, and each line is parsed in place.
+ * The resulting {@link CsvLine} refers to the buffer rather than copying each field.
+ * A buffer is never overwritten once lines have been parsed from it, instead a new buffer is allocated.
+ * Where lines are retained individually, {@link #parseLineCopy()} avoids each line retaining a whole buffer.
+ * <p>
+ * Lines are separated by CR, LF or CRLF, matching {@link java.io.BufferedReader#readLine()}.
+ * See {@link CsvFile} for details of the format of each line.
+ * <p>
+ * This class is mutable and must be used from a single thread.
+ */
+final class CsvLineReader {
+
+  /**
+   * The size of the first buffer.
+   */
+  private static final int INITIAL_BUFFER_SIZE = 8192;
+  /**
+   * The maximum size of a buffer, unless a single line is larger.
+   */
+  private static final int MAX_BUFFER_SIZE = 65536;
+
+  /**
+   * The reader, null if all the input is in the buffer.
+   */
+  private final Reader reader;
+  /**
+   * The separator.
+   */
+  private final char separator;
+  /**
+   * The current buffer.
+   */
+  private char[] buffer;
+  /**
+   * The position of the next unread character in the buffer.
+   */
+  private int position;
+  /**
+   * The end of the valid characters in the buffer.
+   */
+  private int limit;
+  /**
+   * Whether the end of the input has been reached.
+   */
+  private boolean endOfInput;
+  /**
+   * Whether the previous line ended with CR, thus a following LF should be skipped.
+   */
+  private boolean skipLf;
+  /**
+   * The start of the current line.
+   */
+  private int lineStart;
+  /**
+   * The end of the current line, excluding the line terminator.
+   */
+  private int lineEnd;
+  /**
+   * The field bounds of the line being parsed.
+   */
+  private int[] bounds = new int[32];
+  /**
+   * The field values of the line being parsed, null where the field is held in the buffer.
+   */
+  private String[] values = new String[16];
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance reading from a reader.
+   *
+   * @param reader  the reader
+   * @param separator  the separator
+   */
+  CsvLineReader(Reader reader, char separator) {
+    this.reader = reader;
+    this.separator = separator;
+    this.buffer = new char[0];
+  }
+
+  /**
+   * Creates an instance reading from part of a buffer that is already populated.
+   *
+   * @param buffer  the buffer
+   * @param start  the start index, inclusive
+   * @param end  the end index, exclusive
+   * @param separator  the separator
+   */
+  CsvLineReader(char[] buffer, int start, int end, char separator) {
+    this.reader = null;
+    this.separator = separator;
+    this.buffer = buffer;
+    this.position = start;
+    this.limit = end;
+    this.endOfInput = true;
+  }
+
+  /**
+   * Parses a single line.
+   *
+   * @param line  the line, excluding the line terminator
+   * @param separator  the separator
+   * @return the parsed line, null if the line has no content
+   */
+  static CsvLine parse(String line, char separator) {
+    char[] chars = line.toCharArray();
+    return new CsvLineReader(chars, 0, chars.length, separator).parse(chars, 0, chars.length);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Advances to the next line.
+   *
+   * @return true if there is another line, false if the end of the input has been reached
+   * @throws IOException if an IO error occurs
+   */
+  boolean nextLine() throws IOException {
+    while (true) {
+      if (skipLf) {
+        if (position < limit) {
+          if (buffer[position] == '\n') {
+            position++;
+          }
+          skipLf = false;
+        } else if (endOfInput) {
+          skipLf = false;
+        } else {
+          fill();
+          continue;
+        }
+      }
+      for (int i = position; i < limit; i++) {
+        char ch = buffer[i];
+        if (ch == '\n' || ch == '\r') {
+          lineStart = position;
+          lineEnd = i;
+          position = i + 1;
+          skipLf = ch == '\r';
+          return true;
+        }
+      }
+      if (endOfInput) {
+        if (position < limit) {
+          lineStart = position;
+          lineEnd = limit;
+          position = limit;
+          return true;
+        }
+        return false;
+      }
+      fill();
+    }
+  }
+
+  /**
+   * Parses the current line.
+   *
+   * @return the parsed line, null if the line has no content
+   */
+  CsvLine parseLine() {
+    return parse(buffer, lineStart, lineEnd);
+  }
+
+  /**
+   * Parses the current line, copying the characters of the line.
+   * <p>
+   * The parsed line refers to a copy of the characters of the line rather than the shared buffer.
+   * This is used when the line may be retained after the other lines from the buffer have been discarded.
+   *
+   * @return the parsed line, null if the line has no content
+   */
+  CsvLine parseLineCopy() {
+    char[] chars = Arrays.copyOfRange(buffer, lineStart, lineEnd);
+    return parse(chars, 0, chars.length);
+  }
+
+  /**
+   * Gets the position in the buffer after the current line, including the line terminator.
+   * <p>
+   * This is only meaningful when reading from a buffer that is already populated.
+   *
+   * @return the position of the start of the next line
+   */
+  int position() {
+    return skipLf && position < limit && buffer[position] == '\n' ? position + 1 : position;
+  }
+
+  /**
+   * Closes the underlying reader.
+   *
+   * @throws IOException if an IO error occurs
+   */
+  void close() throws IOException {
+    if (reader != null) {
+      reader.close();
+    }
+  }
+
+  // reads more data into a new buffer, retaining any partial line
+  private void fill() throws IOException {
+    int remaining = limit - position;
+    int size = Math.max(Math.min(buffer.length * 2, MAX_BUFFER_SIZE), INITIAL_BUFFER_SIZE);
+    if (remaining * 2 > size) {
+      size = remaining * 2;
+    }
+    char[] newBuffer = new char[size];
+    System.arraycopy(buffer, position, newBuffer, 0, remaining);
+    buffer = newBuffer;
+    position = 0;
+    limit = remaining;
+    // fill the buffer completely, as lines parsed from it will retain it
+    while (limit < size) {
+      int read = reader.read(buffer, limit, size - limit);
+      if (read < 0) {
+        endOfInput = true;
+        return;
+      }
+      limit += read;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // parses a line, following the same rules as the original string-based parser
+  // three modes of parsing - base, value and quote
+  // to match other lenient parsers, when quote mode finishes, the mode switches to value with the result combined
+  // the end of the line is treated as though it is a separator
+  private CsvLine parse(char[] buf, int start, int end) {
+    if (start == end || buf[start] == '#' || (buf[start] == ';' && separator != ';')) {
+      return null;
+    }
+    int count = 0;
+    int pos = start;
+    int startPos = start;
+    // the quoted part of the current value, if any
+    int quoteStart = -1;
+    int quoteEnd = -1;
+    boolean escaped = false;
+    boolean valueMode = false;
+    boolean quoteMode = false;
+    while (pos <= end) {
+      char ch = pos == end ? separator : buf[pos];
+      pos++;
+      if (quoteMode) {
+        // currently in quote mode
+        if (ch == '"' && pos < end && buf[pos] == '"') {
+          // two double quotes will become one
+          pos++;
+          escaped = true;
+        } else if (ch == '"') {
+          // end of quoted section
+          quoteStart = startPos;
+          quoteEnd = pos - 1;
+          startPos = pos;
+          quoteMode = false;
+        } else if (pos == end + 1) {
+          // end of string with quote not terminated properly
+          count = addQuoted(count, buf, startPos, pos - 1, escaped);
+        }
+      } else if (valueMode) {
+        // currently in value mode
+        if (ch == separator) {
+          // trim the unquoted part, matching String.trim()
+          int valueStart = startPos;
+          int valueEnd = pos - 1;
+          while (valueStart < valueEnd && buf[valueStart] <= ' ') {
+            valueStart++;
+          }
+          while (valueEnd > valueStart && buf[valueEnd - 1] <= ' ') {
+            valueEnd--;
+          }
+          if (quoteStart < 0) {
+            count = add(count, valueStart, valueEnd, null);
+          } else if (valueStart == valueEnd) {
+            count = addQuoted(count, buf, quoteStart, quoteEnd, escaped);
+          } else {
+            String quoted = unescape(buf, quoteStart, quoteEnd, escaped);
+            count = add(count, -1, -1, quoted + new String(buf, valueStart, valueEnd - valueStart));
+          }
+          valueMode = false;
+          quoteStart = -1;
+          escaped = false;
+        }
+      } else if (ch == separator) {
+        // handle empty value
+        count = add(count, pos - 1, pos - 1, null);
+      } else if (ch == ' ') {
+        // ignore spaces after separators
+      } else if (ch == '=' && pos < end && buf[pos] == '"') {
+        // handle convention where ="xxx" means xxx by simply ignoring the equals
+      } else if (ch == '"') {
+        // quoted mode
+        startPos = pos;
+        quoteMode = true;
+        valueMode = true;
+      } else {
+        // non-quoted mode
+        startPos = pos - 1;
+        valueMode = true;
+      }
+    }
+    // check line has content, this handles lines that contain separators but nothing else
+    for (int i = 0; i < count; i++) {
+      String value = values[i];
+      if (value != null ? !value.isEmpty() : bounds[i * 2] != bounds[i * 2 + 1]) {
+        return new CsvLine(buf, Arrays.copyOf(bounds, count * 2), Arrays.copyOf(values, count));
+      }
+    }
+    return null;
+  }
+
+  // adds a quoted value
+  private int addQuoted(int count, char[] buf, int start, int end, boolean escaped) {
+    if (escaped) {
+      return add(count, -1, -1, unescape(buf, start, end, true));
+    }
+    return add(count, start, end, null);
+  }
+
+  // adds a field
+  private int add(int count, int start, int end, String value) {
+    if (count == values.length) {
+      values = Arrays.copyOf(values, count * 2);
+      bounds = Arrays.copyOf(bounds, count * 4);
+    }
+    bounds[count * 2] = start;
+    bounds[count * 2 + 1] = end;
+    values[count] = value;
+    return count + 1;
+  }
+
+  // converts the content of a quoted value to a string
+  private static String unescape(char[] buf, int start, int end, boolean escaped) {
+    String str = new String(buf, start, end - start);
+    return escaped ? str.replace("\"\"", "\"") : str;
+  }
+
+}
@@ -34,9 +34,13 @@ public final class CsvRow {
    */
   private final ImmutableMap<String, Integer> searchHeaders;
   /**
-   * The fields in the row.
+   * The fields in the row, created on demand if the row was parsed from a line.
    */
-  private final ImmutableList<String> fields;
+  private volatile ImmutableList<String> fields;
+  /**
+   * The parsed line, null if the row was created from a list of fields.
+   */
+  private final CsvLine line;
   /**
    * The line number in the source file.
    */
@@ -62,6 +66,7 @@ public final class CsvRow {
     this.searchHeaders = ImmutableMap.copyOf(searchHeaders);
     this.lineNumber = lineNumber;
     this.fields = fields;
+    this.line = null;
   }
 
   /**
@@ -84,6 +89,29 @@ public final class CsvRow {
     this.searchHeaders = searchHeaders;
     this.lineNumber = lineNumber;
     this.fields = fields;
+    this.line = null;
+  }
+
+  /**
+   * Creates an instance, specifying the headers and parsed line.
+   * <p>
+   * The string form of each field is created as it is accessed.
+   * 
+   * @param headers  the headers
+   * @param searchHeaders  the search headers
+   * @param lineNumber  the line number
+   * @param line  the parsed line
+   */
+  CsvRow(
+      ImmutableList<String> headers,
+      ImmutableMap<String, Integer> searchHeaders,
+      int lineNumber,
+      CsvLine line) {
+
+    this.headers = headers;
+    this.searchHeaders = searchHeaders;
+    this.lineNumber = lineNumber;
+    this.line = line;
   }
 
   //------------------------------------------------------------------------
@@ -113,7 +141,12 @@ public final class CsvRow {
    * @return the fields
    */
   public ImmutableList<String> fields() {
-    return fields;
+    ImmutableList<String> result = fields;
+    if (result == null) {
+      result = line.toList();
+      fields = result;
+    }
+    return result;
   }
 
   /**
@@ -124,7 +157,7 @@ public final class CsvRow {
    * @return the number of fields
    */
   public int fieldCount() {
-    return Math.max(fields.size(), headers.size());
+    return Math.max(size(), headers.size());
   }
 
   /**
@@ -135,10 +168,15 @@ public final class CsvRow {
    * @throws IndexOutOfBoundsException if the field index is invalid
    */
   public String field(int index) {
-    if (index >= fields.size() && index < headers.size()) {
+    if (index >= size() && index < headers.size()) {
       return "";
     }
-    return fields.get(index);
+    return line != null ? line.get(index) : fields.get(index);
+  }
+
+  // the number of fields actually present
+  private int size() {
+    return line != null ? line.size() : fields.size();
   }
 
   //-------------------------------------------------------------------------
@@ -372,7 +410,7 @@ public final class CsvRow {
    * @return the sub row
    */
   public CsvRow subRow(int startInclusive) {
-    return subRow(startInclusive, fields.size());
+    return subRow(startInclusive, size());
   }
 
   /**
@@ -386,7 +424,7 @@ public final class CsvRow {
     return new CsvRow(
         headers.subList(Math.min(startInclusive, headers.size()), Math.min(endExclusive, headers.size())),
         lineNumber,
-        fields.subList(startInclusive, endExclusive));
+        fields().subList(startInclusive, endExclusive));
   }
 
   //-------------------------------------------------------------------------
@@ -405,7 +443,7 @@ public final class CsvRow {
     }
     if (obj instanceof CsvRow) {
       CsvRow other = (CsvRow) obj;
-      return headers.equals(other.headers) && fields.equals(other.fields);
+      return headers.equals(other.headers) && fields().equals(other.fields());
     }
     return false;
   }
@@ -417,7 +455,7 @@ public final class CsvRow {
    */
   @Override
   public int hashCode() {
-    return headers.hashCode() ^ fields.hashCode();
+    return headers.hashCode() ^ fields().hashCode();
   }
 
   /**
@@ -427,7 +465,7 @@ public final class CsvRow {
    */
   @Override
   public String toString() {
-    return "CsvRow" + fields.toString();
+    return "CsvRow" + fields().toString();
   }
 
 }
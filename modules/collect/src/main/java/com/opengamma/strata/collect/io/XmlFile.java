@@ -9,6 +9,8 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 
 import javax.xml.stream.XMLInputFactory;
@@ -32,6 +34,10 @@ import com.opengamma.strata.collect.Unchecked;
  * This approach is suitable for XML files where the size of the parsed XML file is
  * known to be manageable in memory.
  * <p>
+ * Larger files can be processed by {@link #streamElements(ByteSource, String, String, BiConsumer)},
+ * which parses one element at a time, typically in combination with
+ * {@link #of(ByteSource, String, Predicate)} to parse the remainder of the file.
+ * <p>
  * Note that the {@link XmlElement} representation does not express all XML features.
  * No support is provided for processing instructions, comments or mixed content.
  * In addition, it is not possible to determine the difference between empty content and no children.
@@ -117,6 +123,99 @@ public final class XmlFile {
     });
   }
 
+  /**
+   * Parses the specified source as an XML file to an in-memory DOM-like structure, skipping the content of some elements.
+   * <p>
+   * This parses the specified byte source expecting an XML file format.
+   * The resulting instance can be queried for the root element.
+   * <p>
+   * The skip function takes the element name and decides whether the content of the element should be skipped.
+   * A skipped element is returned with its attributes but with empty content and no children.
+   * Nothing is retained from the content of a skipped element, including any references.
+   * For example, a function could check if the name is "trade" to parse the structure around
+   * the trades without the memory cost of the trades themselves.
+   * <p>
+   * This supports capturing attribute references, such as an id/href pair,
+   * as described in {@link #of(ByteSource, String)}.
+   * 
+   * @param source  the XML source data
+   * @param refAttrName  the attribute name that should be parsed as a reference
+   * @param skipFn  the function that returns true if the content of the named element should be skipped
+   * @return the parsed file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static XmlFile of(ByteSource source, String refAttrName, Predicate<String> skipFn) {
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notNull(skipFn, "skipFn");
+    return Unchecked.wrap(() -> {
+      try (InputStream in = source.openBufferedStream()) {
+        XMLStreamReader xmlReader = XML_FACTORY.createXMLStreamReader(in);
+        try {
+          HashMap<String, XmlElement> refs = new HashMap<>();
+          XmlElement root = parse(xmlReader, refAttrName, refs, skipFn);
+          return new XmlFile(root, refs);
+        } finally {
+          xmlReader.close();
+        }
+      }
+    });
+  }
+
+  /**
+   * Parses the specified source as an XML file, streaming each element with the specified name to the consumer.
+   * <p>
+   * This parses the specified byte source expecting an XML file format.
+   * Each element with the specified name is parsed in full and passed to the consumer
+   * together with the map of references found within the element.
+   * Nothing else is retained, thus the memory used is bounded by the size of the largest matching element.
+   * Where an element with the specified name contains another with the same name,
+   * only the outer element is passed to the consumer.
+   * <p>
+   * The consumer is invoked in document order on the calling thread, before the rest of the file is read.
+   * It may hand the element off to another thread for processing.
+   * <p>
+   * This supports capturing attribute references, such as an id/href pair,
+   * as described in {@link #of(ByteSource, String)}.
+   * Only references within the element passed to the consumer are captured.
+   * 
+   * @param source  the XML source data
+   * @param refAttrName  the attribute name that should be parsed as a reference
+   * @param elementName  the name of the elements to stream
+   * @param consumer  the consumer of each element and its map of references
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static void streamElements(
+      ByteSource source,
+      String refAttrName,
+      String elementName,
+      BiConsumer<XmlElement, ImmutableMap<String, XmlElement>> consumer) {
+
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notNull(elementName, "elementName");
+    ArgChecker.notNull(consumer, "consumer");
+    Unchecked.wrap(() -> {
+      try (InputStream in = source.openBufferedStream()) {
+        XMLStreamReader xmlReader = XML_FACTORY.createXMLStreamReader(in);
+        try {
+          while (xmlReader.hasNext()) {
+            int event = xmlReader.next();
+            if (event == XMLStreamConstants.START_ELEMENT && elementName.equals(xmlReader.getLocalName())) {
+              HashMap<String, XmlElement> refs = new HashMap<>();
+              XmlElement element = parse(xmlReader, refAttrName, refs);
+              consumer.accept(element, ImmutableMap.copyOf(refs));
+            }
+          }
+        } catch (XMLStreamException ex) {
+          throw new IllegalArgumentException(ex);
+        } finally {
+          xmlReader.close();
+        }
+      }
+    });
+  }
+
   /**
    * Parses the element names and structure from the specified XML, filtering to reduce memory usage.
    * <p>
@@ -164,10 +263,29 @@ public final class XmlFile {
    * @throws IllegalArgumentException if the input cannot be parsed
    */
   private static XmlElement parse(XMLStreamReader reader, String refAttr, Map<String, XmlElement> refs) {
+    return parse(reader, refAttr, refs, name -> false);
+  }
+
+  // parses the tree from the StAX stream reader, capturing references and skipping the content of some elements
+  private static XmlElement parse(
+      XMLStreamReader reader,
+      String refAttr,
+      Map<String, XmlElement> refs,
+      Predicate<String> skipFn) {
+
     try {
       // parse start element
       String elementName = parseElementName(reader);
       ImmutableMap<String, String> attrs = parseAttributes(reader);
+      if (skipFn.test(elementName)) {
+        skipContent(reader);
+        XmlElement skipped = XmlElement.ofContent(elementName, attrs, "");
+        String ref = attrs.get(refAttr);
+        if (ref != null) {
+          refs.put(ref, skipped);
+        }
+        return skipped;
+      }
 
       // parse children or content
       ImmutableList.Builder<XmlElement> childBuilder = ImmutableList.builder();
@@ -177,7 +295,7 @@ public final class XmlFile {
         switch (event) {
           // parse child when start element found
           case XMLStreamConstants.START_ELEMENT:
-            childBuilder.add(parse(reader, refAttr, refs));
+            childBuilder.add(parse(reader, refAttr, refs, skipFn));
             break;
           // append content when characters found
           // since XMLStreamReader has IS_COALESCING=true means there should only be one content call
@@ -235,6 +353,19 @@ public final class XmlFile {
     }
   }
 
+  // skips the content of the current element, leaving the reader at the matching end element
+  private static void skipContent(XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+  }
+
   // find the start element and parses the name
   private static String parseElementName(XMLStreamReader reader) throws XMLStreamException {
     int event = reader.getEventType();
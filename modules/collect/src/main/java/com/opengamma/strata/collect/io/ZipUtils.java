@@ -5,21 +5,31 @@
  */
 package com.opengamma.strata.collect.io;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
 import java.io.UncheckedIOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
@@ -34,6 +44,7 @@ import org.joda.beans.TypedMetaBean;
 import org.joda.beans.gen.PropertyDefinition;
 import org.joda.beans.impl.light.LightMetaBean;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.collect.ArgChecker;
@@ -45,6 +56,10 @@ public final class ZipUtils {
   // need to watch out for ZIP slip attack when unzipping to file system
   // https://github.com/snyk/zip-slip-vulnerability
   private static final Path DUMMY_PATH = Paths.get("/dummy/");
+  // the initial size of the buffer used for an entry
+  private static final int INITIAL_BUFFER_SIZE = 8192;
+  // the maximum size of an array
+  private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
 
   private ZipUtils() {
   }
@@ -277,6 +292,145 @@ public final class ZipUtils {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Unzips the source, invoking the consumer for each entry in parallel on the common fork-join pool.
+   * <p>
+   * This is equivalent to calling {@link #unzipInParallel(BeanByteSource, long, Executor, BiConsumer)}
+   * with {@link ForkJoinPool#commonPool()}.
+   * Applications that use the common pool for other work should pass in a dedicated executor instead.
+   * 
+   * @param source  the byte source to unpack
+   * @param memoryBudget  the maximum number of bytes to buffer, greater than zero
+   * @param consumer  the consumer, which is passed the relative path name and content for each entry
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static void unzipInParallel(BeanByteSource source, long memoryBudget, BiConsumer<String, InputStream> consumer) {
+    unzipInParallel(source, memoryBudget, ForkJoinPool.commonPool(), consumer);
+  }
+
+  /**
+   * Unzips the source, invoking the consumer for each entry in parallel.
+   * <p>
+   * This is intended for large zip files containing many entries, such as a bundle of CSV files.
+   * The zip is read and inflated in order on the calling thread, while the consumer processes
+   * earlier entries in parallel using the executor.
+   * Each entry is buffered in memory before being passed to the consumer, subject to the memory budget.
+   * Reading pauses whenever the buffered entries awaiting processing would exceed the budget.
+   * <p>
+   * An entry larger than the budget is not fully buffered. Instead, the consumer is invoked on the
+   * calling thread with a stream that reads directly from the zip, thus the amount of memory
+   * used is bounded by the budget regardless of the size of the entries.
+   * <p>
+   * The consumer is invoked concurrently and must be thread-safe.
+   * It should read the stream but does not need to close it.
+   * This method returns once the consumer has processed every entry.
+   * If reading the zip fails, this method waits for the entries already submitted to the executor
+   * to be processed before rethrowing the exception.
+   * The first exception is rethrown, with any later exceptions added as suppressed exceptions.
+   * <p>
+   * Unlike {@link #unpackInMemory(BeanByteSource, BiConsumer)}, this method always treats the input as a zip file.
+   * Encrypted zip files can be processed by passing in the result of {@link #decryptZip(BeanByteSource, String)}.
+   * 
+   * @param source  the byte source to unpack
+   * @param memoryBudget  the maximum number of bytes to buffer, greater than zero
+   * @param executor  the executor used to invoke the consumer for the buffered entries
+   * @param consumer  the consumer, which is passed the relative path name and content for each entry
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static void unzipInParallel(
+      BeanByteSource source,
+      long memoryBudget,
+      Executor executor,
+      BiConsumer<String, InputStream> consumer) {
+
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notNegativeOrZero(memoryBudget, "memoryBudget");
+    ArgChecker.notNull(executor, "executor");
+    ArgChecker.notNull(consumer, "consumer");
+    List<CompletableFuture<Void>> tasks = new ArrayList<>();
+    Throwable failure = null;
+    try {
+      unzipEntries(source, new MemoryBudget(memoryBudget), executor, consumer, tasks);
+    } catch (RuntimeException | Error ex) {
+      failure = ex;
+      throw ex;
+    } finally {
+      awaitTasks(tasks, failure);
+    }
+  }
+
+  // reads the entries in order, submitting the buffered entries to the executor
+  private static void unzipEntries(
+      BeanByteSource source,
+      MemoryBudget budget,
+      Executor executor,
+      BiConsumer<String, InputStream> consumer,
+      List<CompletableFuture<Void>> tasks) {
+
+    Set<ZipKey> deduplicate = new HashSet<>();
+    try (ZipInputStream in = new ZipInputStream(source.openStream())) {
+      ZipEntry entry = in.getNextEntry();
+      while (entry != null) {
+        Path resolved = validateZipPathName(DUMMY_PATH, entry);
+        if (!entry.isDirectory()) {
+          if (deduplicate.add(new ZipKey(entry, resolved))) {
+            String name = entry.getName();
+            BufferedEntry buffered = bufferEntry(in, budget);
+            if (buffered.complete) {
+              tasks.add(CompletableFuture.runAsync(() -> {
+                try {
+                  consumer.accept(name, new ByteArrayInputStream(buffered.bytes, 0, buffered.size));
+                } finally {
+                  budget.release(buffered.size);
+                }
+              }, executor));
+            } else {
+              try {
+                InputStream remainder = new FilterInputStream(in) {
+                  @Override
+                  public void close() {
+                    // leave the zip open
+                  }
+                };
+                consumer.accept(name, new SequenceInputStream(
+                    new ByteArrayInputStream(buffered.bytes, 0, buffered.size), remainder));
+              } finally {
+                budget.release(buffered.size);
+              }
+            }
+          }
+        }
+        in.closeEntry();
+        entry = in.getNextEntry();
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  // waits for every task, rethrowing the first failure with later failures suppressed
+  // if the read failed, the task failures are added to that failure, which is already being thrown
+  private static void awaitTasks(List<CompletableFuture<Void>> tasks, Throwable readFailure) {
+    Throwable failure = readFailure;
+    for (CompletableFuture<Void> task : tasks) {
+      try {
+        task.join();
+      } catch (CompletionException ex) {
+        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+        if (failure == null) {
+          failure = cause;
+        } else {
+          failure.addSuppressed(cause);
+        }
+      }
+    }
+    if (readFailure == null && failure != null) {
+      Throwables.throwIfUnchecked(failure);
+      throw new CompletionException(failure);
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Provides a new source that decrypts the specified source ZIP.
@@ -319,6 +473,27 @@ public final class ZipUtils {
     }
   }
 
+  // buffer the current zip entry, stopping if the entry is too large for the budget
+  private static BufferedEntry bufferEntry(InputStream in, MemoryBudget budget) throws IOException {
+    int maxSize = (int) Math.min(budget.limit, MAX_ARRAY_SIZE);
+    byte[] bytes = new byte[Math.min(INITIAL_BUFFER_SIZE, maxSize)];
+    int size = 0;
+    while (true) {
+      if (size == bytes.length) {
+        if (size == maxSize) {
+          return new BufferedEntry(bytes, size, false);
+        }
+        bytes = Arrays.copyOf(bytes, (int) Math.min(bytes.length * 2L, maxSize));
+      }
+      int read = in.read(bytes, size, bytes.length - size);
+      if (read < 0) {
+        return new BufferedEntry(bytes, size, true);
+      }
+      budget.acquire(read);
+      size += read;
+    }
+  }
+
   // prevent ZIP slip attack
   private static Path validateZipPathName(Path rootPath, ZipEntry entry) throws ZipException {
     Path normalizedRootPath = rootPath.normalize();
@@ -360,6 +535,49 @@ public final class ZipUtils {
     }
   }
 
+  //-------------------------------------------------------------------------
+  // an entry that has been read into memory
+  private static final class BufferedEntry {
+    private final byte[] bytes;
+    private final int size;
+    private final boolean complete;
+
+    private BufferedEntry(byte[] bytes, int size, boolean complete) {
+      this.bytes = bytes;
+      this.size = size;
+      this.complete = complete;
+    }
+  }
+
+  // tracks the number of bytes that have been buffered but not yet consumed
+  private static final class MemoryBudget {
+    private final long limit;
+    private long used;
+
+    private MemoryBudget(long limit) {
+      this.limit = limit;
+    }
+
+    // waits until the bytes fit within the budget
+    // the caller must not already hold more than the limit, otherwise this would wait forever
+    private synchronized void acquire(long bytes) throws InterruptedIOException {
+      while (used + bytes > limit && used > 0) {
+        try {
+          wait();
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while waiting to unzip");
+        }
+      }
+      used += bytes;
+    }
+
+    private synchronized void release(long bytes) {
+      used -= bytes;
+      notifyAll();
+    }
+  }
+
   //-------------------------------------------------------------------------
   // byte source to wrap the underlying source
   private static final class ZipDecryptByteSource extends BeanByteSource implements ImmutableBean {
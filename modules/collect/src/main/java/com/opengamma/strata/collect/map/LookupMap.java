@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.map;
+
+import java.util.Map;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * An immutable map optimized for lookup by key.
+ * <p>
+ * This is a read-only lookup structure, typically derived from an {@code ImmutableMap}
+ * and held alongside it, rather than a general purpose map.
+ * <p>
+ * The entries are stored in two open-addressing hash tables.
+ * The first is keyed by identity, allowing a key that is the same instance as the key
+ * in the source map to be found without calling {@code hashCode} or {@code equals}.
+ * This is common, as identifiers are frequently constants or otherwise shared.
+ * The second is keyed by {@code hashCode} and {@code equals}, and is used when the identity lookup fails.
+ * The hash code of each key is stored, thus {@code equals} is only called when the hash codes match.
+ * <p>
+ * Null keys and values are not permitted.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @param <K>  the type of the key
+ * @param <V>  the type of the value
+ */
+public final class LookupMap<K, V> {
+
+  /**
+   * An empty instance.
+   */
+  private static final LookupMap<Object, Object> EMPTY = new LookupMap<>(new Object[0], new Object[0]);
+
+  /**
+   * The keys, indexed by entry.
+   */
+  private final Object[] keys;
+  /**
+   * The values, indexed by entry.
+   */
+  private final Object[] values;
+  /**
+   * The hash codes of the keys, indexed by entry.
+   */
+  private final int[] hashes;
+  /**
+   * The hash table keyed by {@code equals}, containing the entry index plus one, zero if empty.
+   */
+  private final int[] equalsTable;
+  /**
+   * The hash table keyed by identity, containing the entry index plus one, zero if empty.
+   */
+  private final int[] identityTable;
+  /**
+   * The mask used to convert a hash code to a table index.
+   */
+  private final int mask;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an empty instance.
+   *
+   * @param <K>  the type of the key
+   * @param <V>  the type of the value
+   * @return the empty map
+   */
+  @SuppressWarnings("unchecked")
+  public static <K, V> LookupMap<K, V> empty() {
+    return (LookupMap<K, V>) EMPTY;
+  }
+
+  /**
+   * Obtains an instance containing the entries of the specified map.
+   *
+   * @param <K>  the type of the key
+   * @param <V>  the type of the value
+   * @param map  the map to copy
+   * @return the lookup map
+   */
+  public static <K, V> LookupMap<K, V> of(Map<? extends K, ? extends V> map) {
+    ArgChecker.notNull(map, "map");
+    if (map.isEmpty()) {
+      return empty();
+    }
+    Object[] keys = new Object[map.size()];
+    Object[] values = new Object[map.size()];
+    int i = 0;
+    for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      keys[i] = ArgChecker.notNull(entry.getKey(), "key");
+      values[i] = ArgChecker.notNull(entry.getValue(), "value");
+      i++;
+    }
+    return new LookupMap<>(keys, values);
+  }
+
+  // restricted constructor
+  private LookupMap(Object[] keys, Object[] values) {
+    this.keys = keys;
+    this.values = values;
+    this.hashes = new int[keys.length];
+    // table is at most half full, giving short probe sequences
+    int tableSize = Integer.highestOneBit(Math.max(keys.length, 1) * 4 - 1);
+    this.equalsTable = new int[tableSize];
+    this.identityTable = new int[tableSize];
+    this.mask = tableSize - 1;
+    for (int i = 0; i < keys.length; i++) {
+      int hash = keys[i].hashCode();
+      hashes[i] = hash;
+      insert(equalsTable, spread(hash), i);
+      insert(identityTable, spread(System.identityHashCode(keys[i])), i);
+    }
+  }
+
+  // inserts an entry into the table using linear probing
+  private void insert(int[] table, int hash, int entry) {
+    int index = hash & mask;
+    while (table[index] != 0) {
+      index = (index + 1) & mask;
+    }
+    table[index] = entry + 1;
+  }
+
+  // spreads the bits of the hash code, as the table index uses the low bits
+  private static int spread(int hash) {
+    int h = hash * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the value associated with the key.
+   *
+   * @param key  the key to find
+   * @return the value, null if not found
+   */
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    if (key == null) {
+      return null;
+    }
+    // identity table
+    int index = spread(System.identityHashCode(key)) & mask;
+    int entry;
+    while ((entry = identityTable[index]) != 0) {
+      if (keys[entry - 1] == key) {
+        return (V) values[entry - 1];
+      }
+      index = (index + 1) & mask;
+    }
+    // equals table
+    int hash = key.hashCode();
+    index = spread(hash) & mask;
+    while ((entry = equalsTable[index]) != 0) {
+      if (hashes[entry - 1] == hash && key.equals(keys[entry - 1])) {
+        return (V) values[entry - 1];
+      }
+      index = (index + 1) & mask;
+    }
+    return null;
+  }
+
+  /**
+   * Checks if the key is present in the map.
+   *
+   * @param key  the key to find
+   * @return true if the key is present
+   */
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  /**
+   * Gets the number of entries in the map.
+   *
+   * @return the size
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(keys.length * 16 + 2).append('{');
+    for (int i = 0; i < keys.length; i++) {
+      buf.append(i == 0 ? "" : ", ").append(keys[i]).append('=').append(values[i]);
+    }
+    return buf.append('}').toString();
+  }
+
+}
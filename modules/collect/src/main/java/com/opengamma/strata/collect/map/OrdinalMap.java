@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.map;
+
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+
+/**
+ * An immutable map keyed by the ordinal of the key.
+ * <p>
+ * Each key has a dense ordinal, typically assigned by {@link OrdinalRegistry} and stored in the key.
+ * The values are held in an array indexed by the ordinal, thus a lookup is an array access,
+ * without calling {@code hashCode} or {@code equals}.
+ * The size of the array is one more than the largest ordinal of a key.
+ * <p>
+ * Null keys and values are not permitted.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @param <K>  the type of the key
+ * @param <V>  the type of the value
+ */
+public final class OrdinalMap<K, V> {
+
+  /**
+   * The function to obtain the ordinal of a key.
+   */
+  private final ToIntFunction<? super K> ordinalFunction;
+  /**
+   * The values, indexed by the ordinal of the key, null if no entry.
+   */
+  private final Object[] values;
+  /**
+   * The number of entries.
+   */
+  private final int size;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance containing the entries of the specified map.
+   * <p>
+   * The function must return a non-negative ordinal for each key, which is unique for each distinct key.
+   *
+   * @param <K>  the type of the key
+   * @param <V>  the type of the value
+   * @param map  the map to copy
+   * @param ordinalFunction  the function to obtain the ordinal of a key
+   * @return the ordinal map
+   * @throws IllegalArgumentException if two keys have the same ordinal, or an ordinal is negative
+   */
+  public static <K, V> OrdinalMap<K, V> of(Map<? extends K, ? extends V> map, ToIntFunction<? super K> ordinalFunction) {
+    ArgChecker.notNull(map, "map");
+    ArgChecker.notNull(ordinalFunction, "ordinalFunction");
+    int max = -1;
+    for (K key : map.keySet()) {
+      int ordinal = ordinalFunction.applyAsInt(key);
+      ArgChecker.notNegative(ordinal, "ordinal");
+      max = Math.max(max, ordinal);
+    }
+    Object[] values = new Object[max + 1];
+    for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      int ordinal = ordinalFunction.applyAsInt(entry.getKey());
+      if (values[ordinal] != null) {
+        throw new IllegalArgumentException(Messages.format(
+            "Keys must have unique ordinals, but found duplicate ordinal {} for key '{}'", ordinal, entry.getKey()));
+      }
+      values[ordinal] = ArgChecker.notNull(entry.getValue(), "value");
+    }
+    return new OrdinalMap<>(ordinalFunction, values, map.size());
+  }
+
+  // restricted constructor
+  private OrdinalMap(ToIntFunction<? super K> ordinalFunction, Object[] values, int size) {
+    this.ordinalFunction = ordinalFunction;
+    this.values = values;
+    this.size = size;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the value associated with the key.
+   *
+   * @param key  the key to find
+   * @return the value, null if not found
+   */
+  @SuppressWarnings("unchecked")
+  public V get(K key) {
+    int ordinal = ordinalFunction.applyAsInt(key);
+    return ordinal < values.length ? (V) values[ordinal] : null;
+  }
+
+  /**
+   * Checks if the key is present in the map.
+   *
+   * @param key  the key to find
+   * @return true if the key is present
+   */
+  public boolean containsKey(K key) {
+    return get(key) != null;
+  }
+
+  /**
+   * Gets the number of entries in the map.
+   *
+   * @return the size
+   */
+  public int size() {
+    return size;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "OrdinalMap[size=" + size + "]";
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.map;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A registry assigning dense ordinals to keys.
+ * <p>
+ * Each distinct key, as defined by {@code equals}, is assigned an ordinal when first seen.
+ * Ordinals are assigned in order from zero, and are never reused, thus they are suitable
+ * for use as an index into an array, such as by {@link OrdinalMap}.
+ * <p>
+ * Looking up an ordinal involves a hash lookup, thus the benefit arises when the ordinal
+ * is obtained once and stored, typically in a field of the key itself.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <K>  the type of the key
+ */
+public final class OrdinalRegistry<K> {
+
+  /**
+   * The ordinals, keyed by key.
+   */
+  private final ConcurrentHashMap<K, Integer> ordinals = new ConcurrentHashMap<>();
+  /**
+   * The keys, indexed by ordinal, guarded by this.
+   */
+  private final List<K> keys = new ArrayList<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an empty registry.
+   *
+   * @param <K>  the type of the key
+   * @return the registry
+   */
+  public static <K> OrdinalRegistry<K> create() {
+    return new OrdinalRegistry<>();
+  }
+
+  // restricted constructor
+  private OrdinalRegistry() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the ordinal of the key, assigning a new ordinal if the key has not been seen before.
+   *
+   * @param key  the key
+   * @return the ordinal of the key
+   */
+  public int ordinal(K key) {
+    Integer ordinal = ordinals.get(ArgChecker.notNull(key, "key"));
+    if (ordinal != null) {
+      return ordinal;
+    }
+    synchronized (this) {
+      ordinal = ordinals.get(key);
+      if (ordinal == null) {
+        ordinal = keys.size();
+        keys.add(key);
+        ordinals.put(key, ordinal);
+      }
+      return ordinal;
+    }
+  }
+
+  /**
+   * Finds the ordinal of the key, returning -1 if the key has not been seen before.
+   * <p>
+   * No ordinal is assigned by this method.
+   *
+   * @param key  the key
+   * @return the ordinal of the key, -1 if not found
+   */
+  public int findOrdinal(Object key) {
+    Integer ordinal = key != null ? ordinals.get(key) : null;
+    return ordinal != null ? ordinal : -1;
+  }
+
+  /**
+   * Gets the key for the ordinal.
+   *
+   * @param ordinal  the ordinal
+   * @return the key
+   * @throws IndexOutOfBoundsException if the ordinal has not been assigned
+   */
+  public synchronized K key(int ordinal) {
+    return keys.get(ordinal);
+  }
+
+  /**
+   * Gets the number of ordinals that have been assigned.
+   *
+   * @return the number of ordinals
+   */
+  public int size() {
+    return ordinals.size();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "OrdinalRegistry[size=" + size() + "]";
+  }
+
+}
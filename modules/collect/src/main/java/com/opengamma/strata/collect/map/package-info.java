@@ -0,0 +1,14 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * Specialized maps for fast lookup.
+ * <p>
+ * These maps are intended for lookups on the hot path of pricing, where the cost
+ * of {@code hashCode} and {@code equals} on general purpose maps is significant.
+ * Keys can be looked up by identity, or by a dense ordinal assigned by {@link OrdinalRegistry}.
+ */
+package com.opengamma.strata.collect.map;
@@ -0,0 +1,607 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.timeseries;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableConstructor;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.function.ObjDoublePredicate;
+
+/**
+ * A immutable implementation of {@code LocalDateDoubleTimeSeries} where the
+ * dates are stored as epoch-days.
+ * <p>
+ * This has the same behavior as {@link SparseLocalDateDoubleTimeSeries}, but stores
+ * each date as an {@code int} rather than as a {@code LocalDate} object.
+ * This uses much less memory, and lookups compare primitive values.
+ * A {@code LocalDate} is only created when a date is queried.
+ * <p>
+ * This implementation is created by {@link LocalDateDoubleTimeSeriesCodec} and is
+ * intended for large stores of time-series, such as the full history of fixings.
+ * An empty time-series is always represented by {@link LocalDateDoubleTimeSeries#empty()}.
+ */
+@BeanDefinition(builderScope = "private", metaScope = "package")
+final class EpochDayLocalDateDoubleTimeSeries
+    implements ImmutableBean, Serializable, LocalDateDoubleTimeSeries {
+
+  /**
+   * The dates in the series, as epoch-days.
+   * The dates are ordered from earliest to latest.
+   */
+  @PropertyDefinition(get = "manual", validate = "notNull")
+  private final int[] epochDays;
+  /**
+   * The values in the series.
+   * The date for each value is at the matching array index.
+   */
+  @PropertyDefinition(get = "manual", validate = "notNull")
+  private final double[] values;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a time-series from matching arrays of epoch-days and values.
+   * <p>
+   * The two arrays must be the same size and must be sorted from earliest to latest.
+   * The arrays are not cloned, thus the caller must not alter them.
+   *
+   * @param epochDays  the epoch-days
+   * @param values  the values
+   * @return the time-series
+   */
+  static LocalDateDoubleTimeSeries ofUnsafe(int[] epochDays, double[] values) {
+    validate(epochDays, values);
+    return createUnsafe(epochDays, values);
+  }
+
+  /**
+   * Obtains a time-series with the same dates and values as another time-series.
+   *
+   * @param series  the time-series to copy
+   * @return the time-series
+   * @throws IllegalArgumentException if a date cannot be represented as an {@code int} epoch-day
+   */
+  static LocalDateDoubleTimeSeries of(LocalDateDoubleTimeSeries series) {
+    if (series instanceof EpochDayLocalDateDoubleTimeSeries) {
+      return series;
+    }
+    int[] epochDays = series.dates().mapToInt(EpochDayLocalDateDoubleTimeSeries::toEpochDay).toArray();
+    return createUnsafe(epochDays, series.values().toArray());
+  }
+
+  // creates time-series by directly assigning the input arrays
+  // must only be called when safe to do so
+  // an empty result is the standard empty time-series
+  private static LocalDateDoubleTimeSeries createUnsafe(int[] epochDays, double[] values) {
+    if (epochDays.length == 0) {
+      return LocalDateDoubleTimeSeries.empty();
+    }
+    return new EpochDayLocalDateDoubleTimeSeries(epochDays, values, true);
+  }
+
+  // validates the arrays are same length and in order
+  private static void validate(int[] epochDays, double[] values) {
+    ArgChecker.isTrue(epochDays.length == values.length,
+        "Arrays are of different sizes - dates: {}, values: {}", epochDays.length, values.length);
+    for (int i = 1; i < epochDays.length; i++) {
+      if (epochDays[i] <= epochDays[i - 1]) {
+        throw new IllegalArgumentException(Messages.format(
+            "Dates must be in ascending order but: {} is not after: {}",
+            LocalDate.ofEpochDay(epochDays[i]),
+            LocalDate.ofEpochDay(epochDays[i - 1])));
+      }
+    }
+  }
+
+  // converts a date to an epoch-day
+  private static int toEpochDay(LocalDate date) {
+    long epochDay = date.toEpochDay();
+    if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Date is too far from the epoch to be stored in the time-series: " + date);
+    }
+    return (int) epochDay;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance, validating the supplied arrays.
+   * <p>
+   * The arrays are cloned as this constructor is called from Joda-Beans.
+   *
+   * @param epochDays  the epoch-days
+   * @param values  the values
+   */
+  @ImmutableConstructor
+  private EpochDayLocalDateDoubleTimeSeries(int[] epochDays, double[] values) {
+    ArgChecker.notNull(epochDays, "epochDays");
+    ArgChecker.notNull(values, "values");
+    validate(epochDays, values);
+    this.epochDays = epochDays.clone();
+    this.values = values.clone();
+  }
+
+  /**
+   * Creates an instance without validating the supplied arrays.
+   *
+   * @param epochDays  the epoch-days
+   * @param values  the values
+   * @param trusted  flag to distinguish constructor
+   */
+  private EpochDayLocalDateDoubleTimeSeries(int[] epochDays, double[] values, boolean trusted) {
+    // constructor exists to avoid clones where possible
+    // because Joda-Beans owns the main constructor, this one has a weird flag
+    // use createUnsafe() instead of calling this directly
+    this.epochDays = epochDays;
+    this.values = values;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the dates in the series, as epoch-days.
+   * The dates are ordered from earliest to latest.
+   * @return the value of the property, not null
+   */
+  private int[] getEpochDays() {
+    return epochDays.clone();
+  }
+
+  /**
+   * Gets the values in the series.
+   * The date for each value is at the matching array index.
+   * @return the value of the property, not null
+   */
+  private double[] getValues() {
+    return values.clone();
+  }
+
+  // returns the arrays without cloning, for use by the codec
+  int[] epochDaysUnsafe() {
+    return epochDays;
+  }
+
+  double[] valuesUnsafe() {
+    return values;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int size() {
+    return epochDays.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return epochDays.length == 0;
+  }
+
+  @Override
+  public boolean containsDate(LocalDate date) {
+    return (findDatePosition(date.toEpochDay()) >= 0);
+  }
+
+  @Override
+  public OptionalDouble get(LocalDate date) {
+    int position = findDatePosition(date.toEpochDay());
+    return (position >= 0 ? OptionalDouble.of(values[position]) : OptionalDouble.empty());
+  }
+
+  // binary search, with the same result as Arrays.binarySearch()
+  // the key is a long so that dates outside the range of the array are handled
+  private int findDatePosition(long epochDay) {
+    int low = 0;
+    int high = epochDays.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int midValue = epochDays[mid];
+      if (midValue < epochDay) {
+        low = mid + 1;
+      } else if (midValue > epochDay) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDate getLatestDate() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Unable to return latest, time-series is empty");
+    }
+    return LocalDate.ofEpochDay(epochDays[epochDays.length - 1]);
+  }
+
+  @Override
+  public double getLatestValue() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Unable to return latest, time-series is empty");
+    }
+    return values[values.length - 1];
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDateDoubleTimeSeries subSeries(LocalDate startInclusive, LocalDate endExclusive) {
+    ArgChecker.notNull(startInclusive, "startInclusive");
+    ArgChecker.notNull(endExclusive, "endExclusive");
+    if (endExclusive.isBefore(startInclusive)) {
+      throw new IllegalArgumentException(
+          "Invalid sub series, end before start: " + startInclusive + " to " + endExclusive);
+    }
+    // special case when this is empty or when the dates are the same
+    if (isEmpty() || startInclusive.equals(endExclusive)) {
+      return LocalDateDoubleTimeSeries.empty();
+    }
+    // where in the array would start/end be (whether or not it's actually in the series)
+    int startPos = findDatePosition(startInclusive.toEpochDay());
+    startPos = startPos >= 0 ? startPos : -startPos - 1;
+    int endPos = findDatePosition(endExclusive.toEpochDay());
+    endPos = endPos >= 0 ? endPos : -endPos - 1;
+    // create sub-series
+    int[] epochDaysArray = Arrays.copyOfRange(epochDays, startPos, endPos);
+    double[] valuesArray = Arrays.copyOfRange(values, startPos, endPos);
+    return createUnsafe(epochDaysArray, valuesArray);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries headSeries(int numPoints) {
+    ArgChecker.notNegative(numPoints, "numPoints");
+    if (numPoints == 0) {
+      return LocalDateDoubleTimeSeries.empty();
+    } else if (numPoints >= size()) {
+      return this;
+    }
+    int[] epochDaysArray = Arrays.copyOfRange(epochDays, 0, numPoints);
+    double[] valuesArray = Arrays.copyOfRange(values, 0, numPoints);
+    return createUnsafe(epochDaysArray, valuesArray);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries tailSeries(int numPoints) {
+    ArgChecker.notNegative(numPoints, "numPoints");
+    if (numPoints == 0) {
+      return LocalDateDoubleTimeSeries.empty();
+    } else if (numPoints >= size()) {
+      return this;
+    }
+    int[] epochDaysArray = Arrays.copyOfRange(epochDays, size() - numPoints, size());
+    double[] valuesArray = Arrays.copyOfRange(values, size() - numPoints, size());
+    return createUnsafe(epochDaysArray, valuesArray);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Stream<LocalDateDoublePoint> stream() {
+    return IntStream.range(0, size()).mapToObj(i -> LocalDateDoublePoint.of(LocalDate.ofEpochDay(epochDays[i]), values[i]));
+  }
+
+  @Override
+  public Stream<LocalDate> dates() {
+    return IntStream.of(epochDays).mapToObj(LocalDate::ofEpochDay);
+  }
+
+  @Override
+  public DoubleStream values() {
+    return DoubleStream.of(values);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void forEach(ObjDoubleConsumer<LocalDate> action) {
+    ArgChecker.notNull(action, "action");
+    for (int i = 0; i < size(); i++) {
+      action.accept(LocalDate.ofEpochDay(epochDays[i]), values[i]);
+    }
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries mapDates(Function<? super LocalDate, ? extends LocalDate> mapper) {
+    ArgChecker.notNull(mapper, "mapper");
+    int[] mapped = new int[size()];
+    for (int i = 0; i < mapped.length; i++) {
+      LocalDate date = mapper.apply(LocalDate.ofEpochDay(epochDays[i]));
+      mapped[i] = toEpochDay(date);
+      // check the dates are still in ascending order after the mapping
+      if (i > 0 && mapped[i] <= mapped[i - 1]) {
+        throw new IllegalArgumentException(
+            Messages.format(
+                "Dates must be in ascending order after calling mapDates but {} and {} are not",
+                LocalDate.ofEpochDay(mapped[i - 1]),
+                date));
+      }
+    }
+    return createUnsafe(mapped, values);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries mapValues(DoubleUnaryOperator mapper) {
+    ArgChecker.notNull(mapper, "mapper");
+    return createUnsafe(epochDays, DoubleStream.of(values).map(mapper).toArray());
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries filter(ObjDoublePredicate<LocalDate> predicate) {
+    ArgChecker.notNull(predicate, "predicate");
+    // build up result in arrays keeping track of count of retained dates
+    int[] resEpochDays = new int[size()];
+    double[] resValues = new double[size()];
+    int resCount = 0;
+    for (int i = 0; i < size(); i++) {
+      if (predicate.test(LocalDate.ofEpochDay(epochDays[i]), values[i])) {
+        resEpochDays[resCount] = epochDays[i];
+        resValues[resCount] = values[i];
+        resCount++;
+      }
+    }
+    return createUnsafe(Arrays.copyOf(resEpochDays, resCount), Arrays.copyOf(resValues, resCount));
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDateDoubleTimeSeriesBuilder toBuilder() {
+    return new LocalDateDoubleTimeSeriesBuilder(dates().toArray(LocalDate[]::new), values);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if this time-series is equal to another time-series.
+   * <p>
+   * Compares this {@code LocalDateDoubleTimeSeries} with another ensuring
+   * that the dates and values are the same.
+   *
+   * @param obj  the object to check, null returns false
+   * @return true if this is equal to the other date
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof EpochDayLocalDateDoubleTimeSeries) {
+      EpochDayLocalDateDoubleTimeSeries other = (EpochDayLocalDateDoubleTimeSeries) obj;
+      return Arrays.equals(epochDays, other.epochDays) && Arrays.equals(values, other.values);
+    }
+    return false;
+  }
+
+  /**
+   * A hash code for this time-series.
+   *
+   * @return a suitable hash code
+   */
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(epochDays) + Arrays.hashCode(values);
+  }
+
+  /**
+   * Returns a string representation of the time-series.
+   *
+   * @return the string
+   */
+  @Override
+  public String toString() {
+    return stream()
+        .map(LocalDateDoublePoint::toString)
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code EpochDayLocalDateDoubleTimeSeries}.
+   * @return the meta-bean, not null
+   */
+  public static EpochDayLocalDateDoubleTimeSeries.Meta meta() {
+    return EpochDayLocalDateDoubleTimeSeries.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(EpochDayLocalDateDoubleTimeSeries.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public EpochDayLocalDateDoubleTimeSeries.Meta metaBean() {
+    return EpochDayLocalDateDoubleTimeSeries.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code EpochDayLocalDateDoubleTimeSeries}.
+   */
+  static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code epochDays} property.
+     */
+    private final MetaProperty<int[]> epochDays = DirectMetaProperty.ofImmutable(
+        this, "epochDays", EpochDayLocalDateDoubleTimeSeries.class, int[].class);
+    /**
+     * The meta-property for the {@code values} property.
+     */
+    private final MetaProperty<double[]> values = DirectMetaProperty.ofImmutable(
+        this, "values", EpochDayLocalDateDoubleTimeSeries.class, double[].class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "epochDays",
+        "values");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1876896640:  // epochDays
+          return epochDays;
+        case -823812830:  // values
+          return values;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends EpochDayLocalDateDoubleTimeSeries> builder() {
+      return new EpochDayLocalDateDoubleTimeSeries.Builder();
+    }
+
+    @Override
+    public Class<? extends EpochDayLocalDateDoubleTimeSeries> beanType() {
+      return EpochDayLocalDateDoubleTimeSeries.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code epochDays} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<int[]> epochDays() {
+      return epochDays;
+    }
+
+    /**
+     * The meta-property for the {@code values} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<double[]> values() {
+      return values;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -1876896640:  // epochDays
+          return ((EpochDayLocalDateDoubleTimeSeries) bean).getEpochDays();
+        case -823812830:  // values
+          return ((EpochDayLocalDateDoubleTimeSeries) bean).getValues();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code EpochDayLocalDateDoubleTimeSeries}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<EpochDayLocalDateDoubleTimeSeries> {
+
+    private int[] epochDays;
+    private double[] values;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1876896640:  // epochDays
+          return epochDays;
+        case -823812830:  // values
+          return values;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -1876896640:  // epochDays
+          this.epochDays = (int[]) newValue;
+          break;
+        case -823812830:  // values
+          this.values = (double[]) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public EpochDayLocalDateDoubleTimeSeries build() {
+      return new EpochDayLocalDateDoubleTimeSeries(
+          epochDays,
+          values);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(96);
+      buf.append("EpochDayLocalDateDoubleTimeSeries.Builder{");
+      buf.append("epochDays").append('=').append(JodaBeanUtils.toString(epochDays)).append(',').append(' ');
+      buf.append("values").append('=').append(JodaBeanUtils.toString(values));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
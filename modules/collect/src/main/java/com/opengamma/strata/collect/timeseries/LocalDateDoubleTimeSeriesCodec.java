@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.timeseries;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteSource;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+
+/**
+ * Compact storage and binary format for {@code LocalDateDoubleTimeSeries}.
+ * <p>
+ * The time-series returned by this class store each date as an {@code int} epoch-day
+ * rather than as a {@code LocalDate} object, which substantially reduces the memory used.
+ * They behave in the same way as any other {@code LocalDateDoubleTimeSeries}.
+ * <p>
+ * The binary format of a single time-series is the number of points, followed by the epoch-day of
+ * each point as an {@code int}, followed by the value of each point as a {@code double}, all big-endian.
+ * <p>
+ * The binary format of a map of time-series is the four bytes 'LDTS', a version byte, the number
+ * of entries as an {@code int}, then for each entry the UTF-8 encoded key prefixed by its length
+ * as an {@code int}, followed by the time-series.
+ * The whole map is read in a single bulk operation by {@link #readAll(ByteSource)}.
+ */
+public final class LocalDateDoubleTimeSeriesCodec {
+
+  /**
+   * The version of the format of a map of time-series.
+   */
+  private static final byte VERSION = 1;
+  /**
+   * The maximum number of points read in a single operation when the size of the input is unknown.
+   */
+  private static final int CHUNK_SIZE = 8192;
+
+  /**
+   * Restricted constructor.
+   */
+  private LocalDateDoubleTimeSeriesCodec() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a time-series with the same dates and values that stores the dates as epoch-days.
+   * <p>
+   * This is intended for use when a large number of time-series are held in memory.
+   *
+   * @param series  the time-series
+   * @return the compact time-series
+   * @throws IllegalArgumentException if a date is too far from the epoch to be stored as an {@code int} epoch-day
+   */
+  public static LocalDateDoubleTimeSeries compact(LocalDateDoubleTimeSeries series) {
+    ArgChecker.notNull(series, "series");
+    return EpochDayLocalDateDoubleTimeSeries.of(series);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Writes a single time-series in the binary format.
+   *
+   * @param series  the time-series
+   * @param out  the output to write to
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if a date is too far from the epoch to be stored as an {@code int} epoch-day
+   */
+  public static void write(LocalDateDoubleTimeSeries series, DataOutput out) {
+    ArgChecker.notNull(series, "series");
+    ArgChecker.notNull(out, "out");
+    Unchecked.wrap(() -> out.write(encode(series)));
+  }
+
+  /**
+   * Reads a single time-series in the binary format.
+   * <p>
+   * The points are read in chunks, thus an invalid number of points cannot cause a large allocation.
+   *
+   * @param in  the input to read from
+   * @return the time-series
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the data is invalid
+   */
+  public static LocalDateDoubleTimeSeries read(DataInput in) {
+    ArgChecker.notNull(in, "in");
+    return Unchecked.wrap(() -> {
+      int size = in.readInt();
+      checkSize(size, Integer.MAX_VALUE / 12);
+      return readPoints(in, size);
+    });
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Writes a map of time-series in the binary format.
+   * <p>
+   * The output stream is not closed.
+   *
+   * @param map  the map of time-series
+   * @param out  the output stream to write to
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if a date is too far from the epoch to be stored as an {@code int} epoch-day
+   */
+  public static void writeAll(Map<String, ? extends LocalDateDoubleTimeSeries> map, OutputStream out) {
+    ArgChecker.noNulls(map, "map");
+    ArgChecker.notNull(out, "out");
+    Unchecked.wrap(() -> {
+      DataOutputStream dataOut = new DataOutputStream(out);
+      dataOut.writeByte('L');
+      dataOut.writeByte('D');
+      dataOut.writeByte('T');
+      dataOut.writeByte('S');
+      dataOut.writeByte(VERSION);
+      dataOut.writeInt(map.size());
+      for (Entry<String, ? extends LocalDateDoubleTimeSeries> entry : map.entrySet()) {
+        byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+        dataOut.writeInt(key.length);
+        dataOut.write(key);
+        dataOut.write(encode(entry.getValue()));
+      }
+      dataOut.flush();
+    });
+  }
+
+  /**
+   * Reads a map of time-series in the binary format.
+   * <p>
+   * The source is read in full in a single operation and then decoded.
+   * The map retains the order of the entries in the source.
+   *
+   * @param source  the source to read from
+   * @return the map of time-series
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the data is invalid
+   */
+  public static ImmutableMap<String, LocalDateDoubleTimeSeries> readAll(ByteSource source) {
+    ArgChecker.notNull(source, "source");
+    ByteBuffer buf = ByteBuffer.wrap(Unchecked.wrap(() -> source.read()));
+    try {
+      if (buf.get() != 'L' || buf.get() != 'D' || buf.get() != 'T' || buf.get() != 'S') {
+        throw new IllegalArgumentException("Invalid time-series binary format, header not found");
+      }
+      byte version = buf.get();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("Invalid time-series binary format, unknown version: " + version);
+      }
+      int count = buf.getInt();
+      checkSize(count, buf.remaining());
+      ImmutableMap.Builder<String, LocalDateDoubleTimeSeries> builder = ImmutableMap.builder();
+      for (int i = 0; i < count; i++) {
+        int keyLength = buf.getInt();
+        checkSize(keyLength, buf.remaining());
+        String key = new String(buf.array(), buf.position(), keyLength, StandardCharsets.UTF_8);
+        buf.position(buf.position() + keyLength);
+        int size = buf.getInt();
+        checkSize(size, buf.remaining() / 12);
+        builder.put(key, decodePoints(buf, size));
+      }
+      return builder.build();
+    } catch (BufferUnderflowException ex) {
+      throw new IllegalArgumentException("Invalid time-series binary format, unexpected end of data", ex);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // encodes a single time-series
+  private static byte[] encode(LocalDateDoubleTimeSeries series) {
+    if (series.isEmpty()) {
+      return new byte[4];
+    }
+    EpochDayLocalDateDoubleTimeSeries compact = (EpochDayLocalDateDoubleTimeSeries) EpochDayLocalDateDoubleTimeSeries.of(series);
+    int[] epochDays = compact.epochDaysUnsafe();
+    double[] values = compact.valuesUnsafe();
+    ByteBuffer buf = ByteBuffer.allocate(4 + epochDays.length * 12);
+    buf.putInt(epochDays.length);
+    buf.asIntBuffer().put(epochDays);
+    buf.position(4 + epochDays.length * 4);
+    buf.asDoubleBuffer().put(values);
+    return buf.array();
+  }
+
+  // reads the points of a single time-series in chunks
+  // the size is untrusted, so the array of epoch-days grows as the data is read
+  // the array of values is allocated once the epoch-days have been read, bounding it by the data actually read
+  private static LocalDateDoubleTimeSeries readPoints(DataInput in, int size) throws IOException {
+    byte[] chunk = new byte[Math.min(size, CHUNK_SIZE) * 8];
+    int[] epochDays = new int[Math.min(size, CHUNK_SIZE)];
+    for (int done = 0; done < size;) {
+      int count = Math.min(size - done, CHUNK_SIZE);
+      in.readFully(chunk, 0, count * 4);
+      if (done + count > epochDays.length) {
+        epochDays = Arrays.copyOf(epochDays, (int) Math.min(size, epochDays.length * 2L));
+      }
+      ByteBuffer.wrap(chunk, 0, count * 4).asIntBuffer().get(epochDays, done, count);
+      done += count;
+    }
+    double[] values = new double[size];
+    for (int done = 0; done < size;) {
+      int count = Math.min(size - done, CHUNK_SIZE);
+      in.readFully(chunk, 0, count * 8);
+      ByteBuffer.wrap(chunk, 0, count * 8).asDoubleBuffer().get(values, done, count);
+      done += count;
+    }
+    return EpochDayLocalDateDoubleTimeSeries.ofUnsafe(epochDays, values);
+  }
+
+  // decodes the points of a single time-series, advancing the position of the buffer
+  private static LocalDateDoubleTimeSeries decodePoints(ByteBuffer buf, int size) {
+    int[] epochDays = new int[size];
+    double[] values = new double[size];
+    buf.asIntBuffer().get(epochDays);
+    buf.position(buf.position() + size * 4);
+    buf.asDoubleBuffer().get(values);
+    buf.position(buf.position() + size * 8);
+    return EpochDayLocalDateDoubleTimeSeries.ofUnsafe(epochDays, values);
+  }
+
+  // checks a size read from the data
+  private static void checkSize(int size, int max) {
+    if (size < 0 || size > max) {
+      throw new IllegalArgumentException("Invalid time-series binary format, invalid size: " + size);
+    }
+  }
+
+}
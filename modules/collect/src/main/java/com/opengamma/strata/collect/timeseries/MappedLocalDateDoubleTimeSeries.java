@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.timeseries;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.OptionalDouble;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.function.ObjDoublePredicate;
+
+/**
+ * An immutable view of a time-series held in a {@link MappedTimeSeriesStore}.
+ * <p>
+ * The dates and values are read directly from the buffer of the store, which is typically memory-mapped.
+ * The dates are stored as {@code int} epoch-days and the values as {@code double}, in separate columns.
+ * Sub-series, head-series and tail-series are also views, thus are created without copying.
+ * Other operations that create a new time-series, such as mapping and filtering,
+ * copy the data to an {@link EpochDayLocalDateDoubleTimeSeries}.
+ * <p>
+ * The view is only valid while the points it refers to are unchanged.
+ * The store only ever appends points, thus the view remains valid as the store is updated.
+ * When serialized, the data is copied.
+ */
+final class MappedLocalDateDoubleTimeSeries
+    implements LocalDateDoubleTimeSeries, Serializable {
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The buffer holding the data.
+   */
+  private final transient ByteBuffer buffer;
+  /**
+   * The offset in the buffer of the first epoch-day.
+   */
+  private final int datesOffset;
+  /**
+   * The offset in the buffer of the first value.
+   */
+  private final int valuesOffset;
+  /**
+   * The number of points.
+   */
+  private final int size;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a view of the specified part of a buffer.
+   * <p>
+   * The epoch-days must be in ascending order, which is not checked.
+   *
+   * @param buffer  the buffer, which must not be modified in the region of the view
+   * @param datesOffset  the offset of the first epoch-day
+   * @param valuesOffset  the offset of the first value
+   * @param size  the number of points
+   * @return the time-series
+   */
+  static LocalDateDoubleTimeSeries of(ByteBuffer buffer, int datesOffset, int valuesOffset, int size) {
+    if (size == 0) {
+      return LocalDateDoubleTimeSeries.empty();
+    }
+    return new MappedLocalDateDoubleTimeSeries(buffer, datesOffset, valuesOffset, size);
+  }
+
+  // restricted constructor
+  private MappedLocalDateDoubleTimeSeries(ByteBuffer buffer, int datesOffset, int valuesOffset, int size) {
+    this.buffer = buffer;
+    this.datesOffset = datesOffset;
+    this.valuesOffset = valuesOffset;
+    this.size = size;
+  }
+
+  // copies the data when serializing
+  private Object writeReplace() {
+    return copy();
+  }
+
+  //-------------------------------------------------------------------------
+  // gets the epoch-day at the index
+  private int epochDay(int index) {
+    return buffer.getInt(datesOffset + index * 4);
+  }
+
+  // gets the value at the index
+  private double value(int index) {
+    return buffer.getDouble(valuesOffset + index * 8);
+  }
+
+  // creates a sub-view
+  private LocalDateDoubleTimeSeries view(int startInclusive, int endExclusive) {
+    return of(buffer, datesOffset + startInclusive * 4, valuesOffset + startInclusive * 8, endExclusive - startInclusive);
+  }
+
+  // copies the data to a heap-based time-series
+  private LocalDateDoubleTimeSeries copy() {
+    int[] epochDays = new int[size];
+    double[] values = new double[size];
+    for (int i = 0; i < size; i++) {
+      epochDays[i] = epochDay(i);
+      values[i] = value(i);
+    }
+    return EpochDayLocalDateDoubleTimeSeries.ofUnsafe(epochDays, values);
+  }
+
+  // binary search, with the same result as Arrays.binarySearch()
+  private int findDatePosition(long epochDay) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int midValue = epochDay(mid);
+      if (midValue < epochDay) {
+        low = mid + 1;
+      } else if (midValue > epochDay) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public boolean containsDate(LocalDate date) {
+    return findDatePosition(date.toEpochDay()) >= 0;
+  }
+
+  @Override
+  public OptionalDouble get(LocalDate date) {
+    int position = findDatePosition(date.toEpochDay());
+    return (position >= 0 ? OptionalDouble.of(value(position)) : OptionalDouble.empty());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDate getEarliestDate() {
+    return LocalDate.ofEpochDay(epochDay(0));
+  }
+
+  @Override
+  public double getEarliestValue() {
+    return value(0);
+  }
+
+  @Override
+  public LocalDate getLatestDate() {
+    return LocalDate.ofEpochDay(epochDay(size - 1));
+  }
+
+  @Override
+  public double getLatestValue() {
+    return value(size - 1);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDateDoubleTimeSeries subSeries(LocalDate startInclusive, LocalDate endExclusive) {
+    ArgChecker.notNull(startInclusive, "startInclusive");
+    ArgChecker.notNull(endExclusive, "endExclusive");
+    if (endExclusive.isBefore(startInclusive)) {
+      throw new IllegalArgumentException(
+          "Invalid sub series, end before start: " + startInclusive + " to " + endExclusive);
+    }
+    int startPos = findDatePosition(startInclusive.toEpochDay());
+    startPos = startPos >= 0 ? startPos : -startPos - 1;
+    int endPos = findDatePosition(endExclusive.toEpochDay());
+    endPos = endPos >= 0 ? endPos : -endPos - 1;
+    return view(startPos, Math.max(startPos, endPos));
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries headSeries(int numPoints) {
+    ArgChecker.notNegative(numPoints, "numPoints");
+    return numPoints >= size ? this : view(0, numPoints);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries tailSeries(int numPoints) {
+    ArgChecker.notNegative(numPoints, "numPoints");
+    return numPoints >= size ? this : view(size - numPoints, size);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Stream<LocalDateDoublePoint> stream() {
+    return IntStream.range(0, size).mapToObj(i -> LocalDateDoublePoint.of(LocalDate.ofEpochDay(epochDay(i)), value(i)));
+  }
+
+  @Override
+  public Stream<LocalDate> dates() {
+    return IntStream.range(0, size).mapToObj(i -> LocalDate.ofEpochDay(epochDay(i)));
+  }
+
+  @Override
+  public DoubleStream values() {
+    return IntStream.range(0, size).mapToDouble(this::value);
+  }
+
+  @Override
+  public void forEach(ObjDoubleConsumer<LocalDate> action) {
+    ArgChecker.notNull(action, "action");
+    for (int i = 0; i < size; i++) {
+      action.accept(LocalDate.ofEpochDay(epochDay(i)), value(i));
+    }
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries mapDates(Function<? super LocalDate, ? extends LocalDate> mapper) {
+    return copy().mapDates(mapper);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries mapValues(DoubleUnaryOperator mapper) {
+    return copy().mapValues(mapper);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries filter(ObjDoublePredicate<LocalDate> predicate) {
+    return copy().filter(predicate);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeriesBuilder toBuilder() {
+    return copy().toBuilder();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if this time-series is equal to another time-series.
+   * <p>
+   * Compares this {@code LocalDateDoubleTimeSeries} with another ensuring
+   * that the dates and values are the same.
+   *
+   * @param obj  the object to check, null returns false
+   * @return true if this is equal to the other date
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof MappedLocalDateDoubleTimeSeries) {
+      MappedLocalDateDoubleTimeSeries other = (MappedLocalDateDoubleTimeSeries) obj;
+      if (size != other.size) {
+        return false;
+      }
+      for (int i = 0; i < size; i++) {
+        if (epochDay(i) != other.epochDay(i) ||
+            Double.doubleToLongBits(value(i)) != Double.doubleToLongBits(other.value(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * A hash code for this time-series.
+   *
+   * @return a suitable hash code
+   */
+  @Override
+  public int hashCode() {
+    int datesHash = 1;
+    int valuesHash = 1;
+    for (int i = 0; i < size; i++) {
+      datesHash = 31 * datesHash + epochDay(i);
+      long bits = Double.doubleToLongBits(value(i));
+      valuesHash = 31 * valuesHash + (int) (bits ^ (bits >>> 32));
+    }
+    return 31 * datesHash + valuesHash;
+  }
+
+  /**
+   * Returns a string representation of the time-series.
+   *
+   * @return the string
+   */
+  @Override
+  public String toString() {
+    return stream()
+        .map(LocalDateDoublePoint::toString)
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
+
+}
@@ -0,0 +1,539 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.timeseries;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+
+/**
+ * A file-based store of time-series, accessed via memory-mapping.
+ * <p>
+ * This allows a large number of time-series to be used without holding them on the heap.
+ * Each time-series returned is a view of the memory-mapped file, thus no data is copied when
+ * a time-series or a date range of it is obtained.
+ * Since the file is memory-mapped, multiple processes on the same host share the data via the operating system.
+ * <p>
+ * The store is updated using {@link #append(Path, Map)}, which only ever adds points after the latest date.
+ * This is intended for a daily update of the latest fixings and quotes.
+ * One process may update the file while others read it, with the readers seeing each
+ * time-series either before or after an update, never a partial update.
+ * Time-series returned before an update remain valid and unchanged.
+ * <p>
+ * Each time-series is identified by a string key, which must not exceed 110 bytes when encoded in UTF-8.
+ * The number of keys is limited by the capacity of the index, set when the file is created.
+ * <p>
+ * The file has a header, a fixed size index of keys, then a data region for each time-series.
+ * Each data region has a column of {@code int} epoch-days followed by a column of {@code double} values.
+ * The region has spare capacity, allowing points to be appended in place.
+ * When the capacity is exhausted, the points are moved to a larger region at the end of the file.
+ * The space of the old region is not reclaimed.
+ * All numbers are stored big-endian.
+ */
+public final class MappedTimeSeriesStore implements Closeable {
+
+  /**
+   * The default number of keys that can be stored.
+   */
+  public static final int DEFAULT_INDEX_CAPACITY = 65536;
+
+  /**
+   * The file format version.
+   */
+  private static final int VERSION = 1;
+  /**
+   * The size of the header.
+   * Magic bytes 'LDTM' (4), version (4), index capacity (4), entry count (4), end of data (8), reserved (40).
+   */
+  private static final int HEADER_SIZE = 64;
+  /**
+   * The offset in the header of the entry count.
+   */
+  private static final int ENTRY_COUNT_OFFSET = 12;
+  /**
+   * The offset in the header of the end of data.
+   */
+  private static final int DATA_END_OFFSET = 16;
+  /**
+   * The size of each index slot.
+   * Location (8), key length (2), key (118).
+   */
+  private static final int SLOT_SIZE = 128;
+  /**
+   * The maximum size of a key in bytes.
+   */
+  private static final int MAX_KEY_SIZE = 110;
+  /**
+   * The number of bits of the location used to hold the size.
+   */
+  private static final int SIZE_BITS = 24;
+  /**
+   * The maximum number of points in a time-series.
+   */
+  private static final int MAX_SIZE = (1 << SIZE_BITS) - 1;
+  /**
+   * The number of bits in the size of a mapped window.
+   * Data regions never span a window, so that each time-series can be viewed using a single buffer.
+   */
+  private static final int WINDOW_BITS = 30;
+  /**
+   * The size of a mapped window.
+   */
+  private static final long WINDOW_SIZE = 1L << WINDOW_BITS;
+  /**
+   * The size of the data region header, holding the capacity.
+   */
+  private static final int REGION_HEADER_SIZE = 8;
+
+  /**
+   * The file channel.
+   */
+  private final FileChannel channel;
+  /**
+   * The map mode.
+   */
+  private final MapMode mode;
+  /**
+   * The index capacity.
+   */
+  private final int indexCapacity;
+  /**
+   * The index slot of each known key.
+   */
+  private final Map<String, Integer> keys = new ConcurrentHashMap<>();
+  /**
+   * The mapped windows, null until mapped, replaced when the file grows.
+   */
+  private volatile ByteBuffer[] windows = new ByteBuffer[0];
+  /**
+   * The number of index entries that have been read.
+   */
+  private int entriesRead;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Opens an existing store for reading.
+   * <p>
+   * The store should be closed when no longer required.
+   * Time-series obtained from the store remain usable after it is closed.
+   *
+   * @param file  the file
+   * @return the store
+   * @throws UncheckedIOException if an IO error occurs
+   * @throws IllegalArgumentException if the file is not a valid store
+   */
+  public static MappedTimeSeriesStore open(Path file) {
+    ArgChecker.notNull(file, "file");
+    FileChannel channel = Unchecked.wrap(() -> FileChannel.open(file, StandardOpenOption.READ));
+    try {
+      MappedTimeSeriesStore store = new MappedTimeSeriesStore(channel, MapMode.READ_ONLY);
+      store.readIndex();
+      return store;
+    } catch (RuntimeException ex) {
+      closeQuietly(channel, ex);
+      throw ex;
+    }
+  }
+
+  /**
+   * Appends points to the time-series in a store, creating the file if necessary.
+   * <p>
+   * For each entry in the map, the points after the latest date of the stored time-series are appended.
+   * Points on or before the latest stored date are ignored, thus repeating an update has no effect.
+   * If the key is not present in the store, the whole time-series is added.
+   * <p>
+   * An exclusive file lock is held while the store is updated, preventing concurrent updates.
+   * If the file does not exist it is created with the {@linkplain #DEFAULT_INDEX_CAPACITY default index capacity}.
+   *
+   * @param file  the file
+   * @param updates  the time-series to append, keyed by the time-series key
+   * @throws UncheckedIOException if an IO error occurs
+   * @throws IllegalArgumentException if a key is too long or the file is not a valid store
+   * @throws IllegalStateException if the index is full
+   */
+  public static void append(Path file, Map<String, ? extends LocalDateDoubleTimeSeries> updates) {
+    append(file, updates, DEFAULT_INDEX_CAPACITY);
+  }
+
+  /**
+   * Appends points to the time-series in a store, creating the file with the specified index capacity if necessary.
+   * <p>
+   * See {@link #append(Path, Map)}.
+   *
+   * @param file  the file
+   * @param updates  the time-series to append, keyed by the time-series key
+   * @param indexCapacity  the maximum number of keys, used only if the file is created
+   * @throws UncheckedIOException if an IO error occurs
+   * @throws IllegalArgumentException if a key is too long or the file is not a valid store
+   * @throws IllegalStateException if the index is full
+   */
+  public static void append(Path file, Map<String, ? extends LocalDateDoubleTimeSeries> updates, int indexCapacity) {
+    ArgChecker.notNull(file, "file");
+    ArgChecker.noNulls(updates, "updates");
+    ArgChecker.notNegativeOrZero(indexCapacity, "indexCapacity");
+    for (String key : updates.keySet()) {
+      encodeKey(key);
+    }
+    Unchecked.wrap(() -> {
+      try (FileChannel channel = FileChannel.open(
+          file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+        try (FileLock lock = channel.lock()) {
+          if (channel.size() == 0) {
+            initialize(channel, indexCapacity);
+          }
+          MappedTimeSeriesStore store = new MappedTimeSeriesStore(channel, MapMode.READ_WRITE);
+          store.readIndex();
+          store.appendAll(updates);
+        }
+      }
+    });
+  }
+
+  // writes the header of a new file
+  private static void initialize(FileChannel channel, int indexCapacity) throws IOException {
+    ArgChecker.isTrue(
+        HEADER_SIZE + (long) indexCapacity * SLOT_SIZE < WINDOW_SIZE, "Index capacity is too large: {}", indexCapacity);
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.put((byte) 'L').put((byte) 'D').put((byte) 'T').put((byte) 'M');
+    header.putInt(VERSION);
+    header.putInt(indexCapacity);
+    header.putInt(0);
+    header.putLong(HEADER_SIZE + (long) indexCapacity * SLOT_SIZE);
+    header.flip();
+    channel.write(header, 0);
+    channel.write(ByteBuffer.allocate(1), HEADER_SIZE + (long) indexCapacity * SLOT_SIZE - 1);
+  }
+
+  // encodes a key, validating the length
+  private static byte[] encodeKey(String key) {
+    byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+    ArgChecker.isTrue(bytes.length <= MAX_KEY_SIZE, "Key must not exceed {} bytes in UTF-8: {}", MAX_KEY_SIZE, key);
+    return bytes;
+  }
+
+  // closes the channel after a failure
+  private static void closeQuietly(FileChannel channel, RuntimeException ex) {
+    try {
+      channel.close();
+    } catch (IOException ex2) {
+      ex.addSuppressed(ex2);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // restricted constructor, reading and validating the header
+  private MappedTimeSeriesStore(FileChannel channel, MapMode mode) {
+    this.channel = channel;
+    this.mode = mode;
+    long size = Unchecked.wrap(() -> channel.size());
+    if (size < HEADER_SIZE) {
+      throw new IllegalArgumentException("Invalid time-series store, file is too small");
+    }
+    ByteBuffer header = window(0, HEADER_SIZE);
+    if (header.get(0) != 'L' || header.get(1) != 'D' || header.get(2) != 'T' || header.get(3) != 'M') {
+      throw new IllegalArgumentException("Invalid time-series store, header not found");
+    }
+    int version = header.getInt(4);
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Invalid time-series store, unknown version: " + version);
+    }
+    this.indexCapacity = header.getInt(8);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the keys of the time-series in the store.
+   * <p>
+   * This includes any keys added by other processes since the store was opened.
+   *
+   * @return the keys
+   */
+  public ImmutableSet<String> keys() {
+    readIndex();
+    return ImmutableSet.copyOf(keys.keySet());
+  }
+
+  /**
+   * Gets a time-series from the store.
+   * <p>
+   * The result is a view of the stored data, thus no data is copied.
+   * Points appended to the store after this method is called are not included in the result.
+   *
+   * @param key  the key of the time-series
+   * @return the time-series, empty if not found
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public Optional<LocalDateDoubleTimeSeries> get(String key) {
+    ArgChecker.notNull(key, "key");
+    Integer slot = keys.get(key);
+    if (slot == null) {
+      readIndex();
+      slot = keys.get(key);
+      if (slot == null) {
+        return Optional.empty();
+      }
+    }
+    long location = window(0, HEADER_SIZE + (long) indexCapacity * SLOT_SIZE).getLong(slotOffset(slot));
+    return Optional.of(view(location));
+  }
+
+  /**
+   * Gets part of a time-series from the store.
+   * <p>
+   * The result is a view of the stored data, thus no data is copied.
+   * This is equivalent to calling {@link LocalDateDoubleTimeSeries#subSeries(LocalDate, LocalDate)} on the
+   * result of {@link #get(String)}.
+   *
+   * @param key  the key of the time-series
+   * @param startInclusive  the start date, inclusive
+   * @param endExclusive  the end date, exclusive
+   * @return the time-series, empty if not found
+   * @throws UncheckedIOException if an IO error occurs
+   * @throws IllegalArgumentException if the end is before the start
+   */
+  public Optional<LocalDateDoubleTimeSeries> get(String key, LocalDate startInclusive, LocalDate endExclusive) {
+    return get(key).map(series -> series.subSeries(startInclusive, endExclusive));
+  }
+
+  /**
+   * Closes the store.
+   * <p>
+   * Time-series obtained from the store remain usable after it is closed.
+   *
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  @Override
+  public void close() {
+    Unchecked.wrap(() -> channel.close());
+  }
+
+  //-------------------------------------------------------------------------
+  // reads any index entries added since the last read
+  private synchronized void readIndex() {
+    int entryCount = window(0, HEADER_SIZE).getInt(ENTRY_COUNT_OFFSET);
+    if (entryCount <= entriesRead) {
+      return;
+    }
+    ByteBuffer index = window(0, HEADER_SIZE + (long) indexCapacity * SLOT_SIZE);
+    for (int slot = entriesRead; slot < entryCount; slot++) {
+      int offset = slotOffset(slot);
+      byte[] bytes = new byte[index.getShort(offset + 8)];
+      for (int i = 0; i < bytes.length; i++) {
+        bytes[i] = index.get(offset + 10 + i);
+      }
+      keys.put(new String(bytes, StandardCharsets.UTF_8), slot);
+    }
+    entriesRead = entryCount;
+  }
+
+  // creates a view of the data at a location
+  private LocalDateDoubleTimeSeries view(long location) {
+    int size = (int) (location & MAX_SIZE);
+    if (size == 0) {
+      return LocalDateDoubleTimeSeries.empty();
+    }
+    long offset = location >>> SIZE_BITS;
+    int windowIndex = (int) (offset >>> WINDOW_BITS);
+    int regionOffset = (int) (offset & (WINDOW_SIZE - 1));
+    ByteBuffer window = window(windowIndex, regionOffset + REGION_HEADER_SIZE);
+    int capacity = window.getInt(regionOffset);
+    window = window(windowIndex, regionOffset + REGION_HEADER_SIZE + capacity * 12L);
+    int datesOffset = regionOffset + REGION_HEADER_SIZE;
+    return MappedLocalDateDoubleTimeSeries.of(window, datesOffset, datesOffset + capacity * 4, size);
+  }
+
+  // gets the offset of an index slot
+  private static int slotOffset(int slot) {
+    return HEADER_SIZE + slot * SLOT_SIZE;
+  }
+
+  // gets a mapped window, remapping if the window does not extend to the required size
+  private ByteBuffer window(int windowIndex, long requiredSize) {
+    ByteBuffer[] current = windows;
+    if (windowIndex < current.length && current[windowIndex] != null && current[windowIndex].capacity() >= requiredSize) {
+      return current[windowIndex];
+    }
+    return remap(windowIndex, requiredSize);
+  }
+
+  // maps a window
+  private synchronized ByteBuffer remap(int windowIndex, long requiredSize) {
+    ByteBuffer[] current = windows;
+    if (windowIndex < current.length && current[windowIndex] != null && current[windowIndex].capacity() >= requiredSize) {
+      return current[windowIndex];
+    }
+    long start = windowIndex * WINDOW_SIZE;
+    long fileSize = Unchecked.wrap(() -> channel.size());
+    long mapSize = Math.min(WINDOW_SIZE, fileSize - start);
+    if (mapSize < requiredSize) {
+      throw new IllegalArgumentException("Invalid time-series store, file is truncated");
+    }
+    MappedByteBuffer mapped = Unchecked.wrap(() -> channel.map(mode, start, mapSize));
+    ByteBuffer[] updated = Arrays.copyOf(current, Math.max(current.length, windowIndex + 1));
+    updated[windowIndex] = mapped;
+    windows = updated;
+    return updated[windowIndex];
+  }
+
+  //-------------------------------------------------------------------------
+  // appends the updates, called while holding the file lock
+  private void appendAll(Map<String, ? extends LocalDateDoubleTimeSeries> updates) throws IOException {
+    ByteBuffer index = window(0, HEADER_SIZE + (long) indexCapacity * SLOT_SIZE);
+    long dataEnd = index.getLong(DATA_END_OFFSET);
+    for (Entry<String, ? extends LocalDateDoubleTimeSeries> entry : updates.entrySet()) {
+      LocalDateDoubleTimeSeries series = entry.getValue();
+      if (series.isEmpty()) {
+        continue;
+      }
+      Integer slot = keys.get(entry.getKey());
+      if (slot == null) {
+        slot = addKey(index, entry.getKey());
+      }
+      int slotOffset = slotOffset(slot);
+      long location = index.getLong(slotOffset);
+      int size = (int) (location & MAX_SIZE);
+      long offset = location >>> SIZE_BITS;
+      // find the points to append
+      EpochDayLocalDateDoubleTimeSeries compact = (EpochDayLocalDateDoubleTimeSeries) EpochDayLocalDateDoubleTimeSeries.of(series);
+      int[] epochDays = compact.epochDaysUnsafe();
+      double[] values = compact.valuesUnsafe();
+      int first = 0;
+      if (size > 0) {
+        ByteBuffer window = window((int) (offset >>> WINDOW_BITS), (offset & (WINDOW_SIZE - 1)) + REGION_HEADER_SIZE);
+        int regionOffset = (int) (offset & (WINDOW_SIZE - 1));
+        int capacity = window.getInt(regionOffset);
+        int latest = window.getInt(regionOffset + REGION_HEADER_SIZE + (size - 1) * 4);
+        first = Arrays.binarySearch(epochDays, latest);
+        first = first >= 0 ? first + 1 : -first - 1;
+        if (first == epochDays.length) {
+          continue;
+        }
+        int newSize = size + epochDays.length - first;
+        ArgChecker.isTrue(newSize <= MAX_SIZE, "Time-series must not exceed {} points", MAX_SIZE);
+        if (newSize <= capacity) {
+          // append in place
+          window = window((int) (offset >>> WINDOW_BITS), regionOffset + REGION_HEADER_SIZE + capacity * 12L);
+          writePoints(window, regionOffset, capacity, size, epochDays, values, first);
+          index.putLong(slotOffset, location(offset, newSize));
+          continue;
+        }
+      }
+      // move to a new region at the end of the file
+      int newSize = size + epochDays.length - first;
+      ArgChecker.isTrue(newSize <= MAX_SIZE, "Time-series must not exceed {} points", MAX_SIZE);
+      int newCapacity = newSize + Math.max(64, newSize / 4);
+      newCapacity += newCapacity % 2;
+      long regionSize = REGION_HEADER_SIZE + newCapacity * 12L;
+      if ((dataEnd & (WINDOW_SIZE - 1)) + regionSize > WINDOW_SIZE) {
+        dataEnd = ((dataEnd >>> WINDOW_BITS) + 1) << WINDOW_BITS;
+      }
+      long newOffset = dataEnd;
+      dataEnd += regionSize;
+      if (channel.size() < dataEnd) {
+        // grow the file in large steps to avoid frequent remapping
+        long windowEnd = ((newOffset >>> WINDOW_BITS) + 1) << WINDOW_BITS;
+        long newFileSize = Math.min(windowEnd, Math.max(dataEnd, channel.size() + channel.size() / 4));
+        channel.write(ByteBuffer.allocate(1), newFileSize - 1);
+      }
+      int newWindowIndex = (int) (newOffset >>> WINDOW_BITS);
+      int newRegionOffset = (int) (newOffset & (WINDOW_SIZE - 1));
+      ByteBuffer newWindow = window(newWindowIndex, newRegionOffset + regionSize);
+      newWindow.putInt(newRegionOffset, newCapacity);
+      if (size > 0) {
+        int oldRegionOffset = (int) (offset & (WINDOW_SIZE - 1));
+        ByteBuffer oldWindow = window((int) (offset >>> WINDOW_BITS), oldRegionOffset + REGION_HEADER_SIZE);
+        int oldCapacity = oldWindow.getInt(oldRegionOffset);
+        oldWindow = window((int) (offset >>> WINDOW_BITS), oldRegionOffset + REGION_HEADER_SIZE + oldCapacity * 12L);
+        for (int i = 0; i < size; i++) {
+          newWindow.putInt(newRegionOffset + REGION_HEADER_SIZE + i * 4,
+              oldWindow.getInt(oldRegionOffset + REGION_HEADER_SIZE + i * 4));
+          newWindow.putDouble(newRegionOffset + REGION_HEADER_SIZE + newCapacity * 4 + i * 8,
+              oldWindow.getDouble(oldRegionOffset + REGION_HEADER_SIZE + oldCapacity * 4 + i * 8));
+        }
+      }
+      writePoints(newWindow, newRegionOffset, newCapacity, size, epochDays, values, first);
+      index.putLong(slotOffset, location(newOffset, newSize));
+    }
+    index.putLong(DATA_END_OFFSET, dataEnd);
+    for (ByteBuffer window : windows) {
+      if (window != null) {
+        ((MappedByteBuffer) window).force();
+      }
+    }
+  }
+
+  // adds a key to the index
+  private int addKey(ByteBuffer index, String key) {
+    int slot = entriesRead;
+    if (slot >= indexCapacity) {
+      throw new IllegalStateException("Time-series store index is full, capacity: " + indexCapacity);
+    }
+    byte[] bytes = encodeKey(key);
+    int offset = slotOffset(slot);
+    index.putLong(offset, 0);
+    index.putShort(offset + 8, (short) bytes.length);
+    for (int i = 0; i < bytes.length; i++) {
+      index.put(offset + 10 + i, bytes[i]);
+    }
+    // publish the key after it has been written
+    entriesRead = slot + 1;
+    index.putInt(ENTRY_COUNT_OFFSET, entriesRead);
+    keys.put(key, slot);
+    return slot;
+  }
+
+  // writes points to a region
+  private static void writePoints(
+      ByteBuffer window,
+      int regionOffset,
+      int capacity,
+      int size,
+      int[] epochDays,
+      double[] values,
+      int first) {
+
+    int datesOffset = regionOffset + REGION_HEADER_SIZE;
+    int valuesOffset = datesOffset + capacity * 4;
+    for (int i = first, pos = size; i < epochDays.length; i++, pos++) {
+      window.putInt(datesOffset + pos * 4, epochDays[i]);
+      window.putDouble(valuesOffset + pos * 8, values[i]);
+    }
+  }
+
+  // combines the offset and size into a single value, so it can be published in one write
+  private static long location(long offset, int size) {
+    return (offset << SIZE_BITS) | size;
+  }
+
+  /**
+   * Returns a string describing the store.
+   *
+   * @return the descriptive string
+   */
+  @Override
+  public String toString() {
+    return "MappedTimeSeriesStore[" + keys.size() + " keys]";
+  }
+
+}
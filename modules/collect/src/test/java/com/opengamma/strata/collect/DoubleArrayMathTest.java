@@ -54,6 +54,12 @@ public class DoubleArrayMathTest {
     assertThat(DoubleArrayMath.sum(ARRAY_1_2)).isEqualTo(3d);
   }
 
+  @Test
+  public void test_dotProduct() {
+    assertThat(DoubleArrayMath.dotProduct(ARRAY_1_2, ARRAY_3_4)).isEqualTo(11d);
+    assertThatIllegalArgumentException().isThrownBy(() -> DoubleArrayMath.dotProduct(ARRAY_1_2, ARRAY_3));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_applyAddition() {
@@ -107,6 +113,15 @@ public class DoubleArrayMathTest {
         .isThrownBy(() -> DoubleArrayMath.mutateByAddition(testArray, new double[] {2d}));
   }
 
+  @Test
+  public void test_mutateByAddition_byArrayFactor() {
+    double[] testArray = ARRAY_1_2.clone();
+    DoubleArrayMath.mutateByAddition(testArray, new double[] {2d, 3d}, -2d);
+    assertThat(testArray).containsExactly(-3d, -4d);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DoubleArrayMath.mutateByAddition(testArray, new double[] {2d}, 2d));
+  }
+
   @Test
   public void test_mutateByMultiplication_byArray_sizeDifferent() {
     double[] testArray = ARRAY_1_2.clone();
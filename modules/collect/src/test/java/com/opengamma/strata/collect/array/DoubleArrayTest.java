@@ -372,6 +372,16 @@ public class DoubleArrayTest {
     assertThatIllegalArgumentException().isThrownBy(() -> test1.plus(DoubleArray.EMPTY));
   }
 
+  @Test
+  public void test_plus_arrayFactor() {
+    DoubleArray test1 = DoubleArray.of(1d, 2d, 3d);
+    DoubleArray test2 = DoubleArray.of(0.5d, 0.6d, 0.7d);
+    assertContent(test1.plus(test2, 2d), 2d, 3.2d, 4.4d);
+    assertThat(test1.plus(test2, 1d)).isEqualTo(test1.plus(test2));
+    assertThat(test1.plus(test2, -3d)).isEqualTo(test1.plus(test2.multipliedBy(-3d)));
+    assertThatIllegalArgumentException().isThrownBy(() -> test1.plus(DoubleArray.EMPTY, 2d));
+  }
+
   @Test
   public void test_minus_array() {
     DoubleArray test1 = DoubleArray.of(1d, 2d, 3d);
@@ -414,6 +424,15 @@ public class DoubleArrayTest {
         .isThrownBy(() -> test1.combineReduce(DoubleArray.EMPTY, (r, a, b) -> r + a * b));
   }
 
+  @Test
+  public void test_dotProduct() {
+    DoubleArray test1 = DoubleArray.of(1d, 2d, 3d);
+    DoubleArray test2 = DoubleArray.of(0.5d, 0.6d, 0.7d);
+    assertThat(test1.dotProduct(test2)).isEqualTo(test1.combineReduce(test2, (r, a, b) -> r + a * b));
+    assertThat(DoubleArray.EMPTY.dotProduct(DoubleArray.EMPTY)).isEqualTo(0d);
+    assertThatIllegalArgumentException().isThrownBy(() -> test1.dotProduct(DoubleArray.EMPTY));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_sorted() {
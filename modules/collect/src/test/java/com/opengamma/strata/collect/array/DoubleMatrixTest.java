@@ -319,6 +319,10 @@ public class DoubleMatrixTest {
         {4, 10, 16},
         {5, 11, 17},
         {6, 12, 18}}));
+
+    DoubleMatrix m3 = DoubleMatrix.of(70, 45, (i, j) -> i * 100 + j);
+    assertThat(m3.transpose()).isEqualTo(DoubleMatrix.of(45, 70, (i, j) -> j * 100 + i));
+    assertThat(m3.transpose().transpose()).isEqualTo(m3);
   }
 
   //-------------------------------------------------------------------------
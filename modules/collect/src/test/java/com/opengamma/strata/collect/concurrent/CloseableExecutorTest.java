@@ -5,11 +5,19 @@
  */
 package com.opengamma.strata.collect.concurrent;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
@@ -37,4 +45,62 @@ public class CloseableExecutorTest {
     verify(mockExecutorService).shutdown();
     verify(mockExecutorService).awaitTermination(1000, TimeUnit.MILLISECONDS);
   }
+
+  @Test
+  public void testVirtualThreads() throws Exception {
+    int tasks = 50;
+    CountDownLatch latch = new CountDownLatch(tasks);
+    List<Future<String>> results = new ArrayList<>();
+    try (CloseableExecutor test = CloseableExecutor.ofVirtualThreads("Test", Duration.ofSeconds(5))) {
+      // every task blocks until all the tasks have started, thus requires its own thread
+      for (int i = 0; i < tasks; i++) {
+        results.add(test.getExecutorService().submit(() -> {
+          latch.countDown();
+          latch.await();
+          return Thread.currentThread().getName();
+        }));
+      }
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).startsWith("Test-");
+      }
+      assertThat(test.getExecutorService().isShutdown()).isFalse();
+      ExecutorService executorService = test.getExecutorService();
+      test.close();
+      assertThat(executorService.isShutdown()).isTrue();
+    }
+  }
+
+  @Test
+  public void testBoundedExecutor() throws Exception {
+    ExecutorService executor = CloseableExecutor.boundedExecutor(Executors.defaultThreadFactory(), 2);
+    try {
+      CountDownLatch started = new CountDownLatch(2);
+      CountDownLatch release = new CountDownLatch(1);
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        results.add(executor.submit(() -> {
+          started.countDown();
+          release.await();
+          return "Done";
+        }));
+      }
+      // two tasks run, the others are queued rather than creating more threads
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(((ThreadPoolExecutor) executor).getPoolSize()).isEqualTo(2);
+      assertThat(((ThreadPoolExecutor) executor).getQueue()).hasSize(3);
+      release.countDown();
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Done");
+      }
+      assertThat(((ThreadPoolExecutor) executor).getLargestPoolSize()).isEqualTo(2);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testVirtualThreads_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> CloseableExecutor.ofVirtualThreads(""));
+    assertThatIllegalArgumentException().isThrownBy(() -> CloseableExecutor.ofVirtualThreads("Test", Duration.ofSeconds(-1)));
+  }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.UncheckedTimeoutException;
+
+/**
+ * Test {@link TaskScope}.
+ */
+public class TaskScopeTest {
+
+  @Test
+  public void test_join() {
+    try (CloseableExecutor executor = CloseableExecutor.ofVirtualThreads("Test");
+        TaskScope test = TaskScope.of(executor.getExecutorService(), Duration.ofSeconds(10))) {
+      List<Supplier<Integer>> results = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        int value = i;
+        results.add(test.fork(() -> value * 2));
+      }
+      Supplier<Supplier<Integer>> nested = test.fork(() -> test.fork(() -> 7));
+      test.join();
+      for (int i = 0; i < 100; i++) {
+        assertThat(results.get(i).get()).isEqualTo(i * 2);
+      }
+      assertThat(nested.get().get()).isEqualTo(7);
+      assertThat(test.toString()).isEqualTo("TaskScope[0 pending]");
+    }
+  }
+
+  @Test
+  public void test_join_direct() {
+    try (TaskScope test = TaskScope.of(MoreExecutors.directExecutor())) {
+      Supplier<String> result = test.fork(() -> "A");
+      assertThat(result.get()).isEqualTo("A");
+      test.join();
+      assertThat(result.get()).isEqualTo("A");
+    }
+  }
+
+  @Test
+  public void test_join_failure() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    try (CloseableExecutor executor = CloseableExecutor.ofVirtualThreads("Test");
+        TaskScope test = TaskScope.of(executor.getExecutorService())) {
+      Supplier<String> blocked = test.fork(() -> {
+        try {
+          Thread.sleep(10_000);
+          return "A";
+        } catch (InterruptedException ex) {
+          interrupted.countDown();
+          throw ex;
+        }
+      });
+      test.fork(() -> {
+        throw new IOException("Bad");
+      });
+      assertThatExceptionOfType(UncheckedIOException.class)
+          .isThrownBy(() -> test.join())
+          .withMessageContaining("Bad");
+      // the blocked task was cancelled
+      assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThatIllegalStateException().isThrownBy(() -> blocked.get());
+      assertThatIllegalStateException().isThrownBy(() -> test.fork(() -> "B"));
+      assertThat(test.toString()).isEqualTo("TaskScope[0 pending, shutdown]");
+    }
+  }
+
+  @Test
+  public void test_join_deadline() {
+    try (CloseableExecutor executor = CloseableExecutor.ofVirtualThreads("Test");
+        TaskScope test = TaskScope.of(executor.getExecutorService(), Duration.ofMillis(50))) {
+      Supplier<String> blocked = test.fork(() -> {
+        Thread.sleep(10_000);
+        return "A";
+      });
+      assertThatExceptionOfType(UncheckedTimeoutException.class).isThrownBy(() -> test.join());
+      assertThatIllegalStateException().isThrownBy(() -> blocked.get());
+    }
+  }
+
+  @Test
+  public void test_fork_rejected() {
+    ExecutorService executor = CloseableExecutor.ofVirtualThreads("Test").getExecutorService();
+    executor.shutdown();
+    try (TaskScope test = TaskScope.of(executor)) {
+      test.fork(() -> "A");
+      assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> test.join());
+    }
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> TaskScope.of(null));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> TaskScope.of(MoreExecutors.directExecutor(), Duration.ofSeconds(-1)));
+  }
+
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.CharSource;
@@ -568,6 +569,85 @@ public class CsvFileTest {
     assertThat(CsvFile.findSeparator(CharSource.wrap(input))).isEqualTo(expected);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of_lineTerminatorAtBufferBoundary() {
+    String longField = Strings.repeat("x", 8189);
+    String input = "h1,h2\r\n" + longField + "\r\na,b\rc,d\n\re,f";
+    CsvFile csvFile = CsvFile.of(CharSource.wrap(input), true);
+    assertThat(csvFile.rowCount()).isEqualTo(4);
+    assertThat(csvFile.row(0).field(0)).isEqualTo(longField);
+    assertThat(csvFile.row(0).lineNumber()).isEqualTo(2);
+    assertThat(csvFile.row(1).fields()).containsExactly("a", "b");
+    assertThat(csvFile.row(1).lineNumber()).isEqualTo(3);
+    assertThat(csvFile.row(2).fields()).containsExactly("c", "d");
+    assertThat(csvFile.row(2).lineNumber()).isEqualTo(4);
+    assertThat(csvFile.row(3).fields()).containsExactly("e", "f");
+    assertThat(csvFile.row(3).lineNumber()).isEqualTo(6);
+  }
+
+  @Test
+  public void test_of_longLine() {
+    String longField = Strings.repeat("abcdefghij", 20000);
+    String input = "h1,h2\n\"" + longField + "\",x\n" + longField + "," + longField + "\n";
+    CsvFile csvFile = CsvFile.of(CharSource.wrap(input), true);
+    assertThat(csvFile.rowCount()).isEqualTo(2);
+    assertThat(csvFile.row(0).fields()).containsExactly(longField, "x");
+    assertThat(csvFile.row(1).fields()).containsExactly(longField, longField);
+  }
+
+  @Test
+  public void test_of_fieldsCreatedOnDemand() {
+    CsvFile csvFile = CsvFile.of(CharSource.wrap("h1,h2,h3\n\"a\"\"b\" , c ,\n"), true);
+    CsvRow row = csvFile.row(0);
+    assertThat(row.field(1)).isEqualTo("c");
+    assertThat(row.field(0)).isEqualTo("a\"b");
+    assertThat(row.field(2)).isEqualTo("");
+    assertThat(row.fields()).containsExactly("a\"b", "c", "");
+    assertThat(row.fields()).isSameAs(row.fields());
+    assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> row.field(3));
+  }
+
+  @Test
+  public void test_ofParallel_small() {
+    CsvFile csvFile = CsvFile.ofParallel(CharSource.wrap(CSV2), true);
+    assertThat(csvFile).isEqualTo(CsvFile.of(CharSource.wrap(CSV2), true));
+    assertThat(csvFile.row(0).lineNumber()).isEqualTo(5);
+    assertThat(CsvFile.ofParallel(CharSource.wrap(CSV1T), false, '\t'))
+        .isEqualTo(CsvFile.of(CharSource.wrap(CSV1T), false, '\t'));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CsvFile.ofParallel(CharSource.wrap("\n#comment\n"), true))
+        .withMessage("Could not read header row from empty CSV file");
+    assertThat(CsvFile.ofParallel(CharSource.wrap(""), false).rowCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_ofParallel_large() {
+    String[] terminators = {"\n", "\r\n", "\r"};
+    StringBuilder buf = new StringBuilder("\n# comment\r\nh1,h2,h3\r\n");
+    for (int i = 0; i < 60_000; i++) {
+      String terminator = terminators[i % 3];
+      if (i % 97 == 0) {
+        buf.append("# comment ").append(i).append(terminator);
+      } else if (i % 101 == 0) {
+        buf.append(",,").append(terminator);
+      } else {
+        buf.append(i).append(",\"q\"\",").append(i).append("\", v").append(i % 13).append(terminator);
+      }
+    }
+    CharSource source = CharSource.wrap(buf.toString());
+    CsvFile expected = CsvFile.of(source, true);
+    CsvFile test = CsvFile.ofParallel(source, true);
+    assertThat(test.headers()).isEqualTo(expected.headers());
+    assertThat(test.rowCount()).isEqualTo(expected.rowCount());
+    for (int i = 0; i < expected.rowCount(); i++) {
+      assertThat(test.row(i).lineNumber()).isEqualTo(expected.row(i).lineNumber());
+      assertThat(test.row(i).fields()).isEqualTo(expected.row(i).fields());
+    }
+    assertThat(test.row(1).lineNumber()).isEqualTo(6);
+    assertThat(test.row(1).fields()).containsExactly("2", "q\",2", "v2");
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_equalsHashCodeToString() {
@@ -11,6 +11,9 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import java.io.File;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
@@ -20,6 +23,7 @@ import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.CharSource;
@@ -419,6 +423,29 @@ public class CsvIteratorTest {
     }
   }
 
+  @Test
+  public void test_of_shortReads() {
+    StringBuilder buf = new StringBuilder("h1,h2\r\n");
+    for (int i = 0; i < 5000; i++) {
+      buf.append("\"r").append(i).append("\",").append(Strings.repeat("y", i % 50)).append(i % 2 == 0 ? "\r\n" : "\r");
+    }
+    String input = buf.toString();
+    // the reader returns a small number of characters on each read, as some real readers do
+    Reader reader = new FilterReader(new StringReader(input)) {
+      @Override
+      public int read(char[] cbuf, int off, int len) throws IOException {
+        return super.read(cbuf, off, Math.min(len, 7));
+      }
+    };
+    CsvFile expected = CsvFile.of(CharSource.wrap(input), true);
+    try (CsvIterator csvFile = CsvIterator.of(reader, true)) {
+      List<CsvRow> rows = csvFile.asStream().collect(toList());
+      assertThat(rows).isEqualTo(expected.rows());
+      assertThat(rows.get(4999).lineNumber()).isEqualTo(5001);
+      assertThat(rows.get(4999).fields()).containsExactly("r4999", Strings.repeat("y", 49));
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_toString() {
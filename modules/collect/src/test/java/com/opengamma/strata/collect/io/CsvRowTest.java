@@ -38,6 +38,22 @@ public class CsvRowTest {
     assertThat(row.lineNumber()).isEqualTo(1);
   }
 
+  @Test
+  public void test_basics_line() {
+    CsvLine line = CsvLineReader.parse("m,,P1D", ',');
+    CsvRow row = new CsvRow(HEADERS, SEARCH_HEADERS, 3, line);
+    assertThat(row.headers()).isSameAs(HEADERS);
+    assertThat(row.fieldCount()).isEqualTo(5);
+    assertThat(row.field(0)).isEqualTo("m");
+    assertThat(row.field(2)).isEqualTo("P1D");
+    assertThat(row.field(4)).isEqualTo("");
+    assertThat(row.getField("C")).isEqualTo("P1D");
+    assertThat(row.fields()).containsExactly("m", "", "P1D");
+    assertThat(row.subRow(1).fields()).containsExactly("", "P1D");
+    assertThat(row.lineNumber()).isEqualTo(3);
+    assertThat(row).isEqualTo(new CsvRow(HEADERS, SEARCH_HEADERS, 3, ImmutableList.of("m", "", "P1D")));
+  }
+
   @Test
   public void test_getField_String() {
     CsvRow row = new CsvRow(HEADERS, SEARCH_HEADERS, 1, FIELDS);
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import java.io.File;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -139,6 +140,63 @@ public class XmlFileTest {
     assertThatExceptionOfType(UncheckedIOException.class).isThrownBy(() -> XmlFile.of(source, "key"));
   }
 
+  @Test
+  public void test_of_ByteSource_skipContent() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    XmlFile test = XmlFile.of(source, "key", name -> name.equals("test"));
+    XmlElement root = test.getRoot();
+    assertThat(root.getName()).isEqualTo("base");
+    assertThat(root.getChildren()).containsExactly(XmlElement.ofContent("test", ATTR_MAP, ""));
+    assertThat(test.getReferences()).isEqualTo(ImmutableMap.of("value", root.getChild(0)));
+    assertThat(XmlFile.of(source, "key", name -> name.equals("obj")).getRoot().getChild(0).getChild(3))
+        .isEqualTo(XmlElement.ofContent("obj", ""));
+    assertThat(XmlFile.of(source, "key", name -> false)).isEqualTo(XmlFile.of(source, "key"));
+  }
+
+  @Test
+  public void test_of_ByteSource_skipContent_mismatchedTags() {
+    ByteSource source = ByteSource.wrap(SAMPLE_MISMATCHED_TAGS.getBytes(StandardCharsets.UTF_8));
+    assertThatIllegalArgumentException().isThrownBy(() -> XmlFile.of(source, "key", name -> name.equals("test")));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_streamElements() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    List<XmlElement> elements = new ArrayList<>();
+    List<Map<String, XmlElement>> refs = new ArrayList<>();
+    XmlFile.streamElements(source, "key", "leaf2", (el, elRefs) -> {
+      elements.add(el);
+      refs.add(elRefs);
+    });
+    assertThat(elements).containsExactly(XmlElement.ofContent("leaf2", "a"), XmlElement.ofContent("leaf2", "b"));
+    assertThat(refs).containsExactly(ImmutableMap.of(), ImmutableMap.of());
+  }
+
+  @Test
+  public void test_streamElements_parsedReferences() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    List<XmlElement> elements = new ArrayList<>();
+    XmlFile.streamElements(source, "key", "test", (el, elRefs) -> {
+      assertThat(elRefs).isEqualTo(ImmutableMap.of("value", el));
+      elements.add(el);
+    });
+    assertThat(elements).containsExactly(XmlFile.of(source).getRoot().getChild(0));
+  }
+
+  @Test
+  public void test_streamElements_badEnd() {
+    ByteSource source = ByteSource.wrap(SAMPLE_BAD_END.getBytes(StandardCharsets.UTF_8));
+    assertThatIllegalArgumentException().isThrownBy(() -> XmlFile.streamElements(source, "key", "test", (el, refs) -> {}));
+  }
+
+  @Test
+  public void test_streamElements_ioException() {
+    ByteSource source = Files.asByteSource(new File("/oh-dear-no-such-file"));
+    assertThatExceptionOfType(UncheckedIOException.class)
+        .isThrownBy(() -> XmlFile.streamElements(source, "key", "test", (el, refs) -> {}));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_parseElements_ByteSource_Fn_noFilter() {
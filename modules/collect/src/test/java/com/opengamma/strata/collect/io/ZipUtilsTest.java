@@ -7,6 +7,8 @@ package com.opengamma.strata.collect.io;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.within;
 
@@ -16,8 +18,14 @@ import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
@@ -29,8 +37,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
 import com.google.common.io.MoreFiles;
+import com.opengamma.strata.collect.Unchecked;
 
 /**
  * Test {@link ZipUtils}.
@@ -255,6 +266,143 @@ public class ZipUtilsTest {
             }));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_unzipInParallel() {
+    List<ArrayByteSource> sources = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      sources.add(ArrayByteSource.ofUtf8(Strings.repeat("Hello World " + i + "\n", i * 1000)).withFileName("TestFile" + i + ".txt"));
+    }
+    ArrayByteSource zipFile = ZipUtils.zipInMemory(sources).withFileName("Test.foo");
+
+    // a budget smaller than the larger entries, which are streamed
+    for (long budget : new long[] {1, 100_000, Long.MAX_VALUE}) {
+      Map<String, String> map = new ConcurrentHashMap<>();
+      ZipUtils.unzipInParallel(zipFile, budget, (name, in) -> {
+        map.put(name, Unchecked.wrap(() -> new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8)));
+      });
+      assertThat(map).hasSize(20);
+      for (ArrayByteSource source : sources) {
+        assertThat(map.get(source.getFileName().get())).isEqualTo(source.readUtf8());
+      }
+    }
+  }
+
+  @Test
+  public void test_unzipInParallel_encrypted() {
+    ArrayByteSource zipFile = load("TestFileEncrypted.zip");
+
+    Map<String, String> map = new ConcurrentHashMap<>();
+    ZipUtils.unzipInParallel(ZipUtils.decryptZip(zipFile, "ThePassword"), 1000, (name, in) -> {
+      map.put(name, Unchecked.wrap(() -> new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8)));
+    });
+    assertThat(map).hasSize(1);
+    assertThat(map.get("TestFile.txt")).startsWith("HelloWorld");
+    assertThatExceptionOfType(UncheckedIOException.class)
+        .isThrownBy(() -> ZipUtils.unzipInParallel(ZipUtils.decryptZip(zipFile, "WrongPassword"), 1000, (name, in) -> {}))
+        .withMessageContaining("Unable to decrypt ZIP file, wrong password");
+  }
+
+  @Test
+  public void test_unzipInParallel_consumerFails() {
+    ArrayByteSource source1 = ArrayByteSource.ofUtf8("Hello World").withFileName("TestFile1.txt");
+    ArrayByteSource source2 = ArrayByteSource.ofUtf8("Hello Planet").withFileName("TestFile2.txt");
+    ArrayByteSource zipFile = ZipUtils.zipInMemory(ImmutableList.of(source1, source2)).withFileName("Test.foo");
+
+    AtomicInteger counter = new AtomicInteger();
+    assertThatIllegalStateException()
+        .isThrownBy(() -> ZipUtils.unzipInParallel(zipFile, 1000, (name, in) -> {
+          counter.incrementAndGet();
+          if (name.equals("TestFile1.txt")) {
+            throw new IllegalStateException("Bad");
+          }
+        }))
+        .withMessage("Bad");
+    assertThat(counter).hasValue(2);
+  }
+
+  @Test
+  public void test_unzipInParallel_consumerFailsMultiple() {
+    ArrayByteSource source1 = ArrayByteSource.ofUtf8("Hello World").withFileName("TestFile1.txt");
+    ArrayByteSource source2 = ArrayByteSource.ofUtf8("Hello Planet").withFileName("TestFile2.txt");
+    ArrayByteSource zipFile = ZipUtils.zipInMemory(ImmutableList.of(source1, source2)).withFileName("Test.foo");
+
+    assertThatIllegalStateException()
+        .isThrownBy(() -> ZipUtils.unzipInParallel(zipFile, 1000, (name, in) -> {
+          throw new IllegalStateException(name);
+        }))
+        .withMessage("TestFile1.txt")
+        .satisfies(ex -> assertThat(ex.getSuppressed()).hasSize(1))
+        .satisfies(ex -> assertThat(ex.getSuppressed()[0]).hasMessage("TestFile2.txt"));
+  }
+
+  @Test
+  public void test_unzipInParallel_readFailsAwaitsSubmittedEntries() {
+    ArrayByteSource source1 = ArrayByteSource.ofUtf8("Hello World").withFileName("TestFile1.txt");
+    ArrayByteSource source2 = ArrayByteSource.ofUtf8(Strings.repeat("Hello Planet\n", 100)).withFileName("TestFile2.txt");
+    ArrayByteSource zipFile = ZipUtils.zipInMemory(ImmutableList.of(source1, source2)).withFileName("Test.foo");
+
+    // the first entry is processed by the executor, the second is larger than the budget and is
+    // processed on the calling thread, which fails while the first is still being processed
+    AtomicBoolean completed = new AtomicBoolean();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ZipUtils.unzipInParallel(zipFile, 100, (name, in) -> {
+          if (name.equals("TestFile1.txt")) {
+            Unchecked.wrap(() -> Thread.sleep(200));
+            completed.set(true);
+            throw new IllegalStateException("Async");
+          }
+          throw new IllegalArgumentException("Sync");
+        }))
+        .withMessage("Sync")
+        .satisfies(ex -> assertThat(ex.getSuppressed()).hasSize(1))
+        .satisfies(ex -> assertThat(ex.getSuppressed()[0]).isInstanceOf(IllegalStateException.class).hasMessage("Async"));
+    assertThat(completed).isTrue();
+  }
+
+  @Test
+  public void test_unzipInParallel_executor() {
+    List<ArrayByteSource> sources = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      sources.add(ArrayByteSource.ofUtf8("Hello World " + i).withFileName("TestFile" + i + ".txt"));
+    }
+    ArrayByteSource zipFile = ZipUtils.zipInMemory(sources).withFileName("Test.foo");
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      AtomicInteger submitted = new AtomicInteger();
+      Map<String, String> map = new ConcurrentHashMap<>();
+      ZipUtils.unzipInParallel(
+          zipFile,
+          1000,
+          task -> {
+            submitted.incrementAndGet();
+            executor.execute(task);
+          },
+          (name, in) -> map.put(name, Unchecked.wrap(() -> new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8))));
+      assertThat(submitted).hasValue(10);
+      assertThat(map).hasSize(10);
+      assertThat(map.get("TestFile3.txt")).isEqualTo("Hello World 3");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void test_unzipInParallel_zipSlip() {
+    ArrayByteSource zipFile = load("zip-slip.zip");
+
+    assertThatExceptionOfType(UncheckedIOException.class)
+        .isThrownBy(() -> ZipUtils.unzipInParallel(
+            zipFile,
+            1000,
+            (name, in) -> {
+              if (!name.equals("good.txt")) {
+                fail("Should not get here: " + name);
+              }
+            }));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_unpackInMemory_toMap_zip() {
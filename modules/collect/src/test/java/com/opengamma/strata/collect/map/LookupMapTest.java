@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Test {@link LookupMap}.
+ */
+public class LookupMapTest {
+
+  @Test
+  public void test_of() {
+    LookupMap<String, Integer> test = LookupMap.of(ImmutableMap.of("A", 1, "B", 2));
+    assertThat(test.size()).isEqualTo(2);
+    assertThat(test.get("A")).isEqualTo(1);
+    assertThat(test.get("B")).isEqualTo(2);
+    assertThat(test.get("C")).isNull();
+    assertThat(test.get(null)).isNull();
+    assertThat(test.containsKey("A")).isTrue();
+    assertThat(test.containsKey("C")).isFalse();
+    assertThat(test.toString()).isEqualTo("{A=1, B=2}");
+  }
+
+  @Test
+  public void test_of_identityAndEquals() {
+    String key = "Key";
+    String equalKey = new String(key.toCharArray());
+    LookupMap<String, Integer> test = LookupMap.of(ImmutableMap.of(key, 1));
+    assertThat(test.get(key)).isEqualTo(1);
+    assertThat(test.get(equalKey)).isEqualTo(1);
+  }
+
+  @Test
+  public void test_of_large() {
+    // keys with colliding hash codes are found by probing
+    Map<Object, Integer> map = new LinkedHashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      map.put(new Key(i, i % 7), i);
+    }
+    LookupMap<Object, Integer> test = LookupMap.of(map);
+    assertThat(test.size()).isEqualTo(1000);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(test.get(new Key(i, i % 7))).isEqualTo(i);
+    }
+    map.forEach((key, value) -> assertThat(test.get(key)).isEqualTo(value));
+    assertThat(test.get(new Key(1000, 1))).isNull();
+  }
+
+  @Test
+  public void test_empty() {
+    LookupMap<String, Integer> test = LookupMap.empty();
+    assertThat(test.size()).isEqualTo(0);
+    assertThat(test.get("A")).isNull();
+    assertThat(LookupMap.of(ImmutableMap.of())).isSameAs(test);
+    assertThat(test.toString()).isEqualTo("{}");
+  }
+
+  @Test
+  public void test_of_null() {
+    Map<String, Integer> map = new HashMap<>();
+    map.put("A", null);
+    assertThatIllegalArgumentException().isThrownBy(() -> LookupMap.of(map));
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class Key {
+    private final int value;
+    private final int hash;
+
+    private Key(int value, int hash) {
+      this.value = value;
+      this.hash = hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Key && ((Key) obj).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+}
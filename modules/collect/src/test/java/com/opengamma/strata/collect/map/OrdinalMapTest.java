@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Test {@link OrdinalMap}.
+ */
+public class OrdinalMapTest {
+
+  private static final OrdinalRegistry<String> REGISTRY = OrdinalRegistry.create();
+
+  @Test
+  public void test_of() {
+    OrdinalMap<String, Integer> test = OrdinalMap.of(ImmutableMap.of("A", 1, "B", 2), REGISTRY::ordinal);
+    assertThat(test.size()).isEqualTo(2);
+    assertThat(test.get("A")).isEqualTo(1);
+    assertThat(test.get("B")).isEqualTo(2);
+    assertThat(test.get("C")).isNull();
+    assertThat(test.containsKey("A")).isTrue();
+    assertThat(test.containsKey("D")).isFalse();
+    assertThat(test.toString()).isEqualTo("OrdinalMap[size=2]");
+  }
+
+  @Test
+  public void test_of_enum() {
+    OrdinalMap<Thread.State, String> test = OrdinalMap.of(ImmutableMap.of(Thread.State.BLOCKED, "X"), Enum::ordinal);
+    assertThat(test.get(Thread.State.BLOCKED)).isEqualTo("X");
+    assertThat(test.get(Thread.State.NEW)).isNull();
+    assertThat(test.get(Thread.State.TERMINATED)).isNull();
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> OrdinalMap.of(ImmutableMap.of("A", 1, "B", 2), key -> 0))
+        .withMessageContaining("duplicate ordinal");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> OrdinalMap.of(ImmutableMap.of("A", 1), key -> -1));
+  }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link OrdinalRegistry}.
+ */
+public class OrdinalRegistryTest {
+
+  @Test
+  public void test_ordinal() {
+    OrdinalRegistry<String> test = OrdinalRegistry.create();
+    assertThat(test.findOrdinal("A")).isEqualTo(-1);
+    assertThat(test.ordinal("A")).isEqualTo(0);
+    assertThat(test.ordinal("B")).isEqualTo(1);
+    assertThat(test.ordinal(new String("A".toCharArray()))).isEqualTo(0);
+    assertThat(test.findOrdinal("B")).isEqualTo(1);
+    assertThat(test.findOrdinal(null)).isEqualTo(-1);
+    assertThat(test.key(1)).isEqualTo("B");
+    assertThat(test.size()).isEqualTo(2);
+    assertThat(test.toString()).isEqualTo("OrdinalRegistry[size=2]");
+    assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> test.key(2));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.ordinal(null));
+  }
+
+  @Test
+  public void test_ordinal_concurrent() {
+    OrdinalRegistry<Integer> test = OrdinalRegistry.create();
+    IntStream.range(0, 10_000).parallel().forEach(i -> test.ordinal(i % 1000));
+    assertThat(test.size()).isEqualTo(1000);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(test.key(test.findOrdinal(i))).isEqualTo(i);
+    }
+  }
+
+}
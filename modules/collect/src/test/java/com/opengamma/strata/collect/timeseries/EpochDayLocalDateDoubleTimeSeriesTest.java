@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.timeseries;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+
+import org.joda.beans.BeanBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link EpochDayLocalDateDoubleTimeSeries}.
+ */
+public class EpochDayLocalDateDoubleTimeSeriesTest {
+
+  private static final LocalDate DATE_2010_01_01 = date(2010, 1, 1);
+  private static final LocalDate DATE_2011_01_01 = date(2011, 1, 1);
+  private static final LocalDate DATE_2011_06_01 = date(2011, 6, 1);
+  private static final LocalDate DATE_2012_01_01 = date(2012, 1, 1);
+  private static final LocalDate DATE_2013_01_01 = date(2013, 1, 1);
+  private static final LocalDateDoubleTimeSeries SPARSE = LocalDateDoubleTimeSeries.builder()
+      .put(DATE_2010_01_01, 10d)
+      .put(DATE_2011_01_01, 11d)
+      .put(DATE_2012_01_01, 12d)
+      .put(DATE_2013_01_01, 13d)
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of_series() {
+    LocalDateDoubleTimeSeries test = EpochDayLocalDateDoubleTimeSeries.of(SPARSE);
+    assertThat(test).isInstanceOf(EpochDayLocalDateDoubleTimeSeries.class);
+    assertThat(test.size()).isEqualTo(4);
+    assertThat(test.isEmpty()).isFalse();
+    assertThat(test.stream()).containsExactlyElementsOf(SPARSE.stream().collect(toList()));
+    assertThat(test.dates()).containsExactly(DATE_2010_01_01, DATE_2011_01_01, DATE_2012_01_01, DATE_2013_01_01);
+    assertThat(test.values()).containsExactly(10d, 11d, 12d, 13d);
+    assertThat(test.getEarliestDate()).isEqualTo(DATE_2010_01_01);
+    assertThat(test.getLatestDate()).isEqualTo(DATE_2013_01_01);
+    assertThat(test.getLatestValue()).isEqualTo(13d);
+    assertThat(test.toString()).isEqualTo(SPARSE.toString());
+    assertThat(test.toBuilder().build()).isEqualTo(SPARSE);
+    assertThat(EpochDayLocalDateDoubleTimeSeries.of(test)).isSameAs(test);
+    assertThat(EpochDayLocalDateDoubleTimeSeries.of(LocalDateDoubleTimeSeries.empty()))
+        .isSameAs(LocalDateDoubleTimeSeries.empty());
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> EpochDayLocalDateDoubleTimeSeries.ofUnsafe(new int[] {1, 2}, new double[] {1d}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> EpochDayLocalDateDoubleTimeSeries.ofUnsafe(new int[] {2, 2}, new double[] {1d, 2d}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> EpochDayLocalDateDoubleTimeSeries.of(LocalDateDoubleTimeSeries.of(LocalDate.MAX, 1d)));
+  }
+
+  @Test
+  public void test_get() {
+    LocalDateDoubleTimeSeries test = EpochDayLocalDateDoubleTimeSeries.of(SPARSE);
+    assertThat(test.containsDate(DATE_2011_01_01)).isTrue();
+    assertThat(test.containsDate(DATE_2011_06_01)).isFalse();
+    assertThat(test.containsDate(LocalDate.MIN)).isFalse();
+    assertThat(test.containsDate(LocalDate.MAX)).isFalse();
+    assertThat(test.get(DATE_2012_01_01)).isEqualTo(OptionalDouble.of(12d));
+    assertThat(test.get(DATE_2011_06_01)).isEqualTo(OptionalDouble.empty());
+  }
+
+  @Test
+  public void test_subSeries() {
+    LocalDateDoubleTimeSeries test = EpochDayLocalDateDoubleTimeSeries.of(SPARSE);
+    assertThat(test.subSeries(DATE_2011_01_01, DATE_2013_01_01).toBuilder().build())
+        .isEqualTo(SPARSE.subSeries(DATE_2011_01_01, DATE_2013_01_01));
+    assertThat(test.subSeries(DATE_2011_06_01, LocalDate.MAX).dates())
+        .containsExactly(DATE_2012_01_01, DATE_2013_01_01);
+    assertThat(test.subSeries(DATE_2011_06_01, DATE_2011_06_01)).isSameAs(LocalDateDoubleTimeSeries.empty());
+    assertThat(test.subSeries(LocalDate.MIN, DATE_2010_01_01)).isSameAs(LocalDateDoubleTimeSeries.empty());
+    assertThatIllegalArgumentException().isThrownBy(() -> test.subSeries(DATE_2013_01_01, DATE_2011_01_01));
+    assertThat(test.headSeries(2).dates()).containsExactly(DATE_2010_01_01, DATE_2011_01_01);
+    assertThat(test.headSeries(0)).isSameAs(LocalDateDoubleTimeSeries.empty());
+    assertThat(test.headSeries(5)).isSameAs(test);
+    assertThat(test.tailSeries(1).dates()).containsExactly(DATE_2013_01_01);
+    assertThat(test.tailSeries(0)).isSameAs(LocalDateDoubleTimeSeries.empty());
+    assertThat(test.tailSeries(4)).isSameAs(test);
+  }
+
+  @Test
+  public void test_map_filter() {
+    LocalDateDoubleTimeSeries test = EpochDayLocalDateDoubleTimeSeries.of(SPARSE);
+    assertThat(test.mapValues(v -> v * 2).values()).containsExactly(20d, 22d, 24d, 26d);
+    assertThat(test.mapDates(d -> d.plusDays(1)).dates()).containsExactlyElementsOf(
+        SPARSE.mapDates(d -> d.plusDays(1)).dates().collect(toList()));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.mapDates(d -> DATE_2010_01_01));
+    assertThat(test.filter((d, v) -> v > 11d).dates()).containsExactly(DATE_2012_01_01, DATE_2013_01_01);
+    assertThat(test.filter((d, v) -> false)).isSameAs(LocalDateDoubleTimeSeries.empty());
+    assertThat(test.union(SPARSE, Double::sum)).isEqualTo(SPARSE.mapValues(v -> v * 2));
+    StringBuilder buf = new StringBuilder();
+    test.forEach((d, v) -> buf.append(d).append('=').append(v).append(' '));
+    assertThat(buf.toString()).isEqualTo("2010-01-01=10.0 2011-01-01=11.0 2012-01-01=12.0 2013-01-01=13.0 ");
+  }
+
+  @Test
+  public void test_immutableViaBeanBuilder() {
+    int[] epochDays = {1, 2, 3};
+    double[] values = {6, 5, 4};
+    BeanBuilder<? extends EpochDayLocalDateDoubleTimeSeries> builder = EpochDayLocalDateDoubleTimeSeries.meta().builder();
+    builder.set("epochDays", epochDays);
+    builder.set("values", values);
+    LocalDateDoubleTimeSeries test = builder.build();
+    epochDays[0] = 0;
+    values[0] = -1;
+    assertThat(test.getEarliestDate()).isEqualTo(LocalDate.ofEpochDay(1));
+    assertThat(test.getEarliestValue()).isEqualTo(6d);
+  }
+
+  @Test
+  public void test_empty() {
+    BeanBuilder<? extends EpochDayLocalDateDoubleTimeSeries> builder = EpochDayLocalDateDoubleTimeSeries.meta().builder();
+    builder.set("epochDays", new int[0]);
+    builder.set("values", new double[0]);
+    LocalDateDoubleTimeSeries test = builder.build();
+    assertThat(test.isEmpty()).isTrue();
+    assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> test.getLatestDate());
+    assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> test.getLatestValue());
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    LocalDateDoubleTimeSeries test = EpochDayLocalDateDoubleTimeSeries.of(SPARSE);
+    coverImmutableBean((EpochDayLocalDateDoubleTimeSeries) test);
+    LocalDateDoubleTimeSeries test2 = EpochDayLocalDateDoubleTimeSeries.of(SPARSE.headSeries(2));
+    coverBeanEquals((EpochDayLocalDateDoubleTimeSeries) test, (EpochDayLocalDateDoubleTimeSeries) test2);
+  }
+
+  @Test
+  public void test_serialization() {
+    assertSerialization(EpochDayLocalDateDoubleTimeSeries.of(SPARSE));
+  }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.timeseries;
+
+import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteSource;
+
+/**
+ * Test {@link LocalDateDoubleTimeSeriesCodec}.
+ */
+public class LocalDateDoubleTimeSeriesCodecTest {
+
+  private static final LocalDateDoubleTimeSeries SPARSE = LocalDateDoubleTimeSeries.builder()
+      .put(date(2010, 1, 1), 10d)
+      .put(date(2011, 1, 1), 11d)
+      .put(date(2012, 1, 1), 12d)
+      .build();
+  private static final LocalDateDoubleTimeSeries DENSE = LocalDateDoubleTimeSeries.builder()
+      .put(date(2020, 1, 6), 1.5d)
+      .put(date(2020, 1, 7), 2.5d)
+      .put(date(2020, 1, 8), -3.5d)
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_compact() {
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeriesCodec.compact(DENSE);
+    assertThat(test).isInstanceOf(EpochDayLocalDateDoubleTimeSeries.class);
+    assertThat(test.toBuilder().build()).isEqualTo(DENSE);
+    assertThat(LocalDateDoubleTimeSeriesCodec.compact(test)).isSameAs(test);
+  }
+
+  @Test
+  public void test_write_read() throws Exception {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(baos);
+    LocalDateDoubleTimeSeriesCodec.write(SPARSE, out);
+    LocalDateDoubleTimeSeriesCodec.write(LocalDateDoubleTimeSeries.empty(), out);
+    LocalDateDoubleTimeSeriesCodec.write(DENSE, out);
+    assertThat(baos.size()).isEqualTo(4 + 3 * 12 + 4 + 4 + 3 * 12);
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+    LocalDateDoubleTimeSeries test1 = LocalDateDoubleTimeSeriesCodec.read(in);
+    LocalDateDoubleTimeSeries test2 = LocalDateDoubleTimeSeriesCodec.read(in);
+    LocalDateDoubleTimeSeries test3 = LocalDateDoubleTimeSeriesCodec.read(in);
+    assertThat(test1).isInstanceOf(EpochDayLocalDateDoubleTimeSeries.class);
+    assertThat(test1.toBuilder().build()).isEqualTo(SPARSE);
+    assertThat(test2).isSameAs(LocalDateDoubleTimeSeries.empty());
+    assertThat(test3.toBuilder().build()).isEqualTo(DENSE);
+    assertThat(in.read()).isEqualTo(-1);
+  }
+
+  @Test
+  public void test_write_read_large() throws Exception {
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    for (int i = 0; i < 20_000; i++) {
+      builder.put(date(2000, 1, 1).plusDays(i * 2), i);
+    }
+    LocalDateDoubleTimeSeries series = builder.build();
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    LocalDateDoubleTimeSeriesCodec.write(series, new DataOutputStream(baos));
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeriesCodec.read(in);
+    assertThat(test.toBuilder().build()).isEqualTo(series);
+    assertThat(in.read()).isEqualTo(-1);
+  }
+
+  @Test
+  public void test_read_invalid() {
+    // a size that would require a very large allocation, followed by the data of a single point
+    byte[] bytes = ByteBuffer.allocate(16).putInt(Integer.MAX_VALUE / 12).putInt(1).putDouble(2d).array();
+    assertThatExceptionOfType(UncheckedIOException.class)
+        .isThrownBy(() -> LocalDateDoubleTimeSeriesCodec.read(new DataInputStream(new ByteArrayInputStream(bytes))));
+    byte[] negative = ByteBuffer.allocate(4).putInt(-1).array();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeriesCodec.read(new DataInputStream(new ByteArrayInputStream(negative))));
+  }
+
+  @Test
+  public void test_writeAll_readAll() {
+    Map<String, LocalDateDoubleTimeSeries> map = new LinkedHashMap<>();
+    map.put("GBP-SONIA", SPARSE);
+    map.put("EUR-€", LocalDateDoubleTimeSeries.empty());
+    map.put("USD-SOFR", DENSE);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    LocalDateDoubleTimeSeriesCodec.writeAll(map, out);
+    ImmutableMap<String, LocalDateDoubleTimeSeries> test = LocalDateDoubleTimeSeriesCodec.readAll(ByteSource.wrap(out.toByteArray()));
+    assertThat(test.keySet()).containsExactly("GBP-SONIA", "EUR-€", "USD-SOFR");
+    assertThat(test.get("GBP-SONIA").toBuilder().build()).isEqualTo(SPARSE);
+    assertThat(test.get("EUR-€")).isSameAs(LocalDateDoubleTimeSeries.empty());
+    assertThat(test.get("USD-SOFR").toBuilder().build()).isEqualTo(DENSE);
+    assertThat(LocalDateDoubleTimeSeriesCodec.readAll(ByteSource.wrap(writeAll(ImmutableMap.of())))).isEmpty();
+  }
+
+  @Test
+  public void test_readAll_invalid() {
+    byte[] valid = writeAll(ImmutableMap.of("A", SPARSE));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeriesCodec.readAll(ByteSource.wrap(new byte[] {'X', 'D', 'T', 'S', 1})))
+        .withMessageContaining("header");
+    byte[] badVersion = valid.clone();
+    badVersion[4] = 9;
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeriesCodec.readAll(ByteSource.wrap(badVersion)))
+        .withMessageContaining("version");
+    byte[] truncated = Arrays.copyOf(valid, valid.length - 1);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeriesCodec.readAll(ByteSource.wrap(truncated)));
+    byte[] unordered = valid.clone();
+    // make the second date equal to the first
+    System.arraycopy(unordered, 18, unordered, 22, 4);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeriesCodec.readAll(ByteSource.wrap(unordered)))
+        .withMessageContaining("ascending");
+  }
+
+  @Test
+  public void test_write_invalidDate() {
+    LocalDateDoubleTimeSeries series = LocalDateDoubleTimeSeries.of(LocalDate.MAX, 1d);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeriesCodec.writeAll(ImmutableMap.of("A", series), new ByteArrayOutputStream()));
+  }
+
+  private static byte[] writeAll(Map<String, LocalDateDoubleTimeSeries> map) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    LocalDateDoubleTimeSeriesCodec.writeAll(map, out);
+    return out.toByteArray();
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    coverPrivateConstructor(LocalDateDoubleTimeSeriesCodec.class);
+  }
+
+}
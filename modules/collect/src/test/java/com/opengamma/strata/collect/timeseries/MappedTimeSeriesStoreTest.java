@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.timeseries;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.OptionalDouble;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Test {@link MappedTimeSeriesStore}.
+ */
+public class MappedTimeSeriesStoreTest {
+
+  private static final LocalDate DATE_2010_01_01 = date(2010, 1, 1);
+  private static final LocalDate DATE_2011_01_01 = date(2011, 1, 1);
+  private static final LocalDate DATE_2012_01_01 = date(2012, 1, 1);
+  private static final LocalDate DATE_2013_01_01 = date(2013, 1, 1);
+  private static final LocalDateDoubleTimeSeries SERIES = LocalDateDoubleTimeSeries.builder()
+      .put(DATE_2010_01_01, 10d)
+      .put(DATE_2011_01_01, 11d)
+      .put(DATE_2012_01_01, 12d)
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_append_get() throws Exception {
+    Path file = Files.createTempFile("strata", ".ldtm");
+    try {
+      Files.delete(file);
+      MappedTimeSeriesStore.append(file, ImmutableMap.of("A", SERIES, "B", LocalDateDoubleTimeSeries.empty()));
+      try (MappedTimeSeriesStore test = MappedTimeSeriesStore.open(file)) {
+        assertThat(test.keys()).containsOnly("A");
+        LocalDateDoubleTimeSeries series = test.get("A").get();
+        assertThat(series).isInstanceOf(MappedLocalDateDoubleTimeSeries.class);
+        assertThat(series.toBuilder().build()).isEqualTo(SERIES);
+        assertThat(series.size()).isEqualTo(3);
+        assertThat(series.getEarliestDate()).isEqualTo(DATE_2010_01_01);
+        assertThat(series.getLatestValue()).isEqualTo(12d);
+        assertThat(series.get(DATE_2011_01_01)).isEqualTo(OptionalDouble.of(11d));
+        assertThat(series.containsDate(DATE_2013_01_01)).isFalse();
+        assertThat(series.toString()).isEqualTo(SERIES.toString());
+        assertThat(test.get("B")).isEmpty();
+        assertThat(test.toString()).contains("1 keys");
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void test_get_range() throws Exception {
+    Path file = Files.createTempFile("strata", ".ldtm");
+    try {
+      Files.delete(file);
+      MappedTimeSeriesStore.append(file, ImmutableMap.of("A", SERIES));
+      try (MappedTimeSeriesStore test = MappedTimeSeriesStore.open(file)) {
+        LocalDateDoubleTimeSeries range = test.get("A", DATE_2011_01_01, DATE_2013_01_01).get();
+        assertThat(range).isInstanceOf(MappedLocalDateDoubleTimeSeries.class);
+        assertThat(range.toBuilder().build()).isEqualTo(SERIES.subSeries(DATE_2011_01_01, DATE_2013_01_01));
+        assertThat(range.headSeries(1).dates()).containsExactly(DATE_2011_01_01);
+        assertThat(range.tailSeries(1).values()).containsExactly(12d);
+        assertThat(test.get("A", DATE_2013_01_01, DATE_2013_01_01).get()).isSameAs(LocalDateDoubleTimeSeries.empty());
+        assertThat(test.get("A", DATE_2011_01_01, DATE_2013_01_01).get()).isEqualTo(range);
+        assertThat(test.get("A", DATE_2011_01_01, DATE_2013_01_01).get().hashCode()).isEqualTo(range.hashCode());
+        assertThat(range.mapValues(v -> v * 2).values()).containsExactly(22d, 24d);
+        assertThat(range.filter((d, v) -> v > 11).dates()).containsExactly(DATE_2012_01_01);
+        // serialization copies the data
+        assertSerialization(EpochDayLocalDateDoubleTimeSeries.of(range));
+        assertThat(serialize(range)).isEqualTo(serialize(EpochDayLocalDateDoubleTimeSeries.of(range)));
+        assertThat(test.get("X", DATE_2011_01_01, DATE_2013_01_01)).isEmpty();
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void test_append_existing() throws Exception {
+    Path file = Files.createTempFile("strata", ".ldtm");
+    try {
+      Files.delete(file);
+      MappedTimeSeriesStore.append(file, ImmutableMap.of("A", SERIES));
+      try (MappedTimeSeriesStore test = MappedTimeSeriesStore.open(file)) {
+        LocalDateDoubleTimeSeries before = test.get("A").get();
+        // overlapping points are ignored
+        LocalDateDoubleTimeSeries update = LocalDateDoubleTimeSeries.builder()
+            .put(DATE_2012_01_01, 99d)
+            .put(DATE_2013_01_01, 13d)
+            .build();
+        MappedTimeSeriesStore.append(file, ImmutableMap.of("A", update, "B", SERIES));
+        MappedTimeSeriesStore.append(file, ImmutableMap.of("A", update));
+        // new points and keys are visible to an open store, earlier views are unchanged
+        assertThat(test.keys()).containsOnly("A", "B");
+        assertThat(test.get("A").get().toBuilder().build()).isEqualTo(SERIES.toBuilder().put(DATE_2013_01_01, 13d).build());
+        assertThat(test.get("B").get().toBuilder().build()).isEqualTo(SERIES);
+        assertThat(before.toBuilder().build()).isEqualTo(SERIES);
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void test_append_relocate() throws Exception {
+    Path file = Files.createTempFile("strata", ".ldtm");
+    try {
+      Files.delete(file);
+      LocalDateDoubleTimeSeriesBuilder expected = LocalDateDoubleTimeSeries.builder();
+      for (int i = 0; i < 500; i++) {
+        LocalDate date = DATE_2010_01_01.plusDays(i);
+        expected.put(date, i);
+        MappedTimeSeriesStore.append(file, ImmutableMap.of("A", LocalDateDoubleTimeSeries.of(date, i)), 4);
+      }
+      try (MappedTimeSeriesStore test = MappedTimeSeriesStore.open(file)) {
+        assertThat(test.get("A").get().toBuilder().build()).isEqualTo(expected.build());
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void test_append_invalid() throws Exception {
+    Path file = Files.createTempFile("strata", ".ldtm");
+    try {
+      Files.delete(file);
+      MappedTimeSeriesStore.append(file, ImmutableMap.of("A", SERIES, "B", SERIES), 2);
+      assertThatIllegalStateException()
+          .isThrownBy(() -> MappedTimeSeriesStore.append(file, ImmutableMap.of("C", SERIES)));
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> MappedTimeSeriesStore.append(file, ImmutableMap.of(Strings.repeat("X", 111), SERIES)));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void test_open_invalid() throws Exception {
+    Path file = Files.createTempFile("strata", ".ldtm");
+    try {
+      Files.write(file, new byte[100]);
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> MappedTimeSeriesStore.open(file))
+          .withMessageContaining("header");
+      Files.write(file, new byte[10]);
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> MappedTimeSeriesStore.open(file));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static byte[] serialize(Object obj) throws Exception {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+      out.writeObject(obj);
+    }
+    return baos.toByteArray();
+  }
+
+}
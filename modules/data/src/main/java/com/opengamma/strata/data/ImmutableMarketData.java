@@ -22,6 +22,7 @@ import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableConstructor;
 import org.joda.beans.gen.PropertyDefinition;
 import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
@@ -31,6 +32,7 @@ import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.map.LookupMap;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 
 /**
@@ -59,6 +61,42 @@ public final class ImmutableMarketData
    */
   @PropertyDefinition(validate = "notNull")
   private final ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> timeSeries;
+  /**
+   * The market data values, optimized for lookup.
+   */
+  private final transient LookupMap<MarketDataId<?>, Object> valuesLookup;  // derived
+  /**
+   * The time-series, optimized for lookup.
+   */
+  private final transient LookupMap<ObservableId, LocalDateDoubleTimeSeries> timeSeriesLookup;  // derived
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance.
+   *
+   * @param valuationDate  the valuation date
+   * @param values  the market data values
+   * @param timeSeries  the time-series
+   */
+  @ImmutableConstructor
+  ImmutableMarketData(
+      LocalDate valuationDate,
+      Map<? extends MarketDataId<?>, ?> values,
+      Map<ObservableId, LocalDateDoubleTimeSeries> timeSeries) {
+    JodaBeanUtils.notNull(valuationDate, "valuationDate");
+    JodaBeanUtils.notNull(values, "values");
+    JodaBeanUtils.notNull(timeSeries, "timeSeries");
+    this.valuationDate = valuationDate;
+    this.values = ImmutableMap.copyOf(values);
+    this.timeSeries = ImmutableMap.copyOf(timeSeries);
+    this.valuesLookup = LookupMap.of(this.values);
+    this.timeSeriesLookup = LookupMap.of(this.timeSeries);
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new ImmutableMarketData(valuationDate, values, timeSeries);
+  }
 
   //-------------------------------------------------------------------------
   /**
@@ -114,7 +152,7 @@ public final class ImmutableMarketData
   @Override
   public boolean containsValue(MarketDataId<?> id) {
     // overridden for performance
-    return values.containsKey(id);
+    return valuesLookup.containsKey(id);
   }
 
   /**
@@ -156,7 +194,7 @@ public final class ImmutableMarketData
     // overridden for performance
     // no type check against id.getMarketDataType() as checked in factory
     @SuppressWarnings("unchecked")
-    T value = (T) values.get(id);
+    T value = (T) valuesLookup.get(id);
     if (value == null) {
       throw new MarketDataNotFoundException(msgValueNotFound(id));
     }
@@ -174,7 +212,7 @@ public final class ImmutableMarketData
   public <T> Optional<T> findValue(MarketDataId<T> id) {
     // no type check against id.getMarketDataType() as checked in factory
     @SuppressWarnings("unchecked")
-    T value = (T) values.get(id);
+    T value = (T) valuesLookup.get(id);
     return Optional.ofNullable(value);
   }
 
@@ -201,7 +239,7 @@ public final class ImmutableMarketData
 
   @Override
   public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
-    LocalDateDoubleTimeSeries found = timeSeries.get(id);
+    LocalDateDoubleTimeSeries found = timeSeriesLookup.get(id);
     return found == null ? LocalDateDoubleTimeSeries.empty() : found;
   }
 
@@ -223,24 +261,6 @@ public final class ImmutableMarketData
    */
   private static final long serialVersionUID = 1L;
 
-  /**
-   * Creates an instance.
-   * @param valuationDate  the value of the property, not null
-   * @param values  the value of the property, not null
-   * @param timeSeries  the value of the property, not null
-   */
-  ImmutableMarketData(
-      LocalDate valuationDate,
-      Map<? extends MarketDataId<?>, ?> values,
-      Map<ObservableId, LocalDateDoubleTimeSeries> timeSeries) {
-    JodaBeanUtils.notNull(valuationDate, "valuationDate");
-    JodaBeanUtils.notNull(values, "values");
-    JodaBeanUtils.notNull(timeSeries, "timeSeries");
-    this.valuationDate = valuationDate;
-    this.values = ImmutableMap.copyOf(values);
-    this.timeSeries = ImmutableMap.copyOf(timeSeries);
-  }
-
   @Override
   public ImmutableMarketData.Meta metaBean() {
     return ImmutableMarketData.Meta.INSTANCE;
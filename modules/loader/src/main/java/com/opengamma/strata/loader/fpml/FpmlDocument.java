@@ -13,6 +13,7 @@ import java.time.Period;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -252,6 +253,36 @@ public final class FpmlDocument {
     this.strictValidation = strictValidation;
   }
 
+  // creates an instance sharing the parties, with additional references
+  private FpmlDocument(FpmlDocument base, Map<String, XmlElement> references) {
+    this.fpmlRoot = base.fpmlRoot;
+    this.references = ImmutableMap.copyOf(references);
+    this.parties = base.parties;
+    this.ourPartyHrefIds = base.ourPartyHrefIds;
+    this.tradeInfoParser = base.tradeInfoParser;
+    this.refData = base.refData;
+    this.strictValidation = base.strictValidation;
+  }
+
+  /**
+   * Returns a copy of this document with additional references.
+   * <p>
+   * This is used when trades are streamed from the file, where the references within
+   * each trade are only known once the trade has been parsed.
+   * The parties and "our" party are not re-evaluated.
+   * 
+   * @param tradeReferences  the references within the trade, overriding those in this document
+   * @return the document including the specified references
+   */
+  FpmlDocument withTradeReferences(Map<String, XmlElement> tradeReferences) {
+    if (tradeReferences.isEmpty()) {
+      return this;
+    }
+    Map<String, XmlElement> combined = new HashMap<>(references);
+    combined.putAll(tradeReferences);
+    return new FpmlDocument(this, combined);
+  }
+
   // parse all the root-level party elements
   private static ImmutableListMultimap<String, String> parseParties(XmlElement root) {
     ListMultimap<String, String> parties = ArrayListMultimap.create();
@@ -9,14 +9,20 @@ import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.google.common.io.ByteSource;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.collect.io.XmlElement;
@@ -36,6 +42,7 @@ import com.opengamma.strata.product.Trade;
 public final class FpmlDocumentParser {
   // Notes: Streaming trades directly from the file is difficult due to the
   // need to parse the party element at the root, which is after the trades
+  // thus streaming reads the file twice, once skipping the trades and once for the trades
 
   /**
    * The lookup of trade parsers.
@@ -300,6 +307,78 @@ public final class FpmlDocumentParser {
     return parseTrades(root, xmlFile.getReferences());
   }
 
+  /**
+   * Parses FpML from the specified source, extracting the trades one at a time.
+   * <p>
+   * This parses the specified byte source which must be an XML document.
+   * The result is the same as {@link #parseTrades(ByteSource)}, however the whole document is never held in memory.
+   * <p>
+   * The source is read twice. The first pass parses everything except the content of the
+   * {@code <trade>} elements, capturing the parties and any other shared references.
+   * The second pass parses each {@code <trade>} element in turn, with the trade parsing
+   * being performed in parallel. The number of trades waiting to be parsed is limited,
+   * thus the memory used is bounded by the size of the largest trades rather than the size of the source.
+   * 
+   * @param source  the source of the FpML XML document
+   * @return the parsed trades
+   * @throws RuntimeException if a parse error occurred
+   */
+  public List<Trade> parseTradesStreaming(ByteSource source) {
+    XmlFile xmlFile = XmlFile.of(source, FpmlDocument.ID, name -> name.equals("trade"));
+    XmlElement root = findFpmlRoot(xmlFile.getRoot());
+    if (root == null) {
+      throw new FpmlParseException("Unable to find FpML root element");
+    }
+    FpmlDocument document =
+        new FpmlDocument(root, xmlFile.getReferences(), ourPartySelector, tradeInfoParser, refData, strictValidation);
+    // the trades are streamed in document order, thus the index identifies those within the FpML root
+    Set<XmlElement> rootTradeEls = Sets.newIdentityHashSet();
+    rootTradeEls.addAll(root.getChildren("trade"));
+    List<XmlElement> allTradeEls = new ArrayList<>();
+    findTrades(xmlFile.getRoot(), allTradeEls);
+    int[] index = {0};
+    int maxPending = ForkJoinPool.getCommonPoolParallelism() * 2;
+    ArrayDeque<CompletableFuture<Trade>> pending = new ArrayDeque<>();
+    ImmutableList.Builder<Trade> builder = ImmutableList.builder();
+    XmlFile.streamElements(source, FpmlDocument.ID, "trade", (tradeEl, tradeRefs) -> {
+      if (!rootTradeEls.contains(allTradeEls.get(index[0]++))) {
+        return;
+      }
+      FpmlDocument tradeDocument = document.withTradeReferences(tradeRefs);
+      pending.add(CompletableFuture.supplyAsync(() -> parseTrade(tradeDocument, tradeEl)));
+      if (pending.size() > maxPending) {
+        builder.add(join(pending.removeFirst()));
+      }
+    });
+    while (!pending.isEmpty()) {
+      builder.add(join(pending.removeFirst()));
+    }
+    return builder.build();
+  }
+
+  // finds the outermost trade elements in document order
+  private static void findTrades(XmlElement el, List<XmlElement> tradeEls) {
+    if (el.getName().equals("trade")) {
+      tradeEls.add(el);
+    } else {
+      for (XmlElement child : el.getChildren()) {
+        findTrades(child, tradeEls);
+      }
+    }
+  }
+
+  // waits for the trade to be parsed, rethrowing the original exception
+  private static Trade join(CompletableFuture<Trade> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
   // intelligently finds the FpML root element
   private static XmlElement findFpmlRoot(XmlElement root) {
     XmlElement fpmlRoot = getFpmlRoot(root);
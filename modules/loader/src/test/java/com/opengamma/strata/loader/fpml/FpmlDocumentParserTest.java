@@ -1578,6 +1578,14 @@ public class FpmlDocumentParserTest {
     assertThat(trades).hasSize(1);
   }
 
+  @ParameterizedTest
+  @MethodSource("data_parse")
+  public void parseStreaming(String location) {
+    ByteSource resource = ResourceLocator.of(location).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.matching("Party2"));
+    assertThat(parser.parseTradesStreaming(resource)).isEqualTo(parser.parseTrades(resource));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void noTrades() {
@@ -1689,6 +1697,39 @@ public class FpmlDocumentParserTest {
     assertThat(trades).hasSize(1);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void streaming() {
+    List<String> files = ImmutableList.of(
+        "bullet-payment-weird.xml",
+        "ird-ex08-fra-wrapper1.xml",
+        "ird-ex08-fra-wrapper2.xml",
+        "ird-ex08-fra-wrapper-clearing-status.xml");
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.matchingRegex(Pattern.compile("Party1[ab]?")));
+    for (String file : files) {
+      ByteSource resource = ResourceLocator.of("classpath:com/opengamma/strata/loader/fpml/" + file).getByteSource();
+      assertThat(parser.parseTradesStreaming(resource)).isEqualTo(parser.parseTrades(resource));
+    }
+  }
+
+  @Test
+  public void streaming_errors() {
+    String location = "classpath:com/opengamma/strata/loader/fpml/ird-ex08-fra.xml";
+    ByteSource resource = ResourceLocator.of(location).getByteSource();
+    FpmlDocumentParser badSelector = FpmlDocumentParser.of(allParties -> ImmutableList.of("rubbish"));
+    assertThatExceptionOfType(FpmlParseException.class)
+        .isThrownBy(() -> badSelector.parseTradesStreaming(resource))
+        .withMessageStartingWith("Selector returned an ID ");
+    FpmlDocumentParser noParsers = FpmlDocumentParser.of(FpmlPartySelector.any(), FpmlTradeInfoParserPlugin.standard(), ImmutableMap.of());
+    assertThatExceptionOfType(FpmlParseException.class)
+        .isThrownBy(() -> noParsers.parseTradesStreaming(resource))
+        .withMessageStartingWith("Unknown product type");
+    String xml = "<?xml version=\"1.0\" encoding=\"utf-8\"?>\r\n<root></root>";
+    assertThatExceptionOfType(FpmlParseException.class)
+        .isThrownBy(() -> noParsers.parseTradesStreaming(CharSource.wrap(xml).asByteSource(StandardCharsets.UTF_8)))
+        .withMessageStartingWith("Unable to find FpML root element");
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void document() {
@@ -0,0 +1,866 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.convert.RenameHandler;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteSource;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesCodec;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.ImmutableMarketDataBuilder;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.market.curve.CurveMetadata;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.market.param.ParameterSize;
+import com.opengamma.strata.market.surface.InterpolatedNodalSurface;
+import com.opengamma.strata.market.surface.SurfaceMetadata;
+import com.opengamma.strata.market.surface.interpolator.SurfaceInterpolator;
+
+/**
+ * A compact binary file of market data and results.
+ * <p>
+ * This provides a binary format for persisting market data, such as calibrated curves, and results,
+ * such as sensitivities, that is much faster to write and read than Joda-Beans XML or JSON.
+ * <p>
+ * The numeric content of the following types is written as blocks of primitive values:
+ * <ul>
+ * <li>{@link InterpolatedNodalCurve}
+ * <li>{@link InterpolatedNodalSurface}
+ * <li>{@link LocalDateDoubleTimeSeries}
+ * <li>{@link DoubleScenarioArray} and {@link CurrencyScenarioArray}
+ * <li>{@link CurrencyParameterSensitivities}
+ * <li>{@code Double}
+ * </ul>
+ * The keys and the non-numeric parts of these types, such as names, identifiers and metadata,
+ * are interned, thus each distinct object is written once however many times it is referenced.
+ * Any other bean is written using the Joda-Beans binary format.
+ * Other objects can be written if they can be converted to a string by Joda-Convert.
+ * <p>
+ * Time-series are read in the compact form provided by {@link LocalDateDoubleTimeSeriesCodec}.
+ * <p>
+ * The file contains an index, allowing each entry to be read on demand.
+ * A file can be {@linkplain #map(Path) memory-mapped}, in which case each entry is only read
+ * from the file when it is requested. The file is mapped once when opened. This allows a large file to be opened quickly, and
+ * avoids holding every entry in memory when only some are needed.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class BinaryMarketDataFile implements Closeable {
+
+  // the format is:
+  // header - 'SMDB', version byte, valuation date as an int epoch-day
+  // entries - tag byte followed by the data of the entry
+  // pool items - tag byte followed by the data of the item, referred to by index from entries and other items
+  // pool table - count int, offset long of each pool item and of the end of the pool items
+  // index - count int, for each entry a section byte, key pool index int, offset long and length int
+  // trailer - offset long of the pool table, offset long of the index, 'SMDB'
+
+  /**
+   * The version of the format.
+   */
+  private static final byte VERSION = 1;
+  /**
+   * The length of the header.
+   */
+  private static final int HEADER_LENGTH = 9;
+  /**
+   * The length of the trailer.
+   */
+  private static final int TRAILER_LENGTH = 20;
+  /**
+   * The value used for no valuation date and no pool item.
+   */
+  private static final int NONE = Integer.MIN_VALUE;
+  /**
+   * The section containing the values.
+   */
+  private static final byte SECTION_VALUE = 0;
+  /**
+   * The section containing the time-series.
+   */
+  private static final byte SECTION_TIME_SERIES = 1;
+  // the entry tags
+  private static final byte TAG_BEAN = 0;
+  private static final byte TAG_POOLED = 1;
+  private static final byte TAG_DOUBLE = 2;
+  private static final byte TAG_TIME_SERIES = 3;
+  private static final byte TAG_NODAL_CURVE = 4;
+  private static final byte TAG_NODAL_SURFACE = 5;
+  private static final byte TAG_DOUBLE_SCENARIO_ARRAY = 6;
+  private static final byte TAG_CURRENCY_SCENARIO_ARRAY = 7;
+  private static final byte TAG_SENSITIVITIES = 8;
+  // the pool item tags
+  private static final byte POOL_STRING = 0;
+  private static final byte POOL_CONVERTED = 1;
+  private static final byte POOL_BEAN = 2;
+  private static final byte POOL_LIST = 3;
+  /**
+   * The distance between the start of each segment of the data.
+   * Each segment is up to twice this length, thus any entry up to this length is within a single segment.
+   */
+  private static final long SEGMENT_STEP = 1L << 30;
+
+  /**
+   * The file channel, null if the data is held in memory.
+   */
+  private final FileChannel channel;
+  /**
+   * The segments of the data, segment {@code i} starting at {@code i * SEGMENT_STEP}.
+   * The segments are views of the data in memory, or mapped from the file.
+   */
+  private final ByteBuffer[] segments;
+  /**
+   * The valuation date, null if not known.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The pool items.
+   */
+  private final ByteBuffer pool;
+  /**
+   * The offset of each pool item within the pool items, with an extra element for the end.
+   */
+  private final int[] poolOffsets;
+  /**
+   * The decoded pool items.
+   */
+  private final Object[] poolItems;
+  /**
+   * The location of each value, keyed by the key.
+   */
+  private final ImmutableMap<Object, Location> values;
+  /**
+   * The location of each time-series, keyed by the identifier.
+   */
+  private final ImmutableMap<Object, Location> timeSeries;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Writes market data in the binary format.
+   * <p>
+   * The values and time-series of the market data are written, together with the valuation date.
+   * The output stream is flushed but not closed.
+   *
+   * @param marketData  the market data
+   * @param out  the output stream to write to
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if a value cannot be written
+   */
+  public static void write(ImmutableMarketData marketData, OutputStream out) {
+    ArgChecker.notNull(marketData, "marketData");
+    ArgChecker.notNull(out, "out");
+    Unchecked.wrap(() -> new Writer(out).write(marketData.getValuationDate(), marketData.getValues(), marketData.getTimeSeries()));
+  }
+
+  /**
+   * Writes a map of values in the binary format.
+   * <p>
+   * The key of each entry is typically a {@link MarketDataId}, a name or a string.
+   * The output stream is flushed but not closed.
+   *
+   * @param values  the values to write
+   * @param out  the output stream to write to
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if a key or value cannot be written
+   */
+  public static void write(Map<?, ?> values, OutputStream out) {
+    ArgChecker.noNulls(values, "values");
+    ArgChecker.notNull(out, "out");
+    Unchecked.wrap(() -> new Writer(out).write(null, values, ImmutableMap.of()));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Reads a file in the binary format from the specified source.
+   * <p>
+   * The source is read in full into memory, with each entry decoded when requested.
+   *
+   * @param source  the source to read from
+   * @return the file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the data is invalid
+   */
+  public static BinaryMarketDataFile of(ByteSource source) {
+    ArgChecker.notNull(source, "source");
+    ByteBuffer data = ByteBuffer.wrap(Unchecked.wrap(() -> source.read()));
+    ByteBuffer[] segments = new ByteBuffer[segmentCount(data.capacity())];
+    for (int i = 0; i < segments.length; i++) {
+      int start = (int) (i * SEGMENT_STEP);
+      ByteBuffer segment = data.duplicate();
+      segment.position(start);
+      segments[i] = segment.slice();
+    }
+    return parse(null, segments, data.capacity());
+  }
+
+  /**
+   * Opens a file in the binary format using memory-mapping.
+   * <p>
+   * The file is mapped when it is opened, in segments if it is larger than 2GB, and the index is read.
+   * Each entry is decoded from the mapped file when requested.
+   * The file must be closed when no longer needed.
+   *
+   * @param file  the file to open
+   * @return the file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the data is invalid
+   */
+  public static BinaryMarketDataFile map(Path file) {
+    ArgChecker.notNull(file, "file");
+    FileChannel channel = Unchecked.wrap(() -> FileChannel.open(file, StandardOpenOption.READ));
+    try {
+      long size = Unchecked.wrap(() -> channel.size());
+      ByteBuffer[] segments = new ByteBuffer[segmentCount(size)];
+      for (int i = 0; i < segments.length; i++) {
+        long start = i * SEGMENT_STEP;
+        long length = Math.min(size - start, Integer.MAX_VALUE);
+        segments[i] = Unchecked.wrap(() -> channel.map(MapMode.READ_ONLY, start, length));
+      }
+      return parse(channel, segments, size);
+    } catch (RuntimeException ex) {
+      Unchecked.wrap(() -> channel.close());
+      throw ex;
+    }
+  }
+
+  // the number of segments needed for data of the specified size
+  private static int segmentCount(long size) {
+    return (int) Math.max((size + SEGMENT_STEP - 1) / SEGMENT_STEP, 1);
+  }
+
+  // parses the header, index and pool table
+  private static BinaryMarketDataFile parse(FileChannel channel, ByteBuffer[] segments, long size) {
+    if (size < HEADER_LENGTH + TRAILER_LENGTH) {
+      throw new IllegalArgumentException("Invalid market data binary format, file too short");
+    }
+    try {
+      ByteBuffer header = region(channel, segments, 0, HEADER_LENGTH);
+      checkHeader(header);
+      byte version = header.get();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("Invalid market data binary format, unknown version: " + version);
+      }
+      int epochDay = header.getInt();
+      LocalDate valuationDate = epochDay == NONE ? null : LocalDate.ofEpochDay(epochDay);
+      ByteBuffer trailer = region(channel, segments, size - TRAILER_LENGTH, TRAILER_LENGTH);
+      long poolTableOffset = trailer.getLong();
+      long indexOffset = trailer.getLong();
+      checkHeader(trailer);
+      checkOffset(poolTableOffset, HEADER_LENGTH, indexOffset);
+      checkOffset(indexOffset, poolTableOffset, size - TRAILER_LENGTH);
+
+      // pool table and pool items
+      ByteBuffer poolTable = region(channel, segments, poolTableOffset, toInt(indexOffset - poolTableOffset));
+      int poolCount = poolTable.getInt();
+      checkOffset(poolCount, 0, poolTable.remaining() / 8 - 1);
+      long[] absolutePoolOffsets = new long[poolCount + 1];
+      poolTable.asLongBuffer().get(absolutePoolOffsets);
+      long poolStart = absolutePoolOffsets[0];
+      checkOffset(poolStart, HEADER_LENGTH, poolTableOffset);
+      int[] poolOffsets = new int[poolCount + 1];
+      for (int i = 0; i <= poolCount; i++) {
+        checkOffset(absolutePoolOffsets[i], i == 0 ? poolStart : absolutePoolOffsets[i - 1], poolTableOffset);
+        poolOffsets[i] = toInt(absolutePoolOffsets[i] - poolStart);
+      }
+      ByteBuffer pool = region(channel, segments, poolStart, poolOffsets[poolCount]);
+      BinaryMarketDataFile file = new BinaryMarketDataFile(channel, segments, valuationDate, pool, poolOffsets);
+
+      // index
+      ByteBuffer index = region(channel, segments, indexOffset, toInt(size - TRAILER_LENGTH - indexOffset));
+      int count = index.getInt();
+      checkOffset(count, 0, index.remaining() / 17);
+      Map<Object, Location> values = new HashMap<>();
+      Map<Object, Location> timeSeries = new HashMap<>();
+      for (int i = 0; i < count; i++) {
+        byte section = index.get();
+        Object key = file.pooled(index.getInt());
+        long offset = index.getLong();
+        int length = index.getInt();
+        checkOffset(offset, HEADER_LENGTH, poolStart);
+        checkOffset(offset + length, offset, poolStart);
+        Location location = new Location(offset, length);
+        if (section == SECTION_VALUE) {
+          values.put(key, location);
+        } else if (section == SECTION_TIME_SERIES) {
+          timeSeries.put(key, location);
+        } else {
+          throw new IllegalArgumentException("Invalid market data binary format, unknown section: " + section);
+        }
+      }
+      return file.withIndex(values, timeSeries);
+
+    } catch (BufferUnderflowException ex) {
+      throw new IllegalArgumentException("Invalid market data binary format, unexpected end of data", ex);
+    }
+  }
+
+  // checks the 'SMDB' marker
+  private static void checkHeader(ByteBuffer buf) {
+    if (buf.get() != 'S' || buf.get() != 'M' || buf.get() != 'D' || buf.get() != 'B') {
+      throw new IllegalArgumentException("Invalid market data binary format, header not found");
+    }
+  }
+
+  // checks an offset or size read from the data
+  private static void checkOffset(long value, long min, long max) {
+    if (value < min || value > max) {
+      throw new IllegalArgumentException("Invalid market data binary format, invalid offset or size: " + value);
+    }
+  }
+
+  // converts a length to an int
+  private static int toInt(long length) {
+    if (length > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid market data binary format, section too large: " + length);
+    }
+    return (int) length;
+  }
+
+  // obtains a region of the data, as a slice of the segment containing it
+  private static ByteBuffer region(FileChannel channel, ByteBuffer[] segments, long offset, int length) {
+    int segmentIndex = (int) (offset / SEGMENT_STEP);
+    int start = (int) (offset - segmentIndex * SEGMENT_STEP);
+    ByteBuffer region = segments[segmentIndex].duplicate();
+    if (start + (long) length > region.capacity()) {
+      // only occurs for a region longer than the segment step in a mapped file larger than 2GB
+      return Unchecked.wrap(() -> channel.map(MapMode.READ_ONLY, offset, length));
+    }
+    region.position(start);
+    region.limit(start + length);
+    return region.slice();
+  }
+
+  //-------------------------------------------------------------------------
+  // restricted constructor
+  private BinaryMarketDataFile(
+      FileChannel channel,
+      ByteBuffer[] segments,
+      LocalDate valuationDate,
+      ByteBuffer pool,
+      int[] poolOffsets) {
+
+    this(channel, segments, valuationDate, pool, poolOffsets, new Object[poolOffsets.length - 1], ImmutableMap.of(), ImmutableMap.of());
+  }
+
+  // restricted constructor
+  private BinaryMarketDataFile(
+      FileChannel channel,
+      ByteBuffer[] segments,
+      LocalDate valuationDate,
+      ByteBuffer pool,
+      int[] poolOffsets,
+      Object[] poolItems,
+      Map<Object, Location> values,
+      Map<Object, Location> timeSeries) {
+
+    this.channel = channel;
+    this.segments = segments;
+    this.valuationDate = valuationDate;
+    this.pool = pool;
+    this.poolOffsets = poolOffsets;
+    this.poolItems = poolItems;
+    this.values = ImmutableMap.copyOf(values);
+    this.timeSeries = ImmutableMap.copyOf(timeSeries);
+  }
+
+  // returns an instance with the index, sharing the decoded pool items
+  private BinaryMarketDataFile withIndex(Map<Object, Location> values, Map<Object, Location> timeSeries) {
+    return new BinaryMarketDataFile(channel, segments, valuationDate, pool, poolOffsets, poolItems, values, timeSeries);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the valuation date.
+   * <p>
+   * This is present if the file was written from {@link ImmutableMarketData}.
+   *
+   * @return the valuation date, empty if not known
+   */
+  public Optional<LocalDate> getValuationDate() {
+    return Optional.ofNullable(valuationDate);
+  }
+
+  /**
+   * Gets the keys of the values in the file.
+   *
+   * @return the keys
+   */
+  public ImmutableSet<Object> keys() {
+    return values.keySet();
+  }
+
+  /**
+   * Gets the value associated with the specified key.
+   * <p>
+   * The value is decoded each time this method is called.
+   *
+   * @param key  the key to find
+   * @return the value, empty if not found
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the data is invalid
+   */
+  public Optional<Object> get(Object key) {
+    Location location = values.get(key);
+    return location == null ? Optional.empty() : Optional.of(read(location));
+  }
+
+  /**
+   * Gets the time-series associated with the specified identifier.
+   * <p>
+   * The time-series is decoded each time this method is called.
+   *
+   * @param id  the identifier to find
+   * @return the time-series, empty if not found
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the data is invalid
+   */
+  public Optional<LocalDateDoubleTimeSeries> getTimeSeries(ObservableId id) {
+    Location location = timeSeries.get(id);
+    return location == null ? Optional.empty() : Optional.of((LocalDateDoubleTimeSeries) read(location));
+  }
+
+  /**
+   * Reads all the values in the file.
+   *
+   * @return the map of values
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the data is invalid
+   */
+  public ImmutableMap<Object, Object> toMap() {
+    ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+    for (Entry<Object, Location> entry : values.entrySet()) {
+      builder.put(entry.getKey(), read(entry.getValue()));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Reads all the values and time-series in the file as market data.
+   * <p>
+   * The file must have been written from {@link ImmutableMarketData}.
+   *
+   * @return the market data
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the data is invalid
+   * @throws IllegalStateException if the file does not contain market data
+   */
+  public ImmutableMarketData toMarketData() {
+    if (valuationDate == null) {
+      throw new IllegalStateException("File does not contain market data, valuation date not found");
+    }
+    ImmutableMarketDataBuilder builder = ImmutableMarketData.builder(valuationDate);
+    for (Entry<Object, Location> entry : values.entrySet()) {
+      builder.addValueUnsafe((MarketDataId<?>) entry.getKey(), read(entry.getValue()));
+    }
+    for (Entry<Object, Location> entry : timeSeries.entrySet()) {
+      builder.addTimeSeries((ObservableId) entry.getKey(), (LocalDateDoubleTimeSeries) read(entry.getValue()));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Closes the file.
+   * <p>
+   * Values and time-series that have already been read remain valid.
+   *
+   * @throws UncheckedIOException if an IO exception occurs
+   */
+  @Override
+  public void close() {
+    if (channel != null) {
+      Unchecked.wrap(() -> channel.close());
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // reads the entry at the location
+  private Object read(Location location) {
+    ByteBuffer buf = region(channel, segments, location.offset, location.length);
+    try {
+      return readValue(buf);
+    } catch (BufferUnderflowException ex) {
+      throw new IllegalArgumentException("Invalid market data binary format, unexpected end of data", ex);
+    }
+  }
+
+  // reads a value
+  private Object readValue(ByteBuffer buf) {
+    byte tag = buf.get();
+    switch (tag) {
+      case TAG_BEAN: {
+        byte[] bytes = new byte[buf.getInt()];
+        buf.get(bytes);
+        return JodaBeanSer.COMPACT.binReader().read(bytes);
+      }
+      case TAG_POOLED:
+        return pooled(buf.getInt());
+      case TAG_DOUBLE:
+        return buf.getDouble();
+      case TAG_TIME_SERIES: {
+        byte[] bytes = new byte[buf.remaining()];
+        buf.get(bytes);
+        return LocalDateDoubleTimeSeriesCodec.read(ByteStreams.newDataInput(bytes));
+      }
+      case TAG_NODAL_CURVE: {
+        CurveMetadata metadata = (CurveMetadata) pooled(buf.getInt());
+        CurveInterpolator interpolator = CurveInterpolator.of((String) pooled(buf.getInt()));
+        CurveExtrapolator extrapolatorLeft = CurveExtrapolator.of((String) pooled(buf.getInt()));
+        CurveExtrapolator extrapolatorRight = CurveExtrapolator.of((String) pooled(buf.getInt()));
+        DoubleArray xValues = readDoubles(buf);
+        DoubleArray yValues = readDoubles(buf);
+        return InterpolatedNodalCurve.of(metadata, xValues, yValues, interpolator, extrapolatorLeft, extrapolatorRight);
+      }
+      case TAG_NODAL_SURFACE: {
+        SurfaceMetadata metadata = (SurfaceMetadata) pooled(buf.getInt());
+        SurfaceInterpolator interpolator = (SurfaceInterpolator) pooled(buf.getInt());
+        DoubleArray xValues = readDoubles(buf);
+        DoubleArray yValues = readDoubles(buf);
+        DoubleArray zValues = readDoubles(buf);
+        return InterpolatedNodalSurface.of(metadata, xValues, yValues, zValues, interpolator);
+      }
+      case TAG_DOUBLE_SCENARIO_ARRAY:
+        return DoubleScenarioArray.of(readDoubles(buf));
+      case TAG_CURRENCY_SCENARIO_ARRAY: {
+        Currency currency = (Currency) pooled(buf.getInt());
+        return CurrencyScenarioArray.of(currency, readDoubles(buf));
+      }
+      case TAG_SENSITIVITIES: {
+        int count = buf.getInt();
+        checkOffset(count, 0, buf.remaining());
+        List<CurrencyParameterSensitivity> sensitivities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          MarketDataName<?> name = (MarketDataName<?>) pooled(buf.getInt());
+          Currency currency = (Currency) pooled(buf.getInt());
+          @SuppressWarnings("unchecked")
+          List<ParameterMetadata> metadata = (List<ParameterMetadata>) pooled(buf.getInt());
+          int splitRef = buf.getInt();
+          DoubleArray sensitivity = readDoubles(buf);
+          if (splitRef == NONE) {
+            sensitivities.add(CurrencyParameterSensitivity.of(name, metadata, currency, sensitivity));
+          } else {
+            @SuppressWarnings("unchecked")
+            List<ParameterSize> split = (List<ParameterSize>) pooled(splitRef);
+            sensitivities.add(CurrencyParameterSensitivity.of(name, metadata, currency, sensitivity, split));
+          }
+        }
+        return CurrencyParameterSensitivities.of(sensitivities);
+      }
+      default:
+        throw new IllegalArgumentException("Invalid market data binary format, unknown tag: " + tag);
+    }
+  }
+
+  // reads a block of doubles
+  private static DoubleArray readDoubles(ByteBuffer buf) {
+    int size = buf.getInt();
+    checkOffset(size, 0, buf.remaining() / 8);
+    double[] array = new double[size];
+    buf.asDoubleBuffer().get(array);
+    buf.position(buf.position() + size * 8);
+    return DoubleArray.ofUnsafe(array);
+  }
+
+  // obtains a pool item, decoding it if necessary
+  private synchronized Object pooled(int ref) {
+    checkOffset(ref, 0, poolItems.length - 1);
+    Object item = poolItems[ref];
+    if (item == null) {
+      ByteBuffer buf = pool.duplicate();
+      buf.position(poolOffsets[ref]);
+      buf.limit(poolOffsets[ref + 1]);
+      item = readPoolItem(buf);
+      poolItems[ref] = item;
+    }
+    return item;
+  }
+
+  // reads a pool item
+  private Object readPoolItem(ByteBuffer buf) {
+    byte tag = buf.get();
+    switch (tag) {
+      case POOL_STRING: {
+        byte[] bytes = new byte[buf.remaining()];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+      }
+      case POOL_CONVERTED: {
+        String typeName = (String) pooled(buf.getInt());
+        try {
+          Class<?> type = RenameHandler.INSTANCE.lookupType(typeName);
+          return JodaBeanUtils.stringConverter().convertFromString(type, (String) pooled(buf.getInt()));
+        } catch (ClassNotFoundException ex) {
+          throw new IllegalArgumentException("Invalid market data binary format, unknown type: " + typeName, ex);
+        }
+      }
+      case POOL_BEAN: {
+        byte[] bytes = new byte[buf.remaining()];
+        buf.get(bytes);
+        return JodaBeanSer.COMPACT.binReader().read(bytes);
+      }
+      case POOL_LIST: {
+        int size = buf.getInt();
+        checkOffset(size, 0, buf.remaining() / 4);
+        ImmutableList.Builder<Object> builder = ImmutableList.builder();
+        for (int i = 0; i < size; i++) {
+          builder.add(pooled(buf.getInt()));
+        }
+        return builder.build();
+      }
+      default:
+        throw new IllegalArgumentException("Invalid market data binary format, unknown pool tag: " + tag);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "BinaryMarketDataFile[" + values.size() + " values, " + timeSeries.size() + " time-series]";
+  }
+
+  //-------------------------------------------------------------------------
+  // the location of an entry
+  private static final class Location {
+    private final long offset;
+    private final int length;
+
+    private Location(long offset, int length) {
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // writes the binary format
+  private static final class Writer {
+    private final CountingOutputStream counter;
+    private final DataOutputStream out;
+    private final Map<Object, Integer> poolRefs = new HashMap<>();
+    private final List<byte[]> poolItems = new ArrayList<>();
+    private final DataOutputStream indexOut;
+    private final ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+    private int indexCount;
+
+    private Writer(OutputStream out) {
+      this.counter = new CountingOutputStream(new BufferedOutputStream(out));
+      this.out = new DataOutputStream(counter);
+      this.indexOut = new DataOutputStream(indexBytes);
+    }
+
+    // writes the file
+    private void write(LocalDate valuationDate, Map<?, ?> values, Map<?, ?> timeSeries) throws IOException {
+      out.writeByte('S');
+      out.writeByte('M');
+      out.writeByte('D');
+      out.writeByte('B');
+      out.writeByte(VERSION);
+      out.writeInt(valuationDate == null ? NONE : Math.toIntExact(valuationDate.toEpochDay()));
+      for (Entry<?, ?> entry : values.entrySet()) {
+        writeEntry(SECTION_VALUE, entry.getKey(), entry.getValue());
+      }
+      for (Entry<?, ?> entry : timeSeries.entrySet()) {
+        writeEntry(SECTION_TIME_SERIES, entry.getKey(), entry.getValue());
+      }
+      // pool items and pool table
+      long poolOffset = counter.getCount();
+      long[] offsets = new long[poolItems.size() + 1];
+      for (int i = 0; i < poolItems.size(); i++) {
+        offsets[i] = poolOffset;
+        out.write(poolItems.get(i));
+        poolOffset += poolItems.get(i).length;
+      }
+      offsets[poolItems.size()] = poolOffset;
+      long poolTableOffset = counter.getCount();
+      out.writeInt(poolItems.size());
+      for (long offset : offsets) {
+        out.writeLong(offset);
+      }
+      // index and trailer
+      long indexOffset = counter.getCount();
+      out.writeInt(indexCount);
+      indexBytes.writeTo(out);
+      out.writeLong(poolTableOffset);
+      out.writeLong(indexOffset);
+      out.writeByte('S');
+      out.writeByte('M');
+      out.writeByte('D');
+      out.writeByte('B');
+      out.flush();
+    }
+
+    // writes an entry and adds it to the index
+    private void writeEntry(byte section, Object key, Object value) throws IOException {
+      int keyRef = intern(key);
+      long offset = counter.getCount();
+      writeValue(value);
+      indexOut.writeByte(section);
+      indexOut.writeInt(keyRef);
+      indexOut.writeLong(offset);
+      indexOut.writeInt(Math.toIntExact(counter.getCount() - offset));
+      indexCount++;
+    }
+
+    // writes a value
+    private void writeValue(Object value) throws IOException {
+      if (value instanceof Double) {
+        out.writeByte(TAG_DOUBLE);
+        out.writeDouble((Double) value);
+
+      } else if (value instanceof LocalDateDoubleTimeSeries) {
+        out.writeByte(TAG_TIME_SERIES);
+        LocalDateDoubleTimeSeriesCodec.write((LocalDateDoubleTimeSeries) value, out);
+
+      } else if (value instanceof InterpolatedNodalCurve) {
+        InterpolatedNodalCurve curve = (InterpolatedNodalCurve) value;
+        out.writeByte(TAG_NODAL_CURVE);
+        out.writeInt(intern(curve.getMetadata()));
+        out.writeInt(intern(curve.getInterpolator().getName()));
+        out.writeInt(intern(curve.getExtrapolatorLeft().getName()));
+        out.writeInt(intern(curve.getExtrapolatorRight().getName()));
+        writeDoubles(curve.getXValues());
+        writeDoubles(curve.getYValues());
+
+      } else if (value instanceof InterpolatedNodalSurface) {
+        InterpolatedNodalSurface surface = (InterpolatedNodalSurface) value;
+        out.writeByte(TAG_NODAL_SURFACE);
+        out.writeInt(intern(surface.getMetadata()));
+        out.writeInt(intern(surface.getInterpolator()));
+        writeDoubles(surface.getXValues());
+        writeDoubles(surface.getYValues());
+        writeDoubles(surface.getZValues());
+
+      } else if (value instanceof DoubleScenarioArray) {
+        out.writeByte(TAG_DOUBLE_SCENARIO_ARRAY);
+        writeDoubles(((DoubleScenarioArray) value).getValues());
+
+      } else if (value instanceof CurrencyScenarioArray) {
+        CurrencyScenarioArray array = (CurrencyScenarioArray) value;
+        out.writeByte(TAG_CURRENCY_SCENARIO_ARRAY);
+        out.writeInt(intern(array.getCurrency()));
+        writeDoubles(array.getAmounts().getValues());
+
+      } else if (value instanceof CurrencyParameterSensitivities) {
+        List<CurrencyParameterSensitivity> sensitivities = ((CurrencyParameterSensitivities) value).getSensitivities();
+        out.writeByte(TAG_SENSITIVITIES);
+        out.writeInt(sensitivities.size());
+        for (CurrencyParameterSensitivity sensitivity : sensitivities) {
+          out.writeInt(intern(sensitivity.getMarketDataName()));
+          out.writeInt(intern(sensitivity.getCurrency()));
+          out.writeInt(intern(sensitivity.getParameterMetadata()));
+          Optional<List<ParameterSize>> split = sensitivity.getParameterSplit();
+          out.writeInt(split.isPresent() ? intern(split.get()) : NONE);
+          writeDoubles(sensitivity.getSensitivity());
+        }
+
+      } else if (value instanceof Bean) {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write((Bean) value);
+        out.writeByte(TAG_BEAN);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+
+      } else {
+        out.writeByte(TAG_POOLED);
+        out.writeInt(intern(value));
+      }
+    }
+
+    // writes a block of doubles
+    private void writeDoubles(DoubleArray array) throws IOException {
+      ByteBuffer buf = ByteBuffer.allocate(4 + array.size() * 8);
+      buf.putInt(array.size());
+      buf.asDoubleBuffer().put(array.toArrayUnsafe());
+      out.write(buf.array());
+    }
+
+    // adds the object to the pool if necessary, returning the pool index
+    private int intern(Object obj) throws IOException {
+      Integer ref = poolRefs.get(obj);
+      if (ref != null) {
+        return ref;
+      }
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      DataOutputStream itemOut = new DataOutputStream(baos);
+      if (obj instanceof String) {
+        itemOut.writeByte(POOL_STRING);
+        itemOut.write(((String) obj).getBytes(StandardCharsets.UTF_8));
+
+      } else if (obj instanceof Bean) {
+        itemOut.writeByte(POOL_BEAN);
+        itemOut.write(JodaBeanSer.COMPACT.binWriter().write((Bean) obj));
+
+      } else if (obj instanceof List) {
+        List<?> list = (List<?>) obj;
+        int[] refs = new int[list.size()];
+        for (int i = 0; i < refs.length; i++) {
+          refs[i] = intern(list.get(i));
+        }
+        itemOut.writeByte(POOL_LIST);
+        itemOut.writeInt(refs.length);
+        for (int elementRef : refs) {
+          itemOut.writeInt(elementRef);
+        }
+
+      } else if (obj != null && JodaBeanUtils.stringConverter().isConvertible(obj.getClass())) {
+        int typeRef = intern(obj.getClass().getName());
+        int valueRef = intern(JodaBeanUtils.stringConverter().convertToString(obj));
+        itemOut.writeByte(POOL_CONVERTED);
+        itemOut.writeInt(typeRef);
+        itemOut.writeInt(valueRef);
+
+      } else {
+        throw new IllegalArgumentException("Unable to write object in market data binary format: " + obj);
+      }
+      int newRef = poolItems.size();
+      poolItems.add(baos.toByteArray());
+      poolRefs.put(obj, newRef);
+      return newRef;
+    }
+  }
+
+}
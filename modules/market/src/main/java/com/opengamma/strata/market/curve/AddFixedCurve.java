@@ -109,6 +109,11 @@ public final class AddFixedCurve
     return spreadCurve.yValueParameterSensitivity(x);
   }
 
+  @Override
+  public void addYValueParameterSensitivity(double x, double multiplier, double[] accumulator) {
+    spreadCurve.addYValueParameterSensitivity(x, multiplier, accumulator);
+  }
+
   @Override
   public double firstDerivative(double x) {
     return fixedCurve.firstDerivative(x) + spreadCurve.firstDerivative(x);
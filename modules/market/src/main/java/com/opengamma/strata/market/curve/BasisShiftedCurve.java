@@ -0,0 +1,472 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableValidator;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.param.LabelParameterMetadata;
+import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.market.param.ParameterPerturbation;
+import com.opengamma.strata.market.param.UnitParameterSensitivity;
+
+/**
+ * A curve with a shift applied to its y-values that is linear in a set of shift amounts.
+ * <p>
+ * This class decorates another curve and adds a weighted sum of basis curves to the y-values
+ * when they are queried, without copying the curve.
+ * The y-value at any x-value is the y-value of the underlying curve plus the sum of each
+ * shift amount multiplied by the y-value of the matching basis curve.
+ * For example, the basis curves might represent level, slope and curvature movements,
+ * allowing a scenario to be expressed as three amounts.
+ * <p>
+ * The parameters consist of the parameters of the underlying curve, followed by the shift amounts.
+ */
+@BeanDefinition(builderScope = "private")
+public final class BasisShiftedCurve
+    implements Curve, ImmutableBean, Serializable {
+
+  /**
+   * The underlying curve.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Curve underlyingCurve;
+  /**
+   * The basis curves.
+   * <p>
+   * Each basis curve is multiplied by the matching shift amount and added to the underlying curve.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableList<Curve> basisCurves;
+  /**
+   * The amount of each basis curve added to the underlying curve.
+   * <p>
+   * This array has one element for each basis curve.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleArray shiftAmounts;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a curve based on an underlying curve with a weighted sum of basis curves added to the y-values.
+   *
+   * @param curve  the underlying curve
+   * @param basisCurves  the basis curves
+   * @param shiftAmounts  the amount of each basis curve added to the underlying curve
+   * @return a curve based on the underlying curve with the basis curves added
+   * @throws IllegalArgumentException if the number of shift amounts does not match the number of basis curves
+   */
+  public static BasisShiftedCurve of(Curve curve, List<? extends Curve> basisCurves, DoubleArray shiftAmounts) {
+    return new BasisShiftedCurve(curve, ImmutableList.<Curve>copyOf(basisCurves), shiftAmounts);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    ArgChecker.isTrue(shiftAmounts.size() == basisCurves.size(),
+        "Shift amounts must have length {}, but was {}", basisCurves.size(), shiftAmounts.size());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public CurveMetadata getMetadata() {
+    return underlyingCurve.getMetadata();
+  }
+
+  @Override
+  public BasisShiftedCurve withMetadata(CurveMetadata metadata) {
+    return new BasisShiftedCurve(underlyingCurve.withMetadata(metadata), basisCurves, shiftAmounts);
+  }
+
+  @Override
+  public CurveName getName() {
+    return underlyingCurve.getName();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getParameterCount() {
+    return underlyingCurve.getParameterCount() + shiftAmounts.size();
+  }
+
+  @Override
+  public double getParameter(int parameterIndex) {
+    int underlyingCount = underlyingCurve.getParameterCount();
+    if (parameterIndex >= underlyingCount) {
+      return shiftAmounts.get(parameterIndex - underlyingCount);
+    }
+    return underlyingCurve.getParameter(parameterIndex);
+  }
+
+  @Override
+  public ParameterMetadata getParameterMetadata(int parameterIndex) {
+    int underlyingCount = underlyingCurve.getParameterCount();
+    if (parameterIndex >= underlyingCount) {
+      return LabelParameterMetadata.of(basisCurves.get(parameterIndex - underlyingCount).getName() + "Shift");
+    }
+    return underlyingCurve.getParameterMetadata(parameterIndex);
+  }
+
+  @Override
+  public BasisShiftedCurve withParameter(int parameterIndex, double newValue) {
+    int underlyingCount = underlyingCurve.getParameterCount();
+    if (parameterIndex >= underlyingCount) {
+      return new BasisShiftedCurve(underlyingCurve, basisCurves, shiftAmounts.with(parameterIndex - underlyingCount, newValue));
+    }
+    return new BasisShiftedCurve(underlyingCurve.withParameter(parameterIndex, newValue), basisCurves, shiftAmounts);
+  }
+
+  @Override
+  public BasisShiftedCurve withPerturbation(ParameterPerturbation perturbation) {
+    Curve bumpedCurve = underlyingCurve.withPerturbation(perturbation);
+    int underlyingCount = underlyingCurve.getParameterCount();
+    DoubleArray bumpedAmounts = DoubleArray.of(
+        shiftAmounts.size(),
+        i -> perturbation.perturbParameter(
+            underlyingCount + i, shiftAmounts.get(i), getParameterMetadata(underlyingCount + i)));
+    return new BasisShiftedCurve(bumpedCurve, basisCurves, bumpedAmounts);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double yValue(double x) {
+    double yValue = underlyingCurve.yValue(x);
+    for (int i = 0; i < shiftAmounts.size(); i++) {
+      yValue += shiftAmounts.get(i) * basisCurves.get(i).yValue(x);
+    }
+    return yValue;
+  }
+
+  @Override
+  public UnitParameterSensitivity yValueParameterSensitivity(double x) {
+    // the sensitivity to each shift amount is the y-value of the basis curve
+    DoubleArray underlyingSensitivity = underlyingCurve.yValueParameterSensitivity(x).getSensitivity();
+    DoubleArray basisSensitivity = DoubleArray.of(basisCurves.size(), i -> basisCurves.get(i).yValue(x));
+    return createParameterSensitivity(underlyingSensitivity.concat(basisSensitivity));
+  }
+
+  @Override
+  public double firstDerivative(double x) {
+    double firstDerivative = underlyingCurve.firstDerivative(x);
+    for (int i = 0; i < shiftAmounts.size(); i++) {
+      firstDerivative += shiftAmounts.get(i) * basisCurves.get(i).firstDerivative(x);
+    }
+    return firstDerivative;
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code BasisShiftedCurve}.
+   * @return the meta-bean, not null
+   */
+  public static BasisShiftedCurve.Meta meta() {
+    return BasisShiftedCurve.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(BasisShiftedCurve.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private BasisShiftedCurve(
+      Curve underlyingCurve,
+      List<Curve> basisCurves,
+      DoubleArray shiftAmounts) {
+    JodaBeanUtils.notNull(underlyingCurve, "underlyingCurve");
+    JodaBeanUtils.notNull(basisCurves, "basisCurves");
+    JodaBeanUtils.notNull(shiftAmounts, "shiftAmounts");
+    this.underlyingCurve = underlyingCurve;
+    this.basisCurves = ImmutableList.copyOf(basisCurves);
+    this.shiftAmounts = shiftAmounts;
+    validate();
+  }
+
+  @Override
+  public BasisShiftedCurve.Meta metaBean() {
+    return BasisShiftedCurve.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the underlying curve.
+   * @return the value of the property, not null
+   */
+  public Curve getUnderlyingCurve() {
+    return underlyingCurve;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the basis curves.
+   * <p>
+   * Each basis curve is multiplied by the matching shift amount and added to the underlying curve.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<Curve> getBasisCurves() {
+    return basisCurves;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the amount of each basis curve added to the underlying curve.
+   * <p>
+   * This array has one element for each basis curve.
+   * @return the value of the property, not null
+   */
+  public DoubleArray getShiftAmounts() {
+    return shiftAmounts;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      BasisShiftedCurve other = (BasisShiftedCurve) obj;
+      return JodaBeanUtils.equal(underlyingCurve, other.underlyingCurve) &&
+          JodaBeanUtils.equal(basisCurves, other.basisCurves) &&
+          JodaBeanUtils.equal(shiftAmounts, other.shiftAmounts);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(underlyingCurve);
+    hash = hash * 31 + JodaBeanUtils.hashCode(basisCurves);
+    hash = hash * 31 + JodaBeanUtils.hashCode(shiftAmounts);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(128);
+    buf.append("BasisShiftedCurve{");
+    buf.append("underlyingCurve").append('=').append(JodaBeanUtils.toString(underlyingCurve)).append(',').append(' ');
+    buf.append("basisCurves").append('=').append(JodaBeanUtils.toString(basisCurves)).append(',').append(' ');
+    buf.append("shiftAmounts").append('=').append(JodaBeanUtils.toString(shiftAmounts));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code BasisShiftedCurve}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code underlyingCurve} property.
+     */
+    private final MetaProperty<Curve> underlyingCurve = DirectMetaProperty.ofImmutable(
+        this, "underlyingCurve", BasisShiftedCurve.class, Curve.class);
+    /**
+     * The meta-property for the {@code basisCurves} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableList<Curve>> basisCurves = DirectMetaProperty.ofImmutable(
+        this, "basisCurves", BasisShiftedCurve.class, (Class) ImmutableList.class);
+    /**
+     * The meta-property for the {@code shiftAmounts} property.
+     */
+    private final MetaProperty<DoubleArray> shiftAmounts = DirectMetaProperty.ofImmutable(
+        this, "shiftAmounts", BasisShiftedCurve.class, DoubleArray.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "underlyingCurve",
+        "basisCurves",
+        "shiftAmounts");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -839394414:  // underlyingCurve
+          return underlyingCurve;
+        case 31536962:  // basisCurves
+          return basisCurves;
+        case 2011836473:  // shiftAmounts
+          return shiftAmounts;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends BasisShiftedCurve> builder() {
+      return new BasisShiftedCurve.Builder();
+    }
+
+    @Override
+    public Class<? extends BasisShiftedCurve> beanType() {
+      return BasisShiftedCurve.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code underlyingCurve} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Curve> underlyingCurve() {
+      return underlyingCurve;
+    }
+
+    /**
+     * The meta-property for the {@code basisCurves} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableList<Curve>> basisCurves() {
+      return basisCurves;
+    }
+
+    /**
+     * The meta-property for the {@code shiftAmounts} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<DoubleArray> shiftAmounts() {
+      return shiftAmounts;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -839394414:  // underlyingCurve
+          return ((BasisShiftedCurve) bean).getUnderlyingCurve();
+        case 31536962:  // basisCurves
+          return ((BasisShiftedCurve) bean).getBasisCurves();
+        case 2011836473:  // shiftAmounts
+          return ((BasisShiftedCurve) bean).getShiftAmounts();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code BasisShiftedCurve}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<BasisShiftedCurve> {
+
+    private Curve underlyingCurve;
+    private List<Curve> basisCurves = ImmutableList.of();
+    private DoubleArray shiftAmounts;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -839394414:  // underlyingCurve
+          return underlyingCurve;
+        case 31536962:  // basisCurves
+          return basisCurves;
+        case 2011836473:  // shiftAmounts
+          return shiftAmounts;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -839394414:  // underlyingCurve
+          this.underlyingCurve = (Curve) newValue;
+          break;
+        case 31536962:  // basisCurves
+          this.basisCurves = (List<Curve>) newValue;
+          break;
+        case 2011836473:  // shiftAmounts
+          this.shiftAmounts = (DoubleArray) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public BasisShiftedCurve build() {
+      return new BasisShiftedCurve(
+          underlyingCurve,
+          basisCurves,
+          shiftAmounts);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(128);
+      buf.append("BasisShiftedCurve.Builder{");
+      buf.append("underlyingCurve").append('=').append(JodaBeanUtils.toString(underlyingCurve)).append(',').append(' ');
+      buf.append("basisCurves").append('=').append(JodaBeanUtils.toString(basisCurves)).append(',').append(' ');
+      buf.append("shiftAmounts").append('=').append(JodaBeanUtils.toString(shiftAmounts));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
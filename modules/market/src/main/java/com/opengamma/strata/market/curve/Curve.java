@@ -13,6 +13,7 @@ import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
@@ -103,6 +104,31 @@ public interface Curve extends ParameterizedData {
    */
   public abstract UnitParameterSensitivity yValueParameterSensitivity(double x);
 
+  /**
+   * Adds the sensitivity of the y-value with respect to the curve parameters to an accumulator.
+   * <p>
+   * This is equivalent to multiplying the sensitivity array of {@link #yValueParameterSensitivity(double)}
+   * by the multiplier and adding the result to the accumulator, element by element.
+   * The accumulator has one element for each parameter, in the same order as {@code yValueParameterSensitivity}.
+   * <p>
+   * Curves based on local interpolators only have sensitivity to a few parameters,
+   * thus they can override this method to update those entries without creating a dense array.
+   * This allows the sensitivity to many points on the curve to be summed efficiently.
+   * 
+   * @param x  the x-value at which the parameter sensitivity is computed
+   * @param multiplier  the amount to multiply the sensitivity by before adding it
+   * @param accumulator  the array to add the sensitivity to, one element for each parameter of the curve
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addYValueParameterSensitivity(double x, double multiplier, double[] accumulator) {
+    DoubleArray sensitivity = yValueParameterSensitivity(x).getSensitivity();
+    ArgChecker.isTrue(sensitivity.size() == accumulator.length,
+        "Accumulator must have length {}, but was {}", sensitivity.size(), accumulator.length);
+    for (int i = 0; i < accumulator.length; i++) {
+      accumulator[i] += sensitivity.get(i) * multiplier;
+    }
+  }
+
   /**
    * Computes the first derivative of the curve.
    * <p>
@@ -248,11 +248,21 @@ public final class InterpolatedNodalCurve
     return createParameterSensitivity(boundInterpolator.parameterSensitivity(x));
   }
 
+  @Override
+  public void addYValueParameterSensitivity(double x, double multiplier, double[] accumulator) {
+    boundInterpolator.addParameterSensitivity(x, multiplier, accumulator);
+  }
+
   @Override
   public double firstDerivative(double x) {
     return boundInterpolator.firstDerivative(x);
   }
 
+  // the bound interpolator, shared with views of this curve
+  BoundCurveInterpolator boundInterpolator() {
+    return boundInterpolator;
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public InterpolatedNodalCurve withMetadata(CurveMetadata metadata) {
@@ -0,0 +1,409 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableValidator;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * Container for an interpolated nodal curve in multiple scenarios.
+ * <p>
+ * This class is a more efficient alternative to storing one curve per scenario using
+ * {@code MarketDataBox.ofScenarioValues} when the scenarios differ only in the y-values.
+ * <p>
+ * The metadata, x-values, interpolator and extrapolators are held once, in the {@code curve} property.
+ * The y-values of every scenario are held in a single dense matrix, with one row per scenario
+ * and one column per node. The curve for a scenario is only created when {@link #get(int)} is called.
+ * <p>
+ * For maximum performance functions can access the matrix of y-values without boxing or copying
+ * via the {@code yValues} property.
+ * The instance can be placed in a box using {@code MarketDataBox.ofScenarioValue}.
+ */
+@BeanDefinition(builderScope = "private")
+public final class NodalCurveScenarioArray
+    implements ScenarioArray<Curve>, ImmutableBean, Serializable {
+
+  /**
+   * The curve defining the structure shared by all scenarios.
+   * <p>
+   * The metadata, x-values, interpolator and extrapolators of this curve are used in every scenario.
+   * The y-values of this curve are not used.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final InterpolatedNodalCurve curve;
+  /**
+   * The y-values of the curve in each scenario.
+   * <p>
+   * There is one row for each scenario and one column for each node of the curve.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleMatrix yValues;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the shared curve structure and the y-values for each scenario.
+   * <p>
+   * The matrix must have one row for each scenario and one column for each node of the curve.
+   *
+   * @param curve  the curve defining the structure shared by all scenarios
+   * @param yValues  the y-values, one row for each scenario
+   * @return an instance holding the curve in each scenario
+   */
+  public static NodalCurveScenarioArray of(InterpolatedNodalCurve curve, DoubleMatrix yValues) {
+    return new NodalCurveScenarioArray(curve, yValues);
+  }
+
+  /**
+   * Obtains an instance from a list of curves, one for each scenario.
+   * <p>
+   * The curves must differ only in their y-values.
+   *
+   * @param curves  the curves, one for each scenario
+   * @return an instance holding the curve in each scenario
+   * @throws IllegalArgumentException if the curves differ in anything other than the y-values
+   */
+  public static NodalCurveScenarioArray of(List<InterpolatedNodalCurve> curves) {
+    ArgChecker.notEmpty(curves, "curves");
+    InterpolatedNodalCurve first = curves.get(0);
+    DoubleArray firstYValues = first.getYValues();
+    double[][] yValues = new double[curves.size()][];
+    for (int i = 0; i < yValues.length; i++) {
+      InterpolatedNodalCurve curve = curves.get(i);
+      if (i > 0 && !curve.withYValues(firstYValues).equals(first)) {
+        throw new IllegalArgumentException(
+            "Curves must differ only in their y-values, but curve " + i + " differs from curve 0: " + curve.getName());
+      }
+      yValues[i] = curve.getYValues().toArrayUnsafe();
+    }
+    return new NodalCurveScenarioArray(first, DoubleMatrix.ofUnsafe(yValues));
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    ArgChecker.isTrue(yValues.rowCount() > 0, "There must be at least one scenario");
+    ArgChecker.isTrue(
+        yValues.columnCount() == curve.getParameterCount(),
+        "Number of y-values in each scenario must match the number of nodes, {} != {}",
+        yValues.columnCount(),
+        curve.getParameterCount());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getScenarioCount() {
+    return yValues.rowCount();
+  }
+
+  /**
+   * Gets the number of nodes in the curve.
+   *
+   * @return the number of nodes
+   */
+  public int getParameterCount() {
+    return yValues.columnCount();
+  }
+
+  /**
+   * Gets the y-values of the curve in the specified scenario.
+   * <p>
+   * The returned array shares the storage of the matrix, no copy is made.
+   *
+   * @param scenarioIndex  the zero-based index of the scenario
+   * @return the y-values for the scenario
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public DoubleArray getYValues(int scenarioIndex) {
+    return yValues.row(scenarioIndex);
+  }
+
+  /**
+   * Gets the curve in the specified scenario.
+   * <p>
+   * The curve is created on each call, sharing the x-values and metadata of the underlying curve.
+   *
+   * @param scenarioIndex  the zero-based index of the scenario
+   * @return the curve for the scenario
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  @Override
+  public InterpolatedNodalCurve get(int scenarioIndex) {
+    return curve.withYValues(yValues.row(scenarioIndex));
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code NodalCurveScenarioArray}.
+   * @return the meta-bean, not null
+   */
+  public static NodalCurveScenarioArray.Meta meta() {
+    return NodalCurveScenarioArray.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(NodalCurveScenarioArray.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private NodalCurveScenarioArray(
+      InterpolatedNodalCurve curve,
+      DoubleMatrix yValues) {
+    JodaBeanUtils.notNull(curve, "curve");
+    JodaBeanUtils.notNull(yValues, "yValues");
+    this.curve = curve;
+    this.yValues = yValues;
+    validate();
+  }
+
+  @Override
+  public NodalCurveScenarioArray.Meta metaBean() {
+    return NodalCurveScenarioArray.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the curve defining the structure shared by all scenarios.
+   * <p>
+   * The metadata, x-values, interpolator and extrapolators of this curve are used in every scenario.
+   * The y-values of this curve are not used.
+   * @return the value of the property, not null
+   */
+  public InterpolatedNodalCurve getCurve() {
+    return curve;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the y-values of the curve in each scenario.
+   * <p>
+   * There is one row for each scenario and one column for each node of the curve.
+   * @return the value of the property, not null
+   */
+  public DoubleMatrix getYValues() {
+    return yValues;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      NodalCurveScenarioArray other = (NodalCurveScenarioArray) obj;
+      return JodaBeanUtils.equal(curve, other.curve) &&
+          JodaBeanUtils.equal(yValues, other.yValues);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(curve);
+    hash = hash * 31 + JodaBeanUtils.hashCode(yValues);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("NodalCurveScenarioArray{");
+    buf.append("curve").append('=').append(JodaBeanUtils.toString(curve)).append(',').append(' ');
+    buf.append("yValues").append('=').append(JodaBeanUtils.toString(yValues));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code NodalCurveScenarioArray}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code curve} property.
+     */
+    private final MetaProperty<InterpolatedNodalCurve> curve = DirectMetaProperty.ofImmutable(
+        this, "curve", NodalCurveScenarioArray.class, InterpolatedNodalCurve.class);
+    /**
+     * The meta-property for the {@code yValues} property.
+     */
+    private final MetaProperty<DoubleMatrix> yValues = DirectMetaProperty.ofImmutable(
+        this, "yValues", NodalCurveScenarioArray.class, DoubleMatrix.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "curve",
+        "yValues");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 95027439:  // curve
+          return curve;
+        case -1726182661:  // yValues
+          return yValues;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends NodalCurveScenarioArray> builder() {
+      return new NodalCurveScenarioArray.Builder();
+    }
+
+    @Override
+    public Class<? extends NodalCurveScenarioArray> beanType() {
+      return NodalCurveScenarioArray.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code curve} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<InterpolatedNodalCurve> curve() {
+      return curve;
+    }
+
+    /**
+     * The meta-property for the {@code yValues} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<DoubleMatrix> yValues() {
+      return yValues;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case 95027439:  // curve
+          return ((NodalCurveScenarioArray) bean).getCurve();
+        case -1726182661:  // yValues
+          return ((NodalCurveScenarioArray) bean).getYValues();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code NodalCurveScenarioArray}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<NodalCurveScenarioArray> {
+
+    private InterpolatedNodalCurve curve;
+    private DoubleMatrix yValues;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 95027439:  // curve
+          return curve;
+        case -1726182661:  // yValues
+          return yValues;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case 95027439:  // curve
+          this.curve = (InterpolatedNodalCurve) newValue;
+          break;
+        case -1726182661:  // yValues
+          this.yValues = (DoubleMatrix) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public NodalCurveScenarioArray build() {
+      return new NodalCurveScenarioArray(
+          curve,
+          yValues);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(96);
+      buf.append("NodalCurveScenarioArray.Builder{");
+      buf.append("curve").append('=').append(JodaBeanUtils.toString(curve)).append(',').append(' ');
+      buf.append("yValues").append('=').append(JodaBeanUtils.toString(yValues));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
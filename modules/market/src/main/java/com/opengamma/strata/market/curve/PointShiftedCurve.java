@@ -0,0 +1,488 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableValidator;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.market.param.ParameterPerturbation;
+import com.opengamma.strata.market.param.UnitParameterSensitivity;
+
+/**
+ * A curve with a shift applied to the y-value of each node of an underlying interpolated curve.
+ * <p>
+ * This class decorates an {@link InterpolatedNodalCurve} and applies the node shifts when the
+ * curve is queried, without copying the curve or binding another interpolator.
+ * This is only possible when the interpolator and extrapolators are linear in the y-values.
+ * Linear and step interpolation use the weights of the nodes either side of the x-value,
+ * while the natural splines use the factorised system of the underlying curve, as the
+ * second derivatives of the spline are a linear function of the y-values.
+ * Use {@link #isSupported(InterpolatedNodalCurve)} to check whether a curve can be shifted in this way.
+ * <p>
+ * The parameters are the shifted y-values of the nodes.
+ * Changing a parameter, or applying a perturbation, adjusts the shifts and returns another
+ * view of the same underlying curve, thus scenario generation can bump a curve many times cheaply.
+ */
+@BeanDefinition(builderScope = "private")
+public final class PointShiftedCurve
+    implements Curve, ImmutableBean, Serializable {
+
+  /**
+   * The interpolators that are linear in the y-values.
+   */
+  private static final ImmutableSet<CurveInterpolator> LINEAR_INTERPOLATORS = ImmutableSet.of(
+      CurveInterpolators.LINEAR,
+      CurveInterpolators.STEP_UPPER,
+      CurveInterpolators.NATURAL_CUBIC_SPLINE,
+      CurveInterpolators.NATURAL_SPLINE);
+  /**
+   * The extrapolators that are linear in the y-values when the interpolator is.
+   */
+  private static final ImmutableSet<CurveExtrapolator> LINEAR_EXTRAPOLATORS = ImmutableSet.of(
+      CurveExtrapolators.FLAT,
+      CurveExtrapolators.LINEAR,
+      CurveExtrapolators.INTERPOLATOR,
+      CurveExtrapolators.EXCEPTION);
+
+  /**
+   * The underlying curve.
+   * <p>
+   * The interpolator and extrapolators of the curve must be linear in the y-values.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final InterpolatedNodalCurve underlyingCurve;
+  /**
+   * The amount added to the y-value of each node of the underlying curve.
+   * <p>
+   * This array has one element for each node of the underlying curve.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleArray shifts;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if the specified curve can be shifted without copying it.
+   * <p>
+   * This returns true if the interpolator and extrapolators of the curve are linear in the y-values,
+   * such as linear, step or natural spline interpolation with flat or linear extrapolation.
+   *
+   * @param curve  the curve to check
+   * @return true if the curve can be shifted by this class
+   */
+  public static boolean isSupported(InterpolatedNodalCurve curve) {
+    return LINEAR_INTERPOLATORS.contains(curve.getInterpolator()) &&
+        LINEAR_EXTRAPOLATORS.contains(curve.getExtrapolatorLeft()) &&
+        LINEAR_EXTRAPOLATORS.contains(curve.getExtrapolatorRight());
+  }
+
+  /**
+   * Returns a curve based on an underlying curve with an amount added to the y-value of each node.
+   *
+   * @param curve  the underlying curve
+   * @param shifts  the amount added to the y-value of each node, one for each node of the curve
+   * @return a curve based on the underlying curve with the shifts applied
+   * @throws IllegalArgumentException if the curve is not supported or the number of shifts is wrong
+   */
+  public static PointShiftedCurve of(InterpolatedNodalCurve curve, DoubleArray shifts) {
+    return new PointShiftedCurve(curve, shifts);
+  }
+
+  /**
+   * Returns a curve based on an underlying curve with a perturbation applied to the y-value of each node.
+   * <p>
+   * The perturbation is applied to each parameter of the underlying curve, and the difference
+   * between the perturbed and original values is stored as the shift.
+   *
+   * @param curve  the underlying curve
+   * @param perturbation  the perturbation to apply
+   * @return a curve based on the underlying curve with the perturbation applied
+   * @throws IllegalArgumentException if the curve is not supported
+   */
+  public static PointShiftedCurve of(InterpolatedNodalCurve curve, ParameterPerturbation perturbation) {
+    DoubleArray yValues = curve.getYValues();
+    DoubleArray shifts = DoubleArray.of(
+        yValues.size(),
+        i -> perturbation.perturbParameter(i, yValues.get(i), curve.getParameterMetadata(i)) - yValues.get(i));
+    return new PointShiftedCurve(curve, shifts);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    ArgChecker.isTrue(isSupported(underlyingCurve),
+        "Curve interpolator and extrapolators must be linear in the y-values: {}", underlyingCurve.getName());
+    ArgChecker.isTrue(shifts.size() == underlyingCurve.getParameterCount(),
+        "Shifts must have length {}, but was {}", underlyingCurve.getParameterCount(), shifts.size());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public CurveMetadata getMetadata() {
+    return underlyingCurve.getMetadata();
+  }
+
+  @Override
+  public PointShiftedCurve withMetadata(CurveMetadata metadata) {
+    return new PointShiftedCurve(underlyingCurve.withMetadata(metadata), shifts);
+  }
+
+  @Override
+  public CurveName getName() {
+    return underlyingCurve.getName();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getParameterCount() {
+    return underlyingCurve.getParameterCount();
+  }
+
+  @Override
+  public double getParameter(int parameterIndex) {
+    return underlyingCurve.getParameter(parameterIndex) + shifts.get(parameterIndex);
+  }
+
+  @Override
+  public ParameterMetadata getParameterMetadata(int parameterIndex) {
+    return underlyingCurve.getParameterMetadata(parameterIndex);
+  }
+
+  @Override
+  public PointShiftedCurve withParameter(int parameterIndex, double newValue) {
+    double shift = newValue - underlyingCurve.getParameter(parameterIndex);
+    return new PointShiftedCurve(underlyingCurve, shifts.with(parameterIndex, shift));
+  }
+
+  @Override
+  public PointShiftedCurve withPerturbation(ParameterPerturbation perturbation) {
+    DoubleArray yValues = underlyingCurve.getYValues();
+    DoubleArray perturbedShifts = DoubleArray.of(
+        yValues.size(),
+        i -> perturbation.perturbParameter(i, getParameter(i), getParameterMetadata(i)) - yValues.get(i));
+    return new PointShiftedCurve(underlyingCurve, perturbedShifts);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double yValue(double x) {
+    return underlyingCurve.boundInterpolator().interpolateShifted(x, shifts);
+  }
+
+  @Override
+  public UnitParameterSensitivity yValueParameterSensitivity(double x) {
+    // the sensitivity of a curve that is linear in the y-values does not depend on the y-values
+    return underlyingCurve.yValueParameterSensitivity(x);
+  }
+
+  @Override
+  public void addYValueParameterSensitivity(double x, double multiplier, double[] accumulator) {
+    underlyingCurve.addYValueParameterSensitivity(x, multiplier, accumulator);
+  }
+
+  @Override
+  public double firstDerivative(double x) {
+    return underlyingCurve.boundInterpolator().firstDerivativeShifted(x, shifts);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public UnitParameterSensitivity createParameterSensitivity(DoubleArray sensitivities) {
+    return underlyingCurve.createParameterSensitivity(sensitivities);
+  }
+
+  @Override
+  public CurrencyParameterSensitivity createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
+    return underlyingCurve.createParameterSensitivity(currency, sensitivities);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Converts this curve to an interpolated curve with the shifted y-values.
+   * <p>
+   * This creates a new curve, copying the y-values and binding the interpolator.
+   *
+   * @return the equivalent interpolated curve
+   */
+  public InterpolatedNodalCurve toInterpolatedNodalCurve() {
+    return underlyingCurve.withYValues(underlyingCurve.getYValues().plus(shifts));
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code PointShiftedCurve}.
+   * @return the meta-bean, not null
+   */
+  public static PointShiftedCurve.Meta meta() {
+    return PointShiftedCurve.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(PointShiftedCurve.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private PointShiftedCurve(
+      InterpolatedNodalCurve underlyingCurve,
+      DoubleArray shifts) {
+    JodaBeanUtils.notNull(underlyingCurve, "underlyingCurve");
+    JodaBeanUtils.notNull(shifts, "shifts");
+    this.underlyingCurve = underlyingCurve;
+    this.shifts = shifts;
+    validate();
+  }
+
+  @Override
+  public PointShiftedCurve.Meta metaBean() {
+    return PointShiftedCurve.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the underlying curve.
+   * <p>
+   * The interpolator and extrapolators of the curve must be linear in the y-values.
+   * @return the value of the property, not null
+   */
+  public InterpolatedNodalCurve getUnderlyingCurve() {
+    return underlyingCurve;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the amount added to the y-value of each node of the underlying curve.
+   * <p>
+   * This array has one element for each node of the underlying curve.
+   * @return the value of the property, not null
+   */
+  public DoubleArray getShifts() {
+    return shifts;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      PointShiftedCurve other = (PointShiftedCurve) obj;
+      return JodaBeanUtils.equal(underlyingCurve, other.underlyingCurve) &&
+          JodaBeanUtils.equal(shifts, other.shifts);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(underlyingCurve);
+    hash = hash * 31 + JodaBeanUtils.hashCode(shifts);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("PointShiftedCurve{");
+    buf.append("underlyingCurve").append('=').append(JodaBeanUtils.toString(underlyingCurve)).append(',').append(' ');
+    buf.append("shifts").append('=').append(JodaBeanUtils.toString(shifts));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code PointShiftedCurve}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code underlyingCurve} property.
+     */
+    private final MetaProperty<InterpolatedNodalCurve> underlyingCurve = DirectMetaProperty.ofImmutable(
+        this, "underlyingCurve", PointShiftedCurve.class, InterpolatedNodalCurve.class);
+    /**
+     * The meta-property for the {@code shifts} property.
+     */
+    private final MetaProperty<DoubleArray> shifts = DirectMetaProperty.ofImmutable(
+        this, "shifts", PointShiftedCurve.class, DoubleArray.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "underlyingCurve",
+        "shifts");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -839394414:  // underlyingCurve
+          return underlyingCurve;
+        case -903338959:  // shifts
+          return shifts;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends PointShiftedCurve> builder() {
+      return new PointShiftedCurve.Builder();
+    }
+
+    @Override
+    public Class<? extends PointShiftedCurve> beanType() {
+      return PointShiftedCurve.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code underlyingCurve} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<InterpolatedNodalCurve> underlyingCurve() {
+      return underlyingCurve;
+    }
+
+    /**
+     * The meta-property for the {@code shifts} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<DoubleArray> shifts() {
+      return shifts;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -839394414:  // underlyingCurve
+          return ((PointShiftedCurve) bean).getUnderlyingCurve();
+        case -903338959:  // shifts
+          return ((PointShiftedCurve) bean).getShifts();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code PointShiftedCurve}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<PointShiftedCurve> {
+
+    private InterpolatedNodalCurve underlyingCurve;
+    private DoubleArray shifts;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -839394414:  // underlyingCurve
+          return underlyingCurve;
+        case -903338959:  // shifts
+          return shifts;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -839394414:  // underlyingCurve
+          this.underlyingCurve = (InterpolatedNodalCurve) newValue;
+          break;
+        case -903338959:  // shifts
+          this.shifts = (DoubleArray) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public PointShiftedCurve build() {
+      return new PointShiftedCurve(
+          underlyingCurve,
+          shifts);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(96);
+      buf.append("PointShiftedCurve.Builder{");
+      buf.append("underlyingCurve").append('=').append(JodaBeanUtils.toString(underlyingCurve)).append(',').append(' ');
+      buf.append("shifts").append('=').append(JodaBeanUtils.toString(shifts));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -18,6 +18,10 @@ public abstract class AbstractBoundCurveInterpolator
    * Negative zero.
    */
   private static long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0d);
+  /**
+   * The maximum number of nodes to step over before using a binary search in batch methods.
+   */
+  private static final int MAX_WALK = 8;
 
   /**
    * The left extrapolator.
@@ -27,6 +31,10 @@ public abstract class AbstractBoundCurveInterpolator
    * The right extrapolator.
    */
   private final BoundCurveExtrapolator extrapolatorRight;
+  /**
+   * The x-values of the nodes.
+   */
+  private final double[] nodeXValues;
   /**
    * The x-value of the first node.
    */
@@ -54,6 +62,7 @@ public abstract class AbstractBoundCurveInterpolator
     ArgChecker.isTrue(size > 1, "Curve node arrays must have at least two nodes");
     this.extrapolatorLeft = ExceptionCurveExtrapolator.INSTANCE;
     this.extrapolatorRight = ExceptionCurveExtrapolator.INSTANCE;
+    this.nodeXValues = xValues.toArrayUnsafe();
     this.firstXValue = xValues.get(0);
     this.lastXValue = xValues.get(size - 1);
     this.lastYValue = yValues.get(size - 1);
@@ -73,6 +82,7 @@ public abstract class AbstractBoundCurveInterpolator
 
     this.extrapolatorLeft = ArgChecker.notNull(extrapolatorLeft, "extrapolatorLeft");
     this.extrapolatorRight = ArgChecker.notNull(extrapolatorRight, "extrapolatorRight");
+    this.nodeXValues = base.nodeXValues;
     this.firstXValue = base.firstXValue;
     this.lastXValue = base.lastXValue;
     this.lastYValue = base.lastYValue;
@@ -152,6 +162,253 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract DoubleArray doParameterSensitivity(double xValue);
 
+  //-------------------------------------------------------------------------
+  @Override
+  public final void interpolate(double[] xValues, double[] output) {
+    checkLengths(xValues, output.length);
+    int lowerIndex = 0;
+    for (int i = 0; i < xValues.length; i++) {
+      double xValue = xValues[i];
+      if (xValue < firstXValue) {
+        output[i] = extrapolatorLeft.leftExtrapolate(xValue);
+      } else if (xValue > lastXValue) {
+        output[i] = extrapolatorRight.rightExtrapolate(xValue);
+      } else if (xValue == lastXValue) {
+        output[i] = lastYValue;
+      } else {
+        lowerIndex = lowerBoundIndex(xValue, lowerIndex);
+        output[i] = doInterpolate(xValue, lowerIndex);
+      }
+    }
+  }
+
+  @Override
+  public final void firstDerivative(double[] xValues, double[] output) {
+    checkLengths(xValues, output.length);
+    int lowerIndex = 0;
+    for (int i = 0; i < xValues.length; i++) {
+      double xValue = xValues[i];
+      if (xValue < firstXValue) {
+        output[i] = extrapolatorLeft.leftExtrapolateFirstDerivative(xValue);
+      } else if (xValue > lastXValue) {
+        output[i] = extrapolatorRight.rightExtrapolateFirstDerivative(xValue);
+      } else {
+        lowerIndex = lowerBoundIndex(xValue, lowerIndex);
+        output[i] = doFirstDerivative(xValue, lowerIndex);
+      }
+    }
+  }
+
+  @Override
+  public final void parameterSensitivity(double[] xValues, double[][] output) {
+    checkLengths(xValues, output.length);
+    int lowerIndex = 0;
+    for (int i = 0; i < xValues.length; i++) {
+      double xValue = xValues[i];
+      DoubleArray sensitivity;
+      if (xValue < firstXValue) {
+        sensitivity = extrapolatorLeft.leftExtrapolateParameterSensitivity(xValue);
+      } else if (xValue > lastXValue) {
+        sensitivity = extrapolatorRight.rightExtrapolateParameterSensitivity(xValue);
+      } else {
+        lowerIndex = lowerBoundIndex(xValue, lowerIndex);
+        sensitivity = doParameterSensitivity(xValue, lowerIndex);
+      }
+      sensitivity.copyInto(output[i], 0);
+    }
+  }
+
+  @Override
+  public final void addParameterSensitivity(double xValue, double multiplier, double[] accumulator) {
+    ArgChecker.isTrue(accumulator.length == nodeXValues.length,
+        "Accumulator must have length {}, but was {}", nodeXValues.length, accumulator.length);
+    if (xValue < firstXValue) {
+      addTo(extrapolatorLeft.leftExtrapolateParameterSensitivity(xValue), multiplier, accumulator);
+    } else if (xValue > lastXValue) {
+      addTo(extrapolatorRight.rightExtrapolateParameterSensitivity(xValue), multiplier, accumulator);
+    } else {
+      doAddParameterSensitivity(xValue, lowerBoundIndex(xValue, nodeXValues), multiplier, accumulator);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public final double interpolateShifted(double xValue, DoubleArray shifts) {
+    checkShifts(shifts);
+    if (xValue < firstXValue) {
+      return extrapolatorLeft.leftExtrapolateShifted(xValue, shifts);
+    } else if (xValue > lastXValue) {
+      return extrapolatorRight.rightExtrapolateShifted(xValue, shifts);
+    } else if (xValue == lastXValue) {
+      return lastYValue + shifts.get(nodeXValues.length - 1);
+    }
+    return doInterpolateShifted(xValue, lowerBoundIndex(xValue, nodeXValues), shifts);
+  }
+
+  @Override
+  public final double firstDerivativeShifted(double xValue, DoubleArray shifts) {
+    checkShifts(shifts);
+    if (xValue < firstXValue) {
+      return extrapolatorLeft.leftExtrapolateFirstDerivativeShifted(xValue, shifts);
+    } else if (xValue > lastXValue) {
+      return extrapolatorRight.rightExtrapolateFirstDerivativeShifted(xValue, shifts);
+    }
+    return doFirstDerivativeShifted(xValue, lowerBoundIndex(xValue, nodeXValues), shifts);
+  }
+
+  /**
+   * Method for subclasses to calculate the interpolated value as though the node y-values were shifted.
+   * <p>
+   * The index is that returned by {@link #lowerBoundIndex(double, double[])}.
+   * Callers can assume that {@code xValue} is less than the x-value of the last node.
+   * Subclasses that are linear in the y-values should override this method.
+   * The default implementation throws an exception.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node with an x-value less than or equal to the x-value
+   * @param shifts  the amount added to the y-value of each node
+   * @return the interpolated y-value
+   */
+  protected double doInterpolateShifted(double xValue, int lowerIndex, DoubleArray shifts) {
+    throw new UnsupportedOperationException("Interpolator is not linear in the y-values");
+  }
+
+  /**
+   * Method for {@code InterpolatorCurveExtrapolator} to calculate the interpolated value
+   * as though the node y-values were shifted.
+   * <p>
+   * This is the shifted equivalent of {@link #doInterpolateFromExtrapolator(double)}.
+   * 
+   * @param xValue  the x-value
+   * @param shifts  the amount added to the y-value of each node
+   * @return the interpolated y-value
+   */
+  protected double doInterpolateShiftedFromExtrapolator(double xValue, DoubleArray shifts) {
+    // calling this method may fail on right extrapolation depending on the implementation
+    // if it fails, then this method should be overridden to fix the problem
+    return doInterpolateShifted(xValue, lowerBoundIndex(xValue, nodeXValues), shifts);
+  }
+
+  /**
+   * Method for subclasses to calculate the first derivative as though the node y-values were shifted.
+   * <p>
+   * The index is that returned by {@link #lowerBoundIndex(double, double[])}.
+   * This is also called by {@code InterpolatorCurveExtrapolator}.
+   * Subclasses that are linear in the y-values should override this method.
+   * The default implementation throws an exception.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node with an x-value less than or equal to the x-value
+   * @param shifts  the amount added to the y-value of each node
+   * @return the first derivative
+   */
+  protected double doFirstDerivativeShifted(double xValue, int lowerIndex, DoubleArray shifts) {
+    throw new UnsupportedOperationException("Interpolator is not linear in the y-values");
+  }
+
+  // calculates the first derivative for InterpolatorCurveExtrapolator
+  double doFirstDerivativeShiftedFromExtrapolator(double xValue, DoubleArray shifts) {
+    return doFirstDerivativeShifted(xValue, lowerBoundIndex(xValue, nodeXValues), shifts);
+  }
+
+  /**
+   * Method for subclasses to calculate the interpolated value when the lower bound index is known.
+   * <p>
+   * The index is that returned by {@link #lowerBoundIndex(double, double[])}.
+   * Callers can assume that {@code xValue} is less than the x-value of the last node.
+   * The default implementation ignores the index and calls {@link #doInterpolate(double)}.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node with an x-value less than or equal to the x-value
+   * @return the interpolated y-value
+   */
+  protected double doInterpolate(double xValue, int lowerIndex) {
+    return doInterpolate(xValue);
+  }
+
+  /**
+   * Method for subclasses to calculate the first derivative when the lower bound index is known.
+   * <p>
+   * The index is that returned by {@link #lowerBoundIndex(double, double[])}.
+   * The default implementation ignores the index and calls {@link #doFirstDerivative(double)}.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node with an x-value less than or equal to the x-value
+   * @return the first derivative
+   */
+  protected double doFirstDerivative(double xValue, int lowerIndex) {
+    return doFirstDerivative(xValue);
+  }
+
+  /**
+   * Method for subclasses to calculate parameter sensitivity when the lower bound index is known.
+   * <p>
+   * The index is that returned by {@link #lowerBoundIndex(double, double[])}.
+   * The default implementation ignores the index and calls {@link #doParameterSensitivity(double)}.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node with an x-value less than or equal to the x-value
+   * @return the parameter sensitivity
+   */
+  protected DoubleArray doParameterSensitivity(double xValue, int lowerIndex) {
+    return doParameterSensitivity(xValue);
+  }
+
+  /**
+   * Method for subclasses to add the parameter sensitivity, multiplied by a factor, to an accumulator.
+   * <p>
+   * The index is that returned by {@link #lowerBoundIndex(double, double[])}.
+   * Subclasses that only have sensitivity to a few nodes should override this method to update
+   * those entries directly. The default implementation adds the result of
+   * {@link #doParameterSensitivity(double, int)} to every entry.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node with an x-value less than or equal to the x-value
+   * @param multiplier  the amount to multiply the sensitivity by before adding it
+   * @param accumulator  the array to add the sensitivity to, one element for each node
+   */
+  protected void doAddParameterSensitivity(double xValue, int lowerIndex, double multiplier, double[] accumulator) {
+    addTo(doParameterSensitivity(xValue, lowerIndex), multiplier, accumulator);
+  }
+
+  // adds a dense sensitivity to the accumulator
+  private static void addTo(DoubleArray sensitivity, double multiplier, double[] accumulator) {
+    for (int i = 0; i < accumulator.length; i++) {
+      accumulator[i] += sensitivity.get(i) * multiplier;
+    }
+  }
+
+  // finds the lower bound index, walking forward from the previous index when the x-values are sorted
+  // a binary search is used if the x-value is before the previous index or far beyond it
+  private int lowerBoundIndex(double xValue, int previousIndex) {
+    double[] nodes = nodeXValues;
+    if (nodes[previousIndex] > xValue) {
+      return lowerBoundIndex(xValue, nodes);
+    }
+    int last = nodes.length - 1;
+    int limit = Math.min(last, previousIndex + MAX_WALK);
+    int index = previousIndex;
+    while (index < limit && nodes[index + 1] <= xValue) {
+      index++;
+    }
+    if (index == limit && index < last && nodes[index + 1] <= xValue) {
+      return lowerBoundIndex(xValue, nodes);
+    }
+    return index;
+  }
+
+  // checks the number of shifts
+  private void checkShifts(DoubleArray shifts) {
+    ArgChecker.isTrue(shifts.size() == nodeXValues.length,
+        "Shifts must have length {}, but was {}", nodeXValues.length, shifts.size());
+  }
+
+  // checks the output length
+  private static void checkLengths(double[] xValues, int outputLength) {
+    ArgChecker.isTrue(xValues.length == outputLength,
+        "Output must have length {}, but was {}", xValues.length, outputLength);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Returns the index of the last value in the input array which is lower than the specified value.
@@ -54,6 +54,41 @@ public interface BoundCurveExtrapolator {
    */
   public abstract DoubleArray leftExtrapolateParameterSensitivity(double xValue);
 
+  /**
+   * Left extrapolates the y-value from the specified x-value as though the node y-values were shifted.
+   * <p>
+   * This method is only intended to be invoked when the x-value is less than the x-value of the first node.
+   * The behavior is undefined if called with any other x-value.
+   * It is only supported when the extrapolator is linear in the y-values.
+   * 
+   * @param xValue  the x-value to find the y-value for
+   * @param shifts  the amount added to the y-value of each node
+   * @return the extrapolated y-value for the specified x-value
+   * @throws UnsupportedOperationException if the extrapolator is not linear in the y-values
+   * @throws RuntimeException if the y-value cannot be calculated
+   */
+  public default double leftExtrapolateShifted(double xValue, DoubleArray shifts) {
+    throw new UnsupportedOperationException("Extrapolator is not linear in the y-values");
+  }
+
+  /**
+   * Calculates the first derivative of the left extrapolated y-value at the specified x-value
+   * as though the node y-values were shifted.
+   * <p>
+   * This method is only intended to be invoked when the x-value is less than the x-value of the first node.
+   * The behavior is undefined if called with any other x-value.
+   * It is only supported when the extrapolator is linear in the y-values.
+   * 
+   * @param xValue  the x-value to find the y-value for
+   * @param shifts  the amount added to the y-value of each node
+   * @return the first derivative of the extrapolated y-value for the specified x-value
+   * @throws UnsupportedOperationException if the extrapolator is not linear in the y-values
+   * @throws RuntimeException if the derivative cannot be calculated
+   */
+  public default double leftExtrapolateFirstDerivativeShifted(double xValue, DoubleArray shifts) {
+    throw new UnsupportedOperationException("Extrapolator is not linear in the y-values");
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Right extrapolates the y-value from the specified x-value.
@@ -91,4 +126,39 @@ public interface BoundCurveExtrapolator {
    */
   public abstract DoubleArray rightExtrapolateParameterSensitivity(double xValue);
 
+  /**
+   * Right extrapolates the y-value from the specified x-value as though the node y-values were shifted.
+   * <p>
+   * This method is only intended to be invoked when the x-value is greater than the x-value of the last node.
+   * The behavior is undefined if called with any other x-value.
+   * It is only supported when the extrapolator is linear in the y-values.
+   * 
+   * @param xValue  the x-value to find the y-value for
+   * @param shifts  the amount added to the y-value of each node
+   * @return the extrapolated y-value for the specified x-value
+   * @throws UnsupportedOperationException if the extrapolator is not linear in the y-values
+   * @throws RuntimeException if the y-value cannot be calculated
+   */
+  public default double rightExtrapolateShifted(double xValue, DoubleArray shifts) {
+    throw new UnsupportedOperationException("Extrapolator is not linear in the y-values");
+  }
+
+  /**
+   * Calculates the first derivative of the right extrapolated y-value at the specified x-value
+   * as though the node y-values were shifted.
+   * <p>
+   * This method is only intended to be invoked when the x-value is greater than the x-value of the last node.
+   * The behavior is undefined if called with any other x-value.
+   * It is only supported when the extrapolator is linear in the y-values.
+   * 
+   * @param xValue  the x-value to find the y-value for
+   * @param shifts  the amount added to the y-value of each node
+   * @return the first derivative of the extrapolated y-value for the specified x-value
+   * @throws UnsupportedOperationException if the extrapolator is not linear in the y-values
+   * @throws RuntimeException if the derivative cannot be calculated
+   */
+  public default double rightExtrapolateFirstDerivativeShifted(double xValue, DoubleArray shifts) {
+    throw new UnsupportedOperationException("Extrapolator is not linear in the y-values");
+  }
+
 }
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.market.curve.interpolator;
 
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -52,6 +53,122 @@ public interface BoundCurveInterpolator {
    */
   public abstract DoubleArray parameterSensitivity(double x);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the y-values for the specified x-values by interpolation.
+   * <p>
+   * This is equivalent to calling {@link #interpolate(double)} for each x-value.
+   * The x-values may be in any order, but implementations are more efficient if they are sorted.
+   * The output array may be the same as the input array.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @param output  the array to store the y-values in, of the same length as the x-values
+   * @throws RuntimeException if a y-value cannot be calculated
+   */
+  public default void interpolate(double[] xValues, double[] output) {
+    ArgChecker.isTrue(xValues.length == output.length, "Output must have length {}, but was {}", xValues.length, output.length);
+    for (int i = 0; i < xValues.length; i++) {
+      output[i] = interpolate(xValues[i]);
+    }
+  }
+
+  /**
+   * Computes the first derivative of the y-values for the specified x-values.
+   * <p>
+   * This is equivalent to calling {@link #firstDerivative(double)} for each x-value.
+   * The x-values may be in any order, but implementations are more efficient if they are sorted.
+   * The output array may be the same as the input array.
+   * 
+   * @param xValues  the x-values at which the derivatives are taken
+   * @param output  the array to store the first derivatives in, of the same length as the x-values
+   * @throws RuntimeException if a derivative cannot be calculated
+   */
+  public default void firstDerivative(double[] xValues, double[] output) {
+    ArgChecker.isTrue(xValues.length == output.length, "Output must have length {}, but was {}", xValues.length, output.length);
+    for (int i = 0; i < xValues.length; i++) {
+      output[i] = firstDerivative(xValues[i]);
+    }
+  }
+
+  /**
+   * Computes the sensitivity of the y-values with respect to the curve parameters.
+   * <p>
+   * This is equivalent to calling {@link #parameterSensitivity(double)} for each x-value.
+   * The x-values may be in any order, but implementations are more efficient if they are sorted.
+   * Each row of the output is overwritten with the sensitivity at the matching x-value,
+   * thus each row must have one element for each parameter of the curve.
+   * 
+   * @param xValues  the x-values at which the parameter sensitivity is computed
+   * @param output  the array to store the sensitivities in, one row for each x-value
+   * @throws RuntimeException if a sensitivity cannot be calculated
+   */
+  public default void parameterSensitivity(double[] xValues, double[][] output) {
+    ArgChecker.isTrue(xValues.length == output.length, "Output must have length {}, but was {}", xValues.length, output.length);
+    for (int i = 0; i < xValues.length; i++) {
+      parameterSensitivity(xValues[i]).copyInto(output[i], 0);
+    }
+  }
+
+  /**
+   * Adds the sensitivity of the y-value with respect to the curve parameters to an accumulator.
+   * <p>
+   * This is equivalent to multiplying {@link #parameterSensitivity(double)} by the multiplier
+   * and adding the result to the accumulator, element by element.
+   * Local interpolators, such as linear, only have sensitivity to the nodes either side of the x-value,
+   * thus implementations can update those entries directly without creating a dense array.
+   * This allows the sensitivity to many points to be summed and only converted to an array once.
+   * 
+   * @param xValue  the x-value at which the parameter sensitivity is computed
+   * @param multiplier  the amount to multiply the sensitivity by before adding it
+   * @param accumulator  the array to add the sensitivity to, with one element for each parameter of the curve
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addParameterSensitivity(double xValue, double multiplier, double[] accumulator) {
+    DoubleArray sensitivity = parameterSensitivity(xValue);
+    ArgChecker.isTrue(sensitivity.size() == accumulator.length,
+        "Accumulator must have length {}, but was {}", sensitivity.size(), accumulator.length);
+    for (int i = 0; i < accumulator.length; i++) {
+      accumulator[i] += sensitivity.get(i) * multiplier;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the y-value for the specified x-value as though the node y-values were shifted.
+   * <p>
+   * This is only supported when the interpolator and extrapolators are linear in the y-values,
+   * such as linear, step and spline interpolation.
+   * The result is the same as binding the interpolator to the node y-values plus the shifts,
+   * but is computed from the state of this instance, such as the weights of the nodes either side
+   * of the x-value or the factorised spline system, thus no other interpolator is bound.
+   *
+   * @param x  the x-value to find the y-value for
+   * @param shifts  the amount added to the y-value of each node
+   * @return the value at the x-value
+   * @throws UnsupportedOperationException if the interpolator is not linear in the y-values
+   * @throws RuntimeException if the y-value cannot be calculated
+   */
+  public default double interpolateShifted(double x, DoubleArray shifts) {
+    throw new UnsupportedOperationException("Interpolator is not linear in the y-values");
+  }
+
+  /**
+   * Computes the first derivative of the y-value for the specified x-value
+   * as though the node y-values were shifted.
+   * <p>
+   * This is only supported when the interpolator and extrapolators are linear in the y-values.
+   * See {@link #interpolateShifted(double, DoubleArray)}.
+   *
+   * @param x  the x-value at which the derivative is taken
+   * @param shifts  the amount added to the y-value of each node
+   * @return the first derivative
+   * @throws UnsupportedOperationException if the interpolator is not linear in the y-values
+   * @throws RuntimeException if the derivative cannot be calculated
+   */
+  public default double firstDerivativeShifted(double x, DoubleArray shifts) {
+    throw new UnsupportedOperationException("Interpolator is not linear in the y-values");
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Binds this interpolator to the specified extrapolators.
@@ -68,6 +68,16 @@ final class ExceptionCurveExtrapolator
     throw new UnsupportedOperationException("Extrapolation is not permitted");
   }
 
+  @Override
+  public double leftExtrapolateShifted(double xValue, DoubleArray shifts) {
+    throw new UnsupportedOperationException("Extrapolation is not permitted");
+  }
+
+  @Override
+  public double leftExtrapolateFirstDerivativeShifted(double xValue, DoubleArray shifts) {
+    throw new UnsupportedOperationException("Extrapolation is not permitted");
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public double rightExtrapolate(double xValue) {
@@ -84,6 +94,16 @@ final class ExceptionCurveExtrapolator
     throw new UnsupportedOperationException("Extrapolation is not permitted");
   }
 
+  @Override
+  public double rightExtrapolateShifted(double xValue, DoubleArray shifts) {
+    throw new UnsupportedOperationException("Extrapolation is not permitted");
+  }
+
+  @Override
+  public double rightExtrapolateFirstDerivativeShifted(double xValue, DoubleArray shifts) {
+    throw new UnsupportedOperationException("Extrapolation is not permitted");
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public String toString() {
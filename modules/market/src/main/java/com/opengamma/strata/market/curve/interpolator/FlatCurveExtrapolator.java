@@ -98,6 +98,16 @@ final class FlatCurveExtrapolator
       return leftSensitivity;
     }
 
+    @Override
+    public double leftExtrapolateShifted(double xValue, DoubleArray shifts) {
+      return firstYValue + shifts.get(0);
+    }
+
+    @Override
+    public double leftExtrapolateFirstDerivativeShifted(double xValue, DoubleArray shifts) {
+      return 0d;
+    }
+
     //-------------------------------------------------------------------------
     @Override
     public double rightExtrapolate(double xValue) {
@@ -113,6 +123,16 @@ final class FlatCurveExtrapolator
     public DoubleArray rightExtrapolateParameterSensitivity(double xValue) {
       return rightSensitivity;
     }
+
+    @Override
+    public double rightExtrapolateShifted(double xValue, DoubleArray shifts) {
+      return lastYValue + shifts.get(nodeCount - 1);
+    }
+
+    @Override
+    public double rightExtrapolateFirstDerivativeShifted(double xValue, DoubleArray shifts) {
+      return 0d;
+    }
   }
 
 }
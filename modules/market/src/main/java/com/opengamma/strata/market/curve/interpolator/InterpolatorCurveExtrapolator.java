@@ -90,6 +90,16 @@ final class InterpolatorCurveExtrapolator
       return interpolator.doParameterSensitivity(xValue);
     }
 
+    @Override
+    public double leftExtrapolateShifted(double xValue, DoubleArray shifts) {
+      return interpolator.doInterpolateShiftedFromExtrapolator(xValue, shifts);
+    }
+
+    @Override
+    public double leftExtrapolateFirstDerivativeShifted(double xValue, DoubleArray shifts) {
+      return interpolator.doFirstDerivativeShiftedFromExtrapolator(xValue, shifts);
+    }
+
     //-------------------------------------------------------------------------
     @Override
     public double rightExtrapolate(double xValue) {
@@ -105,6 +115,16 @@ final class InterpolatorCurveExtrapolator
     public DoubleArray rightExtrapolateParameterSensitivity(double xValue) {
       return interpolator.doParameterSensitivity(xValue);
     }
+
+    @Override
+    public double rightExtrapolateShifted(double xValue, DoubleArray shifts) {
+      return interpolator.doInterpolateShiftedFromExtrapolator(xValue, shifts);
+    }
+
+    @Override
+    public double rightExtrapolateFirstDerivativeShifted(double xValue, DoubleArray shifts) {
+      return interpolator.doFirstDerivativeShiftedFromExtrapolator(xValue, shifts);
+    }
   }
 
 }
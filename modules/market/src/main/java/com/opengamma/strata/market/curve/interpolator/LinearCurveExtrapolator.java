@@ -113,6 +113,21 @@ final class LinearCurveExtrapolator
       return DoubleArray.ofUnsafe(result);
     }
 
+    @Override
+    public double leftExtrapolateShifted(double xValue, DoubleArray shifts) {
+      return firstYValue + shifts.get(0) + (xValue - firstXValue) * leftGradientShifted(shifts);
+    }
+
+    @Override
+    public double leftExtrapolateFirstDerivativeShifted(double xValue, DoubleArray shifts) {
+      return leftGradientShifted(shifts);
+    }
+
+    // the gradient is linear in the y-values, with the interpolated value determined by the sensitivity
+    private double leftGradientShifted(DoubleArray shifts) {
+      return leftGradient + (dot(leftSens, shifts) - shifts.get(0)) / eps;
+    }
+
     //-------------------------------------------------------------------------
     @Override
     public double rightExtrapolate(double xValue) {
@@ -134,6 +149,30 @@ final class LinearCurveExtrapolator
       result[n - 1] = 1 + (1 - result[n - 1]) * (xValue - lastXValue) / eps;
       return DoubleArray.ofUnsafe(result);
     }
+
+    @Override
+    public double rightExtrapolateShifted(double xValue, DoubleArray shifts) {
+      return lastYValue + shifts.get(nodeCount - 1) + (xValue - lastXValue) * rightGradientShifted(shifts);
+    }
+
+    @Override
+    public double rightExtrapolateFirstDerivativeShifted(double xValue, DoubleArray shifts) {
+      return rightGradientShifted(shifts);
+    }
+
+    // the gradient is linear in the y-values, with the interpolated value determined by the sensitivity
+    private double rightGradientShifted(DoubleArray shifts) {
+      return rightGradient + (shifts.get(nodeCount - 1) - dot(rightSens, shifts)) / eps;
+    }
+
+    // the sum of the element-wise product
+    private static double dot(DoubleArray sensitivity, DoubleArray shifts) {
+      double total = 0d;
+      for (int i = 0; i < sensitivity.size(); i++) {
+        total += sensitivity.get(i) * shifts.get(i);
+      }
+      return total;
+    }
   }
 
 }
@@ -98,8 +98,12 @@ final class LinearCurveInterpolator
     //-------------------------------------------------------------------------
     @Override
     protected double doInterpolate(double xValue) {
+      return doInterpolate(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected double doInterpolate(double xValue, int lowerIndex) {
       // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
       double x1 = xValues[lowerIndex];
       double y1 = yValues[lowerIndex];
       return y1 + (xValue - x1) * gradients[lowerIndex];
@@ -120,32 +124,76 @@ final class LinearCurveInterpolator
 
     @Override
     protected double doFirstDerivative(double xValue) {
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      return doFirstDerivative(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected double doFirstDerivative(double xValue, int lowerIndex) {
       // check if x-value is at the last node
       if (lowerIndex == intervalCount) {
         // if value is at last node, calculate the gradient from the previous interval
-        lowerIndex--;
+        return gradients[lowerIndex - 1];
       }
       return gradients[lowerIndex];
     }
 
     @Override
     protected DoubleArray doParameterSensitivity(double xValue) {
+      return doParameterSensitivity(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected DoubleArray doParameterSensitivity(double xValue, int lowerIndex) {
       double[] result = new double[yValues.length];
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      doAddParameterSensitivity(xValue, lowerIndex, 1d, result);
+      return DoubleArray.ofUnsafe(result);
+    }
+
+    @Override
+    protected void doAddParameterSensitivity(double xValue, int lowerIndex, double multiplier, double[] accumulator) {
       // check if x-value is at the last node
       if (lowerIndex == intervalCount) {
         // sensitivity is entirely to the last node
-        result[intervalCount] = 1d;
+        accumulator[intervalCount] += multiplier;
       } else {
         double x1 = xValues[lowerIndex];
         double x2 = xValues[lowerIndex + 1];
         double dx = x2 - x1;
         double a = (x2 - xValue) / dx;
-        result[lowerIndex] = a;
-        result[lowerIndex + 1] = 1 - a;
+        accumulator[lowerIndex] += a * multiplier;
+        accumulator[lowerIndex + 1] += (1 - a) * multiplier;
       }
-      return DoubleArray.ofUnsafe(result);
+    }
+
+    @Override
+    protected double doInterpolateShifted(double xValue, int lowerIndex, DoubleArray shifts) {
+      // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
+      double x1 = xValues[lowerIndex];
+      double y1 = yValues[lowerIndex] + shifts.get(lowerIndex);
+      return y1 + (xValue - x1) * shiftedGradient(lowerIndex, shifts);
+    }
+
+    @Override
+    protected double doInterpolateShiftedFromExtrapolator(double xValue, DoubleArray shifts) {
+      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      // check if x-value is at the last node
+      if (lowerIndex == intervalCount) {
+        // if value is at last node, calculate the gradient from the previous interval
+        lowerIndex--;
+      }
+      return doInterpolateShifted(xValue, lowerIndex, shifts);
+    }
+
+    @Override
+    protected double doFirstDerivativeShifted(double xValue, int lowerIndex, DoubleArray shifts) {
+      // if value is at last node, calculate the gradient from the previous interval
+      return shiftedGradient(lowerIndex == intervalCount ? lowerIndex - 1 : lowerIndex, shifts);
+    }
+
+    // the gradient of the interval plus the gradient of the shifts
+    private double shiftedGradient(int lowerIndex, DoubleArray shifts) {
+      double dx = xValues[lowerIndex + 1] - xValues[lowerIndex];
+      return gradients[lowerIndex] + (shifts.get(lowerIndex + 1) - shifts.get(lowerIndex)) / dx;
     }
 
     @Override
@@ -9,6 +9,8 @@ import static com.opengamma.strata.math.impl.matrix.MatrixAlgebraFactory.OG_ALGE
 
 import java.io.Serializable;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.math.MathException;
@@ -77,6 +79,8 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
     private final double rightFirstDev;
     private final boolean leftNatural;
     private final boolean rightNatural;
+    private final Supplier<double[]> secondDerivatives;
+    private final Supplier<double[][]> secondDerivativesSensitivities;
 
     Bound(DoubleArray xValues, DoubleArray yValues) {
       super(xValues, yValues);
@@ -87,6 +91,10 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       this.rightFirstDev = 0;
       this.leftNatural = true;
       this.rightNatural = true;
+      this.secondDerivatives = Suppliers.memoize(() -> calculateSecondDerivative(
+          this.xValues, this.yValues, dataSize, leftFirstDev, rightFirstDev, leftNatural, rightNatural));
+      this.secondDerivativesSensitivities = Suppliers.memoize(() -> getSecondDerivativesSensitivities(
+          this.xValues, this.yValues, dataSize, leftNatural, rightNatural));
     }
 
     Bound(Bound base, BoundCurveExtrapolator extrapolatorLeft, BoundCurveExtrapolator extrapolatorRight) {
@@ -98,6 +106,8 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       this.leftNatural = base.leftNatural;
       this.rightNatural = base.rightNatural;
       this.dataSize = xValues.length;
+      this.secondDerivatives = base.secondDerivatives;
+      this.secondDerivativesSensitivities = base.secondDerivativesSensitivities;
     }
 
     //-------------------------------------------------------------------------
@@ -225,8 +235,12 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
     //-------------------------------------------------------------------------
     @Override
     protected double doInterpolate(double xValue) {
+      return doInterpolate(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected double doInterpolate(double xValue, int low) {
       // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
-      int low = lowerBoundIndex(xValue, xValues);
       int high = low + 1;
       int n = dataSize - 1;
       if (low == n) {
@@ -238,34 +252,39 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       }
       double a = (xValues[high] - xValue) / delta;
       double b = (xValue - xValues[low]) / delta;
-      double[] y2 = calculateSecondDerivative(xValues, yValues, dataSize, leftFirstDev, rightFirstDev, leftNatural, rightNatural);
+      double[] y2 = secondDerivatives.get();
       return a * yValues[low] + b * yValues[high] + (a * (a * a - 1) * y2[low] + b * (b * b - 1) * y2[high]) * delta * delta / 6.;
     }
 
     @Override
     protected double doFirstDerivative(double xValue) {
-      // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
-      int low = lowerBoundIndex(xValue, xValues);
-      int high = low + 1;
+      return doFirstDerivative(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected double doFirstDerivative(double xValue, int lowerIndex) {
+      // x-value is less than or equal to the x-value of the last node
       int n = dataSize - 1;
-      if (low == n) {
-        low = n - 1;
-        high = n;
-      }
+      int low = lowerIndex == n ? n - 1 : lowerIndex;
+      int high = low + 1;
       double delta = xValues[high] - xValues[low];
       if (Math.abs(delta) < EPS) {
         throw new MathException("x data points were not distinct");
       }
       double a = (xValues[high] - xValue) / delta;
       double b = (xValue - xValues[low]) / delta;
-      double[] y2 = calculateSecondDerivative(xValues, yValues, dataSize, leftFirstDev, rightFirstDev, leftNatural, rightNatural);
+      double[] y2 = secondDerivatives.get();
       return (yValues[high] - yValues[low]) / delta + ((-3. * a * a + 1.) * y2[low] + (3. * b * b - 1.) * y2[high]) * delta / 6.;
     }
 
     @Override
     protected DoubleArray doParameterSensitivity(double xValue) {
+      return doParameterSensitivity(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected DoubleArray doParameterSensitivity(double xValue, int low) {
       // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
-      int low = lowerBoundIndex(xValue, xValues);
       double[] result = new double[dataSize];
       if (low == dataSize - 1) {
         result[dataSize - 1] = 1.0;
@@ -277,7 +296,7 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       double b = (xValue - xValues[low]) / delta;
       double c = a * (a * a - 1) * delta * delta / 6.;
       double d = b * (b * b - 1) * delta * delta / 6.;
-      double[][] y2Sensitivities = getSecondDerivativesSensitivities(xValues, yValues, dataSize, leftNatural, rightNatural);
+      double[][] y2Sensitivities = secondDerivativesSensitivities.get();
       for (int i = 0; i < dataSize; i++) {
         result[i] = c * y2Sensitivities[low][i] + d * y2Sensitivities[high][i];
       }
@@ -287,6 +306,58 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       return DoubleArray.ofUnsafe(result);
     }
 
+    //-------------------------------------------------------------------------
+    // the spline is linear in the y-values, thus the second derivatives of the shifted spline are
+    // those of this spline plus the shifts multiplied by the sensitivity of the second derivatives
+    @Override
+    protected double doInterpolateShifted(double xValue, int low, DoubleArray shifts) {
+      // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
+      int high = low + 1;
+      int n = dataSize - 1;
+      if (low == n) {
+        return yValues[n] + shifts.get(n);
+      }
+      double delta = xValues[high] - xValues[low];
+      if (Math.abs(delta) < EPS) {
+        throw new MathException("x data points were not distinct");
+      }
+      double a = (xValues[high] - xValue) / delta;
+      double b = (xValue - xValues[low]) / delta;
+      double y2Low = shiftedSecondDerivative(low, shifts);
+      double y2High = shiftedSecondDerivative(high, shifts);
+      return a * (yValues[low] + shifts.get(low)) + b * (yValues[high] + shifts.get(high)) +
+          (a * (a * a - 1) * y2Low + b * (b * b - 1) * y2High) * delta * delta / 6.;
+    }
+
+    @Override
+    protected double doFirstDerivativeShifted(double xValue, int lowerIndex, DoubleArray shifts) {
+      // x-value is less than or equal to the x-value of the last node
+      int n = dataSize - 1;
+      int low = lowerIndex == n ? n - 1 : lowerIndex;
+      int high = low + 1;
+      double delta = xValues[high] - xValues[low];
+      if (Math.abs(delta) < EPS) {
+        throw new MathException("x data points were not distinct");
+      }
+      double a = (xValues[high] - xValue) / delta;
+      double b = (xValue - xValues[low]) / delta;
+      double y2Low = shiftedSecondDerivative(low, shifts);
+      double y2High = shiftedSecondDerivative(high, shifts);
+      double yLow = yValues[low] + shifts.get(low);
+      double yHigh = yValues[high] + shifts.get(high);
+      return (yHigh - yLow) / delta + ((-3. * a * a + 1.) * y2Low + (3. * b * b - 1.) * y2High) * delta / 6.;
+    }
+
+    // the second derivative at the node after the shifts are applied
+    private double shiftedSecondDerivative(int index, DoubleArray shifts) {
+      double[] sensitivity = secondDerivativesSensitivities.get()[index];
+      double result = secondDerivatives.get()[index];
+      for (int i = 0; i < dataSize; i++) {
+        result += sensitivity[i] * shifts.get(i);
+      }
+      return result;
+    }
+
     @Override
     public BoundCurveInterpolator bind(
         BoundCurveExtrapolator extrapolatorLeft,
@@ -176,6 +176,53 @@ final class NaturalSplineCurveInterpolator
       return res;
     }
 
+    //-------------------------------------------------------------------------
+    // the spline is linear in the y-values, thus the coefficients of the shifted spline are
+    // those of this spline plus the shifts multiplied by the sensitivity of the coefficients
+    @Override
+    protected double doInterpolateShifted(double xValue, int lowerIndex, DoubleArray shifts) {
+      int interval = interval(xValue);
+      double[] coefs = shiftedCoefficients(interval, shifts);
+      return getValue(coefs, xValue, poly.getKnots().get(interval));
+    }
+
+    @Override
+    protected double doFirstDerivativeShifted(double xValue, int lowerIndex, DoubleArray shifts) {
+      int interval = interval(xValue);
+      double[] coefs = shiftedCoefficients(interval, shifts);
+      int nCoefs = coefs.length;
+      double s = xValue - poly.getKnots().get(interval);
+      double res = coefs[0] * (nCoefs - 1);
+      for (int i = 1; i < nCoefs - 1; i++) {
+        res *= s;
+        res += coefs[i] * (nCoefs - i - 1);
+      }
+      return res;
+    }
+
+    // finds the interval, there is 1 less interval than knots
+    private int interval(double xValue) {
+      int interval = FunctionUtils.getLowerBoundIndex(poly.getKnots(), xValue);
+      return interval == poly.getKnots().size() - 1 ? interval - 1 : interval;
+    }
+
+    // the polynomial coefficients of the interval after the shifts are applied
+    private double[] shiftedCoefficients(int interval, DoubleArray shifts) {
+      DoubleMatrix coefficientSensitivity = polySens.get().getCoefficientSensitivity(interval);
+      DoubleMatrix coefMatrix = poly.getCoefMatrix();
+      int nCoefs = coefficientSensitivity.rowCount();
+      int row = poly.getDimensions() * interval;
+      double[] coefs = new double[nCoefs];
+      for (int j = 0; j < nCoefs; j++) {
+        double coef = coefMatrix.get(row, j);
+        for (int i = 0; i < shifts.size(); i++) {
+          coef += coefficientSensitivity.get(j, i) * shifts.get(i);
+        }
+        coefs[j] = coef;
+      }
+      return coefs;
+    }
+
     @Override
     public BoundCurveInterpolator bind(
         BoundCurveExtrapolator extrapolatorLeft,
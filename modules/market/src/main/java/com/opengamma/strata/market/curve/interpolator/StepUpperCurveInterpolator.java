@@ -95,6 +95,11 @@ final class StepUpperCurveInterpolator
       return yValues[upperIndex];
     }
 
+    @Override
+    protected double doInterpolate(double xValue, int lowerIndex) {
+      return yValues[getUpperBoundIndex(xValue, lowerIndex)];
+    }
+
     @Override
     protected double doFirstDerivative(double xValue) {
       return 0d;
@@ -108,6 +113,29 @@ final class StepUpperCurveInterpolator
       return DoubleArray.ofUnsafe(result);
     }
 
+    @Override
+    protected DoubleArray doParameterSensitivity(double xValue, int lowerIndex) {
+      double[] result = new double[yValues.length];
+      result[getUpperBoundIndex(xValue, lowerIndex)] = 1d;
+      return DoubleArray.ofUnsafe(result);
+    }
+
+    @Override
+    protected void doAddParameterSensitivity(double xValue, int lowerIndex, double multiplier, double[] accumulator) {
+      accumulator[getUpperBoundIndex(xValue, lowerIndex)] += multiplier;
+    }
+
+    @Override
+    protected double doInterpolateShifted(double xValue, int lowerIndex, DoubleArray shifts) {
+      int upperIndex = getUpperBoundIndex(xValue, lowerIndex);
+      return yValues[upperIndex] + shifts.get(upperIndex);
+    }
+
+    @Override
+    protected double doFirstDerivativeShifted(double xValue, int lowerIndex, DoubleArray shifts) {
+      return 0d;
+    }
+
     @Override
     public BoundCurveInterpolator bind(
         BoundCurveExtrapolator extrapolatorLeft,
@@ -117,13 +145,16 @@ final class StepUpperCurveInterpolator
     }
 
     private int getUpperBoundIndex(double xValue) {
+      return getUpperBoundIndex(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    private int getUpperBoundIndex(double xValue, int lowerIndex) {
       if (xValue <= xValues[0] + EPS) {
         return 0;
       }
       if (xValue >= xValues[maxIndex - 1] + EPS) {
         return maxIndex;
       }
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
       if (Math.abs(xValues[lowerIndex] - xValue) < EPS) {
         return lowerIndex;
       }
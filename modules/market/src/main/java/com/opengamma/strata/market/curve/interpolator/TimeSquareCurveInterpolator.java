@@ -89,9 +89,13 @@ final class TimeSquareCurveInterpolator implements CurveInterpolator, Serializab
     //-------------------------------------------------------------------------
     @Override
     protected double doInterpolate(double xValue) {
+      return doInterpolate(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected double doInterpolate(double xValue, int lowerIndex) {
       ArgChecker.isTrue(xValue > 0, "Value should be stricly positive");
       // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
       double x1 = xValues[lowerIndex];
       double y1 = yValues[lowerIndex];
       if (lowerIndex == dataSize - 1) {
@@ -110,8 +114,12 @@ final class TimeSquareCurveInterpolator implements CurveInterpolator, Serializab
 
     @Override
     protected double doFirstDerivative(double xValue) {
+      return doFirstDerivative(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected double doFirstDerivative(double xValue, int lowerIndex) {
       ArgChecker.isTrue(xValue > 0, "Value should be stricly positive");
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
       int index;
       // check if x-value is at the last node
       if (lowerIndex == dataSize - 1) {
@@ -138,14 +146,24 @@ final class TimeSquareCurveInterpolator implements CurveInterpolator, Serializab
 
     @Override
     protected DoubleArray doParameterSensitivity(double xValue) {
+      return doParameterSensitivity(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected DoubleArray doParameterSensitivity(double xValue, int lowerIndex) {
       double[] resultSensitivity = new double[dataSize];
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      doAddParameterSensitivity(xValue, lowerIndex, 1d, resultSensitivity);
+      return DoubleArray.ofUnsafe(resultSensitivity);
+    }
+
+    @Override
+    protected void doAddParameterSensitivity(double xValue, int lowerIndex, double multiplier, double[] accumulator) {
       double x1 = xValues[lowerIndex];
       double y1 = yValues[lowerIndex];
       // check if x-value is at the last node
       if (lowerIndex == dataSize - 1) {
-        resultSensitivity[dataSize - 1] = 1.0;
-        return DoubleArray.ofUnsafe(resultSensitivity);
+        accumulator[dataSize - 1] += multiplier;
+        return;
       }
 
       int higherIndex = lowerIndex + 1;
@@ -166,9 +184,8 @@ final class TimeSquareCurveInterpolator implements CurveInterpolator, Serializab
       double xy22Bar = (1 - w) * xy2Bar;
       double y2Bar = 2 * x2 * y2 * xy22Bar;
       double y1Bar = 2 * x1 * y1 * xy21Bar;
-      resultSensitivity[lowerIndex] = y1Bar;
-      resultSensitivity[lowerIndex + 1] = y2Bar;
-      return DoubleArray.ofUnsafe(resultSensitivity);
+      accumulator[lowerIndex] += y1Bar * multiplier;
+      accumulator[lowerIndex + 1] += y2Bar * multiplier;
     }
 
     @Override
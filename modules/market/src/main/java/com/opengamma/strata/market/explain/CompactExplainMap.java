@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.explain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * A compact form of the map of explanatory values.
+ * <p>
+ * This stores the same information as {@link ExplainMap} in a columnar form.
+ * Each call made to the builder is recorded as a row, with the operation held in a byte array,
+ * the key held by reference, and the value held in either a primitive {@code double} column
+ * or an object column. No intermediate maps, lists or boxed numbers are created.
+ * <p>
+ * This is intended for producing the explanation of a large number of trades, such as for an audit
+ * of a whole book, where only a small number of explanations will ever be examined in detail.
+ * The full {@code ExplainMap} is created lazily by {@link #toExplainMap()}.
+ * <p>
+ * Instances are created using {@link #builder()}, which returns a builder that records
+ * into this form, and {@link ExplainMapBuilder#buildCompact()}.
+ */
+public final class CompactExplainMap {
+
+  /** Operation to put a double value. */
+  private static final byte PUT_DOUBLE = 0;
+  /** Operation to put an object value. */
+  private static final byte PUT_OBJECT = 1;
+  /** Operation to open a list entry. */
+  private static final byte OPEN = 2;
+  /** Operation to open a list entry with an index. */
+  private static final byte OPEN_INDEXED = 3;
+  /** Operation to close a list entry. */
+  private static final byte CLOSE = 4;
+
+  /**
+   * The operation of each row.
+   */
+  private final byte[] operations;
+  /**
+   * The key of each row.
+   */
+  private final ExplainKey<?>[] keys;
+  /**
+   * The double values, one for each row with a double value.
+   */
+  private final double[] doubles;
+  /**
+   * The object values, one for each row with an object value.
+   */
+  private final Object[] objects;
+  /**
+   * The expanded form, created lazily.
+   */
+  private volatile ExplainMap expanded;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a builder that records in compact form.
+   * <p>
+   * The builder has the same behavior as {@link ExplainMap#builder()}, except that
+   * the methods that open and close list entries return the same builder instance.
+   * The result is obtained using {@link ExplainMapBuilder#buildCompact()}.
+   *
+   * @return the builder
+   */
+  public static ExplainMapBuilder builder() {
+    return new ExplainMapBuilder(new Recorder());
+  }
+
+  // creates an instance
+  private CompactExplainMap(byte[] operations, ExplainKey<?>[] keys, double[] doubles, Object[] objects) {
+    this.operations = operations;
+    this.keys = keys;
+    this.doubles = doubles;
+    this.objects = objects;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of recorded rows.
+   * <p>
+   * Each value put, and each list entry opened or closed, is one row.
+   *
+   * @return the number of rows
+   */
+  public int size() {
+    return operations.length;
+  }
+
+  /**
+   * Gets a top-level value by key.
+   * <p>
+   * This matches {@link ExplainMap#get(ExplainKey)} without creating the map.
+   * Values within list entries are not returned.
+   *
+   * @param <R>  the type of the key
+   * @param key  the key to lookup
+   * @return the value associated with the key
+   */
+  @SuppressWarnings("unchecked")
+  public <R> Optional<R> get(ExplainKey<R> key) {
+    Object found = null;
+    int depth = 0;
+    int doubleIndex = 0;
+    int objectIndex = 0;
+    for (int i = 0; i < operations.length; i++) {
+      switch (operations[i]) {
+        case PUT_DOUBLE:
+          if (depth == 0 && keys[i].equals(key)) {
+            found = doubles[doubleIndex];
+          }
+          doubleIndex++;
+          break;
+        case PUT_OBJECT:
+          if (depth == 0 && keys[i].equals(key)) {
+            found = objects[objectIndex];
+          }
+          objectIndex++;
+          break;
+        case CLOSE:
+          depth--;
+          break;
+        default:
+          if (depth == 0 && keys[i].equals(key)) {
+            // a list is present, which requires the full map
+            return toExplainMap().get(key);
+          }
+          depth++;
+          break;
+      }
+    }
+    return Optional.ofNullable((R) found);
+  }
+
+  /**
+   * Gets all double values associated with the key, at any depth.
+   * <p>
+   * This returns the column of values for the key, in the order they were recorded.
+   * For example, this could be used to obtain the discount factor of every payment period.
+   *
+   * @param key  the key to lookup
+   * @return the values associated with the key
+   */
+  public DoubleArray getDoubles(ExplainKey<Double> key) {
+    double[] result = new double[doubles.length];
+    int size = 0;
+    int doubleIndex = 0;
+    for (int i = 0; i < operations.length; i++) {
+      if (operations[i] == PUT_DOUBLE) {
+        if (keys[i].equals(key)) {
+          result[size++] = doubles[doubleIndex];
+        }
+        doubleIndex++;
+      }
+    }
+    return DoubleArray.ofUnsafe(Arrays.copyOf(result, size));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Converts this compact form to an {@code ExplainMap}.
+   * <p>
+   * The map is created on first use and then retained.
+   * The result is equal to that which would have been produced using {@link ExplainMap#builder()}.
+   *
+   * @return the explanatory map
+   */
+  public ExplainMap toExplainMap() {
+    ExplainMap result = expanded;
+    if (result == null) {
+      result = expand();
+      expanded = result;
+    }
+    return result;
+  }
+
+  // replays the rows into a standard builder
+  @SuppressWarnings("unchecked")
+  private ExplainMap expand() {
+    ExplainMapBuilder builder = ExplainMap.builder();
+    int doubleIndex = 0;
+    int objectIndex = 0;
+    for (int i = 0; i < operations.length; i++) {
+      switch (operations[i]) {
+        case PUT_DOUBLE:
+          builder.put((ExplainKey<Double>) keys[i], Double.valueOf(doubles[doubleIndex++]));
+          break;
+        case PUT_OBJECT:
+          builder.put((ExplainKey<Object>) keys[i], objects[objectIndex++]);
+          break;
+        case OPEN:
+          builder = builder.openListEntry((ExplainKey<List<?>>) keys[i]);
+          break;
+        case OPEN_INDEXED:
+          builder = builder.openListEntryWithIndex((ExplainKey<List<?>>) keys[i]);
+          break;
+        default:
+          builder = builder.closeListEntry((ExplainKey<List<?>>) keys[i]);
+          break;
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Gets the explanation as a string.
+   * <p>
+   * This returns the same string as {@link ExplainMap#explanationString()}.
+   *
+   * @return the explanation as a string
+   */
+  public String explanationString() {
+    return toExplainMap().explanationString();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CompactExplainMap[size=" + operations.length + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Mutable recorder used by {@link ExplainMapBuilder}.
+   * <p>
+   * This appends to growable arrays, using a stack of open rows to validate the closing of list entries.
+   */
+  static final class Recorder {
+    private byte[] operations = new byte[64];
+    private ExplainKey<?>[] keys = new ExplainKey<?>[64];
+    private int size;
+    private double[] doubles = new double[32];
+    private int doubleSize;
+    private Object[] objects = new Object[32];
+    private int objectSize;
+    private int[] openRows = new int[8];
+    private int depth;
+
+    // records a value
+    void put(ExplainKey<?> key, Object value) {
+      if (value instanceof Double) {
+        put(key, ((Double) value).doubleValue());
+      } else {
+        if (objectSize == objects.length) {
+          objects = Arrays.copyOf(objects, objectSize * 2);
+        }
+        objects[objectSize++] = value;
+        add(PUT_OBJECT, key);
+      }
+    }
+
+    // records a double value
+    void put(ExplainKey<?> key, double value) {
+      if (doubleSize == doubles.length) {
+        doubles = Arrays.copyOf(doubles, doubleSize * 2);
+      }
+      doubles[doubleSize++] = value;
+      add(PUT_DOUBLE, key);
+    }
+
+    // records the opening of a list entry
+    void open(ExplainKey<?> key, boolean indexed) {
+      if (depth == openRows.length) {
+        openRows = Arrays.copyOf(openRows, depth * 2);
+      }
+      openRows[depth++] = size;
+      add(indexed ? OPEN_INDEXED : OPEN, key);
+    }
+
+    // records the closing of a list entry
+    void close(ExplainKey<?> key) {
+      if (depth == 0 || !keys[openRows[depth - 1]].equals(key)) {
+        throw new IllegalStateException("ExplainMapBuilder.closeList() called but no list found to close");
+      }
+      depth--;
+      add(CLOSE, key);
+    }
+
+    // adds a row
+    private void add(byte operation, ExplainKey<?> key) {
+      if (size == operations.length) {
+        operations = Arrays.copyOf(operations, size * 2);
+        keys = Arrays.copyOf(keys, size * 2);
+      }
+      operations[size] = operation;
+      keys[size] = key;
+      size++;
+    }
+
+    // builds the compact map, trimming the arrays
+    CompactExplainMap build() {
+      if (depth != 0) {
+        throw new IllegalStateException("ExplainMapBuilder.buildCompact() called but list entry has not been closed");
+      }
+      return new CompactExplainMap(
+          Arrays.copyOf(operations, size),
+          Arrays.copyOf(keys, size),
+          Arrays.copyOf(doubles, doubleSize),
+          Arrays.copyOf(objects, objectSize));
+    }
+  }
+
+}
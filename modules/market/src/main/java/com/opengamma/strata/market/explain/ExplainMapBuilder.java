@@ -17,6 +17,10 @@ import com.opengamma.strata.collect.ArgChecker;
  * A builder for the map of explanatory values.
  * <p>
  * This is a mutable builder for {@link ExplainMap} that must be used from a single thread.
+ * <p>
+ * A builder obtained from {@link CompactExplainMap#builder()} records the values in compact form
+ * instead of creating nested maps. In that case, the methods that open and close list entries
+ * return the same builder instance.
  */
 public final class ExplainMapBuilder {
 
@@ -27,13 +31,19 @@ public final class ExplainMapBuilder {
   /**
    * The map of explanatory values.
    */
-  private final Map<ExplainKey<?>, Object> map = new LinkedHashMap<>();
+  private final Map<ExplainKey<?>, Object> map;
+  /**
+   * The compact recorder, null unless recording in compact form.
+   */
+  private final CompactExplainMap.Recorder recorder;
 
   /**
    * Creates a new instance.
    */
   ExplainMapBuilder() {
     this.parent = null;
+    this.map = new LinkedHashMap<>();
+    this.recorder = null;
   }
 
   /**
@@ -43,6 +53,19 @@ public final class ExplainMapBuilder {
    */
   ExplainMapBuilder(ExplainMapBuilder parent) {
     this.parent = parent;
+    this.map = new LinkedHashMap<>();
+    this.recorder = null;
+  }
+
+  /**
+   * Creates a new instance that records in compact form.
+   * 
+   * @param recorder  the recorder
+   */
+  ExplainMapBuilder(CompactExplainMap.Recorder recorder) {
+    this.parent = null;
+    this.map = null;
+    this.recorder = recorder;
   }
 
   //-------------------------------------------------------------------------
@@ -63,6 +86,10 @@ public final class ExplainMapBuilder {
    */
   @SuppressWarnings("unchecked")
   public <R extends List<?>> ExplainMapBuilder openListEntry(ExplainKey<R> key) {
+    if (recorder != null) {
+      recorder.open(key, false);
+      return this;
+    }
     // list entry is a ExplainMapBuilder, making use of erasure in generics
     // builder is converted to ExplainMap when entry is closed
     ExplainMapBuilder child = new ExplainMapBuilder(this);
@@ -88,6 +115,10 @@ public final class ExplainMapBuilder {
    * @return the parent builder
    */
   public <R extends List<?>> ExplainMapBuilder closeListEntry(ExplainKey<R> key) {
+    if (recorder != null) {
+      recorder.close(key);
+      return this;
+    }
     Object value = parent.map.get(key);
     if (value instanceof ArrayList == false) {
       throw new IllegalStateException("ExplainMapBuilder.closeList() called but no list found to close");
@@ -132,14 +163,25 @@ public final class ExplainMapBuilder {
    * @return this builder
    */
   public <R extends List<?>> ExplainMapBuilder addListEntryWithIndex(ExplainKey<R> key, Consumer<ExplainMapBuilder> consumer) {
+    ExplainMapBuilder child = openListEntryWithIndex(key);
+    consumer.accept(child);
+    return child.closeListEntry(key);
+  }
+
+  // opens a list entry, adding the index of the entry within the list
+  <R extends List<?>> ExplainMapBuilder openListEntryWithIndex(ExplainKey<R> key) {
+    if (recorder != null) {
+      // index is determined when the compact form is expanded
+      recorder.open(key, true);
+      return this;
+    }
     ExplainMapBuilder child = openListEntry(key);
     // find index
     Object value = map.get(key);
     @SuppressWarnings("unchecked")
     ArrayList<Object> list = (ArrayList<Object>) value;
     child.put(ExplainKey.ENTRY_INDEX, list.size() - 1);
-    consumer.accept(child);
-    return child.closeListEntry(key);
+    return child;
   }
 
   //-------------------------------------------------------------------------
@@ -156,7 +198,31 @@ public final class ExplainMapBuilder {
   public <R> ExplainMapBuilder put(ExplainKey<R> key, R value) {
     ArgChecker.notNull(key, "key");
     ArgChecker.notNull(value, "value");
-    map.put(key, value);
+    if (recorder != null) {
+      recorder.put(key, value);
+    } else {
+      map.put(key, value);
+    }
+    return this;
+  }
+
+  /**
+   * Puts a single {@code double} value into the map.
+   * <p>
+   * If the key already exists, the value will be replaced.
+   * When recording in compact form, this avoids boxing the value.
+   * 
+   * @param key  the key to add
+   * @param value  the value to add
+   * @return this builder
+   */
+  public ExplainMapBuilder put(ExplainKey<Double> key, double value) {
+    ArgChecker.notNull(key, "key");
+    if (recorder != null) {
+      recorder.put(key, value);
+    } else {
+      map.put(key, value);
+    }
     return this;
   }
 
@@ -167,7 +233,25 @@ public final class ExplainMapBuilder {
    * @return the resulting map
    */
   public ExplainMap build() {
+    if (recorder != null) {
+      return recorder.build().toExplainMap();
+    }
     return ExplainMap.of(map);
   }
 
+  /**
+   * Builds the compact form of the map.
+   * <p>
+   * This is only available on a builder obtained from {@link CompactExplainMap#builder()}.
+   * 
+   * @return the resulting compact map
+   * @throws IllegalStateException if the builder does not record in compact form
+   */
+  public CompactExplainMap buildCompact() {
+    if (recorder == null) {
+      throw new IllegalStateException("ExplainMapBuilder.buildCompact() called on builder not from CompactExplainMap.builder()");
+    }
+    return recorder.build();
+  }
+
 }
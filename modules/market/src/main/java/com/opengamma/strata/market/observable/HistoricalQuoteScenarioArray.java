@@ -0,0 +1,698 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.observable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableConstructor;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.market.ShiftType;
+
+/**
+ * Container for values for an item of quoted market data in multiple scenarios,
+ * derived from a historical time series.
+ * <p>
+ * This is an alternative to {@link QuoteScenarioArray} where the quotes in each scenario
+ * are derived from a time series of historical values, such as for historical VaR.
+ * The quotes are not stored, instead they are read from the time series when the scenarios are accessed.
+ * The values of the time series are read in blocks of consecutive scenarios, and only a small
+ * number of blocks are retained, thus the memory used does not grow with the number of scenarios.
+ * <p>
+ * There are two ways to derive the quotes:
+ * <ul>
+ * <li>levels - the quote in each scenario is the value in the time series on each date</li>
+ * <li>returns - the quote in each scenario is the base value shifted by the return
+ *  observed in the time series over the horizon, as defined by {@link ShiftType#computeShift(double, double)}</li>
+ * </ul>
+ * The scenarios use a window of the time series, defined by the start date and the number of scenarios.
+ * The first scenario uses the first observation on or after the start date.
+ * <p>
+ * A {@link QuoteScenarioValuesId} applied to market data containing this array returns this array,
+ * thus the quotes are only calculated when the scenarios are accessed.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+@BeanDefinition(builderScope = "private")
+public final class HistoricalQuoteScenarioArray
+    implements ScenarioArray<Double>, ImmutableBean, Serializable {
+
+  /**
+   * The number of scenarios whose values are read from the time series at once.
+   */
+  private static final int BLOCK_SIZE = 256;
+  /**
+   * The number of blocks retained.
+   */
+  private static final int BLOCK_SLOTS = 4;
+
+  /**
+   * The time series of historical values.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final LocalDateDoubleTimeSeries timeSeries;
+  /**
+   * The start date of the window, the first scenario uses the first observation on or after this date.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final LocalDate startDate;
+  /**
+   * The number of scenarios.
+   */
+  @PropertyDefinition(overrideGet = true)
+  private final int scenarioCount;
+  /**
+   * The type of return applied to the base value, empty if the scenarios are the levels of the time series.
+   */
+  @PropertyDefinition(get = "optional")
+  private final ShiftType returnType;
+  /**
+   * The base value that the returns are applied to, zero if the scenarios are the levels of the time series.
+   */
+  @PropertyDefinition
+  private final double baseValue;
+  /**
+   * The number of observations in the time series over which each return is measured,
+   * zero if the scenarios are the levels of the time series.
+   */
+  @PropertyDefinition
+  private final int horizon;
+  /**
+   * The index of the first observation of the window in the time series.
+   */
+  private final transient int startOffset;  // not a property, derived from input data
+  /**
+   * The blocks of values read from the time series, indexed by block index modulo the number of slots.
+   */
+  private final transient AtomicReferenceArray<Block> blocks;  // not a property, derived from input data
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance where the quote in each scenario is a value in the time series.
+   * <p>
+   * The number of scenarios is the size of the time series.
+   *
+   * @param timeSeries  the time series of historical values
+   * @return the scenario array
+   */
+  public static HistoricalQuoteScenarioArray ofLevels(LocalDateDoubleTimeSeries timeSeries) {
+    return ofLevels(timeSeries, earliestDate(timeSeries), timeSeries.size());
+  }
+
+  /**
+   * Obtains an instance where the quote in each scenario is a value in a window of the time series.
+   * <p>
+   * The quote of scenario {@code i} is the value of observation {@code i} counting from the start date.
+   *
+   * @param timeSeries  the time series of historical values
+   * @param startDate  the start date of the window
+   * @param scenarioCount  the number of scenarios
+   * @return the scenario array
+   */
+  public static HistoricalQuoteScenarioArray ofLevels(
+      LocalDateDoubleTimeSeries timeSeries,
+      LocalDate startDate,
+      int scenarioCount) {
+
+    return new HistoricalQuoteScenarioArray(timeSeries, startDate, scenarioCount, null, 0d, 0);
+  }
+
+  /**
+   * Obtains an instance where the quote in each scenario is the base value shifted by a historical return.
+   * <p>
+   * The return of scenario {@code i} is measured between the value at observation {@code i}
+   * and the value at observation {@code i + horizon} in the time series, using {@link ShiftType#computeShift}.
+   * The return is then applied to the base value using {@link ShiftType#applyShift}.
+   * The number of scenarios is the size of the time series minus the horizon.
+   *
+   * @param timeSeries  the time series of historical values
+   * @param returnType  the type of the return, such as relative or absolute
+   * @param baseValue  the base value to apply the returns to, typically the current quote
+   * @param horizon  the number of observations over which each return is measured, one for daily returns
+   * @return the scenario array
+   */
+  public static HistoricalQuoteScenarioArray ofReturns(
+      LocalDateDoubleTimeSeries timeSeries,
+      ShiftType returnType,
+      double baseValue,
+      int horizon) {
+
+    return ofReturns(timeSeries, earliestDate(timeSeries), timeSeries.size() - horizon, returnType, baseValue, horizon);
+  }
+
+  /**
+   * Obtains an instance where the quote in each scenario is the base value shifted by
+   * a historical return in a window of the time series.
+   * <p>
+   * The return of scenario {@code i} is measured between observation {@code i} and
+   * observation {@code i + horizon}, counting from the start date, using {@link ShiftType#computeShift}.
+   * The return is then applied to the base value using {@link ShiftType#applyShift}.
+   * The time series must contain the horizon number of observations after the window.
+   *
+   * @param timeSeries  the time series of historical values
+   * @param startDate  the start date of the window
+   * @param scenarioCount  the number of scenarios
+   * @param returnType  the type of the return, such as relative or absolute
+   * @param baseValue  the base value to apply the returns to, typically the current quote
+   * @param horizon  the number of observations over which each return is measured, one for daily returns
+   * @return the scenario array
+   */
+  public static HistoricalQuoteScenarioArray ofReturns(
+      LocalDateDoubleTimeSeries timeSeries,
+      LocalDate startDate,
+      int scenarioCount,
+      ShiftType returnType,
+      double baseValue,
+      int horizon) {
+
+    ArgChecker.notNull(returnType, "returnType");
+    return new HistoricalQuoteScenarioArray(timeSeries, startDate, scenarioCount, returnType, baseValue, horizon);
+  }
+
+  // finds the default start date of the window
+  private static LocalDate earliestDate(LocalDateDoubleTimeSeries timeSeries) {
+    ArgChecker.notNull(timeSeries, "timeSeries");
+    ArgChecker.isFalse(timeSeries.isEmpty(), "Time series must not be empty");
+    return timeSeries.getEarliestDate();
+  }
+
+  @ImmutableConstructor
+  private HistoricalQuoteScenarioArray(
+      LocalDateDoubleTimeSeries timeSeries,
+      LocalDate startDate,
+      int scenarioCount,
+      ShiftType returnType,
+      double baseValue,
+      int horizon) {
+    JodaBeanUtils.notNull(timeSeries, "timeSeries");
+    JodaBeanUtils.notNull(startDate, "startDate");
+    ArgChecker.notNegativeOrZero(scenarioCount, "scenarioCount");
+    if (returnType == null) {
+      ArgChecker.isTrue(horizon == 0, "Horizon must be zero when using levels");
+      ArgChecker.isTrue(baseValue == 0d, "Base value must be zero when using levels");
+    } else {
+      ArgChecker.notNegativeOrZero(horizon, "horizon");
+    }
+    int startOffset = (int) timeSeries.dates().filter(date -> date.isBefore(startDate)).count();
+    ArgChecker.isTrue(
+        startOffset + scenarioCount + horizon <= timeSeries.size(),
+        "Time series must contain {} values from {}, but contained {}",
+        scenarioCount + horizon,
+        startDate,
+        timeSeries.size() - startOffset);
+    this.timeSeries = timeSeries;
+    this.startDate = startDate;
+    this.scenarioCount = scenarioCount;
+    this.returnType = returnType;
+    this.baseValue = baseValue;
+    this.horizon = horizon;
+    this.startOffset = startOffset;
+    this.blocks = new AtomicReferenceArray<>(BLOCK_SLOTS);
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new HistoricalQuoteScenarioArray(timeSeries, startDate, scenarioCount, returnType, baseValue, horizon);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Double get(int scenarioIndex) {
+    if (scenarioIndex < 0 || scenarioIndex >= scenarioCount) {
+      throw new IndexOutOfBoundsException("Scenario index " + scenarioIndex + " is invalid, scenario count is " + scenarioCount);
+    }
+    return quote(scenarioIndex);
+  }
+
+  @Override
+  public Stream<Double> stream() {
+    return IntStream.range(0, scenarioCount).mapToObj(this::get);
+  }
+
+  /**
+   * Converts this instance to a {@code QuoteScenarioArray}, calculating the quotes of every scenario.
+   *
+   * @return the quotes of every scenario
+   */
+  public QuoteScenarioArray toQuoteScenarioArray() {
+    return QuoteScenarioArray.of(DoubleArray.of(scenarioCount, this::quote));
+  }
+
+  // calculates the quote of a scenario
+  private double quote(int scenarioIndex) {
+    double[] values = block(scenarioIndex / BLOCK_SIZE).values;
+    int index = scenarioIndex % BLOCK_SIZE;
+    if (returnType == null) {
+      return values[index];
+    }
+    double shift = returnType.computeShift(values[index], values[index + horizon]);
+    return returnType.applyShift(baseValue, shift);
+  }
+
+  // obtains the block, reading the values from the time series if the block is not retained
+  private Block block(int blockIndex) {
+    int slot = blockIndex % BLOCK_SLOTS;
+    Block block = blocks.get(slot);
+    if (block == null || block.index != blockIndex) {
+      int first = blockIndex * BLOCK_SIZE;
+      int count = Math.min(BLOCK_SIZE, scenarioCount - first) + horizon;
+      double[] values = timeSeries.values().skip(startOffset + first).limit(count).toArray();
+      block = new Block(blockIndex, values);
+      blocks.set(slot, block);
+    }
+    return block;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The values of the time series used by a block of consecutive scenarios.
+   * <p>
+   * The values include the observations after the last scenario of the block needed for the returns.
+   */
+  private static final class Block {
+    private final int index;
+    private final double[] values;
+
+    private Block(int index, double[] values) {
+      this.index = index;
+      this.values = values;
+    }
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code HistoricalQuoteScenarioArray}.
+   * @return the meta-bean, not null
+   */
+  public static HistoricalQuoteScenarioArray.Meta meta() {
+    return HistoricalQuoteScenarioArray.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(HistoricalQuoteScenarioArray.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public HistoricalQuoteScenarioArray.Meta metaBean() {
+    return HistoricalQuoteScenarioArray.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the time series of historical values.
+   * @return the value of the property, not null
+   */
+  public LocalDateDoubleTimeSeries getTimeSeries() {
+    return timeSeries;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the start date of the window, the first scenario uses the first observation on or after this date.
+   * @return the value of the property, not null
+   */
+  public LocalDate getStartDate() {
+    return startDate;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of scenarios.
+   * @return the value of the property
+   */
+  @Override
+  public int getScenarioCount() {
+    return scenarioCount;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the type of return applied to the base value, empty if the scenarios are the levels of the time series.
+   * @return the optional value of the property, not null
+   */
+  public Optional<ShiftType> getReturnType() {
+    return Optional.ofNullable(returnType);
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the base value that the returns are applied to, zero if the scenarios are the levels of the time series.
+   * @return the value of the property
+   */
+  public double getBaseValue() {
+    return baseValue;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of observations in the time series over which each return is measured,
+   * zero if the scenarios are the levels of the time series.
+   * @return the value of the property
+   */
+  public int getHorizon() {
+    return horizon;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      HistoricalQuoteScenarioArray other = (HistoricalQuoteScenarioArray) obj;
+      return JodaBeanUtils.equal(timeSeries, other.timeSeries) &&
+          JodaBeanUtils.equal(startDate, other.startDate) &&
+          (scenarioCount == other.scenarioCount) &&
+          JodaBeanUtils.equal(returnType, other.returnType) &&
+          JodaBeanUtils.equal(baseValue, other.baseValue) &&
+          (horizon == other.horizon);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(timeSeries);
+    hash = hash * 31 + JodaBeanUtils.hashCode(startDate);
+    hash = hash * 31 + JodaBeanUtils.hashCode(scenarioCount);
+    hash = hash * 31 + JodaBeanUtils.hashCode(returnType);
+    hash = hash * 31 + JodaBeanUtils.hashCode(baseValue);
+    hash = hash * 31 + JodaBeanUtils.hashCode(horizon);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(224);
+    buf.append("HistoricalQuoteScenarioArray{");
+    buf.append("timeSeries").append('=').append(JodaBeanUtils.toString(timeSeries)).append(',').append(' ');
+    buf.append("startDate").append('=').append(JodaBeanUtils.toString(startDate)).append(',').append(' ');
+    buf.append("scenarioCount").append('=').append(JodaBeanUtils.toString(scenarioCount)).append(',').append(' ');
+    buf.append("returnType").append('=').append(JodaBeanUtils.toString(returnType)).append(',').append(' ');
+    buf.append("baseValue").append('=').append(JodaBeanUtils.toString(baseValue)).append(',').append(' ');
+    buf.append("horizon").append('=').append(JodaBeanUtils.toString(horizon));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code HistoricalQuoteScenarioArray}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code timeSeries} property.
+     */
+    private final MetaProperty<LocalDateDoubleTimeSeries> timeSeries = DirectMetaProperty.ofImmutable(
+        this, "timeSeries", HistoricalQuoteScenarioArray.class, LocalDateDoubleTimeSeries.class);
+    /**
+     * The meta-property for the {@code startDate} property.
+     */
+    private final MetaProperty<LocalDate> startDate = DirectMetaProperty.ofImmutable(
+        this, "startDate", HistoricalQuoteScenarioArray.class, LocalDate.class);
+    /**
+     * The meta-property for the {@code scenarioCount} property.
+     */
+    private final MetaProperty<Integer> scenarioCount = DirectMetaProperty.ofImmutable(
+        this, "scenarioCount", HistoricalQuoteScenarioArray.class, Integer.TYPE);
+    /**
+     * The meta-property for the {@code returnType} property.
+     */
+    private final MetaProperty<ShiftType> returnType = DirectMetaProperty.ofImmutable(
+        this, "returnType", HistoricalQuoteScenarioArray.class, ShiftType.class);
+    /**
+     * The meta-property for the {@code baseValue} property.
+     */
+    private final MetaProperty<Double> baseValue = DirectMetaProperty.ofImmutable(
+        this, "baseValue", HistoricalQuoteScenarioArray.class, Double.TYPE);
+    /**
+     * The meta-property for the {@code horizon} property.
+     */
+    private final MetaProperty<Integer> horizon = DirectMetaProperty.ofImmutable(
+        this, "horizon", HistoricalQuoteScenarioArray.class, Integer.TYPE);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "timeSeries",
+        "startDate",
+        "scenarioCount",
+        "returnType",
+        "baseValue",
+        "horizon");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 779431844:  // timeSeries
+          return timeSeries;
+        case -2129778896:  // startDate
+          return startDate;
+        case -1203198113:  // scenarioCount
+          return scenarioCount;
+        case 1337206922:  // returnType
+          return returnType;
+        case -1825295072:  // baseValue
+          return baseValue;
+        case 1097468315:  // horizon
+          return horizon;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends HistoricalQuoteScenarioArray> builder() {
+      return new HistoricalQuoteScenarioArray.Builder();
+    }
+
+    @Override
+    public Class<? extends HistoricalQuoteScenarioArray> beanType() {
+      return HistoricalQuoteScenarioArray.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code timeSeries} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<LocalDateDoubleTimeSeries> timeSeries() {
+      return timeSeries;
+    }
+
+    /**
+     * The meta-property for the {@code startDate} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<LocalDate> startDate() {
+      return startDate;
+    }
+
+    /**
+     * The meta-property for the {@code scenarioCount} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> scenarioCount() {
+      return scenarioCount;
+    }
+
+    /**
+     * The meta-property for the {@code returnType} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ShiftType> returnType() {
+      return returnType;
+    }
+
+    /**
+     * The meta-property for the {@code baseValue} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Double> baseValue() {
+      return baseValue;
+    }
+
+    /**
+     * The meta-property for the {@code horizon} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> horizon() {
+      return horizon;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case 779431844:  // timeSeries
+          return ((HistoricalQuoteScenarioArray) bean).getTimeSeries();
+        case -2129778896:  // startDate
+          return ((HistoricalQuoteScenarioArray) bean).getStartDate();
+        case -1203198113:  // scenarioCount
+          return ((HistoricalQuoteScenarioArray) bean).getScenarioCount();
+        case 1337206922:  // returnType
+          return ((HistoricalQuoteScenarioArray) bean).returnType;
+        case -1825295072:  // baseValue
+          return ((HistoricalQuoteScenarioArray) bean).getBaseValue();
+        case 1097468315:  // horizon
+          return ((HistoricalQuoteScenarioArray) bean).getHorizon();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code HistoricalQuoteScenarioArray}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<HistoricalQuoteScenarioArray> {
+
+    private LocalDateDoubleTimeSeries timeSeries;
+    private LocalDate startDate;
+    private int scenarioCount;
+    private ShiftType returnType;
+    private double baseValue;
+    private int horizon;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 779431844:  // timeSeries
+          return timeSeries;
+        case -2129778896:  // startDate
+          return startDate;
+        case -1203198113:  // scenarioCount
+          return scenarioCount;
+        case 1337206922:  // returnType
+          return returnType;
+        case -1825295072:  // baseValue
+          return baseValue;
+        case 1097468315:  // horizon
+          return horizon;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case 779431844:  // timeSeries
+          this.timeSeries = (LocalDateDoubleTimeSeries) newValue;
+          break;
+        case -2129778896:  // startDate
+          this.startDate = (LocalDate) newValue;
+          break;
+        case -1203198113:  // scenarioCount
+          this.scenarioCount = (Integer) newValue;
+          break;
+        case 1337206922:  // returnType
+          this.returnType = (ShiftType) newValue;
+          break;
+        case -1825295072:  // baseValue
+          this.baseValue = (Double) newValue;
+          break;
+        case 1097468315:  // horizon
+          this.horizon = (Integer) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public HistoricalQuoteScenarioArray build() {
+      return new HistoricalQuoteScenarioArray(
+          timeSeries,
+          startDate,
+          scenarioCount,
+          returnType,
+          baseValue,
+          horizon);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(224);
+      buf.append("HistoricalQuoteScenarioArray.Builder{");
+      buf.append("timeSeries").append('=').append(JodaBeanUtils.toString(timeSeries)).append(',').append(' ');
+      buf.append("startDate").append('=').append(JodaBeanUtils.toString(startDate)).append(',').append(' ');
+      buf.append("scenarioCount").append('=').append(JodaBeanUtils.toString(scenarioCount)).append(',').append(' ');
+      buf.append("returnType").append('=').append(JodaBeanUtils.toString(returnType)).append(',').append(' ');
+      buf.append("baseValue").append('=').append(JodaBeanUtils.toString(baseValue)).append(',').append(' ');
+      buf.append("horizon").append('=').append(JodaBeanUtils.toString(horizon));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
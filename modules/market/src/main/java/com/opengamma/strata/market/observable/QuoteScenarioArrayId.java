@@ -26,6 +26,7 @@ import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.FieldName;
 import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketDataId;
 
 /**
@@ -73,6 +74,15 @@ public final class QuoteScenarioArrayId
 
   @Override
   public QuoteScenarioArray createScenarioValue(MarketDataBox<Double> marketDataBox, int scenarioCount) {
+    if (marketDataBox.isScenarioValue() && marketDataBox.getScenarioCount() == scenarioCount) {
+      ScenarioArray<Double> scenarioValue = marketDataBox.getScenarioValue();
+      if (scenarioValue instanceof QuoteScenarioArray) {
+        return (QuoteScenarioArray) scenarioValue;
+      }
+      if (scenarioValue instanceof HistoricalQuoteScenarioArray) {
+        return ((HistoricalQuoteScenarioArray) scenarioValue).toQuoteScenarioArray();
+      }
+    }
     return QuoteScenarioArray.of(DoubleArray.of(scenarioCount, i -> marketDataBox.getValue(i)));
   }
 
@@ -6,6 +6,7 @@
 package com.opengamma.strata.market.param;
 
 import static com.opengamma.strata.basics.currency.MultiCurrencyAmount.toMultiCurrencyAmount;
+import static java.util.stream.Collector.Characteristics.UNORDERED;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -16,6 +17,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.DoubleUnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import org.joda.beans.Bean;
@@ -88,6 +90,35 @@ public final class CrossGammaParameterSensitivities
     return EMPTY;
   }
 
+  /**
+   * Returns an accumulator that can be used to sum many instances of {@code CrossGammaParameterSensitivities}.
+   * <p>
+   * The accumulator sums the sensitivities of each currency into a single block matrix,
+   * as described in {@link CrossGammaParameterSensitivitiesAccumulator}.
+   * 
+   * @return the accumulator
+   */
+  public static CrossGammaParameterSensitivitiesAccumulator accumulator() {
+    return new CrossGammaParameterSensitivitiesAccumulator();
+  }
+
+  /**
+   * Returns a collector that combines sensitivities.
+   * <p>
+   * The sensitivities are combined using a single {@link CrossGammaParameterSensitivitiesAccumulator}
+   * for each thread. The collector may be used with a parallel stream.
+   *
+   * @return a collector that can combine sensitivities
+   */
+  public static Collector<CrossGammaParameterSensitivities, ?, CrossGammaParameterSensitivities> toCombinedSensitivities() {
+    return Collector.of(
+        CrossGammaParameterSensitivities::accumulator,
+        CrossGammaParameterSensitivitiesAccumulator::add,
+        CrossGammaParameterSensitivitiesAccumulator::combine,
+        CrossGammaParameterSensitivitiesAccumulator::build,
+        UNORDERED);
+  }
+
   /**
    * Obtains an instance from a single sensitivity entry.
    * 
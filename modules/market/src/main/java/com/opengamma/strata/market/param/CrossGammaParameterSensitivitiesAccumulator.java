@@ -0,0 +1,273 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
+
+/**
+ * Mutable accumulator for {@code CrossGammaParameterSensitivities}.
+ * <p>
+ * This is used to sum a large number of cross-gamma sensitivities, such as those of every trade in a book.
+ * For each currency, the values are summed in place into a single square block matrix,
+ * where each market data name occupies a known range of rows and columns.
+ * The immutable {@code CrossGammaParameterSensitivity} instances are only created by {@link #build()}.
+ * <p>
+ * The market data names are added to the block matrix in the order they are first seen.
+ * Each sensitivity in the result has one row for each parameter of its market data name and one
+ * column for each parameter of every market data name seen in the same currency, in that order.
+ * Thus, if every sensitivity added has the same order, the result is the same as repeatedly calling
+ * {@link CrossGammaParameterSensitivities#combinedWith(CrossGammaParameterSensitivities)}.
+ * Where the orders differ, the missing columns are filled with zero.
+ * <p>
+ * The parameter metadata of the first sensitivity added for each market data name is used in the result.
+ * The parameter count of each market data name is checked, but the parameter metadata is not.
+ * <p>
+ * This class is mutable and not thread-safe. To aggregate in parallel, use one instance
+ * per thread and then {@linkplain #combine(CrossGammaParameterSensitivitiesAccumulator) combine} them,
+ * or use {@link CrossGammaParameterSensitivities#toCombinedSensitivities()}.
+ */
+public final class CrossGammaParameterSensitivitiesAccumulator {
+
+  /**
+   * The block matrix for each currency.
+   */
+  private final Map<Currency, Block> blocks = new HashMap<>();
+
+  //-------------------------------------------------------------------------
+  // restricted constructor
+  CrossGammaParameterSensitivitiesAccumulator() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds sensitivities to the accumulator.
+   * <p>
+   * Values with the same market data names and currency will be summed.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count of a market data name differs from an earlier entry
+   */
+  public CrossGammaParameterSensitivitiesAccumulator add(CrossGammaParameterSensitivities sensitivities) {
+    for (CrossGammaParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity, 1d);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a sensitivity to the accumulator.
+   * <p>
+   * Values with the same market data names and currency will be summed.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count of a market data name differs from an earlier entry
+   */
+  public CrossGammaParameterSensitivitiesAccumulator add(CrossGammaParameterSensitivity sensitivity) {
+    return add(sensitivity, 1d);
+  }
+
+  /**
+   * Adds a sensitivity multiplied by a factor to the accumulator.
+   * <p>
+   * Values with the same market data names and currency will be summed.
+   * This is equivalent to adding {@code sensitivity.multipliedBy(factor)}, without creating the multiplied instance.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @param factor  the multiplicative factor
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count of a market data name differs from an earlier entry
+   */
+  public CrossGammaParameterSensitivitiesAccumulator add(CrossGammaParameterSensitivity sensitivity, double factor) {
+    ArgChecker.notNull(sensitivity, "sensitivity");
+    Block block = blocks.computeIfAbsent(sensitivity.getCurrency(), Block::new);
+    Slot rowSlot = block.slot(sensitivity.getMarketDataName(), sensitivity.getParameterMetadata());
+    rowSlot.hasRows = true;
+    DoubleMatrix matrix = sensitivity.getSensitivity();
+    int column = 0;
+    for (Pair<MarketDataName<?>, List<? extends ParameterMetadata>> entry : sensitivity.getOrder()) {
+      Slot columnSlot = block.slot(entry.getFirst(), entry.getSecond());
+      block.add(rowSlot.offset, columnSlot.offset, matrix, column, rowSlot.size, columnSlot.size, factor);
+      column += columnSlot.size;
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Combines the contents of another accumulator into this one.
+   * <p>
+   * This is used to merge the results of accumulation performed in parallel.
+   * The other accumulator is unaffected by this method.
+   *
+   * @param other  the other accumulator
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count of a market data name differs between the accumulators
+   */
+  public CrossGammaParameterSensitivitiesAccumulator combine(CrossGammaParameterSensitivitiesAccumulator other) {
+    for (Block otherBlock : other.blocks.values()) {
+      Block block = blocks.computeIfAbsent(otherBlock.currency, Block::new);
+      // map each slot of the other block to a slot in this block
+      List<Slot> otherSlots = new ArrayList<>(otherBlock.slots.values());
+      List<Slot> slots = new ArrayList<>(otherSlots.size());
+      for (Slot otherSlot : otherSlots) {
+        Slot slot = block.slot(otherSlot.name, otherSlot.metadata);
+        slot.hasRows |= otherSlot.hasRows;
+        slots.add(slot);
+      }
+      for (int i = 0; i < otherSlots.size(); i++) {
+        Slot otherRowSlot = otherSlots.get(i);
+        if (!otherRowSlot.hasRows) {
+          continue;
+        }
+        for (int j = 0; j < otherSlots.size(); j++) {
+          Slot otherColumnSlot = otherSlots.get(j);
+          for (int row = 0; row < otherRowSlot.size; row++) {
+            double[] source = otherBlock.values[otherRowSlot.offset + row];
+            double[] target = block.values[slots.get(i).offset + row];
+            int sourceOffset = otherColumnSlot.offset;
+            int targetOffset = slots.get(j).offset;
+            for (int col = 0; col < otherColumnSlot.size; col++) {
+              target[targetOffset + col] += source[sourceOffset + col];
+            }
+          }
+        }
+      }
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the sensitivities from the accumulated data.
+   * <p>
+   * The accumulator may continue to be used after this method is called.
+   *
+   * @return the sensitivities instance
+   */
+  public CrossGammaParameterSensitivities build() {
+    if (blocks.isEmpty()) {
+      return CrossGammaParameterSensitivities.empty();
+    }
+    List<CrossGammaParameterSensitivity> sensitivities = new ArrayList<>();
+    for (Block block : blocks.values()) {
+      List<Pair<MarketDataName<?>, List<? extends ParameterMetadata>>> order = new ArrayList<>(block.slots.size());
+      for (Slot slot : block.slots.values()) {
+        order.add(Pair.of(slot.name, slot.metadata));
+      }
+      for (Slot slot : block.slots.values()) {
+        if (slot.hasRows) {
+          DoubleMatrix matrix = DoubleMatrix.of(slot.size, block.size, (i, j) -> block.values[slot.offset + i][j]);
+          sensitivities.add(CrossGammaParameterSensitivity.of(slot.name, slot.metadata, order, block.currency, matrix));
+        }
+      }
+    }
+    return CrossGammaParameterSensitivities.of(sensitivities);
+  }
+
+  //-------------------------------------------------------------------------
+  // the block matrix for a single currency
+  private static final class Block {
+    // the currency
+    private final Currency currency;
+    // the location of each market data name, in the order first seen
+    private final Map<MarketDataName<?>, Slot> slots = new LinkedHashMap<>();
+    // the square block matrix, the capacity may exceed the size
+    private double[][] values = new double[0][0];
+    // the number of rows and columns in use
+    private int size;
+
+    private Block(Currency currency) {
+      this.currency = currency;
+    }
+
+    // finds the slot for the name, adding it if necessary
+    private Slot slot(MarketDataName<?> name, List<? extends ParameterMetadata> metadata) {
+      Slot slot = slots.get(name);
+      if (slot == null) {
+        slot = new Slot(name, metadata, size);
+        slots.put(name, slot);
+        ensureCapacity(size + slot.size);
+        size += slot.size;
+      } else {
+        ArgChecker.isTrue(
+            slot.size == metadata.size(),
+            "Cross-gamma sensitivity for {} in {} has {} parameters, expected {}",
+            name,
+            currency,
+            metadata.size(),
+            slot.size);
+      }
+      return slot;
+    }
+
+    // grows the matrix, doubling the capacity to limit the number of copies
+    private void ensureCapacity(int required) {
+      int capacity = values.length;
+      if (required <= capacity) {
+        return;
+      }
+      int newCapacity = Math.max(required, capacity * 2);
+      double[][] newValues = new double[newCapacity][newCapacity];
+      for (int i = 0; i < size; i++) {
+        System.arraycopy(values[i], 0, newValues[i], 0, size);
+      }
+      values = newValues;
+    }
+
+    // adds a sub-block of the matrix
+    private void add(
+        int rowOffset,
+        int columnOffset,
+        DoubleMatrix matrix,
+        int matrixColumn,
+        int rowCount,
+        int columnCount,
+        double factor) {
+
+      for (int i = 0; i < rowCount; i++) {
+        double[] target = values[rowOffset + i];
+        for (int j = 0; j < columnCount; j++) {
+          target[columnOffset + j] += matrix.get(i, matrixColumn + j) * factor;
+        }
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // the location of a single market data name within the block matrix
+  private static final class Slot {
+    // the name
+    private final MarketDataName<?> name;
+    // the metadata, from the first sensitivity
+    private final List<? extends ParameterMetadata> metadata;
+    // the index of the first row and column
+    private final int offset;
+    // the number of parameters
+    private final int size;
+    // whether a sensitivity has been added for the name
+    private boolean hasRows;
+
+    private Slot(MarketDataName<?> name, List<? extends ParameterMetadata> metadata, int offset) {
+      this.name = name;
+      this.metadata = metadata;
+      this.offset = offset;
+      this.size = metadata.size();
+    }
+  }
+
+}
@@ -250,7 +250,8 @@ public final class CrossGammaParameterSensitivity
       return this;
     }
     double fxRate = rateProvider.fxRate(currency, resultCurrency);
-    return mapSensitivity(s -> s * fxRate, resultCurrency);
+    return new CrossGammaParameterSensitivity(
+        marketDataName, parameterMetadata, order, resultCurrency, sensitivity.multipliedBy(fxRate));
   }
 
   //-------------------------------------------------------------------------
@@ -263,7 +264,7 @@ public final class CrossGammaParameterSensitivity
    * @return an instance based on this one, with each sensitivity multiplied by the factor
    */
   public CrossGammaParameterSensitivity multipliedBy(double factor) {
-    return mapSensitivity(s -> s * factor);
+    return withSensitivity(sensitivity.multipliedBy(factor));
   }
 
   /**
@@ -279,12 +280,7 @@ public final class CrossGammaParameterSensitivity
    * @return an instance based on this one, with the operator applied to the sensitivity values
    */
   public CrossGammaParameterSensitivity mapSensitivity(DoubleUnaryOperator operator) {
-    return mapSensitivity(operator, currency);
-  }
-
-  // maps the sensitivities and potentially changes the currency
-  private CrossGammaParameterSensitivity mapSensitivity(DoubleUnaryOperator operator, Currency currency) {
-    return new CrossGammaParameterSensitivity(marketDataName, parameterMetadata, order, currency, sensitivity.map(operator));
+    return withSensitivity(sensitivity.map(operator));
   }
 
   /**
@@ -7,6 +7,7 @@ package com.opengamma.strata.market.param;
 
 import static com.opengamma.strata.basics.currency.MultiCurrencyAmount.toMultiCurrencyAmount;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static java.util.stream.Collector.Characteristics.UNORDERED;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -19,6 +20,7 @@ import java.util.Optional;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import org.joda.beans.Bean;
@@ -108,6 +110,37 @@ public final class CurrencyParameterSensitivities
     return new CurrencyParameterSensitivitiesBuilder();
   }
 
+  /**
+   * Returns an accumulator that can be used to sum many instances of {@code CurrencyParameterSensitivities}.
+   * <p>
+   * The accumulator combines sensitivities using market data name and currency as a key,
+   * as per {@link #combinedWith(CurrencyParameterSensitivities)}.
+   * The parameter metadata is not checked.
+   * 
+   * @return the accumulator
+   */
+  public static CurrencyParameterSensitivitiesAccumulator accumulator() {
+    return new CurrencyParameterSensitivitiesAccumulator();
+  }
+
+  /**
+   * Returns a collector that combines sensitivities.
+   * <p>
+   * The sensitivities are combined as per {@link #combinedWith(CurrencyParameterSensitivities)},
+   * using a single {@link CurrencyParameterSensitivitiesAccumulator} for each thread.
+   * The collector may be used with a parallel stream.
+   *
+   * @return a collector that can combine sensitivities
+   */
+  public static Collector<CurrencyParameterSensitivities, ?, CurrencyParameterSensitivities> toCombinedSensitivities() {
+    return Collector.of(
+        CurrencyParameterSensitivities::accumulator,
+        CurrencyParameterSensitivitiesAccumulator::add,
+        CurrencyParameterSensitivitiesAccumulator::combine,
+        CurrencyParameterSensitivitiesAccumulator::build,
+        UNORDERED);
+  }
+
   /**
    * Obtains an instance from a single sensitivity entry.
    * 
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
+
+/**
+ * Mutable accumulator for {@code CurrencyParameterSensitivities}.
+ * <p>
+ * This is used to sum a large number of sensitivities, such as those of every trade in a book.
+ * The result is the same as repeatedly calling
+ * {@link CurrencyParameterSensitivities#combinedWith(CurrencyParameterSensitivities)},
+ * but each sensitivity is located using a hash lookup and summed in place,
+ * avoiding the creation of an intermediate immutable instance at each step.
+ * <p>
+ * The sensitivities are combined using market data name and currency as a key.
+ * The parameter metadata is not checked, thus the caller must ensure the sensitivities
+ * are compatible with the same metadata and parameter count.
+ * The metadata of the first sensitivity added for each key is used in the result.
+ * <p>
+ * This class is mutable and not thread-safe. To aggregate in parallel, use one instance
+ * per thread and then {@linkplain #combine(CurrencyParameterSensitivitiesAccumulator) combine} them,
+ * or use {@link CurrencyParameterSensitivities#toCombinedSensitivities()}.
+ */
+public final class CurrencyParameterSensitivitiesAccumulator {
+
+  /**
+   * The map of sensitivity data.
+   */
+  private final Map<Pair<MarketDataName<?>, Currency>, Entry> data = new HashMap<>();
+
+  //-------------------------------------------------------------------------
+  // restricted constructor
+  CurrencyParameterSensitivitiesAccumulator() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds sensitivities to the accumulator.
+   * <p>
+   * Values with the same market data name and currency will be summed.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count differs from an existing entry with the same key
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(CurrencyParameterSensitivities sensitivities) {
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity, 1d);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a sensitivity to the accumulator.
+   * <p>
+   * Values with the same market data name and currency will be summed.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count differs from an existing entry with the same key
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(CurrencyParameterSensitivity sensitivity) {
+    return add(sensitivity, 1d);
+  }
+
+  /**
+   * Adds a sensitivity multiplied by a factor to the accumulator.
+   * <p>
+   * Values with the same market data name and currency will be summed.
+   * This is equivalent to adding {@code sensitivity.multipliedBy(factor)}, without creating the multiplied instance.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @param factor  the multiplicative factor
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count differs from an existing entry with the same key
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(CurrencyParameterSensitivity sensitivity, double factor) {
+    ArgChecker.notNull(sensitivity, "sensitivity");
+    Pair<MarketDataName<?>, Currency> key = Pair.of(sensitivity.getMarketDataName(), sensitivity.getCurrency());
+    double[] values = sensitivity.getSensitivity().toArrayUnsafe();
+    Entry entry = data.get(key);
+    if (entry == null) {
+      double[] copy = new double[values.length];
+      for (int i = 0; i < values.length; i++) {
+        copy[i] = values[i] * factor;
+      }
+      data.put(key, new Entry(sensitivity, copy));
+    } else {
+      entry.add(values, factor);
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Combines the contents of another accumulator into this one.
+   * <p>
+   * This is used to merge the results of accumulation performed in parallel.
+   * The other accumulator is unaffected by this method.
+   *
+   * @param other  the other accumulator
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count differs between entries with the same key
+   */
+  public CurrencyParameterSensitivitiesAccumulator combine(CurrencyParameterSensitivitiesAccumulator other) {
+    for (Map.Entry<Pair<MarketDataName<?>, Currency>, Entry> otherEntry : other.data.entrySet()) {
+      Entry otherValue = otherEntry.getValue();
+      Entry entry = data.get(otherEntry.getKey());
+      if (entry == null) {
+        data.put(otherEntry.getKey(), new Entry(otherValue.template, otherValue.values.clone()));
+      } else {
+        entry.add(otherValue.values, 1d);
+      }
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the sensitivities from the accumulated data.
+   * <p>
+   * The accumulator may continue to be used after this method is called.
+   *
+   * @return the sensitivities instance
+   */
+  public CurrencyParameterSensitivities build() {
+    if (data.isEmpty()) {
+      return CurrencyParameterSensitivities.empty();
+    }
+    List<CurrencyParameterSensitivity> sensitivities = new ArrayList<>(data.size());
+    for (Entry entry : data.values()) {
+      sensitivities.add(entry.template.withSensitivity(DoubleArray.copyOf(entry.values)));
+    }
+    return CurrencyParameterSensitivities.of(sensitivities);
+  }
+
+  //-------------------------------------------------------------------------
+  // the accumulated values for a single market data name and currency
+  private static final class Entry {
+    // the first sensitivity added, providing the metadata
+    private final CurrencyParameterSensitivity template;
+    // the summed values
+    private final double[] values;
+
+    private Entry(CurrencyParameterSensitivity template, double[] values) {
+      this.template = template;
+      this.values = values;
+    }
+
+    private void add(double[] addition, double factor) {
+      ArgChecker.isTrue(
+          addition.length == values.length,
+          "Sensitivity for {} in {} has {} parameters, expected {}",
+          template.getMarketDataName(),
+          template.getCurrency(),
+          addition.length,
+          values.length);
+      for (int i = 0; i < values.length; i++) {
+        values[i] += addition[i] * factor;
+      }
+    }
+  }
+
+}
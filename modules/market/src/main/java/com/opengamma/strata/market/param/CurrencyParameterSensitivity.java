@@ -324,7 +324,8 @@ public final class CurrencyParameterSensitivity
       return this;
     }
     double fxRate = rateProvider.fxRate(currency, resultCurrency);
-    return mapSensitivity(s -> s * fxRate, resultCurrency);
+    return new CurrencyParameterSensitivity(
+        marketDataName, parameterMetadata, resultCurrency, sensitivity.multipliedBy(fxRate), parameterSplit);
   }
 
   //-------------------------------------------------------------------------
@@ -337,7 +338,7 @@ public final class CurrencyParameterSensitivity
    * @return an instance based on this one, with each sensitivity multiplied by the factor
    */
   public CurrencyParameterSensitivity multipliedBy(double factor) {
-    return mapSensitivity(s -> s * factor);
+    return withSensitivity(sensitivity.multipliedBy(factor));
   }
 
   /**
@@ -353,13 +354,7 @@ public final class CurrencyParameterSensitivity
    * @return an instance based on this one, with the operator applied to the sensitivity values
    */
   public CurrencyParameterSensitivity mapSensitivity(DoubleUnaryOperator operator) {
-    return mapSensitivity(operator, currency);
-  }
-
-  // maps the sensitivities and potentially changes the currency
-  private CurrencyParameterSensitivity mapSensitivity(DoubleUnaryOperator operator, Currency currency) {
-    return new CurrencyParameterSensitivity(marketDataName, parameterMetadata, currency, sensitivity.map(operator),
-        parameterSplit);
+    return withSensitivity(sensitivity.map(operator));
   }
 
   /**
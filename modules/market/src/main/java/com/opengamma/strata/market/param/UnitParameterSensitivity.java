@@ -263,7 +263,7 @@ public final class UnitParameterSensitivity
    * @return an instance based on this one, with each sensitivity multiplied by the factor
    */
   public UnitParameterSensitivity multipliedBy(double factor) {
-    return mapSensitivity(s -> s * factor);
+    return withSensitivity(sensitivity.multipliedBy(factor));
   }
 
   /**
@@ -292,6 +292,21 @@ public final class UnitParameterSensitivity
     return new UnitParameterSensitivity(marketDataName, parameterMetadata, sensitivity, parameterSplit);
   }
 
+  /**
+   * Returns a currency sensitivity with new parameter sensitivity values.
+   * <p>
+   * The market data name, parameter metadata and parameter split of this instance are retained.
+   * This is useful when the sensitivity values have been accumulated separately,
+   * such as when summing the sensitivity to many points on a curve.
+   * 
+   * @param currency  the currency of the sensitivity
+   * @param sensitivity  the new sensitivity values, which must match the parameter count
+   * @return the currency sensitivity, based on this instance with the specified sensitivity values
+   */
+  public CurrencyParameterSensitivity withSensitivity(Currency currency, DoubleArray sensitivity) {
+    return CurrencyParameterSensitivity.of(marketDataName, parameterMetadata, currency, sensitivity, parameterSplit);
+  }
+
   /**
    * Returns an instance with the specified sensitivity array added to the array in this instance.
    * <p>
@@ -289,6 +289,11 @@ public final class InterpolatedNodalSurface
     return createParameterSensitivity(sensitivityValues);
   }
 
+  @Override
+  public void addZValueParameterSensitivity(double x, double y, double multiplier, double[] accumulator) {
+    boundInterpolator.addParameterSensitivity(x, y, multiplier, accumulator);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public InterpolatedNodalSurface withMetadata(SurfaceMetadata metadata) {
@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.stream.IntStream;
 
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.tuple.DoublesPair;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
@@ -125,6 +126,31 @@ public interface Surface extends ParameterizedData {
     return zValueParameterSensitivity(xyPair.getFirst(), xyPair.getSecond());
   }
 
+  /**
+   * Adds the sensitivity of the z-value with respect to the surface parameters to an accumulator.
+   * <p>
+   * This is equivalent to multiplying the sensitivity array of {@link #zValueParameterSensitivity(double, double)}
+   * by the multiplier and adding the result to the accumulator, element by element.
+   * The accumulator has one element for each parameter, in the same order as {@code zValueParameterSensitivity}.
+   * <p>
+   * Surfaces based on local interpolators only have sensitivity to a few parameters,
+   * thus they can override this method to update those entries without creating a dense array.
+   * 
+   * @param x  the x-value at which the parameter sensitivity is computed
+   * @param y  the y-value at which the parameter sensitivity is computed
+   * @param multiplier  the amount to multiply the sensitivity by before adding it
+   * @param accumulator  the array to add the sensitivity to, one element for each parameter of the surface
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addZValueParameterSensitivity(double x, double y, double multiplier, double[] accumulator) {
+    DoubleArray sensitivity = zValueParameterSensitivity(x, y).getSensitivity();
+    ArgChecker.isTrue(sensitivity.size() == accumulator.length,
+        "Accumulator must have length {}, but was {}", sensitivity.size(), accumulator.length);
+    for (int i = 0; i < accumulator.length; i++) {
+      accumulator[i] += sensitivity.get(i) * multiplier;
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates a parameter sensitivity instance for this surface when the sensitivity values are known.
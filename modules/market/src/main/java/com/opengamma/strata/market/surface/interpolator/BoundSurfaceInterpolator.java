@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.market.surface.interpolator;
 
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -39,4 +40,49 @@ public interface BoundSurfaceInterpolator {
    */
   public abstract DoubleArray parameterSensitivity(double x, double y);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the z-values for the specified x-y-values by interpolation.
+   * <p>
+   * This is equivalent to calling {@link #interpolate(double, double)} for each x-y-value.
+   * Implementations may be more efficient if points with the same y-value are adjacent,
+   * such as when pricing many options with the same expiry.
+   * The output array may be the same as either input array.
+   * 
+   * @param xValues  the x-values to find the z-values for
+   * @param yValues  the y-values to find the z-values for, of the same length as the x-values
+   * @param output  the array to store the z-values in, of the same length as the x-values
+   * @throws RuntimeException if a z-value cannot be calculated
+   */
+  public default void interpolate(double[] xValues, double[] yValues, double[] output) {
+    ArgChecker.isTrue(xValues.length == yValues.length, "Y-values must have length {}, but was {}", xValues.length, yValues.length);
+    ArgChecker.isTrue(xValues.length == output.length, "Output must have length {}, but was {}", xValues.length, output.length);
+    for (int i = 0; i < xValues.length; i++) {
+      output[i] = interpolate(xValues[i], yValues[i]);
+    }
+  }
+
+  /**
+   * Adds the sensitivity of the z-value with respect to the surface parameters to an accumulator.
+   * <p>
+   * This is equivalent to multiplying {@link #parameterSensitivity(double, double)} by the multiplier
+   * and adding the result to the accumulator, element by element.
+   * Implementations can update only the parameters that the z-value depends on, without creating a dense array.
+   * This allows the sensitivity to many points to be summed and only converted to an array once.
+   * 
+   * @param x  the x-value at which the parameter sensitivity is computed
+   * @param y  the y-value at which the parameter sensitivity is computed
+   * @param multiplier  the amount to multiply the sensitivity by before adding it
+   * @param accumulator  the array to add the sensitivity to, with one element for each parameter of the surface
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addParameterSensitivity(double x, double y, double multiplier, double[] accumulator) {
+    DoubleArray sensitivity = parameterSensitivity(x, y);
+    ArgChecker.isTrue(sensitivity.size() == accumulator.length,
+        "Accumulator must have length {}, but was {}", sensitivity.size(), accumulator.length);
+    for (int i = 0; i < accumulator.length; i++) {
+      accumulator[i] += sensitivity.get(i) * multiplier;
+    }
+  }
+
 }
@@ -26,6 +26,7 @@ import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
 import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.curve.interpolator.BoundCurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
@@ -148,11 +149,13 @@ public final class GridSurfaceInterpolator
     double[] uniqueX = new double[size];
     double[] tempY = new double[size];
     double[] tempZ = new double[size];
+    int[] offsets = new int[size];
     ImmutableList.Builder<BoundCurveInterpolator> yInterpBuilder = ImmutableList.builder();
     int i = 0;
     while (i < size) {
       double currentX = xValues.get(i);
       uniqueX[countUniqueX] = currentX;
+      offsets[countUniqueX] = i;
       if (countUniqueX > 0 && uniqueX[countUniqueX - 1] > uniqueX[countUniqueX]) {
         throw new IllegalArgumentException("Array of x-values must be sorted");
       }
@@ -184,12 +187,18 @@ public final class GridSurfaceInterpolator
     }
     DoubleArray uniqueXArray = DoubleArray.ofUnsafe(Arrays.copyOf(uniqueX, countUniqueX));
     BoundCurveInterpolator[] yInterps = yInterpBuilder.build().toArray(new BoundCurveInterpolator[0]);
-    return new Bound(xInterpolator, xExtrapolatorLeft, xExtrapolatorRight, size, uniqueXArray, yInterps);
+    int[] offsetsUnique = Arrays.copyOf(offsets, countUniqueX);
+    return new Bound(xInterpolator, xExtrapolatorLeft, xExtrapolatorRight, size, uniqueXArray, offsetsUnique, yInterps);
   }
 
   //-------------------------------------------------------------------------
   /**
    * Bound interpolator.
+   * <p>
+   * Interpolation first evaluates each y-interpolator at the requested y-value, then interpolates
+   * across the unique x-values. The result of the first step depends only on the y-value, so the
+   * bound x-interpolator for the most recent y-value is cached. This makes repeated lookups at
+   * the same y-value, such as a fixed expiry on a volatility surface, close to the cost of a curve lookup.
    */
   static class Bound implements BoundSurfaceInterpolator {
     private final CurveInterpolator xInterpolator;
@@ -197,7 +206,10 @@ public final class GridSurfaceInterpolator
     private final CurveExtrapolator xExtrapolatorRight;
     private final DoubleArray xValuesUnique;
     private final int paramSize;
+    private final int[] paramOffsets;
     private final BoundCurveInterpolator[] yInterpolators;
+    // the most recently used slice, benign race as slices are immutable apart from lazy caching
+    private volatile Slice slice;
 
     Bound(
         CurveInterpolator xInterpolator,
@@ -205,6 +217,7 @@ public final class GridSurfaceInterpolator
         CurveExtrapolator xExtrapolatorRight,
         int paramSize,
         DoubleArray xValuesUnique,
+        int[] paramOffsets,
         BoundCurveInterpolator[] yInterpolators) {
 
       this.xInterpolator = xInterpolator;
@@ -212,48 +225,116 @@ public final class GridSurfaceInterpolator
       this.xExtrapolatorRight = xExtrapolatorRight;
       this.xValuesUnique = xValuesUnique;
       this.paramSize = paramSize;
+      this.paramOffsets = paramOffsets;
       this.yInterpolators = yInterpolators;
     }
 
     //-------------------------------------------------------------------------
     @Override
     public double interpolate(double x, double y) {
-      // use each y-interpolator to find the z-value for each unique x
-      DoubleArray zValuesEffective = DoubleArray.of(yInterpolators.length, i -> yInterpolators[i].interpolate(y));
-      // interpolate unique x-values against derived z-values
-      return xInterpolator.bind(xValuesUnique, zValuesEffective, xExtrapolatorLeft, xExtrapolatorRight).interpolate(x);
+      return slice(y).xBound.interpolate(x);
+    }
+
+    @Override
+    public void interpolate(double[] xValues, double[] yValues, double[] output) {
+      ArgChecker.isTrue(xValues.length == yValues.length, "Y-values must have length {}, but was {}", xValues.length, yValues.length);
+      ArgChecker.isTrue(xValues.length == output.length, "Output must have length {}, but was {}", xValues.length, output.length);
+      int size = xValues.length;
+      int start = 0;
+      while (start < size) {
+        // find the run of points with the same y-value, which share a slice
+        double y = yValues[start];
+        int end = start + 1;
+        while (end < size && yValues[end] == y) {
+          end++;
+        }
+        BoundCurveInterpolator xBound = slice(y).xBound;
+        if (end - start == 1) {
+          output[start] = xBound.interpolate(xValues[start]);
+        } else {
+          double[] run = Arrays.copyOfRange(xValues, start, end);
+          xBound.interpolate(run, run);
+          System.arraycopy(run, 0, output, start, run.length);
+        }
+        start = end;
+      }
     }
 
     @Override
     public DoubleArray parameterSensitivity(double x, double y) {
-      int uniqueX = yInterpolators.length;
-      final DoubleArray[] ySens = new DoubleArray[uniqueX];
-      // use each y-interpolator to find the z-value sensitivity for each unique x
-      for (int i = 0; i < uniqueX; i++) {
-        ySens[i] = yInterpolators[i].parameterSensitivity(y);
+      double[] paramSens = new double[paramSize];
+      addParameterSensitivity(x, y, 1d, paramSens);
+      return DoubleArray.ofUnsafe(paramSens);
+    }
+
+    @Override
+    public void addParameterSensitivity(double x, double y, double multiplier, double[] accumulator) {
+      ArgChecker.isTrue(accumulator.length == paramSize, "Accumulator must have length {}, but was {}", paramSize, accumulator.length);
+      Slice slice = slice(y);
+      // find the sensitivity of the unique x-values against derived z-values
+      DoubleArray xSens = slice.xBound.parameterSensitivity(x);
+      DoubleArray[] ySens = slice.ySensitivities();
+      // project sensitivities back to parameters, skipping the unique x-values that do not contribute
+      for (int i = 0; i < ySens.length; i++) {
+        double xs = xSens.get(i);
+        if (xs != 0d) {
+          double factor = xs * multiplier;
+          DoubleArray ys = ySens[i];
+          int offset = paramOffsets[i];
+          for (int j = 0; j < ys.size(); j++) {
+            accumulator[offset + j] += factor * ys.get(j);
+          }
+        }
+      }
+    }
+
+    // obtains the slice for the y-value, reusing the last slice if possible
+    private Slice slice(double y) {
+      Slice cached = slice;
+      if (cached != null && cached.y == y) {
+        return cached;
       }
       // use each y-interpolator to find the z-value for each unique x
-      DoubleArray zValuesEffective = DoubleArray.of(uniqueX, i -> yInterpolators[i].interpolate(y));
-      // find the sensitivity of the unique x-values against derived z-values
-      DoubleArray xSens = xInterpolator
-          .bind(xValuesUnique, zValuesEffective, xExtrapolatorLeft, xExtrapolatorRight)
-          .parameterSensitivity(x);
+      DoubleArray zValuesEffective = DoubleArray.of(yInterpolators.length, i -> yInterpolators[i].interpolate(y));
+      // bind the unique x-values against derived z-values
+      BoundCurveInterpolator xBound = xInterpolator.bind(xValuesUnique, zValuesEffective, xExtrapolatorLeft, xExtrapolatorRight);
+      Slice created = new Slice(y, xBound, yInterpolators);
+      slice = created;
+      return created;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The surface sliced at a single y-value.
+   */
+  private static final class Slice {
+    // the y-value
+    private final double y;
+    // the interpolator across the unique x-values
+    private final BoundCurveInterpolator xBound;
+    // the y-interpolators, used to compute the sensitivities
+    private final BoundCurveInterpolator[] yInterpolators;
+    // the sensitivity of each y-interpolator at the y-value, calculated lazily
+    private volatile DoubleArray[] ySensitivities;
 
-      return project(xSens, ySens);
+    private Slice(double y, BoundCurveInterpolator xBound, BoundCurveInterpolator[] yInterpolators) {
+      this.y = y;
+      this.xBound = xBound;
+      this.yInterpolators = yInterpolators;
     }
 
-    // project sensitivities back to parameters
-    private DoubleArray project(DoubleArray xSens, DoubleArray[] ySens) {
-      int countParam = 0;
-      double[] paramSens = new double[paramSize];
-      for (int i = 0; i < xSens.size(); i++) {
-        double xs = xSens.get(i);
-        DoubleArray ys = ySens[i];
-        for (int j = 0; j < ys.size(); j++) {
-          paramSens[countParam++] = xs * ys.get(j);
+    // obtains the sensitivity of each y-interpolator, benign race as the result is always the same
+    private DoubleArray[] ySensitivities() {
+      DoubleArray[] result = ySensitivities;
+      if (result == null) {
+        result = new DoubleArray[yInterpolators.length];
+        for (int i = 0; i < result.length; i++) {
+          result[i] = yInterpolators[i].parameterSensitivity(y);
         }
+        ySensitivities = result;
       }
-      return DoubleArray.ofUnsafe(paramSens);
+      return result;
     }
   }
 
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.date.Tenor.TENOR_1Y;
+import static com.opengamma.strata.basics.date.Tenor.TENOR_2Y;
+import static com.opengamma.strata.basics.date.Tenor.TENOR_5Y;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.FLAT;
+import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.LINEAR;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.DOUBLE_QUADRATIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteSource;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.curve.CurveMetadata;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.market.param.ParameterSize;
+import com.opengamma.strata.market.param.TenorParameterMetadata;
+import com.opengamma.strata.market.surface.DefaultSurfaceMetadata;
+import com.opengamma.strata.market.surface.InterpolatedNodalSurface;
+import com.opengamma.strata.market.surface.interpolator.GridSurfaceInterpolator;
+
+/**
+ * Test {@link BinaryMarketDataFile}.
+ */
+public class BinaryMarketDataFileTest {
+
+  private static final LocalDate VAL_DATE = date(2020, 6, 30);
+  private static final CurveGroupName GROUP = CurveGroupName.of("Group");
+  private static final CurveName CURVE_NAME1 = CurveName.of("USD-Disc");
+  private static final CurveName CURVE_NAME2 = CurveName.of("GBP-Disc");
+  private static final ImmutableList<ParameterMetadata> PARAM_METADATA = ImmutableList.of(
+      TenorParameterMetadata.of(TENOR_1Y),
+      TenorParameterMetadata.of(TENOR_2Y),
+      TenorParameterMetadata.of(TENOR_5Y));
+  private static final CurveMetadata METADATA1 = Curves.zeroRates(CURVE_NAME1, ACT_365F, PARAM_METADATA);
+  private static final CurveMetadata METADATA2 = Curves.zeroRates(CURVE_NAME2, ACT_365F, PARAM_METADATA);
+  private static final DoubleArray XVALUES = DoubleArray.of(1d, 2d, 5d);
+  private static final InterpolatedNodalCurve CURVE1 =
+      InterpolatedNodalCurve.of(METADATA1, XVALUES, DoubleArray.of(0.01, 0.015, 0.02), DOUBLE_QUADRATIC, FLAT, LINEAR);
+  private static final InterpolatedNodalCurve CURVE2 =
+      InterpolatedNodalCurve.of(METADATA2, XVALUES, DoubleArray.of(0.02, 0.025, 0.03), DOUBLE_QUADRATIC);
+  private static final InterpolatedNodalSurface SURFACE = InterpolatedNodalSurface.of(
+      DefaultSurfaceMetadata.of("Surface"),
+      DoubleArray.of(0d, 0d, 2d, 2d),
+      DoubleArray.of(0d, 3d, 0d, 3d),
+      DoubleArray.of(5d, 7d, 6d, 8d),
+      GridSurfaceInterpolator.of(DOUBLE_QUADRATIC, DOUBLE_QUADRATIC));
+  private static final QuoteId QUOTE_ID = QuoteId.of(StandardId.of("OG", "Quote"));
+  private static final LocalDateDoubleTimeSeries SERIES = LocalDateDoubleTimeSeries.builder()
+      .put(date(2020, 6, 26), 1.1d)
+      .put(date(2020, 6, 29), 1.2d)
+      .build();
+  private static final CurrencyParameterSensitivities SENSITIVITIES = CurrencyParameterSensitivities.of(
+      CurrencyParameterSensitivity.of(CURVE_NAME1, PARAM_METADATA, USD, DoubleArray.of(1d, 2d, 3d)),
+      CurrencyParameterSensitivity.of(CURVE_NAME2, PARAM_METADATA, GBP, DoubleArray.of(4d, 5d, 6d)),
+      CurrencyParameterSensitivity.of(
+          CurveName.of("Combined"),
+          ParameterMetadata.listOfEmpty(2),
+          EUR,
+          DoubleArray.of(7d, 8d),
+          ImmutableList.of(ParameterSize.of(CURVE_NAME1, 1), ParameterSize.of(CURVE_NAME2, 1))));
+  private static final ImmutableMarketData MARKET_DATA = ImmutableMarketData.builder(VAL_DATE)
+      .addValue(CurveId.of(GROUP, CURVE_NAME1), CURVE1)
+      .addValue(CurveId.of(GROUP, CURVE_NAME2), CURVE2)
+      .addValue(QUOTE_ID, 1.25d)
+      .addValue(FxRateId.of(GBP, USD), FxRate.of(GBP, USD, 1.3d))
+      .addTimeSeries(QUOTE_ID, SERIES)
+      .build();
+  private static final Map<String, Object> RESULTS = ImmutableMap.<String, Object>builder()
+      .put("Surface", SURFACE)
+      .put("Sensitivities", SENSITIVITIES)
+      .put("PV", CurrencyScenarioArray.of(USD, DoubleArray.of(1d, 2d, 3d)))
+      .put("Rates", DoubleScenarioArray.of(DoubleArray.of(0.1d, 0.2d)))
+      .put("Series", SERIES)
+      .put("Currency", GBP)
+      .put("Text", "Hello")
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_marketData() {
+    BinaryMarketDataFile test = BinaryMarketDataFile.of(ByteSource.wrap(write(out -> BinaryMarketDataFile.write(MARKET_DATA, out))));
+    assertThat(test.getValuationDate()).hasValue(VAL_DATE);
+    assertThat(test.keys()).isEqualTo(MARKET_DATA.getIds());
+    assertThat(test.get(CurveId.of(GROUP, CURVE_NAME1))).hasValue(CURVE1);
+    assertThat(test.get(QUOTE_ID)).hasValue(1.25d);
+    assertThat(test.get(CurveId.of(GROUP, CurveName.of("Unknown")))).isEmpty();
+    // time-series are read in the compact epoch-day form
+    assertThat(test.getTimeSeries(QUOTE_ID).get().toBuilder().build()).isEqualTo(SERIES);
+    assertThat(test.getTimeSeries(QuoteId.of(StandardId.of("OG", "Unknown")))).isEmpty();
+    assertMarketData(test.toMarketData());
+    assertThat(test.toString()).isEqualTo("BinaryMarketDataFile[4 values, 1 time-series]");
+  }
+
+  @Test
+  public void test_results() {
+    BinaryMarketDataFile test = BinaryMarketDataFile.of(ByteSource.wrap(write(out -> BinaryMarketDataFile.write(RESULTS, out))));
+    assertThat(test.getValuationDate()).isEmpty();
+    Map<Object, Object> map = test.toMap();
+    assertThat(map).hasSize(RESULTS.size());
+    RESULTS.forEach((key, value) -> {
+      if (value instanceof LocalDateDoubleTimeSeries) {
+        assertThat(((LocalDateDoubleTimeSeries) map.get(key)).toBuilder().build()).isEqualTo(value);
+      } else {
+        assertThat(map.get(key)).isEqualTo(value);
+      }
+    });
+    assertThatIllegalStateException().isThrownBy(() -> test.toMarketData());
+  }
+
+  @Test
+  public void test_map() throws Exception {
+    Path file = Files.createTempFile("strata", ".smdb");
+    try {
+      try (OutputStream out = Files.newOutputStream(file)) {
+        BinaryMarketDataFile.write(MARKET_DATA, out);
+      }
+      try (BinaryMarketDataFile test = BinaryMarketDataFile.map(file)) {
+        assertThat(test.get(CurveId.of(GROUP, CURVE_NAME2))).hasValue(CURVE2);
+        assertMarketData(test.toMarketData());
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void test_interning() {
+    // the metadata of the second curve shares the parameter metadata and interpolator names with the first
+    int single = write(out -> BinaryMarketDataFile.write(ImmutableMap.of("A", CURVE1), out)).length;
+    int repeated = write(out -> BinaryMarketDataFile.write(ImmutableMap.of("A", CURVE1, "B", CURVE1), out)).length;
+    int curveData = 1 + 4 * 4 + 2 * (4 + 3 * 8);
+    // the second entry adds only the key, the curve data and the index entry
+    assertThat(repeated - single).isLessThanOrEqualTo(curveData + (1 + 1) + (4 + 1 + 4 + 8 + 4) + 8);
+  }
+
+  @Test
+  public void test_write_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> write(out -> BinaryMarketDataFile.write(ImmutableMap.of("A", new Object()), out)));
+  }
+
+  @Test
+  public void test_read_invalid() {
+    byte[] bytes = write(out -> BinaryMarketDataFile.write(RESULTS, out));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BinaryMarketDataFile.of(ByteSource.wrap(new byte[10])));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BinaryMarketDataFile.of(ByteSource.wrap(Arrays.copyOf(bytes, bytes.length - 1))));
+    byte[] badVersion = bytes.clone();
+    badVersion[4] = 99;
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BinaryMarketDataFile.of(ByteSource.wrap(badVersion)))
+        .withMessageContaining("version");
+  }
+
+  //-------------------------------------------------------------------------
+  private static void assertMarketData(ImmutableMarketData test) {
+    assertThat(test.getValuationDate()).isEqualTo(VAL_DATE);
+    assertThat(test.getValues()).isEqualTo(MARKET_DATA.getValues());
+    assertThat(test.getTimeSeries(QUOTE_ID).toBuilder().build()).isEqualTo(SERIES);
+    assertThat(test.getTimeSeriesIds()).isEqualTo(MARKET_DATA.getTimeSeriesIds());
+  }
+
+  private static byte[] write(Consumer<OutputStream> writer) {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    writer.accept(baos);
+    return baos.toByteArray();
+  }
+
+}
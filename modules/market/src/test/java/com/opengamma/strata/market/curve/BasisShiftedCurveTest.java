@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.param.LabelParameterMetadata;
+
+/**
+ * Test {@link BasisShiftedCurve}.
+ */
+public class BasisShiftedCurveTest {
+
+  private static final CurveMetadata METADATA = Curves.zeroRates("Test", ACT_365F);
+  private static final DoubleArray X_VALUES = DoubleArray.of(1, 2, 5, 10);
+  private static final InterpolatedNodalCurve CURVE = InterpolatedNodalCurve.of(
+      METADATA, X_VALUES, DoubleArray.of(0.010, 0.012, 0.015, 0.017), CurveInterpolators.LINEAR);
+  private static final Curve LEVEL = ConstantCurve.of("Level", 1d);
+  private static final Curve SLOPE = InterpolatedNodalCurve.of(
+      DefaultCurveMetadata.of("Slope"), X_VALUES, DoubleArray.of(-1, -0.5, 0.5, 1), CurveInterpolators.LINEAR);
+  private static final ImmutableList<Curve> BASIS = ImmutableList.of(LEVEL, SLOPE);
+  private static final DoubleArray AMOUNTS = DoubleArray.of(0.001, 0.002);
+  private static final double TOL = 1e-14;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    BasisShiftedCurve test = BasisShiftedCurve.of(CURVE, BASIS, AMOUNTS);
+    assertThat(test.getUnderlyingCurve()).isEqualTo(CURVE);
+    assertThat(test.getBasisCurves()).isEqualTo(BASIS);
+    assertThat(test.getShiftAmounts()).isEqualTo(AMOUNTS);
+    assertThat(test.getMetadata()).isEqualTo(METADATA);
+    assertThat(test.getName()).isEqualTo(METADATA.getCurveName());
+    assertThat(test.getParameterCount()).isEqualTo(6);
+    assertThat(test.getParameter(1)).isEqualTo(0.012);
+    assertThat(test.getParameter(4)).isEqualTo(0.001);
+    assertThat(test.getParameter(5)).isEqualTo(0.002);
+    assertThat(test.getParameterMetadata(1)).isEqualTo(CURVE.getParameterMetadata(1));
+    assertThat(test.getParameterMetadata(4)).isEqualTo(LabelParameterMetadata.of("LevelShift"));
+    assertThat(test.getParameterMetadata(5)).isEqualTo(LabelParameterMetadata.of("SlopeShift"));
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> BasisShiftedCurve.of(CURVE, BASIS, DoubleArray.of(1d)));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_yValue() {
+    BasisShiftedCurve test = BasisShiftedCurve.of(CURVE, BASIS, AMOUNTS);
+    for (double x : new double[] {1, 1.5, 3, 7.5, 10}) {
+      double expected = CURVE.yValue(x) + 0.001 + 0.002 * SLOPE.yValue(x);
+      assertThat(test.yValue(x)).isCloseTo(expected, offset(TOL));
+      double expectedDerivative = CURVE.firstDerivative(x) + 0.002 * SLOPE.firstDerivative(x);
+      assertThat(test.firstDerivative(x)).isCloseTo(expectedDerivative, offset(TOL));
+    }
+  }
+
+  @Test
+  public void test_yValueParameterSensitivity() {
+    BasisShiftedCurve test = BasisShiftedCurve.of(CURVE, BASIS, AMOUNTS);
+    DoubleArray expected = CURVE.yValueParameterSensitivity(3d).getSensitivity().concat(1d, SLOPE.yValue(3d));
+    assertThat(test.yValueParameterSensitivity(3d).getSensitivity()).isEqualTo(expected);
+    assertThat(test.yValueParameterSensitivity(3d).getParameterMetadata())
+        .containsExactly(
+            CURVE.getParameterMetadata(0),
+            CURVE.getParameterMetadata(1),
+            CURVE.getParameterMetadata(2),
+            CURVE.getParameterMetadata(3),
+            LabelParameterMetadata.of("LevelShift"),
+            LabelParameterMetadata.of("SlopeShift"));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_withParameter() {
+    BasisShiftedCurve test = BasisShiftedCurve.of(CURVE, BASIS, AMOUNTS);
+    assertThat(test.withParameter(1, 0.02)).isEqualTo(BasisShiftedCurve.of(CURVE.withParameter(1, 0.02), BASIS, AMOUNTS));
+    assertThat(test.withParameter(5, 0.5)).isEqualTo(BasisShiftedCurve.of(CURVE, BASIS, DoubleArray.of(0.001, 0.5)));
+  }
+
+  @Test
+  public void test_withPerturbation() {
+    BasisShiftedCurve test = BasisShiftedCurve.of(CURVE, BASIS, AMOUNTS).withPerturbation((i, v, m) -> i >= 4 ? v * 2 : v);
+    assertThat(test.getUnderlyingCurve()).isEqualTo(CURVE);
+    assertThat(test.getShiftAmounts()).isEqualTo(DoubleArray.of(0.002, 0.004));
+  }
+
+  @Test
+  public void test_withMetadata() {
+    CurveMetadata metadata = DefaultCurveMetadata.of("Other");
+    BasisShiftedCurve test = BasisShiftedCurve.of(CURVE, BASIS, AMOUNTS).withMetadata(metadata);
+    assertThat(test.getMetadata()).isEqualTo(metadata);
+    assertThat(test.getShiftAmounts()).isEqualTo(AMOUNTS);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    BasisShiftedCurve test = BasisShiftedCurve.of(CURVE, BASIS, AMOUNTS);
+    coverImmutableBean(test);
+    BasisShiftedCurve test2 = BasisShiftedCurve.of(ConstantCurve.of("Other", 1d), ImmutableList.of(SLOPE), DoubleArray.of(1));
+    coverBeanEquals(test, test2);
+  }
+
+  @Test
+  public void test_serialization() {
+    BasisShiftedCurve test = BasisShiftedCurve.of(CURVE, BASIS, AMOUNTS);
+    assertSerialization(test);
+  }
+
+}
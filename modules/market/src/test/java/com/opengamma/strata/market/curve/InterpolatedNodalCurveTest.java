@@ -132,6 +132,18 @@ public class InterpolatedNodalCurveTest {
     assertThat(test.firstDerivative(10d)).isEqualTo(interp.firstDerivative(10d));
   }
 
+  @Test
+  public void test_addYValueParameterSensitivity() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
+    double[] accumulator = new double[SIZE];
+    test.addYValueParameterSensitivity(1.5d, 2d, accumulator);
+    test.addYValueParameterSensitivity(10d, -3d, accumulator);
+    DoubleArray expected = test.yValueParameterSensitivity(1.5d).getSensitivity().multipliedBy(2d)
+        .plus(test.yValueParameterSensitivity(10d).getSensitivity().multipliedBy(-3d));
+    assertThat(DoubleArray.ofUnsafe(accumulator).equalWithTolerance(expected, 1e-14)).isTrue();
+    assertThatIllegalArgumentException().isThrownBy(() -> test.addYValueParameterSensitivity(1.5d, 1d, new double[SIZE + 1]));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_withMetadata() {
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+
+/**
+ * Test {@link NodalCurveScenarioArray}.
+ */
+public class NodalCurveScenarioArrayTest {
+
+  private static final CurveMetadata METADATA = Curves.zeroRates("Test", ACT_365F);
+  private static final DoubleArray X_VALUES = DoubleArray.of(1, 2, 3);
+  private static final InterpolatedNodalCurve CURVE =
+      InterpolatedNodalCurve.of(METADATA, X_VALUES, DoubleArray.of(5, 6, 7), CurveInterpolators.LINEAR);
+  private static final DoubleMatrix Y_VALUES = DoubleMatrix.of(2, 3, 1d, 2d, 3d, 4d, 5d, 6d);
+  private static final NodalCurveScenarioArray ARRAY = NodalCurveScenarioArray.of(CURVE, Y_VALUES);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    assertThat(ARRAY.getCurve()).isEqualTo(CURVE);
+    assertThat(ARRAY.getYValues()).isEqualTo(Y_VALUES);
+    assertThat(ARRAY.getScenarioCount()).isEqualTo(2);
+    assertThat(ARRAY.getParameterCount()).isEqualTo(3);
+    assertThat(ARRAY.getYValues(1)).isEqualTo(DoubleArray.of(4d, 5d, 6d));
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NodalCurveScenarioArray.of(CURVE, DoubleMatrix.of(2, 2, 1d, 2d, 3d, 4d)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NodalCurveScenarioArray.of(CURVE, DoubleMatrix.EMPTY));
+  }
+
+  @Test
+  public void test_of_list() {
+    NodalCurveScenarioArray test = NodalCurveScenarioArray.of(
+        ImmutableList.of(CURVE.withYValues(DoubleArray.of(1d, 2d, 3d)), CURVE.withYValues(DoubleArray.of(4d, 5d, 6d))));
+    assertThat(test.getYValues()).isEqualTo(Y_VALUES);
+    assertThat(test.getCurve()).isEqualTo(CURVE.withYValues(DoubleArray.of(1d, 2d, 3d)));
+  }
+
+  @Test
+  public void test_of_list_invalid() {
+    InterpolatedNodalCurve other = InterpolatedNodalCurve.of(METADATA, X_VALUES, DoubleArray.of(5, 6, 7), CurveInterpolators.LOG_LINEAR);
+    InterpolatedNodalCurve shifted = InterpolatedNodalCurve.of(METADATA, DoubleArray.of(1, 2, 4), DoubleArray.of(5, 6, 7), CurveInterpolators.LINEAR);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NodalCurveScenarioArray.of(ImmutableList.of()));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NodalCurveScenarioArray.of(ImmutableList.of(CURVE, other)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NodalCurveScenarioArray.of(ImmutableList.of(CURVE, shifted)));
+  }
+
+  @Test
+  public void test_get() {
+    assertThat(ARRAY.get(0)).isEqualTo(CURVE.withYValues(DoubleArray.of(1d, 2d, 3d)));
+    assertThat(ARRAY.get(1)).isEqualTo(CURVE.withYValues(DoubleArray.of(4d, 5d, 6d)));
+    assertThat(ARRAY.stream().collect(Collectors.toList())).containsExactly(ARRAY.get(0), ARRAY.get(1));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> ARRAY.get(-1));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> ARRAY.get(2));
+  }
+
+  @Test
+  public void test_marketDataBox() {
+    MarketDataBox<Curve> box = MarketDataBox.ofScenarioValue(ARRAY);
+    assertThat(box.getScenarioCount()).isEqualTo(2);
+    assertThat(box.getValue(1)).isEqualTo(ARRAY.get(1));
+    assertThat(box.getScenarioValue()).isSameAs(ARRAY);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    coverImmutableBean(ARRAY);
+    NodalCurveScenarioArray test2 = NodalCurveScenarioArray.of(
+        CURVE.withMetadata(DefaultCurveMetadata.of("Other")), DoubleMatrix.of(1, 3, 7d, 8d, 9d));
+    coverBeanEquals(ARRAY, test2);
+  }
+
+  @Test
+  public void test_serialization() {
+    assertSerialization(ARRAY);
+  }
+
+}
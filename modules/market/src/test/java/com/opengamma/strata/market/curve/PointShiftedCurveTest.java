@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+
+/**
+ * Test {@link PointShiftedCurve}.
+ */
+public class PointShiftedCurveTest {
+
+  private static final CurveMetadata METADATA = Curves.zeroRates("Test", ACT_365F);
+  private static final DoubleArray X_VALUES = DoubleArray.of(0.5, 1, 2, 3, 5, 7, 10);
+  private static final DoubleArray Y_VALUES = DoubleArray.of(0.010, 0.012, 0.015, 0.017, 0.020, 0.021, 0.022);
+  private static final DoubleArray SHIFTS = DoubleArray.of(0.001, -0.002, 0, 0.0005, 0.003, -0.001, 0.002);
+  private static final InterpolatedNodalCurve CURVE = InterpolatedNodalCurve.of(
+      METADATA, X_VALUES, Y_VALUES, CurveInterpolators.LINEAR, CurveExtrapolators.FLAT, CurveExtrapolators.LINEAR);
+  private static final double[] X_TEST = {0.1, 0.5, 0.75, 1, 2.5, 4.2, 7, 9.9, 10, 12};
+  private static final double TOL = 1e-14;
+
+  //-------------------------------------------------------------------------
+  public static Object[][] data_linear() {
+    return new Object[][] {
+        {CurveInterpolators.LINEAR, CurveExtrapolators.FLAT},
+        {CurveInterpolators.LINEAR, CurveExtrapolators.LINEAR},
+        {CurveInterpolators.LINEAR, CurveExtrapolators.INTERPOLATOR},
+        {CurveInterpolators.STEP_UPPER, CurveExtrapolators.FLAT},
+        {CurveInterpolators.STEP_UPPER, CurveExtrapolators.INTERPOLATOR},
+        {CurveInterpolators.NATURAL_CUBIC_SPLINE, CurveExtrapolators.FLAT},
+        {CurveInterpolators.NATURAL_CUBIC_SPLINE, CurveExtrapolators.LINEAR},
+        {CurveInterpolators.NATURAL_CUBIC_SPLINE, CurveExtrapolators.INTERPOLATOR},
+        {CurveInterpolators.NATURAL_SPLINE, CurveExtrapolators.FLAT},
+        {CurveInterpolators.NATURAL_SPLINE, CurveExtrapolators.LINEAR},
+        {CurveInterpolators.NATURAL_SPLINE, CurveExtrapolators.INTERPOLATOR},
+    };
+  }
+
+  @ParameterizedTest
+  @MethodSource("data_linear")
+  public void test_matchesShiftedCurve(CurveInterpolator interpolator, CurveExtrapolator extrapolator) {
+    InterpolatedNodalCurve base = InterpolatedNodalCurve.of(METADATA, X_VALUES, Y_VALUES, interpolator, extrapolator, extrapolator);
+    InterpolatedNodalCurve expected = base.withYValues(Y_VALUES.plus(SHIFTS));
+    assertThat(PointShiftedCurve.isSupported(base)).isTrue();
+    PointShiftedCurve test = PointShiftedCurve.of(base, SHIFTS);
+    for (double x : X_TEST) {
+      // linear extrapolation uses a small finite difference step, which magnifies rounding differences
+      assertThat(test.yValue(x)).isCloseTo(expected.yValue(x), offset(1e-9));
+      assertThat(test.firstDerivative(x)).isCloseTo(expected.firstDerivative(x), offset(1e-9));
+      assertThat(test.yValueParameterSensitivity(x).getSensitivity()
+          .equalWithTolerance(expected.yValueParameterSensitivity(x).getSensitivity(), TOL)).isTrue();
+    }
+    assertThat(test.toInterpolatedNodalCurve()).isEqualTo(expected);
+  }
+
+  @Test
+  public void test_exceptionExtrapolator() {
+    InterpolatedNodalCurve base = InterpolatedNodalCurve.of(
+        METADATA, X_VALUES, Y_VALUES, CurveInterpolators.NATURAL_SPLINE, CurveExtrapolators.EXCEPTION,
+        CurveExtrapolators.EXCEPTION);
+    PointShiftedCurve test = PointShiftedCurve.of(base, SHIFTS);
+    assertThat(test.yValue(10d)).isCloseTo(Y_VALUES.get(6) + SHIFTS.get(6), offset(TOL));
+    assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> test.yValue(0.1d));
+    assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> test.firstDerivative(12d));
+  }
+
+  @Test
+  public void test_of() {
+    PointShiftedCurve test = PointShiftedCurve.of(CURVE, SHIFTS);
+    assertThat(test.getUnderlyingCurve()).isEqualTo(CURVE);
+    assertThat(test.getShifts()).isEqualTo(SHIFTS);
+    assertThat(test.getMetadata()).isEqualTo(METADATA);
+    assertThat(test.getName()).isEqualTo(METADATA.getCurveName());
+    assertThat(test.getParameterCount()).isEqualTo(X_VALUES.size());
+    for (int i = 0; i < X_VALUES.size(); i++) {
+      assertThat(test.getParameter(i)).isEqualTo(Y_VALUES.get(i) + SHIFTS.get(i));
+      assertThat(test.getParameterMetadata(i)).isEqualTo(CURVE.getParameterMetadata(i));
+    }
+  }
+
+  @Test
+  public void test_of_perturbation() {
+    PointShiftedCurve test = PointShiftedCurve.of(CURVE, (i, value, meta) -> value + SHIFTS.get(i));
+    assertThat(test.getShifts().equalWithTolerance(SHIFTS, TOL)).isTrue();
+  }
+
+  @Test
+  public void test_of_invalid() {
+    InterpolatedNodalCurve logLinear = InterpolatedNodalCurve.of(METADATA, X_VALUES, Y_VALUES, CurveInterpolators.LOG_LINEAR);
+    InterpolatedNodalCurve spline = InterpolatedNodalCurve.of(
+        METADATA, X_VALUES, Y_VALUES, CurveInterpolators.PRODUCT_NATURAL_SPLINE);
+    InterpolatedNodalCurve exponential = InterpolatedNodalCurve.of(
+        METADATA, X_VALUES, Y_VALUES, CurveInterpolators.LINEAR, CurveExtrapolators.FLAT, CurveExtrapolators.EXPONENTIAL);
+    assertThat(PointShiftedCurve.isSupported(logLinear)).isFalse();
+    assertThat(PointShiftedCurve.isSupported(spline)).isFalse();
+    assertThat(PointShiftedCurve.isSupported(exponential)).isFalse();
+    assertThatIllegalArgumentException().isThrownBy(() -> PointShiftedCurve.of(logLinear, SHIFTS));
+    assertThatIllegalArgumentException().isThrownBy(() -> PointShiftedCurve.of(spline, SHIFTS));
+    assertThatIllegalArgumentException().isThrownBy(() -> PointShiftedCurve.of(exponential, SHIFTS));
+    assertThatIllegalArgumentException().isThrownBy(() -> PointShiftedCurve.of(CURVE, DoubleArray.of(1d)));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_withParameter() {
+    PointShiftedCurve test = PointShiftedCurve.of(CURVE, SHIFTS).withParameter(2, 0.5d);
+    assertThat(test.getUnderlyingCurve()).isSameAs(CURVE);
+    assertThat(test.getParameter(2)).isCloseTo(0.5d, offset(TOL));
+    assertThat(test.getShifts().get(1)).isEqualTo(SHIFTS.get(1));
+  }
+
+  @Test
+  public void test_withPerturbation() {
+    PointShiftedCurve base = PointShiftedCurve.of(CURVE, SHIFTS);
+    PointShiftedCurve test = base.withPerturbation((i, value, meta) -> value * 2d);
+    assertThat(test.getUnderlyingCurve()).isSameAs(CURVE);
+    for (int i = 0; i < X_VALUES.size(); i++) {
+      assertThat(test.getParameter(i)).isCloseTo(base.getParameter(i) * 2d, offset(TOL));
+    }
+  }
+
+  @Test
+  public void test_withMetadata() {
+    CurveMetadata metadata = DefaultCurveMetadata.of("Other");
+    PointShiftedCurve test = PointShiftedCurve.of(CURVE, SHIFTS).withMetadata(metadata);
+    assertThat(test.getMetadata()).isEqualTo(metadata);
+    assertThat(test.getShifts()).isEqualTo(SHIFTS);
+  }
+
+  @Test
+  public void test_parameterSensitivity() {
+    PointShiftedCurve test = PointShiftedCurve.of(CURVE, SHIFTS);
+    double[] accumulator = new double[X_VALUES.size()];
+    test.addYValueParameterSensitivity(2.5d, 2d, accumulator);
+    assertThat(DoubleArray.ofUnsafe(accumulator))
+        .isEqualTo(CURVE.yValueParameterSensitivity(2.5d).getSensitivity().multipliedBy(2d));
+    DoubleArray sensitivities = DoubleArray.filled(X_VALUES.size(), 1d);
+    assertThat(test.createParameterSensitivity(sensitivities)).isEqualTo(CURVE.createParameterSensitivity(sensitivities));
+    assertThat(test.createParameterSensitivity(GBP, sensitivities))
+        .isEqualTo(CURVE.createParameterSensitivity(GBP, sensitivities));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    PointShiftedCurve test = PointShiftedCurve.of(CURVE, SHIFTS);
+    coverImmutableBean(test);
+    PointShiftedCurve test2 = PointShiftedCurve.of(CURVE.withYValues(SHIFTS), DoubleArray.filled(X_VALUES.size()));
+    coverBeanEquals(test, test2);
+  }
+
+  @Test
+  public void test_serialization() {
+    PointShiftedCurve test = PointShiftedCurve.of(CURVE, SHIFTS);
+    assertSerialization(test);
+  }
+
+}
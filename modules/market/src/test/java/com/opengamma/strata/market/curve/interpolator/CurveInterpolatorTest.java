@@ -114,6 +114,58 @@ public class CurveInterpolatorTest {
     assertThat(bound.toString()).isNotNull();
   }
 
+  @ParameterizedTest
+  @MethodSource("data_name")
+  public void test_batch(CurveInterpolator interpolator, String name) {
+    DoubleArray xValues = DoubleArray.of(0.5, 1, 2, 3, 5, 7, 10, 15, 20, 25, 30, 40);
+    DoubleArray yValues = DoubleArray.of(0.98, 0.97, 0.95, 0.92, 0.86, 0.8, 0.72, 0.6, 0.5, 0.42, 0.35, 0.25);
+    BoundCurveInterpolator bound =
+        interpolator.bind(xValues, yValues, CurveExtrapolators.FLAT, CurveExtrapolators.LINEAR);
+    double[] sorted = new double[200];
+    for (int i = 0; i < sorted.length; i++) {
+      sorted[i] = 0.1 + 0.21 * i;
+    }
+    double[] unsorted = {40, 0.5, 12, 12, 0.2, 45, 3, 2.5, 39.9, 1, 5};
+    for (double[] points : new double[][] {sorted, unsorted, xValues.toArray()}) {
+      int size = points.length;
+      double[] values = new double[size];
+      double[] derivatives = new double[size];
+      double[][] sensitivities = new double[size][xValues.size()];
+      bound.interpolate(points, values);
+      bound.firstDerivative(points, derivatives);
+      bound.parameterSensitivity(points, sensitivities);
+      for (int i = 0; i < size; i++) {
+        assertThat(values[i]).isEqualTo(bound.interpolate(points[i]));
+        assertThat(derivatives[i]).isEqualTo(bound.firstDerivative(points[i]));
+        assertThat(sensitivities[i]).containsExactly(bound.parameterSensitivity(points[i]).toArray());
+      }
+    }
+    assertThatIllegalArgumentException().isThrownBy(() -> bound.interpolate(sorted, new double[1]));
+    assertThatIllegalArgumentException().isThrownBy(() -> bound.firstDerivative(sorted, new double[1]));
+    assertThatIllegalArgumentException().isThrownBy(() -> bound.parameterSensitivity(sorted, new double[1][]));
+  }
+
+  @ParameterizedTest
+  @MethodSource("data_name")
+  public void test_addParameterSensitivity(CurveInterpolator interpolator, String name) {
+    DoubleArray xValues = DoubleArray.of(0.5, 1, 2, 3, 5, 7, 10, 15, 20, 25, 30, 40);
+    DoubleArray yValues = DoubleArray.of(0.98, 0.97, 0.95, 0.92, 0.86, 0.8, 0.72, 0.6, 0.5, 0.42, 0.35, 0.25);
+    BoundCurveInterpolator bound =
+        interpolator.bind(xValues, yValues, CurveExtrapolators.FLAT, CurveExtrapolators.LINEAR);
+    double[] points = {40, 0.5, 12, 12, 0.2, 45, 3, 2.5, 39.9, 1, 5};
+    double[] accumulator = new double[xValues.size()];
+    DoubleArray expected = DoubleArray.filled(xValues.size());
+    for (int i = 0; i < points.length; i++) {
+      double multiplier = 1.5 - 0.25 * i;
+      bound.addParameterSensitivity(points[i], multiplier, accumulator);
+      expected = expected.plus(bound.parameterSensitivity(points[i]).multipliedBy(multiplier));
+    }
+    for (int i = 0; i < accumulator.length; i++) {
+      assertThat(accumulator[i]).isCloseTo(expected.get(i), offset(1e-14));
+    }
+    assertThatIllegalArgumentException().isThrownBy(() -> bound.addParameterSensitivity(1d, 1d, new double[1]));
+  }
+
   @Test
   public void test_lowerBound() {
     // bad input, but still produces good output
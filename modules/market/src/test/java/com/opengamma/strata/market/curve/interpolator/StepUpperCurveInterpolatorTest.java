@@ -77,6 +77,31 @@ public class StepUpperCurveInterpolatorTest {
     }
   }
 
+  @Test
+  public void test_batch() {
+    BoundCurveInterpolator bci = STEP_UPPER_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    double[] values = new double[X_TEST.size()];
+    double[][] sensitivities = new double[X_TEST.size()][SIZE];
+    bci.interpolate(X_TEST.toArray(), values);
+    bci.parameterSensitivity(X_TEST.toArray(), sensitivities);
+    for (int i = 0; i < X_TEST.size(); i++) {
+      assertThat(values[i]).isEqualTo(Y_DATA.get(INDEX_TEST.get(i)));
+      assertThat(sensitivities[i]).containsExactly(DoubleArray.filled(SIZE).with(INDEX_TEST.get(i), 1d).toArray());
+    }
+  }
+
+  @Test
+  public void test_addParameterSensitivity() {
+    BoundCurveInterpolator bci = STEP_UPPER_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    double[] accumulator = new double[SIZE];
+    double[] expected = new double[SIZE];
+    for (int i = 0; i < X_TEST.size(); i++) {
+      bci.addParameterSensitivity(X_TEST.get(i), i + 1d, accumulator);
+      expected[INDEX_TEST.get(i)] += i + 1d;
+    }
+    assertThat(accumulator).containsExactly(expected);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_serialization() {
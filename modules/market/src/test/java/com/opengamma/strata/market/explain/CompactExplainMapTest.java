@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.explain;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link CompactExplainMap}.
+ */
+public class CompactExplainMapTest {
+
+  private static final LocalDate DATE1 = date(2015, 6, 30);
+  private static final LocalDate DATE2 = date(2015, 9, 30);
+  private static final CurrencyAmount AMOUNT1 = CurrencyAmount.of(GBP, 1000);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_builder_simple() {
+    ExplainMapBuilder builder = CompactExplainMap.builder();
+    builder.put(ExplainKey.ACCRUAL_DAYS, 2);
+    builder.put(ExplainKey.DISCOUNT_FACTOR, 0.9d);
+    CompactExplainMap test = builder.buildCompact();
+    assertThat(test.size()).isEqualTo(2);
+    assertThat(test.get(ExplainKey.ACCRUAL_DAYS)).isEqualTo(Optional.of(2));
+    assertThat(test.get(ExplainKey.DISCOUNT_FACTOR)).isEqualTo(Optional.of(0.9d));
+    assertThat(test.get(ExplainKey.ACCRUAL_DAY_COUNT)).isEqualTo(Optional.empty());
+    assertThat(test.toExplainMap()).isEqualTo(ExplainMap.builder()
+        .put(ExplainKey.ACCRUAL_DAYS, 2)
+        .put(ExplainKey.DISCOUNT_FACTOR, 0.9d)
+        .build());
+    assertThat(test.toExplainMap()).isSameAs(test.toExplainMap());
+    assertThat(test.toString()).isEqualTo("CompactExplainMap[size=2]");
+  }
+
+  @Test
+  public void test_builder_replaceValue() {
+    ExplainMapBuilder builder = CompactExplainMap.builder();
+    builder.put(ExplainKey.DISCOUNT_FACTOR, 0.9d);
+    builder.put(ExplainKey.DISCOUNT_FACTOR, Double.valueOf(0.8d));
+    CompactExplainMap test = builder.buildCompact();
+    assertThat(test.get(ExplainKey.DISCOUNT_FACTOR)).isEqualTo(Optional.of(0.8d));
+    assertThat(test.toExplainMap().get(ExplainKey.DISCOUNT_FACTOR)).isEqualTo(Optional.of(0.8d));
+    assertThat(test.getDoubles(ExplainKey.DISCOUNT_FACTOR)).isEqualTo(DoubleArray.of(0.9d, 0.8d));
+  }
+
+  @Test
+  public void test_builder_openClose() {
+    ExplainMapBuilder builder = CompactExplainMap.builder();
+    ExplainMapBuilder child = builder.openListEntry(ExplainKey.LEGS);
+    child.put(ExplainKey.ACCRUAL_DAYS, 2);
+    ExplainMapBuilder result = child.closeListEntry(ExplainKey.LEGS);
+    CompactExplainMap test = result.buildCompact();
+    assertThat(test.size()).isEqualTo(3);
+    assertThat(test.get(ExplainKey.ACCRUAL_DAYS)).isEqualTo(Optional.empty());
+    assertThat(test.get(ExplainKey.LEGS)).isPresent();
+    assertThat(test.get(ExplainKey.LEGS).get()).hasSize(1);
+    assertThat(test.get(ExplainKey.LEGS).get().get(0).get(ExplainKey.ACCRUAL_DAYS)).isEqualTo(Optional.of(2));
+  }
+
+  @Test
+  public void test_builder_openClose_wrongCloseKey() {
+    ExplainMapBuilder builder = CompactExplainMap.builder();
+    ExplainMapBuilder child = builder.openListEntry(ExplainKey.LEGS);
+    child.put(ExplainKey.ACCRUAL_DAYS, 2);
+    assertThatIllegalStateException()
+        .isThrownBy(() -> child.closeListEntry(ExplainKey.PAYMENT_PERIODS));
+    assertThatIllegalStateException()
+        .isThrownBy(() -> child.buildCompact());
+    assertThatIllegalStateException()
+        .isThrownBy(() -> CompactExplainMap.builder().closeListEntry(ExplainKey.LEGS));
+  }
+
+  @Test
+  public void test_builder_notCompact() {
+    assertThatIllegalStateException()
+        .isThrownBy(() -> ExplainMap.builder().buildCompact());
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_matchesExplainMap() {
+    ExplainMap expected = populate(ExplainMap::builder).build();
+    CompactExplainMap test = populate(CompactExplainMap::builder).buildCompact();
+    assertThat(test.toExplainMap()).isEqualTo(expected);
+    assertThat(test.explanationString()).isEqualTo(expected.explanationString());
+    assertThat(test.get(ExplainKey.PRESENT_VALUE)).isEqualTo(Optional.of(AMOUNT1));
+    assertThat(test.get(ExplainKey.LEGS)).isEqualTo(expected.get(ExplainKey.LEGS));
+    assertThat(test.getDoubles(ExplainKey.FORWARD_RATE)).isEqualTo(DoubleArray.of(0.01d, 0.02d, 0.03d));
+    assertThat(test.getDoubles(ExplainKey.FIXED_RATE)).isEqualTo(DoubleArray.EMPTY);
+    assertThat(populate(CompactExplainMap::builder).build()).isEqualTo(expected);
+  }
+
+  // populates the builder with nested data
+  private static ExplainMapBuilder populate(Supplier<ExplainMapBuilder> supplier) {
+    ExplainMapBuilder builder = supplier.get();
+    builder.put(ExplainKey.ENTRY_TYPE, "Swap");
+    for (int i = 0; i < 2; i++) {
+      int legIndex = i;
+      builder.addListEntryWithIndex(ExplainKey.LEGS, leg -> {
+        leg.put(ExplainKey.START_DATE, DATE1);
+        for (int j = 0; j <= legIndex; j++) {
+          double rate = 0.01d * (legIndex + j + 1);
+          leg.addListEntryWithIndex(ExplainKey.PAYMENT_PERIODS, period -> period
+              .put(ExplainKey.FORWARD_RATE, rate)
+              .put(ExplainKey.END_DATE, DATE2));
+        }
+        leg.addListEntry(ExplainKey.PAYMENT_EVENTS, event -> event.put(ExplainKey.COMPLETED, Boolean.TRUE));
+      });
+    }
+    builder.put(ExplainKey.PRESENT_VALUE, AMOUNT1);
+    return builder;
+  }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.observable;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.market.ShiftType;
+
+/**
+ * Test {@link HistoricalQuoteScenarioArray}.
+ */
+public class HistoricalQuoteScenarioArrayTest {
+
+  private static final LocalDateDoubleTimeSeries TIME_SERIES = LocalDateDoubleTimeSeries.builder()
+      .put(date(2020, 1, 1), 1d)
+      .put(date(2020, 1, 2), 2d)
+      .put(date(2020, 1, 3), 4d)
+      .put(date(2020, 1, 6), 5d)
+      .build();
+  private static final double TOL = 1e-12;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_ofLevels() {
+    HistoricalQuoteScenarioArray test = HistoricalQuoteScenarioArray.ofLevels(TIME_SERIES);
+    assertThat(test.getTimeSeries()).isEqualTo(TIME_SERIES);
+    assertThat(test.getStartDate()).isEqualTo(date(2020, 1, 1));
+    assertThat(test.getReturnType()).isEqualTo(Optional.empty());
+    assertThat(test.getBaseValue()).isEqualTo(0d);
+    assertThat(test.getHorizon()).isEqualTo(0);
+    assertThat(test.getScenarioCount()).isEqualTo(4);
+    assertThat(test.get(0)).isEqualTo(1d);
+    assertThat(test.get(3)).isEqualTo(5d);
+    assertThat(test.stream().collect(Collectors.toList())).containsExactly(1d, 2d, 4d, 5d);
+    assertThat(test.toQuoteScenarioArray().getQuotes()).isEqualTo(DoubleArray.of(1d, 2d, 4d, 5d));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> test.get(-1));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> test.get(4));
+  }
+
+  @Test
+  public void test_ofLevels_window() {
+    HistoricalQuoteScenarioArray test = HistoricalQuoteScenarioArray.ofLevels(TIME_SERIES, date(2020, 1, 2), 2);
+    assertThat(test.getStartDate()).isEqualTo(date(2020, 1, 2));
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+    assertThat(test.stream().collect(Collectors.toList())).containsExactly(2d, 4d);
+    // start date without an observation uses the next observation
+    HistoricalQuoteScenarioArray test2 = HistoricalQuoteScenarioArray.ofLevels(TIME_SERIES, date(2020, 1, 4), 1);
+    assertThat(test2.get(0)).isEqualTo(5d);
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> test2.get(1));
+  }
+
+  @Test
+  public void test_ofReturns_relative() {
+    HistoricalQuoteScenarioArray test = HistoricalQuoteScenarioArray.ofReturns(TIME_SERIES, ShiftType.RELATIVE, 10d, 1);
+    assertThat(test.getReturnType()).isEqualTo(Optional.of(ShiftType.RELATIVE));
+    assertThat(test.getBaseValue()).isEqualTo(10d);
+    assertThat(test.getHorizon()).isEqualTo(1);
+    assertThat(test.getScenarioCount()).isEqualTo(3);
+    assertThat(test.get(0)).isCloseTo(20d, offset(TOL));
+    assertThat(test.get(1)).isCloseTo(20d, offset(TOL));
+    assertThat(test.get(2)).isCloseTo(12.5d, offset(TOL));
+  }
+
+  @Test
+  public void test_ofReturns_absolute() {
+    HistoricalQuoteScenarioArray test = HistoricalQuoteScenarioArray.ofReturns(TIME_SERIES, ShiftType.ABSOLUTE, 10d, 2);
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+    assertThat(test.toQuoteScenarioArray().getQuotes()).isEqualTo(DoubleArray.of(13d, 13d));
+  }
+
+  @Test
+  public void test_ofReturns_window() {
+    HistoricalQuoteScenarioArray test =
+        HistoricalQuoteScenarioArray.ofReturns(TIME_SERIES, date(2020, 1, 2), 2, ShiftType.ABSOLUTE, 10d, 1);
+    assertThat(test.getStartDate()).isEqualTo(date(2020, 1, 2));
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+    assertThat(test.toQuoteScenarioArray().getQuotes()).isEqualTo(DoubleArray.of(12d, 11d));
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalQuoteScenarioArray.ofLevels(LocalDateDoubleTimeSeries.empty()));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalQuoteScenarioArray.ofReturns(TIME_SERIES, ShiftType.ABSOLUTE, 10d, 0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalQuoteScenarioArray.ofReturns(TIME_SERIES, ShiftType.ABSOLUTE, 10d, 4));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalQuoteScenarioArray.ofReturns(TIME_SERIES, null, 10d, 1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalQuoteScenarioArray.ofLevels(TIME_SERIES, date(2020, 1, 2), 4));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalQuoteScenarioArray.ofLevels(TIME_SERIES, date(2020, 1, 2), 0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalQuoteScenarioArray.ofReturns(
+            TIME_SERIES, date(2020, 1, 2), 3, ShiftType.ABSOLUTE, 10d, 1));
+  }
+
+  @Test
+  public void test_get_outOfOrder() {
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    LocalDate date = date(2010, 1, 1);
+    for (int i = 0; i < 1000; i++) {
+      builder.put(date.plusDays(i), 100d + i);
+    }
+    LocalDateDoubleTimeSeries timeSeries = builder.build();
+    HistoricalQuoteScenarioArray test = HistoricalQuoteScenarioArray.ofReturns(timeSeries, ShiftType.ABSOLUTE, 5d, 10);
+    assertThat(test.getScenarioCount()).isEqualTo(990);
+    // access out of order
+    int[] indices = {0, 989, 255, 256, 3, 700, 511, 512, 0};
+    for (int index : indices) {
+      assertThat(test.get(index)).isEqualTo(15d);
+    }
+    HistoricalQuoteScenarioArray levels = HistoricalQuoteScenarioArray.ofLevels(timeSeries);
+    for (int index : indices) {
+      assertThat(levels.get(index)).isEqualTo(100d + index);
+    }
+    assertThat(levels.toQuoteScenarioArray().getQuotes()).isEqualTo(DoubleArray.of(1000, i -> 100d + i));
+    // window spanning several blocks
+    HistoricalQuoteScenarioArray window = HistoricalQuoteScenarioArray.ofLevels(timeSeries, date.plusDays(300), 600);
+    for (int index : new int[] {599, 0, 255, 256, 300, 511, 512, 1}) {
+      assertThat(window.get(index)).isEqualTo(400d + index);
+    }
+    assertThat(window.stream().mapToDouble(Double::doubleValue).toArray())
+        .isEqualTo(DoubleArray.of(600, i -> 400d + i).toArray());
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    HistoricalQuoteScenarioArray test = HistoricalQuoteScenarioArray.ofLevels(TIME_SERIES);
+    coverImmutableBean(test);
+    HistoricalQuoteScenarioArray test2 = HistoricalQuoteScenarioArray.ofReturns(
+        TIME_SERIES.headSeries(3), ShiftType.RELATIVE, 2d, 1);
+    coverBeanEquals(test, test2);
+  }
+
+  @Test
+  public void test_serialization() {
+    HistoricalQuoteScenarioArray test = HistoricalQuoteScenarioArray.ofReturns(TIME_SERIES, ShiftType.RELATIVE, 2d, 1);
+    test.get(0);
+    assertSerialization(test);
+  }
+
+}
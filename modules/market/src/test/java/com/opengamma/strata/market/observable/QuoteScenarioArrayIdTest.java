@@ -5,12 +5,14 @@
  */
 package com.opengamma.strata.market.observable;
 
+import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.Test;
 
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.FieldName;
 import com.opengamma.strata.data.ObservableSource;
 import com.opengamma.strata.data.scenario.MarketDataBox;
@@ -45,4 +47,23 @@ public class QuoteScenarioArrayIdTest {
     assertThat(quotesArray.getQuotes()).isEqualTo(DoubleArray.of(3d, 3d, 3d));
   }
 
+  @Test
+  public void createScenarioValueFromQuoteScenarioArray() {
+    QuoteScenarioArray array = QuoteScenarioArray.of(DoubleArray.of(1d, 2d, 3d));
+    MarketDataBox<Double> box = MarketDataBox.ofScenarioValue(array);
+    assertThat(KEY.createScenarioValue(box, 3)).isSameAs(array);
+  }
+
+  @Test
+  public void createScenarioValueFromHistoricalQuoteScenarioArray() {
+    LocalDateDoubleTimeSeries timeSeries = LocalDateDoubleTimeSeries.builder()
+        .put(date(2020, 1, 1), 1d)
+        .put(date(2020, 1, 2), 2d)
+        .put(date(2020, 1, 3), 3d)
+        .build();
+    MarketDataBox<Double> box = MarketDataBox.ofScenarioValue(HistoricalQuoteScenarioArray.ofLevels(timeSeries));
+    QuoteScenarioArray quotesArray = KEY.createScenarioValue(box, 3);
+    assertThat(quotesArray.getQuotes()).isEqualTo(DoubleArray.of(1d, 2d, 3d));
+  }
+
 }
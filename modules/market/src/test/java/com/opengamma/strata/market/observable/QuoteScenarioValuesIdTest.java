@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.observable;
+
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.data.FieldName;
+import com.opengamma.strata.data.ObservableSource;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.market.ShiftType;
+
+public class QuoteScenarioValuesIdTest {
+
+  private static final QuoteScenarioValuesId KEY = QuoteScenarioValuesId.of(StandardId.of("test", "1"), FieldName.of("fieldName"));
+
+  @Test
+  public void getMarketDataKey() {
+    QuoteId quoteId = QuoteId.of(StandardId.of("test", "1"), FieldName.of("fieldName"), ObservableSource.NONE);
+    assertThat(KEY.getMarketDataId()).isEqualTo(quoteId);
+    assertThat(QuoteScenarioValuesId.of(quoteId)).isEqualTo(KEY);
+  }
+
+  @Test
+  public void getMarketDataType() {
+    assertThat(KEY.getScenarioMarketDataType()).isEqualTo(ScenarioArray.class);
+  }
+
+  @Test
+  public void createScenarioValue() {
+    MarketDataBox<Double> box = MarketDataBox.ofScenarioValues(1d, 2d, 3d);
+    ScenarioArray<Double> quotesArray = KEY.createScenarioValue(box, 3);
+    assertThat(quotesArray).isEqualTo(QuoteScenarioArray.of(DoubleArray.of(1d, 2d, 3d)));
+  }
+
+  @Test
+  public void createScenarioValueFromSingleValue() {
+    MarketDataBox<Double> box = MarketDataBox.ofSingleValue(3d);
+    ScenarioArray<Double> quotesArray = KEY.createScenarioValue(box, 3);
+    assertThat(quotesArray).isEqualTo(QuoteScenarioArray.of(DoubleArray.of(3d, 3d, 3d)));
+  }
+
+  @Test
+  public void createScenarioValueFromQuoteScenarioArray() {
+    QuoteScenarioArray array = QuoteScenarioArray.of(DoubleArray.of(1d, 2d, 3d));
+    MarketDataBox<Double> box = MarketDataBox.ofScenarioValue(array);
+    assertThat(KEY.createScenarioValue(box, 3)).isSameAs(array);
+  }
+
+  @Test
+  public void createScenarioValueFromHistoricalQuoteScenarioArray() {
+    LocalDateDoubleTimeSeries timeSeries = LocalDateDoubleTimeSeries.builder()
+        .put(date(2020, 1, 1), 1d)
+        .put(date(2020, 1, 2), 2d)
+        .put(date(2020, 1, 3), 3d)
+        .build();
+    HistoricalQuoteScenarioArray array = HistoricalQuoteScenarioArray.ofLevels(timeSeries);
+    MarketDataBox<Double> box = MarketDataBox.ofScenarioValue(array);
+    assertThat(KEY.createScenarioValue(box, 3)).isSameAs(array);
+  }
+
+  @Test
+  public void getScenarioValueFromHistoricalQuoteScenarioArray() {
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    for (int i = 0; i < 1000; i++) {
+      builder.put(date(2020, 1, 1).plusDays(i), 100d + i);
+    }
+    HistoricalQuoteScenarioArray array = HistoricalQuoteScenarioArray.ofReturns(builder.build(), ShiftType.ABSOLUTE, 5d, 1);
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(date(2022, 1, 1))
+        .addBox(KEY.getMarketDataId(), MarketDataBox.ofScenarioValue(array))
+        .build();
+    // the historical array is returned, and no quotes are calculated until a scenario is accessed
+    ScenarioArray<Double> quotesArray = marketData.getScenarioValue(KEY);
+    assertThat(quotesArray).isSameAs(array);
+    assertThat(quotesArray.getScenarioCount()).isEqualTo(999);
+    assertThat(quotesArray.get(998)).isEqualTo(6d);
+  }
+
+}
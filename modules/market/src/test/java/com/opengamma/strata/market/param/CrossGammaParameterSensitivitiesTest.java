@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -179,6 +180,86 @@ public class CrossGammaParameterSensitivitiesTest {
     assertThat(test).isEqualTo(SENSI_1);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_accumulator() {
+    CrossGammaParameterSensitivities test = CrossGammaParameterSensitivities.accumulator()
+        .add(SENSI_1)
+        .add(SENSI_2)
+        .build();
+    assertThat(test).isEqualTo(SENSI_1.combinedWith(SENSI_2));
+    assertThat(CrossGammaParameterSensitivities.accumulator().build()).isEqualTo(CrossGammaParameterSensitivities.empty());
+  }
+
+  @Test
+  public void test_accumulator_crossCurve() {
+    CrossGammaParameterSensitivities test = CrossGammaParameterSensitivities.accumulator()
+        .add(SENSI_3)
+        .add(ENTRY_USD12, FACTOR1)
+        .add(ENTRY_USD21)
+        .build();
+    CrossGammaParameterSensitivities expected = SENSI_3
+        .combinedWith(ENTRY_USD12.multipliedBy(FACTOR1))
+        .combinedWith(ENTRY_USD21);
+    assertThat(test.equalWithTolerance(expected, TOLERENCE_CMP)).isTrue();
+  }
+
+  @Test
+  public void test_accumulator_differentOrder() {
+    CrossGammaParameterSensitivities test = CrossGammaParameterSensitivities.accumulator()
+        .add(ENTRY_USD)
+        .add(ENTRY_USD21)
+        .build();
+    List<Pair<MarketDataName<?>, List<? extends ParameterMetadata>>> order =
+        ImmutableList.of(Pair.of(NAME1, METADATA1), Pair.of(NAME2, METADATA2));
+    CrossGammaParameterSensitivities expected = CrossGammaParameterSensitivities.of(
+        CrossGammaParameterSensitivity.of(NAME1, METADATA1, order, USD, DoubleMatrix.of(2, 4, 100, 200, 0, 0, 300, 123, 0, 0)),
+        ENTRY_USD21);
+    assertThat(test).isEqualTo(expected);
+  }
+
+  @Test
+  public void test_accumulator_combine() {
+    CrossGammaParameterSensitivitiesAccumulator accumulator1 = CrossGammaParameterSensitivities.accumulator()
+        .add(ENTRY_USD)
+        .add(ENTRY_EUR);
+    CrossGammaParameterSensitivitiesAccumulator accumulator2 = CrossGammaParameterSensitivities.accumulator()
+        .add(SENSI_3)
+        .add(ENTRY_USD2);
+    CrossGammaParameterSensitivities test = CrossGammaParameterSensitivities.accumulator()
+        .add(ENTRY_USD)
+        .add(ENTRY_EUR)
+        .add(SENSI_3)
+        .add(ENTRY_USD2)
+        .build();
+    CrossGammaParameterSensitivities combined = accumulator1.combine(accumulator2).build();
+    assertThat(combined).isEqualTo(test);
+    // other accumulator is unaffected
+    assertThat(accumulator2.build()).isEqualTo(CrossGammaParameterSensitivities.accumulator().add(SENSI_3).add(ENTRY_USD2).build());
+  }
+
+  @Test
+  public void test_accumulator_wrongParameterCount() {
+    CrossGammaParameterSensitivitiesAccumulator accumulator = CrossGammaParameterSensitivities.accumulator().add(ENTRY_USD);
+    CrossGammaParameterSensitivity wrong = CrossGammaParameterSensitivity.of(
+        NAME1, ParameterMetadata.listOfEmpty(1), USD, DoubleMatrix.of(1, 1, 1d));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> accumulator.add(wrong));
+  }
+
+  @Test
+  public void test_toCombinedSensitivities() {
+    List<CrossGammaParameterSensitivities> list = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      list.add(SENSI_3.multipliedBy(i));
+    }
+    CrossGammaParameterSensitivities expected = SENSI_3.multipliedBy(99 * 100 / 2);
+    assertThat(list.stream().collect(CrossGammaParameterSensitivities.toCombinedSensitivities())
+        .equalWithTolerance(expected, TOLERENCE_CMP)).isTrue();
+    assertThat(list.parallelStream().collect(CrossGammaParameterSensitivities.toCombinedSensitivities())
+        .equalWithTolerance(expected, TOLERENCE_CMP)).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_convertedTo_singleCurrency() {
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -254,6 +255,65 @@ public class CurrencyParameterSensitivitiesTest {
     assertThat(test).isEqualTo(SENSI_1);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_accumulator() {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    assertThat(accumulator.build()).isEqualTo(CurrencyParameterSensitivities.empty());
+    CurrencyParameterSensitivities test = accumulator
+        .add(SENSI_1)
+        .add(SENSI_2)
+        .build();
+    assertThat(test).isEqualTo(SENSI_1.combinedWith(SENSI_2));
+    // the accumulator remains usable after building
+    accumulator.add(ENTRY_ZERO0);
+    assertThat(accumulator.build()).isEqualTo(test.combinedWith(ENTRY_ZERO0));
+    assertThat(test.getSensitivities()).containsExactly(ENTRY_USD_TOTAL, ENTRY_EUR);
+  }
+
+  @Test
+  public void test_accumulator_factor() {
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.accumulator()
+        .add(ENTRY_USD, FACTOR1)
+        .add(ENTRY_USD2, -1d)
+        .build();
+    CurrencyParameterSensitivities expected = SENSI_1.multipliedBy(FACTOR1).combinedWith(ENTRY_USD2.multipliedBy(-1d));
+    assertThat(test.equalWithTolerance(expected, TOLERENCE_CMP)).isTrue();
+  }
+
+  @Test
+  public void test_accumulator_sizeMismatch() {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator().add(SENSI_1);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> accumulator.add(ENTRY_USD_SMALL));
+  }
+
+  @Test
+  public void test_accumulator_combine() {
+    CurrencyParameterSensitivitiesAccumulator base = CurrencyParameterSensitivities.accumulator().add(SENSI_1);
+    CurrencyParameterSensitivitiesAccumulator other = CurrencyParameterSensitivities.accumulator().add(SENSI_2);
+    CurrencyParameterSensitivities test = base.combine(other).build();
+    assertThat(test.getSensitivities()).containsExactly(ENTRY_USD_TOTAL, ENTRY_EUR);
+    // the other accumulator is unaffected
+    assertThat(other.build()).isEqualTo(SENSI_2);
+    assertThat(CurrencyParameterSensitivities.accumulator().combine(other).build()).isEqualTo(SENSI_2);
+  }
+
+  @Test
+  public void test_toCombinedSensitivities() {
+    List<CurrencyParameterSensitivities> sensitivities = new ArrayList<>();
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.empty();
+    for (int i = 0; i < 100; i++) {
+      CurrencyParameterSensitivities sens = (i % 2 == 0 ? SENSI_1 : SENSI_2).multipliedBy(i);
+      sensitivities.add(sens);
+      expected = expected.combinedWith(sens);
+    }
+    assertThat(sensitivities.stream().collect(CurrencyParameterSensitivities.toCombinedSensitivities()))
+        .isEqualTo(expected);
+    assertThat(sensitivities.parallelStream().collect(CurrencyParameterSensitivities.toCombinedSensitivities())
+        .equalWithTolerance(expected, TOLERENCE_CMP)).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_mergedWith() {
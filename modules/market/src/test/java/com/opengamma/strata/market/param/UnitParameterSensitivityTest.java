@@ -136,6 +136,15 @@ public class UnitParameterSensitivityTest {
         .isThrownBy(() -> base.withSensitivity(DoubleArray.of(1d)));
   }
 
+  @Test
+  public void test_withSensitivity_currency() {
+    UnitParameterSensitivity base = UnitParameterSensitivity.of(NAME1, METADATA1, VECTOR1);
+    CurrencyParameterSensitivity test = base.withSensitivity(USD, VECTOR1_FACTOR);
+    assertThat(test).isEqualTo(CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, VECTOR1_FACTOR));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> base.withSensitivity(USD, DoubleArray.of(1d)));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_plus_array() {
@@ -115,6 +115,17 @@ public class InterpolatedNodalSurfaceTest {
     assertThat(sensiValues.equalWithTolerance(sensiValuesInterp, 1e-8)).isTrue();
   }
 
+  @Test
+  public void test_addZValueParameterSensitivity() {
+    InterpolatedNodalSurface test = InterpolatedNodalSurface.of(METADATA, XVALUES, YVALUES, ZVALUES, INTERPOLATOR);
+    double[] accumulator = new double[SIZE];
+    test.addZValueParameterSensitivity(1.5d, 1.5d, 2d, accumulator);
+    test.addZValueParameterSensitivity(3d, 3.5d, -1d, accumulator);
+    DoubleArray expected = test.zValueParameterSensitivity(1.5d, 1.5d).getSensitivity().multipliedBy(2d)
+        .minus(test.zValueParameterSensitivity(3d, 3.5d).getSensitivity());
+    assertThat(DoubleArray.ofUnsafe(accumulator).equalWithTolerance(expected, 1e-12)).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_withMetadata() {
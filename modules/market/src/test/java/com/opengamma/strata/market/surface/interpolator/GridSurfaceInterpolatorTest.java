@@ -113,6 +113,61 @@ public class GridSurfaceInterpolatorTest {
     }
   }
 
+  @Test
+  public void test_interpolation_batch() {
+    GridSurfaceInterpolator test = GridSurfaceInterpolator.of(
+        DOUBLE_QUADRATIC, FLAT, FLAT, LINEAR, FLAT, FLAT);
+    BoundSurfaceInterpolator bci = test.bind(X_DATA, Y_DATA, Z_DATA);
+    double[] xValues = {0.2, 1.3, 2.5, -1.0, 0.7, 3.5, 1.3, 2.2};
+    double[] yValues = {3.4, 3.4, 3.4, 4.1, 4.1, 4.1, 3.4, 6.0};
+    double[] output = new double[xValues.length];
+    bci.interpolate(xValues, yValues, output);
+    for (int i = 0; i < xValues.length; i++) {
+      assertThat(output[i]).isEqualTo(test.bind(X_DATA, Y_DATA, Z_DATA).interpolate(xValues[i], yValues[i]));
+    }
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> bci.interpolate(xValues, new double[1], output));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> bci.interpolate(xValues, yValues, new double[1]));
+  }
+
+  @Test
+  public void test_parameterSensitivity() {
+    GridSurfaceInterpolator test = GridSurfaceInterpolator.of(
+        DOUBLE_QUADRATIC, FLAT, FLAT, LINEAR, FLAT, FLAT);
+    BoundSurfaceInterpolator bci = test.bind(X_DATA, Y_DATA, Z_DATA);
+    double eps = 1.0e-6;
+    for (int i = 0; i < X_TEST.size(); i++) {
+      // repeat the calculation to check the slice reused from the previous call
+      for (int repeat = 0; repeat < 2; repeat++) {
+        DoubleArray computed = bci.parameterSensitivity(X_TEST.get(i), Y_TEST.get(i));
+        assertThat(computed.size()).isEqualTo(Z_DATA.size());
+        for (int j = 0; j < Z_DATA.size(); j++) {
+          BoundSurfaceInterpolator bumped = test.bind(X_DATA, Y_DATA, Z_DATA.with(j, Z_DATA.get(j) + eps));
+          double expected = (bumped.interpolate(X_TEST.get(i), Y_TEST.get(i)) - bci.interpolate(X_TEST.get(i), Y_TEST.get(i))) / eps;
+          assertThat(computed.get(j)).isCloseTo(expected, offset(1.0e-6));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_addParameterSensitivity() {
+    GridSurfaceInterpolator test = GridSurfaceInterpolator.of(
+        LINEAR, FLAT, FLAT, LINEAR, FLAT, FLAT);
+    BoundSurfaceInterpolator bci = test.bind(X_DATA, Y_DATA, Z_DATA);
+    double[] accumulator = new double[Z_DATA.size()];
+    DoubleArray expected = DoubleArray.filled(Z_DATA.size());
+    for (int i = 0; i < X_TEST.size(); i++) {
+      double multiplier = i + 1.5;
+      bci.addParameterSensitivity(X_TEST.get(i), Y_TEST.get(i), multiplier, accumulator);
+      expected = expected.plus(bci.parameterSensitivity(X_TEST.get(i), Y_TEST.get(i)).multipliedBy(multiplier));
+    }
+    assertThat(DoubleArray.ofUnsafe(accumulator).equalWithTolerance(expected, TOL)).isTrue();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> bci.addParameterSensitivity(0.2, 3.4, 1d, new double[1]));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
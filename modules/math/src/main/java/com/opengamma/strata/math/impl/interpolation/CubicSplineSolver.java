@@ -9,8 +9,11 @@ import static com.opengamma.strata.math.impl.matrix.MatrixAlgebraFactory.OG_ALGE
 
 import java.util.Arrays;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionCommons;
 import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionResult;
 import com.opengamma.strata.math.linearalgebra.Decomposition;
@@ -23,6 +26,14 @@ import com.opengamma.strata.math.linearalgebra.Decomposition;
  */
 abstract class CubicSplineSolver {
 
+  /**
+   * The cache of decompositions, keyed by the matrix to be decomposed.
+   * The matrix depends only on the x-values and the endpoint conditions, thus the decomposition
+   * is reused when the same x-values are interpolated with different y-values, such as during
+   * calibration, bumping and scenario generation.
+   */
+  private static final Cache<DoubleMatrix, Factorization> FACTORIZATIONS = CacheBuilder.newBuilder().maximumSize(100).build();
+
   private final Decomposition<LUDecompositionResult> _luObj = new LUDecompositionCommons();
 
   /**
@@ -229,22 +240,21 @@ abstract class CubicSplineSolver {
   /**
    * Cubic spline is obtained by solving a linear problem Ax=b where A is a square matrix and x,b are vector
    * This can be done by LU decomposition
+   * <p>
+   * The matrix A depends only on the x-values, thus the decomposition is cached and
+   * solving for new y-values only requires forward and backward substitution.
    * @param doubMat Matrix A
    * @param doubVec Vector B
    * @return Solution to the linear equation, x
    */
   protected double[] matrixEqnSolver(double[][] doubMat, double[] doubVec) {
-    LUDecompositionResult result = _luObj.apply(DoubleMatrix.copyOf(doubMat));
-
-    double[][] lMat = result.getL().toArray();
-    double[][] uMat = result.getU().toArray();
-    DoubleArray doubVecMod = ((DoubleArray) OG_ALGEBRA.multiply(result.getP(), DoubleArray.copyOf(doubVec)));
-
-    return backSubstitution(uMat, forwardSubstitution(lMat, doubVecMod));
+    return decompose(doubMat).solve(doubVec);
   }
 
   /**
    * Cubic spline and its node sensitivity are respectively obtained by solving a linear problem Ax=b where A is a square matrix and x,b are vector and AN=L where N,L are matrices 
+   * <p>
+   * The matrices A and L depend only on the x-values, thus the decomposition of A and the solution N are cached.
    * @param doubMat1 The matrix A
    * @param doubVec The vector b
    * @param doubMat2 The matrix L
@@ -252,22 +262,65 @@ abstract class CubicSplineSolver {
    */
   protected DoubleArray[] combinedMatrixEqnSolver(double[][] doubMat1, double[] doubVec, double[][] doubMat2) {
     int nDataPts = doubVec.length;
-    LUDecompositionResult result = _luObj.apply(DoubleMatrix.copyOf(doubMat1));
+    Factorization factorization = decompose(doubMat1);
+    DoubleArray[] sensitivity = factorization.solveSensitivity(DoubleMatrix.copyOf(doubMat2));
+    DoubleArray[] res = new DoubleArray[nDataPts + 1];
+    res[0] = DoubleArray.copyOf(factorization.solve(doubVec));
+    System.arraycopy(sensitivity, 0, res, 1, nDataPts);
+    return res;
+  }
 
-    double[][] lMat = result.getL().toArray();
-    double[][] uMat = result.getU().toArray();
-    DoubleMatrix pMat = result.getP();
-    DoubleArray doubVecMod = ((DoubleArray) OG_ALGEBRA.multiply(pMat, DoubleArray.copyOf(doubVec)));
+  // obtains the cached decomposition of the matrix, decomposing if necessary
+  private Factorization decompose(double[][] doubMat) {
+    DoubleMatrix matrix = DoubleMatrix.copyOf(doubMat);
+    Factorization cached = FACTORIZATIONS.getIfPresent(matrix);
+    if (cached != null) {
+      return cached;
+    }
+    Factorization created = new Factorization(_luObj.apply(matrix));
+    FACTORIZATIONS.put(matrix, created);
+    return created;
+  }
 
-    DoubleMatrix doubMat2Matrix = DoubleMatrix.copyOf(doubMat2);
-    DoubleArray[] res = new DoubleArray[nDataPts + 1];
-    res[0] = DoubleArray.copyOf(backSubstitution(uMat, forwardSubstitution(lMat, doubVecMod)));
-    for (int i = 0; i < nDataPts; ++i) {
-      DoubleArray doubMat2Colum = doubMat2Matrix.column(i);
-      DoubleArray doubVecMod2 = ((DoubleArray) OG_ALGEBRA.multiply(pMat, doubMat2Colum));
-      res[i + 1] = DoubleArray.copyOf(backSubstitution(uMat, forwardSubstitution(lMat, doubVecMod2)));
+  //-------------------------------------------------------------------------
+  /**
+   * The LU decomposition of a matrix A, used to solve Ax=b for many vectors b.
+   */
+  private static final class Factorization {
+    private final double[][] lMat;
+    private final double[][] uMat;
+    private final DoubleMatrix pMat;
+    // the last matrix L and solution N of AN=L, benign race as the solution is always the same
+    private volatile Pair<DoubleMatrix, DoubleArray[]> sensitivity;
+
+    private Factorization(LUDecompositionResult result) {
+      this.lMat = result.getL().toArray();
+      this.uMat = result.getU().toArray();
+      this.pMat = result.getP();
+    }
+
+    // solves Ax=b
+    private double[] solve(double[] doubVec) {
+      DoubleArray doubVecMod = ((DoubleArray) OG_ALGEBRA.multiply(pMat, DoubleArray.copyOf(doubVec)));
+      return backSubstitution(uMat, forwardSubstitution(lMat, doubVecMod));
+    }
+
+    // solves AN=L, returning the columns of N
+    private DoubleArray[] solveSensitivity(DoubleMatrix doubMat2Matrix) {
+      Pair<DoubleMatrix, DoubleArray[]> cached = sensitivity;
+      if (cached != null && cached.getFirst().equals(doubMat2Matrix)) {
+        return cached.getSecond();
+      }
+      int nDataPts = doubMat2Matrix.columnCount();
+      DoubleArray[] res = new DoubleArray[nDataPts];
+      for (int i = 0; i < nDataPts; ++i) {
+        DoubleArray doubMat2Colum = doubMat2Matrix.column(i);
+        DoubleArray doubVecMod2 = ((DoubleArray) OG_ALGEBRA.multiply(pMat, doubMat2Colum));
+        res[i] = DoubleArray.copyOf(backSubstitution(uMat, forwardSubstitution(lMat, doubVecMod2)));
+      }
+      sensitivity = Pair.of(doubMat2Matrix, res);
+      return res;
     }
-    return res;
   }
 
   /**
@@ -277,7 +330,7 @@ abstract class CubicSplineSolver {
    * @param doubVec Vector b
    * @return Solution to the linear equation, x
    */
-  private double[] forwardSubstitution(double[][] lMat, DoubleArray doubVec) {
+  private static double[] forwardSubstitution(double[][] lMat, DoubleArray doubVec) {
     int size = lMat.length;
     double[] res = new double[size];
     for (int i = 0; i < size; ++i) {
@@ -297,7 +350,7 @@ abstract class CubicSplineSolver {
    * @param doubVec Vector b
    * @return Solution to the linear equation, x
    */
-  private double[] backSubstitution(double[][] uMat, double[] doubVec) {
+  private static double[] backSubstitution(double[][] uMat, double[] doubVec) {
     int size = uMat.length;
     double[] res = new double[size];
     for (int i = size - 1; i > -1; --i) {
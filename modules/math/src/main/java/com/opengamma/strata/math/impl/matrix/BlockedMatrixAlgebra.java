@@ -0,0 +1,488 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.matrix;
+
+import java.util.stream.IntStream;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.array.Matrix;
+import com.opengamma.strata.math.MathException;
+
+/**
+ * An implementation of matrix algebra using cache-blocked kernels that operate directly on the matrix storage.
+ * <p>
+ * Multiplication of two {@link DoubleMatrix} instances is performed in blocks, with the loops ordered so that
+ * the rows of both the second matrix and the result are traversed sequentially.
+ * Products involving a transpose, such as $\mathbf{A}^T\mathbf{B}$, are calculated without forming the transpose.
+ * The inverse, determinant and linear solve use an LU decomposition with partial pivoting.
+ * <p>
+ * Above a threshold amount of work, the rows of the result are split into blocks that are
+ * calculated in parallel using the common fork-join pool.
+ * The result of each element does not depend on whether the parallel path is used.
+ * <p>
+ * Operations not listed above are provided by {@link OGMatrixAlgebra}.
+ */
+public class BlockedMatrixAlgebra extends OGMatrixAlgebra {
+
+  /**
+   * The default block size, in elements.
+   */
+  private static final int DEFAULT_BLOCK_SIZE = 64;
+  /**
+   * The default amount of work, in multiply-add operations, above which the parallel path is used.
+   */
+  private static final long DEFAULT_PARALLEL_THRESHOLD = 1L << 21;
+  /**
+   * The pivot below which a matrix is treated as singular, matching Apache Commons.
+   */
+  private static final double SINGULARITY_THRESHOLD = 1e-11;
+
+  /**
+   * The block size.
+   */
+  private final int blockSize;
+  /**
+   * The amount of work above which the parallel path is used.
+   */
+  private final long parallelThreshold;
+
+  /**
+   * Creates an instance.
+   */
+  public BlockedMatrixAlgebra() {
+    this(DEFAULT_BLOCK_SIZE, DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  /**
+   * Creates an instance with the specified tuning parameters.
+   *
+   * @param blockSize  the block size, in elements
+   * @param parallelThreshold  the amount of work, in multiply-add operations, above which the parallel path is used
+   */
+  BlockedMatrixAlgebra(int blockSize, long parallelThreshold) {
+    this.blockSize = ArgChecker.notNegativeOrZero(blockSize, "blockSize");
+    this.parallelThreshold = parallelThreshold;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The multiplication of two {@link DoubleMatrix} and of a {@link DoubleMatrix} and a {@link DoubleArray}
+   * use the blocked kernels, other combinations are handled by {@link OGMatrixAlgebra}.
+   */
+  @Override
+  public Matrix multiply(Matrix m1, Matrix m2) {
+    ArgChecker.notNull(m1, "m1");
+    ArgChecker.notNull(m2, "m2");
+    if (m1 instanceof DoubleMatrix && m2 instanceof DoubleMatrix) {
+      return multiply((DoubleMatrix) m1, (DoubleMatrix) m2);
+    } else if (m1 instanceof DoubleMatrix && m2 instanceof DoubleArray) {
+      return multiply((DoubleMatrix) m1, (DoubleArray) m2);
+    }
+    return super.multiply(m1, m2);
+  }
+
+  /**
+   * Multiplies two matrices, $\mathbf{C} = \mathbf{AB}$.
+   *
+   * @param a  the first matrix
+   * @param b  the second matrix
+   * @return the product
+   * @throws IllegalArgumentException if the sizes do not match
+   */
+  public DoubleMatrix multiply(DoubleMatrix a, DoubleMatrix b) {
+    ArgChecker.notNull(a, "a");
+    ArgChecker.notNull(b, "b");
+    checkSizes(a.columnCount() == b.rowCount(), a, b);
+    double[][] aData = a.toArrayUnsafe();
+    double[][] bData = b.toArrayUnsafe();
+    int inner = a.columnCount();
+    int columns = b.columnCount();
+    double[][] result = new double[a.rowCount()][columns];
+    forEachRowBlock(a.rowCount(), (long) inner * columns, (rowStart, rowEnd) -> {
+      for (int kk = 0; kk < inner; kk += blockSize) {
+        int kEnd = Math.min(kk + blockSize, inner);
+        for (int jj = 0; jj < columns; jj += blockSize) {
+          int jEnd = Math.min(jj + blockSize, columns);
+          for (int i = rowStart; i < rowEnd; i++) {
+            double[] aRow = aData[i];
+            double[] resultRow = result[i];
+            for (int k = kk; k < kEnd; k++) {
+              double aik = aRow[k];
+              double[] bRow = bData[k];
+              for (int j = jj; j < jEnd; j++) {
+                resultRow[j] += aik * bRow[j];
+              }
+            }
+          }
+        }
+      }
+    });
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  /**
+   * Multiplies the transpose of the first matrix by the second matrix, $\mathbf{C} = \mathbf{A}^T\mathbf{B}$.
+   * <p>
+   * The transpose is not formed.
+   *
+   * @param a  the first matrix, to be transposed
+   * @param b  the second matrix
+   * @return the product
+   * @throws IllegalArgumentException if the sizes do not match
+   */
+  public DoubleMatrix transposeMultiply(DoubleMatrix a, DoubleMatrix b) {
+    ArgChecker.notNull(a, "a");
+    ArgChecker.notNull(b, "b");
+    checkSizes(a.rowCount() == b.rowCount(), a, b);
+    double[][] aData = a.toArrayUnsafe();
+    double[][] bData = b.toArrayUnsafe();
+    int inner = a.rowCount();
+    int columns = b.columnCount();
+    double[][] result = new double[a.columnCount()][columns];
+    forEachRowBlock(a.columnCount(), (long) inner * columns, (rowStart, rowEnd) -> {
+      for (int kk = 0; kk < inner; kk += blockSize) {
+        int kEnd = Math.min(kk + blockSize, inner);
+        for (int jj = 0; jj < columns; jj += blockSize) {
+          int jEnd = Math.min(jj + blockSize, columns);
+          for (int i = rowStart; i < rowEnd; i++) {
+            double[] resultRow = result[i];
+            for (int k = kk; k < kEnd; k++) {
+              double aki = aData[k][i];
+              double[] bRow = bData[k];
+              for (int j = jj; j < jEnd; j++) {
+                resultRow[j] += aki * bRow[j];
+              }
+            }
+          }
+        }
+      }
+    });
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  /**
+   * Multiplies the first matrix by the transpose of the second matrix, $\mathbf{C} = \mathbf{AB}^T$.
+   * <p>
+   * The transpose is not formed.
+   *
+   * @param a  the first matrix
+   * @param b  the second matrix, to be transposed
+   * @return the product
+   * @throws IllegalArgumentException if the sizes do not match
+   */
+  public DoubleMatrix multiplyTranspose(DoubleMatrix a, DoubleMatrix b) {
+    ArgChecker.notNull(a, "a");
+    ArgChecker.notNull(b, "b");
+    checkSizes(a.columnCount() == b.columnCount(), a, b);
+    double[][] aData = a.toArrayUnsafe();
+    double[][] bData = b.toArrayUnsafe();
+    int inner = a.columnCount();
+    int columns = b.rowCount();
+    double[][] result = new double[a.rowCount()][columns];
+    forEachRowBlock(a.rowCount(), (long) inner * columns, (rowStart, rowEnd) -> {
+      for (int jj = 0; jj < columns; jj += blockSize) {
+        int jEnd = Math.min(jj + blockSize, columns);
+        for (int i = rowStart; i < rowEnd; i++) {
+          double[] aRow = aData[i];
+          for (int j = jj; j < jEnd; j++) {
+            double[] bRow = bData[j];
+            double sum = 0d;
+            for (int k = 0; k < inner; k++) {
+              sum += aRow[k] * bRow[k];
+            }
+            result[i][j] = sum;
+          }
+        }
+      }
+    });
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The result is symmetric, thus only the upper triangle is calculated.
+   */
+  @Override
+  public DoubleMatrix matrixTransposeMultiplyMatrix(DoubleMatrix a) {
+    ArgChecker.notNull(a, "a");
+    double[][] aData = a.toArrayUnsafe();
+    int inner = a.rowCount();
+    int size = a.columnCount();
+    double[][] result = new double[size][size];
+    forEachRowBlock(size, (long) inner * size / 2, (rowStart, rowEnd) -> {
+      for (int kk = 0; kk < inner; kk += blockSize) {
+        int kEnd = Math.min(kk + blockSize, inner);
+        for (int i = rowStart; i < rowEnd; i++) {
+          double[] resultRow = result[i];
+          for (int k = kk; k < kEnd; k++) {
+            double[] aRow = aData[k];
+            double aki = aRow[i];
+            for (int j = i; j < size; j++) {
+              resultRow[j] += aki * aRow[j];
+            }
+          }
+        }
+      }
+    });
+    for (int i = 0; i < size; i++) {
+      for (int j = i + 1; j < size; j++) {
+        result[j][i] = result[i][j];
+      }
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getTranspose(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      return ((DoubleMatrix) m).transpose();
+    }
+    throw new IllegalArgumentException("Can only take transpose of DoubleMatrix; have " + m.getClass());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Solves the linear system $\mathbf{A}x = b$.
+   *
+   * @param a  the square matrix
+   * @param b  the right hand side
+   * @return the solution
+   * @throws IllegalArgumentException if the sizes do not match
+   * @throws MathException if the matrix is singular
+   */
+  public DoubleArray solve(DoubleMatrix a, DoubleArray b) {
+    ArgChecker.notNull(b, "b");
+    DoubleMatrix x = solve(a, DoubleMatrix.of(b.size(), 1, b.toArrayUnsafe()));
+    return x.column(0);
+  }
+
+  /**
+   * Solves the linear system $\mathbf{AX} = \mathbf{B}$.
+   *
+   * @param a  the square matrix
+   * @param b  the right hand side
+   * @return the solution
+   * @throws IllegalArgumentException if the sizes do not match
+   * @throws MathException if the matrix is singular
+   */
+  public DoubleMatrix solve(DoubleMatrix a, DoubleMatrix b) {
+    ArgChecker.notNull(a, "a");
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(a.isSquare(), "Matrix not square");
+    checkSizes(a.rowCount() == b.rowCount(), a, b);
+    LuDecomposition lu = decompose(a);
+    if (lu.singular) {
+      throw new MathException("Matrix is singular");
+    }
+    return DoubleMatrix.ofUnsafe(lu.solve(b.toArrayUnsafe()));
+  }
+
+  /**
+   * {@inheritDoc}
+   * @throws MathException if the matrix is singular
+   */
+  @Override
+  public DoubleMatrix getInverse(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      DoubleMatrix matrix = (DoubleMatrix) m;
+      return solve(matrix, DoubleMatrix.identity(matrix.rowCount()));
+    }
+    throw new IllegalArgumentException("Can only find inverse of DoubleMatrix; have " + m.getClass());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double getDeterminant(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      DoubleMatrix matrix = (DoubleMatrix) m;
+      ArgChecker.isTrue(matrix.isSquare(), "Matrix not square");
+      LuDecomposition lu = decompose(matrix);
+      if (lu.singular) {
+        return 0d;
+      }
+      double determinant = lu.sign;
+      for (int i = 0; i < lu.size; i++) {
+        determinant *= lu.lu[i][i];
+      }
+      return determinant;
+    }
+    throw new IllegalArgumentException("Can only find determinant of DoubleMatrix; have " + m.getClass());
+  }
+
+  //-------------------------------------------------------------------------
+  // multiplies a matrix by a vector
+  private DoubleArray multiply(DoubleMatrix matrix, DoubleArray vector) {
+    int n = vector.size();
+    ArgChecker.isTrue(matrix.columnCount() == n, "Matrix/vector size mismatch");
+    double[][] data = matrix.toArrayUnsafe();
+    double[] x = vector.toArrayUnsafe();
+    double[] result = new double[matrix.rowCount()];
+    forEachRowBlock(matrix.rowCount(), n, (rowStart, rowEnd) -> {
+      for (int i = rowStart; i < rowEnd; i++) {
+        double[] row = data[i];
+        double sum = 0d;
+        for (int j = 0; j < n; j++) {
+          sum += row[j] * x[j];
+        }
+        result[i] = sum;
+      }
+    });
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  // decomposes the matrix, with row operations applied in parallel if large
+  private LuDecomposition decompose(DoubleMatrix matrix) {
+    int n = matrix.rowCount();
+    double[][] lu = matrix.toArray();
+    int[] pivot = IntStream.range(0, n).toArray();
+    int sign = 1;
+    for (int k = 0; k < n; k++) {
+      int best = k;
+      for (int i = k + 1; i < n; i++) {
+        if (Math.abs(lu[i][k]) > Math.abs(lu[best][k])) {
+          best = i;
+        }
+      }
+      if (Math.abs(lu[best][k]) < SINGULARITY_THRESHOLD) {
+        return new LuDecomposition(lu, pivot, sign, true);
+      }
+      if (best != k) {
+        double[] tempRow = lu[best];
+        lu[best] = lu[k];
+        lu[k] = tempRow;
+        int tempPivot = pivot[best];
+        pivot[best] = pivot[k];
+        pivot[k] = tempPivot;
+        sign = -sign;
+      }
+      double[] pivotRow = lu[k];
+      double pivotValue = pivotRow[k];
+      int col = k;
+      forEachRowBlock(k + 1, n, n - k, (rowStart, rowEnd) -> {
+        for (int i = rowStart; i < rowEnd; i++) {
+          double[] row = lu[i];
+          double factor = row[col] / pivotValue;
+          row[col] = factor;
+          for (int j = col + 1; j < n; j++) {
+            row[j] -= factor * pivotRow[j];
+          }
+        }
+      });
+    }
+    return new LuDecomposition(lu, pivot, sign, false);
+  }
+
+  //-------------------------------------------------------------------------
+  // the result of an LU decomposition, with L and U stored in a single array
+  private final class LuDecomposition {
+    private final double[][] lu;
+    private final int[] pivot;
+    private final int sign;
+    private final boolean singular;
+    private final int size;
+
+    private LuDecomposition(double[][] lu, int[] pivot, int sign, boolean singular) {
+      this.lu = lu;
+      this.pivot = pivot;
+      this.sign = sign;
+      this.singular = singular;
+      this.size = lu.length;
+    }
+
+    // solves for the right hand side, processing whole rows to access memory sequentially
+    private double[][] solve(double[][] b) {
+      int columns = size == 0 ? 0 : b[0].length;
+      double[][] x = new double[size][];
+      for (int i = 0; i < size; i++) {
+        x[i] = b[pivot[i]].clone();
+      }
+      // forward substitution with L, which has a unit diagonal
+      for (int k = 0; k < size; k++) {
+        double[] xk = x[k];
+        int col = k;
+        forEachRowBlock(k + 1, size, columns, (rowStart, rowEnd) -> {
+          for (int i = rowStart; i < rowEnd; i++) {
+            double factor = lu[i][col];
+            double[] xi = x[i];
+            for (int j = 0; j < columns; j++) {
+              xi[j] -= factor * xk[j];
+            }
+          }
+        });
+      }
+      // back substitution with U
+      for (int k = size - 1; k >= 0; k--) {
+        double[] xk = x[k];
+        double diagonal = lu[k][k];
+        for (int j = 0; j < columns; j++) {
+          xk[j] /= diagonal;
+        }
+        int col = k;
+        forEachRowBlock(0, k, columns, (rowStart, rowEnd) -> {
+          for (int i = rowStart; i < rowEnd; i++) {
+            double factor = lu[i][col];
+            double[] xi = x[i];
+            for (int j = 0; j < columns; j++) {
+              xi[j] -= factor * xk[j];
+            }
+          }
+        });
+      }
+      return x;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // processes the rows in blocks, in parallel if the total work exceeds the threshold
+  private void forEachRowBlock(int rows, long workPerRow, RowBlockTask task) {
+    forEachRowBlock(0, rows, workPerRow, task);
+  }
+
+  // processes the rows in blocks, in parallel if the total work exceeds the threshold
+  private void forEachRowBlock(int start, int end, long workPerRow, RowBlockTask task) {
+    int rows = end - start;
+    if (rows <= 0) {
+      return;
+    }
+    if (rows <= blockSize || rows * workPerRow < parallelThreshold) {
+      task.apply(start, end);
+      return;
+    }
+    int blocks = (rows + blockSize - 1) / blockSize;
+    IntStream.range(0, blocks)
+        .parallel()
+        .forEach(block -> task.apply(start + block * blockSize, Math.min(start + (block + 1) * blockSize, end)));
+  }
+
+  // checks that the sizes of two matrices are compatible
+  private static void checkSizes(boolean valid, DoubleMatrix a, DoubleMatrix b) {
+    ArgChecker.isTrue(
+        valid,
+        "Matrix size mismatch. a is {} by {}, but b is {} by {}",
+        a.rowCount(), a.columnCount(), b.rowCount(), b.columnCount());
+  }
+
+  //-------------------------------------------------------------------------
+  // a task operating on a block of rows
+  @FunctionalInterface
+  private interface RowBlockTask {
+    public abstract void apply(int rowStart, int rowEnd);
+  }
+
+}
@@ -48,7 +48,7 @@ public class OGMatrixAlgebra extends MatrixAlgebra {
     if (m1 instanceof DoubleArray && m2 instanceof DoubleArray) {
       DoubleArray array1 = (DoubleArray) m1;
       DoubleArray array2 = (DoubleArray) m2;
-      return array1.combineReduce(array2, (r, a1, a2) -> r + a1 * a2);
+      return array1.dotProduct(array2);
     }
     throw new IllegalArgumentException("Can only find inner product of DoubleArray; have " + m1.getClass() +
         " and " + m2.getClass());
@@ -26,6 +26,7 @@ import com.opengamma.strata.math.impl.cern.RandomEngine;
 public class NormalDistribution implements ProbabilityDistribution<Double> {
 
   private static final double ROOT2 = Math.sqrt(2);
+  private static final double SQRT_INV_2PI = 1.0 / Math.sqrt(2.0 * Math.PI);
 
   // TODO need a better seed
   private final double _mean;
@@ -53,6 +54,34 @@ public class NormalDistribution implements ProbabilityDistribution<Double> {
     _normal = new Normal(mean, standardDeviation, randomEngine);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the cumulative distribution function of the standard normal distribution.
+   * <p>
+   * This matches {@link #getCDF(Double)} for a mean of zero and a standard deviation of one.
+   * It avoids boxing, and is intended for loops over primitive arrays.
+   * 
+   * @param x  the value
+   * @return the cumulative probability
+   */
+  public static double standardCdf(double x) {
+    return DERFC.getErfc(-x / ROOT2) / 2;
+  }
+
+  /**
+   * Computes the probability density function of the standard normal distribution.
+   * <p>
+   * This matches {@link #getPDF(Double)} for a mean of zero and a standard deviation of one.
+   * It avoids boxing, and is intended for loops over primitive arrays.
+   * 
+   * @param x  the value
+   * @return the probability density
+   */
+  public static double standardPdf(double x) {
+    return SQRT_INV_2PI * Math.exp(-(x * x) / 2.0);
+  }
+
+  //-------------------------------------------------------------------------
   /**
    * {@inheritDoc}
    */
@@ -612,4 +612,48 @@ public class NaturalSplineInterpolatorTest {
         .isThrownBy(() -> interp.interpolate(xValues, yValues, xKey));
 
   }
+
+  /**
+   * The decomposition is reused for the same x-values, the results must be linear in the y-values
+   */
+  @Test
+  public void reuseDecompositionTest() {
+    double[] xValues = new double[] {1., 2., 3.5, 4., 6., 7.2};
+    double[] yValues1 = new double[] {1., 3., 4., 2., 5., 4.5};
+    double[] yValues2 = new double[] {-2., 1., 0.5, 3., 1., 2.};
+    double[] yValuesSum = new double[xValues.length];
+    for (int i = 0; i < xValues.length; ++i) {
+      yValuesSum[i] = yValues1[i] + yValues2[i];
+    }
+
+    NaturalSplineInterpolator interp = new NaturalSplineInterpolator();
+    DoubleMatrix coefs1 = interp.interpolate(xValues, yValues1).getCoefMatrix();
+    DoubleMatrix coefs2 = interp.interpolate(xValues, yValues2).getCoefMatrix();
+    // a different grid in between, which must not affect the result
+    interp.interpolate(new double[] {1., 2., 3., 4., 5., 6.}, yValues1);
+    DoubleMatrix coefsSum = new NaturalSplineInterpolator().interpolate(xValues, yValuesSum).getCoefMatrix();
+    for (int i = 0; i < coefsSum.rowCount(); ++i) {
+      for (int j = 0; j < coefsSum.columnCount(); ++j) {
+        assertThat(coefsSum.get(i, j)).isCloseTo(coefs1.get(i, j) + coefs2.get(i, j), offset(EPS * 100));
+      }
+    }
+    assertThat(interp.interpolate(xValues, yValues1).getCoefMatrix()).isEqualTo(coefs1);
+
+    PiecewisePolynomialResultsWithSensitivity sens1 = interp.interpolateWithSensitivity(xValues, yValues1);
+    PiecewisePolynomialResultsWithSensitivity sens2 = interp.interpolateWithSensitivity(xValues, yValues2);
+    assertThat(sens1.getCoefMatrix()).isEqualTo(coefs1);
+    assertThat(sens2.getCoefMatrix()).isEqualTo(coefs2);
+    for (int i = 0; i < xValues.length - 1; ++i) {
+      DoubleMatrix coefSens = sens1.getCoefficientSensitivity(i);
+      assertThat(sens2.getCoefficientSensitivity(i)).isEqualTo(coefSens);
+      // the coefficients are linear in the y-values
+      for (int j = 0; j < 4; ++j) {
+        double expected = 0.;
+        for (int k = 0; k < xValues.length; ++k) {
+          expected += coefSens.get(j, k) * yValues1[k];
+        }
+        assertThat(coefs1.get(i, j)).isCloseTo(expected, offset(EPS * 100));
+      }
+    }
+  }
 }
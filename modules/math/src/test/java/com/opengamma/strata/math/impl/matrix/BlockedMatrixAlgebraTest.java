@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.matrix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.MathException;
+import com.opengamma.strata.math.impl.linearalgebra.TridiagonalMatrix;
+import com.opengamma.strata.math.impl.util.AssertMatrix;
+
+/**
+ * Test {@link BlockedMatrixAlgebra}.
+ */
+public class BlockedMatrixAlgebraTest {
+
+  private static final BlockedMatrixAlgebra ALGEBRA = MatrixAlgebraFactory.BLOCKED_ALGEBRA;
+  // small blocks and a low threshold to exercise the blocking and parallel paths
+  private static final BlockedMatrixAlgebra SMALL_BLOCKS = new BlockedMatrixAlgebra(3, 0);
+  private static final OGMatrixAlgebra OG = MatrixAlgebraFactory.OG_ALGEBRA;
+  private static final DoubleMatrix A = DoubleMatrix.copyOf(
+      new double[][] {{1., 2., 3.}, {-1., 1., 0.}, {-2., 1., -2.}});
+  private static final DoubleMatrix B = DoubleMatrix.copyOf(new double[][] {{1, 1}, {2, -2}, {3, 1}});
+  private static final DoubleMatrix C = DoubleMatrix.copyOf(new double[][] {{14, 0}, {1, -3}, {-6, -6}});
+
+  @Test
+  public void test_multiply() {
+    assertThat(ALGEBRA.multiply(A, B)).isEqualTo(C);
+    assertThat(ALGEBRA.multiply(A, DoubleArray.of(1, 1, 1))).isEqualTo(DoubleArray.of(6, 0, -3));
+    assertThat(ALGEBRA.multiply(DoubleArray.of(1, 1, 1), A)).isEqualTo(DoubleArray.of(-2, 4, 1));
+    TridiagonalMatrix tridiagonal = new TridiagonalMatrix(new double[] {1, 2, 3}, new double[] {1, 1}, new double[] {2, 2});
+    assertThat(ALGEBRA.multiply(tridiagonal, DoubleArray.of(1, 1, 1)))
+        .isEqualTo(OG.multiply(tridiagonal.toDoubleMatrix(), DoubleArray.of(1, 1, 1)));
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.multiply(B, A));
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.multiply(B, DoubleArray.of(1, 1, 1)));
+  }
+
+  @Test
+  public void test_multiply_blocked() {
+    DoubleMatrix a = random(37, 23, 1);
+    DoubleMatrix b = random(23, 41, 2);
+    DoubleMatrix expected = (DoubleMatrix) OG.multiply(a, b);
+    // each element is summed in the same order, thus the results are identical
+    assertThat(ALGEBRA.multiply(a, b)).isEqualTo(expected);
+    assertThat(SMALL_BLOCKS.multiply(a, b)).isEqualTo(expected);
+    DoubleArray v = random(23, 1, 3).column(0);
+    assertThat(SMALL_BLOCKS.multiply(a, v)).isEqualTo(OG.multiply(a, v));
+  }
+
+  @Test
+  public void test_transposeMultiply() {
+    DoubleMatrix a = random(23, 37, 4);
+    DoubleMatrix b = random(23, 11, 5);
+    DoubleMatrix expected = (DoubleMatrix) OG.multiply(a.transpose(), b);
+    assertThat(ALGEBRA.transposeMultiply(a, b)).isEqualTo(expected);
+    assertThat(SMALL_BLOCKS.transposeMultiply(a, b)).isEqualTo(expected);
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.transposeMultiply(a, a.transpose()));
+  }
+
+  @Test
+  public void test_multiplyTranspose() {
+    DoubleMatrix a = random(19, 23, 6);
+    DoubleMatrix b = random(13, 23, 7);
+    DoubleMatrix expected = (DoubleMatrix) OG.multiply(a, b.transpose());
+    assertThat(ALGEBRA.multiplyTranspose(a, b)).isEqualTo(expected);
+    assertThat(SMALL_BLOCKS.multiplyTranspose(a, b)).isEqualTo(expected);
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.multiplyTranspose(a, a.transpose()));
+  }
+
+  @Test
+  public void test_matrixTransposeMultiplyMatrix() {
+    DoubleMatrix a = random(29, 17, 8);
+    DoubleMatrix expected = OG.matrixTransposeMultiplyMatrix(a);
+    assertThat(ALGEBRA.matrixTransposeMultiplyMatrix(a)).isEqualTo(expected);
+    assertThat(SMALL_BLOCKS.matrixTransposeMultiplyMatrix(a)).isEqualTo(expected);
+  }
+
+  @Test
+  public void test_transpose() {
+    DoubleMatrix a = random(7, 5, 9);
+    assertThat(ALGEBRA.getTranspose(a)).isEqualTo(OG.getTranspose(a));
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.getTranspose(DoubleArray.of(1)));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_solve() {
+    DoubleMatrix a = random(31, 31, 10);
+    DoubleArray x = random(31, 1, 11).column(0);
+    DoubleArray b = (DoubleArray) OG.multiply(a, x);
+    AssertMatrix.assertEqualsVectors(ALGEBRA.solve(a, b), x, 1e-10);
+    AssertMatrix.assertEqualsVectors(SMALL_BLOCKS.solve(a, b), x, 1e-10);
+    DoubleMatrix xs = random(31, 4, 12);
+    DoubleMatrix bs = ALGEBRA.multiply(a, xs);
+    AssertMatrix.assertEqualsMatrix(ALGEBRA.solve(a, bs), xs, 1e-10);
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.solve(B, DoubleArray.of(1, 2, 3)));
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.solve(A, DoubleArray.of(1, 2)));
+  }
+
+  @Test
+  public void test_inverse_determinant() {
+    DoubleMatrix a = random(25, 25, 13);
+    DoubleMatrix identity = DoubleMatrix.identity(25);
+    AssertMatrix.assertEqualsMatrix(ALGEBRA.multiply(a, ALGEBRA.getInverse(a)), identity, 1e-10);
+    AssertMatrix.assertEqualsMatrix(ALGEBRA.multiply(SMALL_BLOCKS.getInverse(a), a), identity, 1e-10);
+    assertThat(ALGEBRA.getDeterminant(A)).isCloseTo(-3d, offset(1e-12));
+    // a row swap changes the sign
+    DoubleMatrix swapped = DoubleMatrix.ofArrayObjects(3, 3, i -> A.row(i == 0 ? 1 : i == 1 ? 0 : 2));
+    assertThat(ALGEBRA.getDeterminant(swapped)).isCloseTo(3d, offset(1e-12));
+    double det = ALGEBRA.getDeterminant(a);
+    assertThat(ALGEBRA.getDeterminant(ALGEBRA.getInverse(a))).isCloseTo(1d / det, offset(1e-8 / Math.abs(det)));
+    DoubleMatrix singular = DoubleMatrix.copyOf(new double[][] {{1, 2}, {2, 4}});
+    assertThat(ALGEBRA.getDeterminant(singular)).isEqualTo(0d);
+    assertThatExceptionOfType(MathException.class).isThrownBy(() -> ALGEBRA.getInverse(singular));
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.getInverse(DoubleArray.of(1)));
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.getDeterminant(B));
+  }
+
+  //-------------------------------------------------------------------------
+  private static DoubleMatrix random(int rows, int columns, long seed) {
+    Random random = new Random(seed);
+    return DoubleMatrix.of(rows, columns, (i, j) -> random.nextDouble() - 0.5);
+  }
+
+}
@@ -41,6 +41,16 @@ public class NormalDistributionTest extends ProbabilityDistributionTestCase {
     assertInverseCDF(X, NORMAL);
   }
 
+  @Test
+  public void testStandard() {
+    for (int i = 0; i < X.length; i++) {
+      assertThat(NormalDistribution.standardCdf(X[i])).isEqualTo(NORMAL.getCDF(X[i]));
+      assertThat(NormalDistribution.standardCdf(-X[i])).isEqualTo(NORMAL.getCDF(-X[i]));
+      assertThat(NormalDistribution.standardPdf(X[i])).isEqualTo(NORMAL.getPDF(X[i]));
+      assertThat(NormalDistribution.standardPdf(-X[i])).isEqualTo(NORMAL.getPDF(-X[i]));
+    }
+  }
+
   @Test
   public void testRoundTrip() {
     int n = 29;
@@ -35,6 +35,7 @@ import com.opengamma.strata.market.amount.LegAmounts;
 import com.opengamma.strata.market.amount.SwapLegAmount;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.explain.CompactExplainMap;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.param.CrossGammaParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
@@ -134,6 +135,24 @@ final class SwapMeasureCalculations {
     return tradePricer.explainPresentValue(trade, ratesProvider);
   }
 
+  // calculates compact explain present value for all scenarios
+  ScenarioArray<CompactExplainMap> explainPresentValueCompact(
+      ResolvedSwapTrade trade,
+      RatesScenarioMarketData marketData) {
+
+    return ScenarioArray.of(
+        marketData.getScenarioCount(),
+        i -> explainPresentValueCompact(trade, marketData.scenario(i).ratesProvider()));
+  }
+
+  // compact explain present value for one scenario
+  CompactExplainMap explainPresentValueCompact(
+      ResolvedSwapTrade trade,
+      RatesProvider ratesProvider) {
+
+    return tradePricer.explainPresentValueCompact(trade, ratesProvider);
+  }
+
   //-------------------------------------------------------------------------
   // calculates calibrated sum PV01 for all scenarios
   MultiCurrencyScenarioArray pv01CalibratedSum(
@@ -12,6 +12,7 @@ import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.amount.LegAmounts;
+import com.opengamma.strata.market.explain.CompactExplainMap;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
@@ -125,6 +126,45 @@ public class SwapTradeCalculations {
     return calc.explainPresentValue(trade, ratesProvider);
   }
 
+  /**
+   * Explains the present value calculation across one or more scenarios in compact form.
+   * <p>
+   * This provides the same breakdown as
+   * {@linkplain #explainPresentValue(ResolvedSwapTrade, RatesMarketDataLookup, ScenarioMarketData) explain present value}
+   * without creating the nested maps, which are only created if the result is expanded.
+   * This is intended for explaining a large number of trades, such as a whole book.
+   * 
+   * @param trade  the trade
+   * @param lookup  the lookup used to query the market data
+   * @param marketData  the market data
+   * @return the present value explanation in compact form, one entry per scenario
+   */
+  public ScenarioArray<CompactExplainMap> explainPresentValueCompact(
+      ResolvedSwapTrade trade,
+      RatesMarketDataLookup lookup,
+      ScenarioMarketData marketData) {
+
+    return calc.explainPresentValueCompact(trade, lookup.marketDataView(marketData));
+  }
+
+  /**
+   * Explains the present value calculation for a single set of market data in compact form.
+   * <p>
+   * This provides the same breakdown as
+   * {@linkplain #explainPresentValue(ResolvedSwapTrade, RatesProvider) explain present value}
+   * without creating the nested maps, which are only created if the result is expanded.
+   * 
+   * @param trade  the trade
+   * @param ratesProvider  the market data
+   * @return the present value explanation in compact form
+   */
+  public CompactExplainMap explainPresentValueCompact(
+      ResolvedSwapTrade trade,
+      RatesProvider ratesProvider) {
+
+    return calc.explainPresentValueCompact(trade, ratesProvider);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates present value sensitivity across one or more scenarios.
@@ -16,6 +16,7 @@ import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.amount.CashFlows;
+import com.opengamma.strata.market.explain.CompactExplainMap;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
@@ -62,6 +63,19 @@ public class SwapTradeCalculationsTest {
         .isEqualTo(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedCurrentCash)));
   }
 
+  @Test
+  public void test_explainPresentValueCompact() {
+    ScenarioMarketData md = SwapTradeCalculationFunctionTest.marketData();
+    RatesProvider provider = RATES_LOOKUP.marketDataView(md.scenario(0)).ratesProvider();
+    ExplainMap expectedExplainPv = DiscountingSwapTradePricer.DEFAULT.explainPresentValue(RTRADE, provider);
+
+    ScenarioArray<CompactExplainMap> test = SwapTradeCalculations.DEFAULT.explainPresentValueCompact(RTRADE, RATES_LOOKUP, md);
+    assertThat(test.getScenarioCount()).isEqualTo(1);
+    assertThat(test.get(0).toExplainMap()).isEqualTo(expectedExplainPv);
+    assertThat(SwapTradeCalculations.DEFAULT.explainPresentValueCompact(RTRADE, provider).toExplainMap())
+        .isEqualTo(expectedExplainPv);
+  }
+
   @Test
   public void test_pv01() {
     ScenarioMarketData md = SwapTradeCalculationFunctionTest.marketData();
@@ -8,6 +8,7 @@ package com.opengamma.strata.pricer;
 import static com.opengamma.strata.pricer.SimpleDiscountFactors.EFFECTIVE_ZERO;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import com.opengamma.strata.basics.currency.Currency;
@@ -447,6 +448,26 @@ public interface DiscountFactors
    */
   public abstract CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSensitivity);
 
+  /**
+   * Calculates the parameter sensitivity from a list of point sensitivities.
+   * <p>
+   * This is used to convert many point sensitivities to parameter sensitivity in one call.
+   * The result is the sum of calling {@link #parameterSensitivity(ZeroRateSensitivity)} for each point.
+   * Implementations may sum the sensitivity to each point into a single array for each currency,
+   * avoiding the creation of a dense sensitivity object for each point.
+   * 
+   * @param pointSensitivities  the point sensitivities to convert
+   * @return the parameter sensitivity
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default CurrencyParameterSensitivities parameterSensitivity(List<ZeroRateSensitivity> pointSensitivities) {
+    CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.empty();
+    for (ZeroRateSensitivity pointSens : pointSensitivities) {
+      sens = sens.combinedWith(parameterSensitivity(pointSens));
+    }
+    return sens;
+  }
+
   /**
    * Creates the parameter sensitivity when the sensitivity values are known.
    * <p>
@@ -5,8 +5,12 @@
  */
 package com.opengamma.strata.pricer;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -28,6 +32,7 @@ import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.ValueType;
@@ -203,6 +208,37 @@ public final class SimpleDiscountFactors
     return CurrencyParameterSensitivities.of(curSens);
   }
 
+  @Override
+  public CurrencyParameterSensitivities parameterSensitivity(List<ZeroRateSensitivity> pointSensitivities) {
+    // sum into one array for each currency, only creating the sensitivity objects at the end
+    UnitParameterSensitivity unitSens = null;
+    Map<Currency, double[]> accumulators = new LinkedHashMap<>();
+    for (ZeroRateSensitivity pointSens : pointSensitivities) {
+      double yearFraction = pointSens.getYearFraction();
+      if (Math.abs(yearFraction) < EFFECTIVE_ZERO) {
+        continue; // Discount factor in 0 is always 1, no sensitivity.
+      }
+      if (unitSens == null) {
+        unitSens = curve.yValueParameterSensitivity(yearFraction);
+      }
+      double[] accumulator = accumulators.get(pointSens.getCurrency());
+      if (accumulator == null) {
+        accumulator = new double[unitSens.getParameterCount()];
+        accumulators.put(pointSens.getCurrency(), accumulator);
+      }
+      double discountFactor = discountFactor(yearFraction);
+      curve.addYValueParameterSensitivity(
+          yearFraction, -1d / (yearFraction * discountFactor) * pointSens.getSensitivity(), accumulator);
+    }
+    if (unitSens == null) {
+      return CurrencyParameterSensitivities.empty();
+    }
+    UnitParameterSensitivity template = unitSens;
+    return CurrencyParameterSensitivities.of(MapStream.of(accumulators)
+        .map((ccy, accumulator) -> template.withSensitivity(ccy, DoubleArray.ofUnsafe(accumulator)))
+        .collect(toImmutableList()));
+  }
+
   @Override
   public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
     return CurrencyParameterSensitivities.of(curve.createParameterSensitivity(currency, sensitivities));
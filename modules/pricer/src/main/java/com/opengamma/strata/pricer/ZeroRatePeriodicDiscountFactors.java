@@ -5,8 +5,12 @@
  */
 package com.opengamma.strata.pricer;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -28,6 +32,7 @@ import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.ValueType;
@@ -233,6 +238,27 @@ public final class ZeroRatePeriodicDiscountFactors
     return CurrencyParameterSensitivities.of(curSens);
   }
 
+  @Override
+  public CurrencyParameterSensitivities parameterSensitivity(List<ZeroRateSensitivity> pointSensitivities) {
+    if (pointSensitivities.isEmpty()) {
+      return CurrencyParameterSensitivities.empty();
+    }
+    // sum into one array for each currency, only creating the sensitivity objects at the end
+    UnitParameterSensitivity unitSens = curve.yValueParameterSensitivity(pointSensitivities.get(0).getYearFraction());
+    Map<Currency, double[]> accumulators = new LinkedHashMap<>();
+    for (ZeroRateSensitivity pointSens : pointSensitivities) {
+      double yearFraction = pointSens.getYearFraction();
+      double rp = curve.yValue(yearFraction);
+      double rpBar = 1.0 / (1 + rp / frequency);
+      double[] accumulator = accumulators.computeIfAbsent(
+          pointSens.getCurrency(), ccy -> new double[unitSens.getParameterCount()]);
+      curve.addYValueParameterSensitivity(yearFraction, rpBar * pointSens.getSensitivity(), accumulator);
+    }
+    return CurrencyParameterSensitivities.of(MapStream.of(accumulators)
+        .map((ccy, accumulator) -> unitSens.withSensitivity(ccy, DoubleArray.ofUnsafe(accumulator)))
+        .collect(toImmutableList()));
+  }
+
   @Override
   public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
     return CurrencyParameterSensitivities.of(curve.createParameterSensitivity(currency, sensitivities));
@@ -31,8 +31,10 @@ import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
 import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
 import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.math.impl.matrix.BlockedMatrixAlgebra;
 import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
 import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebraFactory;
 import com.opengamma.strata.math.rootfind.NewtonVectorRootFinder;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.product.ResolvedTrade;
@@ -64,6 +66,10 @@ public final class RatesCurveCalibrator {
    * The matrix algebra used for matrix inversion.
    */
   private static final MatrixAlgebra MATRIX_ALGEBRA = new CommonsMatrixAlgebra();
+  /**
+   * The matrix algebra used for matrix multiplication.
+   */
+  private static final BlockedMatrixAlgebra MULTIPLY_ALGEBRA = MatrixAlgebraFactory.BLOCKED_ALGEBRA;
 
   /**
    * The root finder used for curve calibration.
@@ -435,8 +441,8 @@ public final class RatesCurveCalibrator {
     for (int i = 0; i < nbTrades; i++) {
       System.arraycopy(res.rowArray(i), 0, nonDirect[i], 0, totalParamsPrevious);
     }
-    DoubleMatrix pDpPreviousMatrix = (DoubleMatrix) MATRIX_ALGEBRA.scale(
-        MATRIX_ALGEBRA.multiply(pDmCurrentMatrix, DoubleMatrix.copyOf(nonDirect)), -1d);
+    DoubleMatrix pDpPreviousMatrix = MULTIPLY_ALGEBRA.multiply(pDmCurrentMatrix, DoubleMatrix.ofUnsafe(nonDirect))
+        .multipliedBy(-1d);
     // all curves: order and size
     int[] startIndexBefore = new int[orderPrevious.size()];
     for (int i = 1; i < orderPrevious.size(); i++) {
@@ -465,7 +471,7 @@ public final class RatesCurveCalibrator {
       }
     }
     DoubleMatrix transitionMatrix = DoubleMatrix.copyOf(transition);
-    return (DoubleMatrix) MATRIX_ALGEBRA.multiply(pDpPreviousMatrix, transitionMatrix);
+    return MULTIPLY_ALGEBRA.multiply(pDpPreviousMatrix, transitionMatrix);
   }
 
   //-------------------------------------------------------------------------
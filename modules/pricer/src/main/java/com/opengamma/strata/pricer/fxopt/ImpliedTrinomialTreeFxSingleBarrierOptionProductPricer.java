@@ -5,10 +5,14 @@
  */
 package com.opengamma.strata.pricer.fxopt;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.math.DoubleMath;
@@ -145,6 +149,36 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
     return priceDerivatives(option, ratesProvider, volatilities, treeData).getValue();
   }
 
+  /**
+   * Calculates the price of a list of FX barrier option products sharing a calibrated tree.
+   * <p>
+   * This is equivalent to calling {@link #price(ResolvedFxSingleBarrierOption, RatesProvider,
+   * BlackFxOptionVolatilities, RecombiningTrinomialTreeData) price} for each option,
+   * but the options are priced in parallel. Each option requires a single buffer sized to the
+   * final layer of the tree, thus memory use does not grow with the number of time steps.
+   * <p>
+   * The options must have the same underlying currency pair and expiry, as required for the tree data
+   * to be consistent with each option, see {@link #validateData}.
+   * The rates provider and volatilities must be safe to use from multiple threads.
+   * 
+   * @param options  the option products
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @param treeData  the trinomial tree data
+   * @return the prices of the products, in the order of the options
+   */
+  public DoubleArray price(
+      List<ResolvedFxSingleBarrierOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities,
+      RecombiningTrinomialTreeData treeData) {
+
+    return DoubleArray.ofUnsafe(IntStream.range(0, options.size())
+        .parallel()
+        .mapToDouble(i -> price(options.get(i), ratesProvider, volatilities, treeData))
+        .toArray());
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the present value of the FX barrier option product.
@@ -196,6 +230,33 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
     return CurrencyAmount.of(underlyingOption.getCounterCurrency(), signedNotional(underlyingOption) * price);
   }
 
+  /**
+   * Calculates the present value of a list of FX barrier option products sharing a calibrated tree.
+   * <p>
+   * The options are priced in parallel, see
+   * {@link #price(List, RatesProvider, BlackFxOptionVolatilities, RecombiningTrinomialTreeData) price}.
+   * 
+   * @param options  the option products
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @param treeData  the trinomial tree data
+   * @return the present values of the products, in the order of the options
+   */
+  public List<CurrencyAmount> presentValue(
+      List<ResolvedFxSingleBarrierOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities,
+      RecombiningTrinomialTreeData treeData) {
+
+    DoubleArray prices = price(options, ratesProvider, volatilities, treeData);
+    return IntStream.range(0, options.size())
+        .mapToObj(i -> {
+          ResolvedFxVanillaOption underlyingOption = options.get(i).getUnderlyingOption();
+          return CurrencyAmount.of(underlyingOption.getCounterCurrency(), signedNotional(underlyingOption) * prices.get(i));
+        })
+        .collect(toImmutableList());
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the present value sensitivity of the FX barrier option product.
@@ -1118,6 +1118,243 @@ public final class BlackFormulaRepository {
     return vomma(forward, strike, timeToExpiry, lognormalVol);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the forward price of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * No objects are allocated, and options away from the edge cases handled by
+   * {@link #price(double, double, double, double, boolean)} are priced in a branch-light loop.
+   * 
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param lognormalVol  the log-normal volatilities
+   * @param isCall  true for call, false for put
+   * @param output  the array to populate with the forward prices
+   */
+  public static void price(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      boolean isCall,
+      double[] output) {
+
+    checkLengths(forward, strike, timeToExpiry, lognormalVol, output);
+    int sign = isCall ? 1 : -1;
+    for (int i = 0; i < output.length; i++) {
+      double f = forward[i];
+      double k = strike[i];
+      double sigmaRootT = lognormalVol[i] * Math.sqrt(timeToExpiry[i]);
+      if (isRegular(f, k, sigmaRootT)) {
+        double d1 = Math.log(f / k) / sigmaRootT + 0.5 * sigmaRootT;
+        double d2 = d1 - sigmaRootT;
+        double nF = NormalDistribution.standardCdf(sign * d1);
+        double nS = NormalDistribution.standardCdf(sign * d2);
+        output[i] = Math.max(0d, sign * (f * nF - k * nS));
+      } else {
+        output[i] = price(f, k, timeToExpiry[i], lognormalVol[i], isCall);
+      }
+    }
+  }
+
+  /**
+   * Computes the forward driftless delta of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * 
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param lognormalVol  the log-normal volatilities
+   * @param isCall  true for call, false for put
+   * @param output  the array to populate with the forward driftless deltas
+   */
+  public static void delta(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      boolean isCall,
+      double[] output) {
+
+    checkLengths(forward, strike, timeToExpiry, lognormalVol, output);
+    int sign = isCall ? 1 : -1;
+    for (int i = 0; i < output.length; i++) {
+      double f = forward[i];
+      double k = strike[i];
+      double sigmaRootT = lognormalVol[i] * Math.sqrt(timeToExpiry[i]);
+      if (isRegular(f, k, sigmaRootT)) {
+        double d1 = Math.log(f / k) / sigmaRootT + 0.5 * sigmaRootT;
+        output[i] = sign * NormalDistribution.standardCdf(sign * d1);
+      } else {
+        output[i] = delta(f, k, timeToExpiry[i], lognormalVol[i], isCall);
+      }
+    }
+  }
+
+  /**
+   * Computes the forward driftless gamma of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * 
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param lognormalVol  the log-normal volatilities
+   * @param output  the array to populate with the forward driftless gammas
+   */
+  public static void gamma(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      double[] output) {
+
+    checkLengths(forward, strike, timeToExpiry, lognormalVol, output);
+    for (int i = 0; i < output.length; i++) {
+      double f = forward[i];
+      double k = strike[i];
+      double sigmaRootT = lognormalVol[i] * Math.sqrt(timeToExpiry[i]);
+      if (isRegular(f, k, sigmaRootT)) {
+        double d1 = Math.log(f / k) / sigmaRootT + 0.5 * sigmaRootT;
+        output[i] = NormalDistribution.standardPdf(d1) / f / sigmaRootT;
+      } else {
+        output[i] = gamma(f, k, timeToExpiry[i], lognormalVol[i]);
+      }
+    }
+  }
+
+  /**
+   * Computes the forward vega of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * 
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param lognormalVol  the log-normal volatilities
+   * @param output  the array to populate with the forward vegas
+   */
+  public static void vega(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      double[] output) {
+
+    checkLengths(forward, strike, timeToExpiry, lognormalVol, output);
+    for (int i = 0; i < output.length; i++) {
+      double f = forward[i];
+      double k = strike[i];
+      double rootT = Math.sqrt(timeToExpiry[i]);
+      double sigmaRootT = lognormalVol[i] * rootT;
+      if (isRegular(f, k, sigmaRootT)) {
+        double d1 = Math.log(f / k) / sigmaRootT + 0.5 * sigmaRootT;
+        output[i] = f * rootT * NormalDistribution.standardPdf(d1);
+      } else {
+        output[i] = vega(f, k, timeToExpiry[i], lognormalVol[i]);
+      }
+    }
+  }
+
+  /**
+   * Computes the driftless vanna of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * 
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param lognormalVol  the log-normal volatilities
+   * @param output  the array to populate with the driftless vannas
+   */
+  public static void vanna(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      double[] output) {
+
+    checkLengths(forward, strike, timeToExpiry, lognormalVol, output);
+    for (int i = 0; i < output.length; i++) {
+      double f = forward[i];
+      double k = strike[i];
+      double vol = lognormalVol[i];
+      double sigmaRootT = vol * Math.sqrt(timeToExpiry[i]);
+      if (isRegular(f, k, sigmaRootT)) {
+        double d1 = Math.log(f / k) / sigmaRootT + 0.5 * sigmaRootT;
+        double d2 = d1 - sigmaRootT;
+        output[i] = -NormalDistribution.standardPdf(d1) * d2 / vol;
+      } else {
+        output[i] = vanna(f, k, timeToExpiry[i], vol);
+      }
+    }
+  }
+
+  /**
+   * Computes the driftless vomma (aka volga) of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * 
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param lognormalVol  the log-normal volatilities
+   * @param output  the array to populate with the driftless vommas
+   */
+  public static void vomma(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      double[] output) {
+
+    checkLengths(forward, strike, timeToExpiry, lognormalVol, output);
+    for (int i = 0; i < output.length; i++) {
+      double f = forward[i];
+      double k = strike[i];
+      double vol = lognormalVol[i];
+      double rootT = Math.sqrt(timeToExpiry[i]);
+      double sigmaRootT = vol * rootT;
+      if (isRegular(f, k, sigmaRootT)) {
+        double d1 = Math.log(f / k) / sigmaRootT + 0.5 * sigmaRootT;
+        double d2 = d1 - sigmaRootT;
+        output[i] = f * NormalDistribution.standardPdf(d1) * rootT * d1 * d2 / vol;
+      } else {
+        output[i] = vomma(f, k, timeToExpiry[i], vol);
+      }
+    }
+  }
+
+  // checks the batch arrays have the same length
+  private static void checkLengths(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      double[] output) {
+
+    int size = output.length;
+    ArgChecker.isTrue(forward.length == size, "forward length must match output length");
+    ArgChecker.isTrue(strike.length == size, "strike length must match output length");
+    ArgChecker.isTrue(timeToExpiry.length == size, "timeToExpiry length must match output length");
+    ArgChecker.isTrue(lognormalVol.length == size, "lognormalVol length must match output length");
+  }
+
+  // checks if the inputs avoid all the edge cases of the scalar formulas, false for negative or NaN inputs
+  private static boolean isRegular(double forward, double strike, double sigmaRootT) {
+    return forward > 0d && strike > 0d && forward <= LARGE && strike <= LARGE &&
+        sigmaRootT >= SMALL && sigmaRootT <= LARGE && Math.abs(forward - strike) >= SMALL;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes the log-normal implied volatility.
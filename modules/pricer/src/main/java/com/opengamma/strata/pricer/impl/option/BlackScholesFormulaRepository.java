@@ -1494,4 +1494,221 @@ public final class BlackScholesFormulaRepository {
     return Double.isNaN(result) ? sign * coef : result;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the spot price of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * No objects are allocated, and options away from the edge cases handled by
+   * {@link #price(double, double, double, double, double, double, boolean)} are priced in a branch-light loop.
+   * 
+   * @param spot  the spot values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param lognormalVol  the log-normal volatilities
+   * @param interestRate  the interest rates
+   * @param costOfCarry  the cost-of-carry rates
+   * @param isCall  true for call, false for put
+   * @param output  the array to populate with the spot prices
+   */
+  public static void price(
+      double[] spot,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      double[] interestRate,
+      double[] costOfCarry,
+      boolean isCall,
+      double[] output) {
+
+    checkLengths(spot, strike, timeToExpiry, lognormalVol, interestRate, costOfCarry, output);
+    int sign = isCall ? 1 : -1;
+    for (int i = 0; i < output.length; i++) {
+      double s = spot[i];
+      double k = strike[i];
+      double t = timeToExpiry[i];
+      double vol = lognormalVol[i];
+      double r = interestRate[i];
+      double b = costOfCarry[i];
+      double rootT = Math.sqrt(t);
+      double sigmaRootT = vol * rootT;
+      if (isRegular(s, k, sigmaRootT, r, b)) {
+        double discount = Math.abs(r) < SMALL ? 1d : Math.exp(-r * t);
+        double rescaledSpot = Math.exp(b * t) * s;
+        double d1 = Math.log(s / k) / sigmaRootT + b * rootT / vol + 0.5 * sigmaRootT;
+        double d2 = d1 - sigmaRootT;
+        double res = sign * discount * (rescaledSpot * NormalDistribution.standardCdf(sign * d1) -
+            k * NormalDistribution.standardCdf(sign * d2));
+        output[i] = Double.isNaN(res) ? 0d : Math.max(res, 0d);
+      } else {
+        output[i] = price(s, k, t, vol, r, b, isCall);
+      }
+    }
+  }
+
+  /**
+   * Computes the spot delta of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * 
+   * @param spot  the spot values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param lognormalVol  the log-normal volatilities
+   * @param interestRate  the interest rates
+   * @param costOfCarry  the cost-of-carry rates
+   * @param isCall  true for call, false for put
+   * @param output  the array to populate with the spot deltas
+   */
+  public static void delta(
+      double[] spot,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      double[] interestRate,
+      double[] costOfCarry,
+      boolean isCall,
+      double[] output) {
+
+    checkLengths(spot, strike, timeToExpiry, lognormalVol, interestRate, costOfCarry, output);
+    int sign = isCall ? 1 : -1;
+    for (int i = 0; i < output.length; i++) {
+      double s = spot[i];
+      double k = strike[i];
+      double t = timeToExpiry[i];
+      double vol = lognormalVol[i];
+      double r = interestRate[i];
+      double b = costOfCarry[i];
+      double rootT = Math.sqrt(t);
+      double sigmaRootT = vol * rootT;
+      if (isRegular(s, k, sigmaRootT, r, b)) {
+        double coef = Math.abs(b - r) < SMALL ? 1d : Math.exp((b - r) * t);
+        double d1 = Math.log(s / k) / sigmaRootT + b * rootT / vol + 0.5 * sigmaRootT;
+        double norm = NormalDistribution.standardCdf(sign * d1);
+        output[i] = norm < SMALL ? 0d : sign * coef * norm;
+      } else {
+        output[i] = delta(s, k, t, vol, r, b, isCall);
+      }
+    }
+  }
+
+  /**
+   * Computes the spot gamma of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * 
+   * @param spot  the spot values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param lognormalVol  the log-normal volatilities
+   * @param interestRate  the interest rates
+   * @param costOfCarry  the cost-of-carry rates
+   * @param output  the array to populate with the spot gammas
+   */
+  public static void gamma(
+      double[] spot,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      double[] interestRate,
+      double[] costOfCarry,
+      double[] output) {
+
+    checkLengths(spot, strike, timeToExpiry, lognormalVol, interestRate, costOfCarry, output);
+    for (int i = 0; i < output.length; i++) {
+      double s = spot[i];
+      double k = strike[i];
+      double t = timeToExpiry[i];
+      double vol = lognormalVol[i];
+      double r = interestRate[i];
+      double b = costOfCarry[i];
+      double rootT = Math.sqrt(t);
+      double sigmaRootT = vol * rootT;
+      if (isRegular(s, k, sigmaRootT, r, b)) {
+        double coef = Math.abs(b - r) < SMALL ? 1d : Math.exp((b - r) * t);
+        double d1 = Math.log(s / k) / sigmaRootT + b * rootT / vol + 0.5 * sigmaRootT;
+        double norm = NormalDistribution.standardPdf(d1);
+        double res = norm < SMALL ? 0d : coef * norm / s / sigmaRootT;
+        output[i] = Double.isNaN(res) ? Double.POSITIVE_INFINITY : res;
+      } else {
+        output[i] = gamma(s, k, t, vol, r, b);
+      }
+    }
+  }
+
+  /**
+   * Computes the spot vega of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * 
+   * @param spot  the spot values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param lognormalVol  the log-normal volatilities
+   * @param interestRate  the interest rates
+   * @param costOfCarry  the cost-of-carry rates
+   * @param output  the array to populate with the spot vegas
+   */
+  public static void vega(
+      double[] spot,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      double[] interestRate,
+      double[] costOfCarry,
+      double[] output) {
+
+    checkLengths(spot, strike, timeToExpiry, lognormalVol, interestRate, costOfCarry, output);
+    for (int i = 0; i < output.length; i++) {
+      double s = spot[i];
+      double k = strike[i];
+      double t = timeToExpiry[i];
+      double vol = lognormalVol[i];
+      double r = interestRate[i];
+      double b = costOfCarry[i];
+      double rootT = Math.sqrt(t);
+      double sigmaRootT = vol * rootT;
+      if (isRegular(s, k, sigmaRootT, r, b)) {
+        double coef = Math.abs(b - r) < SMALL ? 1d : Math.exp((b - r) * t);
+        double d1 = Math.log(s / k) / sigmaRootT + b * rootT / vol + 0.5 * sigmaRootT;
+        double norm = NormalDistribution.standardPdf(d1);
+        double res = norm < SMALL ? 0d : coef * norm * s * rootT;
+        output[i] = Double.isNaN(res) ? Double.POSITIVE_INFINITY : res;
+      } else {
+        output[i] = vega(s, k, t, vol, r, b);
+      }
+    }
+  }
+
+  // checks the batch arrays have the same length
+  private static void checkLengths(
+      double[] spot,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      double[] interestRate,
+      double[] costOfCarry,
+      double[] output) {
+
+    int size = output.length;
+    ArgChecker.isTrue(spot.length == size, "spot length must match output length");
+    ArgChecker.isTrue(strike.length == size, "strike length must match output length");
+    ArgChecker.isTrue(timeToExpiry.length == size, "timeToExpiry length must match output length");
+    ArgChecker.isTrue(lognormalVol.length == size, "lognormalVol length must match output length");
+    ArgChecker.isTrue(interestRate.length == size, "interestRate length must match output length");
+    ArgChecker.isTrue(costOfCarry.length == size, "costOfCarry length must match output length");
+  }
+
+  // checks if the inputs avoid all the edge cases of the scalar formulas, false for negative or NaN inputs
+  private static boolean isRegular(double spot, double strike, double sigmaRootT, double interestRate, double costOfCarry) {
+    return spot > 0d && strike > 0d && spot <= LARGE && strike <= LARGE &&
+        spot <= LARGE * strike && strike <= LARGE * spot && spot >= SMALL * strike &&
+        sigmaRootT >= SMALL && sigmaRootT <= LARGE && Math.abs(spot - strike) >= SMALL &&
+        Math.abs(interestRate) <= LARGE && Math.abs(costOfCarry) <= LARGE && Math.abs(costOfCarry - interestRate) <= LARGE;
+  }
+
 }
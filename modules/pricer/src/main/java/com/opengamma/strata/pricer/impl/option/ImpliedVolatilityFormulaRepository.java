@@ -0,0 +1,380 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Fast implied volatility formulas for the Black and Bachelier (normal) models.
+ * <p>
+ * The price is first reduced to the time value of the out-of-the-money option, normalized
+ * so that the only remaining variables are the moneyness and the total volatility, 'sigma * sqrt(t)'.
+ * An initial guess is obtained from the asymptotic expansions of the normalized price,
+ * which is then refined by third order Householder iterations.
+ * <p>
+ * For the Black model, the iteration is performed on the price above the inflection point of the
+ * price as a function of total volatility, and on the logarithm of the price below it.
+ * For the Bachelier model, the iteration is performed on the logarithm of the price.
+ * In both cases the function is close to linear over the domain of the iteration, thus the
+ * iteration typically converges to machine precision in two to four steps.
+ * Each step is safeguarded by a bracket of the root, which guarantees convergence.
+ * <p>
+ * The price is the forward price, thus the numeraire is the responsibility of the caller.
+ * The formulas are an alternative to {@link BlackFormulaRepository#impliedVolatility(double, double, double, double, boolean)}
+ * and {@link NormalFormulaRepository#impliedVolatility(double, double, double, double, double, double, PutCall)}
+ * that do not require an initial guess.
+ */
+public final class ImpliedVolatilityFormulaRepository {
+
+  /**
+   * The normal distribution implementation.
+   */
+  private static final ProbabilityDistribution<Double> NORMAL = new NormalDistribution(0, 1);
+  /**
+   * The inverse of the square root of two pi.
+   */
+  private static final double SQRT_INV_2PI = 1d / Math.sqrt(2d * Math.PI);
+  /**
+   * The logarithm of the square root of two pi.
+   */
+  private static final double LOG_SQRT_2PI = 0.5 * Math.log(2d * Math.PI);
+  /**
+   * The relative tolerance on the total volatility.
+   */
+  private static final double TOLERANCE = 1e-15;
+  /**
+   * The maximal number of iterations, only reached if the iteration falls back to bisection.
+   */
+  private static final int MAX_ITERATIONS = 100;
+  /**
+   * The total volatility used as starting point when the price is close to its upper bound.
+   */
+  private static final double LARGE_TOTAL_VOL = 20d;
+
+  // restricted constructor
+  private ImpliedVolatilityFormulaRepository() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the log-normal (Black) implied volatility.
+   * <p>
+   * A price equal to the intrinsic value gives a volatility of zero.
+   *
+   * @param price  the forward price, which is the market price divided by the numeraire
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param isCall  true for call, false for put
+   * @return the log-normal (Black) implied volatility
+   * @throws IllegalArgumentException if the price is not within the no-arbitrage bounds
+   */
+  public static double blackImpliedVolatility(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      boolean isCall) {
+
+    ArgChecker.isTrue(price >= 0d, "negative/NaN price; have {}", price);
+    ArgChecker.isTrue(forward > 0d, "negative/NaN forward; have {}", forward);
+    ArgChecker.isTrue(strike > 0d, "negative/NaN strike; have {}", strike);
+    ArgChecker.isTrue(timeToExpiry > 0d, "negative/NaN timeToExpiry; have {}", timeToExpiry);
+    ArgChecker.isFalse(Double.isInfinite(price), "price is Infinity");
+    ArgChecker.isFalse(Double.isInfinite(forward), "forward is Infinity");
+    ArgChecker.isFalse(Double.isInfinite(strike), "strike is Infinity");
+    ArgChecker.isFalse(Double.isInfinite(timeToExpiry), "timeToExpiry is Infinity");
+
+    double intrinsicPrice = Math.max(0d, (isCall ? 1 : -1) * (forward - strike));
+    double otmPrice = price - intrinsicPrice;
+    ArgChecker.isTrue(otmPrice >= 0d, "price of {} below intrinsic value of {}", price, intrinsicPrice);
+    if (otmPrice == 0d) {
+      return 0d;
+    }
+    ArgChecker.isTrue(otmPrice < Math.min(forward, strike), "price of {} exceeded upper bound of {}",
+        price, intrinsicPrice + Math.min(forward, strike));
+    double rootFk = Math.sqrt(forward * strike);
+    double x = -Math.abs(Math.log(forward / strike));
+    double beta = otmPrice / rootFk;
+    return normalizedBlackTotalVolatility(beta, x) / Math.sqrt(timeToExpiry);
+  }
+
+  /**
+   * Computes the log-normal (Black) implied volatilities of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   *
+   * @param price  the forward prices
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param isCall  true for call, false for put
+   * @param output  the array to populate with the implied volatilities
+   * @throws IllegalArgumentException if a price is not within the no-arbitrage bounds
+   */
+  public static void blackImpliedVolatility(
+      double[] price,
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      boolean isCall,
+      double[] output) {
+
+    checkLengths(price, forward, strike, timeToExpiry, output);
+    for (int i = 0; i < output.length; i++) {
+      output[i] = blackImpliedVolatility(price[i], forward[i], strike[i], timeToExpiry[i], isCall);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the normal (Bachelier) implied volatility.
+   * <p>
+   * A price equal to the intrinsic value gives a volatility of zero.
+   *
+   * @param price  the forward price, which is the market price divided by the numeraire
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param putCall  whether it is put or call
+   * @return the normal (Bachelier) implied volatility
+   * @throws IllegalArgumentException if the price is below the intrinsic value
+   */
+  public static double normalImpliedVolatility(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      PutCall putCall) {
+
+    ArgChecker.isTrue(price >= 0d, "negative/NaN price; have {}", price);
+    ArgChecker.isTrue(timeToExpiry > 0d, "negative/NaN timeToExpiry; have {}", timeToExpiry);
+    ArgChecker.isFalse(Double.isInfinite(price), "price is Infinity");
+    ArgChecker.isFalse(Double.isNaN(forward) || Double.isInfinite(forward), "forward is NaN or Infinity");
+    ArgChecker.isFalse(Double.isNaN(strike) || Double.isInfinite(strike), "strike is NaN or Infinity");
+    ArgChecker.isFalse(Double.isInfinite(timeToExpiry), "timeToExpiry is Infinity");
+    ArgChecker.notNull(putCall, "putCall");
+
+    double intrinsicPrice = Math.max(0d, (putCall.isCall() ? 1 : -1) * (forward - strike));
+    double otmPrice = price - intrinsicPrice;
+    ArgChecker.isTrue(otmPrice >= 0d, "price of {} below intrinsic value of {}", price, intrinsicPrice);
+    if (otmPrice == 0d) {
+      return 0d;
+    }
+    double theta = -Math.abs(forward - strike);
+    return normalTotalVolatility(otmPrice, theta) / Math.sqrt(timeToExpiry);
+  }
+
+  /**
+   * Computes the normal (Bachelier) implied volatilities of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   *
+   * @param price  the forward prices
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param putCall  whether it is put or call
+   * @param output  the array to populate with the implied volatilities
+   * @throws IllegalArgumentException if a price is below the intrinsic value
+   */
+  public static void normalImpliedVolatility(
+      double[] price,
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      PutCall putCall,
+      double[] output) {
+
+    checkLengths(price, forward, strike, timeToExpiry, output);
+    for (int i = 0; i < output.length; i++) {
+      output[i] = normalImpliedVolatility(price[i], forward[i], strike[i], timeToExpiry[i], putCall);
+    }
+  }
+
+  // checks the array lengths
+  private static void checkLengths(
+      double[] price,
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] output) {
+
+    int size = output.length;
+    ArgChecker.isTrue(price.length == size, "price length must match output length");
+    ArgChecker.isTrue(forward.length == size, "forward length must match output length");
+    ArgChecker.isTrue(strike.length == size, "strike length must match output length");
+    ArgChecker.isTrue(timeToExpiry.length == size, "timeToExpiry length must match output length");
+  }
+
+  //-------------------------------------------------------------------------
+  // the total volatility 's' such that b(x, s) = beta, where x <= 0 and 0 < beta < exp(x/2)
+  // b(x, s) = exp(x/2) N(x/s + s/2) - exp(-x/2) N(x/s - s/2) is the normalized out-of-the-money price
+  private static double normalizedBlackTotalVolatility(double beta, double x) {
+    // b is convex below the inflection point and concave above it
+    double sc = Math.sqrt(-2d * x);
+    double bc = x == 0d ? 0d : normalizedBlack(x, sc);
+    double lower;
+    double upper;
+    double guess;
+    boolean logScale = beta < bc;
+    if (logScale) {
+      // for small s, b ~ b'(s) s^3 / x^2, solved by fixed point
+      lower = 0d;
+      upper = sc;
+      guess = 0.5 * sc;
+      for (int i = 0; i < 3; i++) {
+        double level = -Math.log(beta) - LOG_SQRT_2PI - guess * guess / 8d + 3d * Math.log(guess) - 2d * Math.log(-x);
+        if (level <= 0d) {
+          break;
+        }
+        guess = Math.min(-x / Math.sqrt(2d * level), 0.5 * (guess + sc));
+      }
+    } else {
+      // for large s, b ~ exp(x/2) - (exp(x/2) + exp(-x/2)) N(-s/2), exact for x = 0
+      lower = sc;
+      upper = Double.POSITIVE_INFINITY;
+      double expHalfX = Math.exp(0.5 * x);
+      double p = (expHalfX - beta) / (expHalfX + 1d / expHalfX);
+      guess = p > 0d ? -2d * NORMAL.getInverseCDF(p) : LARGE_TOTAL_VOL;
+      if (!(guess > lower) || Double.isInfinite(guess)) {
+        guess = Math.max(lower, LARGE_TOTAL_VOL);
+      }
+    }
+    double logBeta = Math.log(beta);
+    double s = guess;
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      double b = normalizedBlack(x, s);
+      if (b == beta) {
+        return s;
+      }
+      if (b > beta) {
+        upper = s;
+      } else {
+        lower = s;
+      }
+      // derivatives of b with respect to s
+      double xOverS = x / s;
+      double b1 = SQRT_INV_2PI * Math.exp(-0.5 * (xOverS * xOverS + s * s / 4d));
+      double h2 = xOverS * xOverS / s - s / 4d;
+      double h3 = h2 * h2 - 3d * xOverS * xOverS / (s * s) - 0.25;
+      double f;
+      double f1;
+      double f2;
+      double f3;
+      if (logScale) {
+        double g1 = b1 / b;
+        f = Math.log(b) - logBeta;
+        f1 = g1;
+        f2 = g1 * h2 - g1 * g1;
+        f3 = g1 * h3 - 3d * g1 * g1 * h2 + 2d * g1 * g1 * g1;
+      } else {
+        f = b - beta;
+        f1 = b1;
+        f2 = b1 * h2;
+        f3 = b1 * h3;
+      }
+      double next = s + householderStep(f, f1, f2, f3);
+      if (!(next > lower && next < upper)) {
+        next = Double.isInfinite(upper) ? 2d * s : 0.5 * (lower + upper);
+      }
+      if (Math.abs(next - s) <= TOLERANCE * next) {
+        return next;
+      }
+      s = next;
+    }
+    return s;
+  }
+
+  // the normalized out-of-the-money Black price, x <= 0
+  private static double normalizedBlack(double x, double s) {
+    double xOverS = x / s;
+    double halfS = 0.5 * s;
+    double halfX = 0.5 * x;
+    return Math.exp(halfX) * NormalDistribution.standardCdf(xOverS + halfS) -
+        Math.exp(-halfX) * NormalDistribution.standardCdf(xOverS - halfS);
+  }
+
+  //-------------------------------------------------------------------------
+  // the total volatility 's' such that P(s) = price, where theta <= 0 and price > 0
+  // P(s) = s n(theta/s) + theta N(theta/s) is the out-of-the-money Bachelier price
+  private static double normalTotalVolatility(double price, double theta) {
+    if (theta == 0d) {
+      return price / SQRT_INV_2PI;
+    }
+    // P is between s n(0) and s n(0) + theta / 2, which brackets the root
+    double lower = price / SQRT_INV_2PI;
+    double upper = (price - 0.5 * theta) / SQRT_INV_2PI;
+    double beta = -price / theta;
+    double guess;
+    if (beta < 0.08) {
+      // for large |u| = |theta/s|, P / |theta| ~ n(u) / |u|^3, solved by fixed point
+      double u = Math.sqrt(-2d * Math.log(beta));
+      for (int i = 0; i < 3; i++) {
+        double level = -Math.log(beta) - LOG_SQRT_2PI - 3d * Math.log(u);
+        if (level <= 0d) {
+          break;
+        }
+        u = Math.sqrt(2d * level);
+      }
+      guess = -theta / u;
+    } else {
+      // for small |u|, P ~ s n(0) + theta / 2 + theta^2 n(0) / (2 s)
+      double halfB = price - 0.5 * theta;
+      double discriminant = Math.max(0d, halfB * halfB - 2d * SQRT_INV_2PI * SQRT_INV_2PI * theta * theta);
+      guess = (halfB + Math.sqrt(discriminant)) / (2d * SQRT_INV_2PI);
+    }
+    if (!(guess > lower && guess < upper)) {
+      guess = 0.5 * (lower + upper);
+    }
+    double logPrice = Math.log(price);
+    double s = guess;
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      double u = theta / s;
+      double pdf = NormalDistribution.standardPdf(u);
+      double p = s * pdf + theta * NormalDistribution.standardCdf(u);
+      if (p == price) {
+        return s;
+      }
+      if (p > price) {
+        upper = s;
+      } else {
+        lower = s;
+      }
+      // derivatives of the log of P with respect to s
+      double h2 = u * u / s;
+      double h3 = h2 * h2 - 3d * u * u / (s * s);
+      double g1 = pdf / p;
+      double f = Math.log(p) - logPrice;
+      double f2 = g1 * h2 - g1 * g1;
+      double f3 = g1 * h3 - 3d * g1 * g1 * h2 + 2d * g1 * g1 * g1;
+      double next = s + householderStep(f, g1, f2, f3);
+      if (!(next > lower && next < upper)) {
+        next = 0.5 * (lower + upper);
+      }
+      if (Math.abs(next - s) <= TOLERANCE * next) {
+        return next;
+      }
+      s = next;
+    }
+    return s;
+  }
+
+  //-------------------------------------------------------------------------
+  // the third order Householder step for the root of f, given its first three derivatives
+  private static double householderStep(double f, double f1, double f2, double f3) {
+    double newton = -f / f1;
+    double h2 = f2 / f1;
+    double h3 = f3 / f1;
+    return newton * (1d + 0.5 * h2 * newton) / (1d + newton * (h2 + h3 * newton / 6d));
+  }
+
+}
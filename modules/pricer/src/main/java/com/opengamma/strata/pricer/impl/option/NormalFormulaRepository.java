@@ -247,6 +247,205 @@ public final class NormalFormulaRepository {
     return pdf * rootT;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the forward price of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * No objects are allocated, and the options with a non-tiny standard deviation are priced
+   * in a branch-free loop body.
+   * <p>
+   * Note that the 'numeraire' is a simple multiplier and is the responsibility of the caller.
+   * 
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param normalVol  the normal volatilities
+   * @param putCall  whether they are put or call
+   * @param output  the array to populate with the forward prices
+   */
+  public static void price(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] normalVol,
+      PutCall putCall,
+      double[] output) {
+
+    checkLengths(forward, strike, timeToExpiry, normalVol, output);
+    int sign = putCall.isCall() ? 1 : -1;
+    for (int i = 0; i < output.length; i++) {
+      double sigmaRootT = normalVol[i] * Math.sqrt(timeToExpiry[i]);
+      if (sigmaRootT >= NEAR_ZERO) {
+        double x = sign * (forward[i] - strike[i]);
+        double arg = x / sigmaRootT;
+        output[i] = x * NormalDistribution.standardCdf(arg) + sigmaRootT * NormalDistribution.standardPdf(arg);
+      } else {
+        output[i] = price(forward[i], strike[i], timeToExpiry[i], normalVol[i], putCall);
+      }
+    }
+  }
+
+  /**
+   * Computes the delta of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * <p>
+   * Note that the 'numeraire' is a simple multiplier and is the responsibility of the caller.
+   * 
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param normalVol  the normal volatilities
+   * @param putCall  whether they are put or call
+   * @param output  the array to populate with the deltas
+   */
+  public static void delta(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] normalVol,
+      PutCall putCall,
+      double[] output) {
+
+    checkLengths(forward, strike, timeToExpiry, normalVol, output);
+    int sign = putCall.isCall() ? 1 : -1;
+    for (int i = 0; i < output.length; i++) {
+      double sigmaRootT = normalVol[i] * Math.sqrt(timeToExpiry[i]);
+      if (sigmaRootT >= NEAR_ZERO) {
+        double arg = sign * (forward[i] - strike[i]) / sigmaRootT;
+        output[i] = sign * NormalDistribution.standardCdf(arg);
+      } else {
+        output[i] = delta(forward[i], strike[i], timeToExpiry[i], normalVol[i], putCall);
+      }
+    }
+  }
+
+  /**
+   * Computes the gamma of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * <p>
+   * Note that the 'numeraire' is a simple multiplier and is the responsibility of the caller.
+   * 
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param normalVol  the normal volatilities
+   * @param putCall  whether they are put or call
+   * @param output  the array to populate with the gammas
+   */
+  public static void gamma(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] normalVol,
+      PutCall putCall,
+      double[] output) {
+
+    checkLengths(forward, strike, timeToExpiry, normalVol, output);
+    for (int i = 0; i < output.length; i++) {
+      double sigmaRootT = normalVol[i] * Math.sqrt(timeToExpiry[i]);
+      if (sigmaRootT >= NEAR_ZERO) {
+        double arg = (forward[i] - strike[i]) / sigmaRootT;
+        output[i] = NormalDistribution.standardPdf(arg) / sigmaRootT;
+      } else {
+        output[i] = gamma(forward[i], strike[i], timeToExpiry[i], normalVol[i], putCall);
+      }
+    }
+  }
+
+  /**
+   * Computes the theta of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * <p>
+   * Note that the 'numeraire' is a simple multiplier and is the responsibility of the caller.
+   * 
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param normalVol  the normal volatilities
+   * @param putCall  whether they are put or call
+   * @param output  the array to populate with the thetas
+   */
+  public static void theta(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] normalVol,
+      PutCall putCall,
+      double[] output) {
+
+    checkLengths(forward, strike, timeToExpiry, normalVol, output);
+    for (int i = 0; i < output.length; i++) {
+      double vol = normalVol[i];
+      double rootT = Math.sqrt(timeToExpiry[i]);
+      double sigmaRootT = vol * rootT;
+      if (sigmaRootT >= NEAR_ZERO) {
+        double arg = (forward[i] - strike[i]) / sigmaRootT;
+        output[i] = -0.5 * NormalDistribution.standardPdf(arg) * vol / rootT;
+      } else {
+        output[i] = theta(forward[i], strike[i], timeToExpiry[i], vol, putCall);
+      }
+    }
+  }
+
+  /**
+   * Computes the vega of many options.
+   * <p>
+   * The input arrays must have the same length and the result is written to the output array.
+   * The output array may be one of the input arrays.
+   * <p>
+   * Note that the 'numeraire' is a simple multiplier and is the responsibility of the caller.
+   * 
+   * @param forward  the forward values of the underlying
+   * @param strike  the strikes
+   * @param timeToExpiry  the times to expiry
+   * @param normalVol  the normal volatilities
+   * @param putCall  whether they are put or call
+   * @param output  the array to populate with the vegas
+   */
+  public static void vega(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] normalVol,
+      PutCall putCall,
+      double[] output) {
+
+    checkLengths(forward, strike, timeToExpiry, normalVol, output);
+    for (int i = 0; i < output.length; i++) {
+      double rootT = Math.sqrt(timeToExpiry[i]);
+      double sigmaRootT = normalVol[i] * rootT;
+      if (sigmaRootT >= NEAR_ZERO) {
+        double arg = (forward[i] - strike[i]) / sigmaRootT;
+        output[i] = NormalDistribution.standardPdf(arg) * rootT;
+      } else {
+        output[i] = vega(forward[i], strike[i], timeToExpiry[i], normalVol[i], putCall);
+      }
+    }
+  }
+
+  // checks the batch arrays have the same length
+  private static void checkLengths(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] normalVol,
+      double[] output) {
+
+    int size = output.length;
+    ArgChecker.isTrue(forward.length == size, "forward length must match output length");
+    ArgChecker.isTrue(strike.length == size, "strike length must match output length");
+    ArgChecker.isTrue(timeToExpiry.length == size, "timeToExpiry length must match output length");
+    ArgChecker.isTrue(normalVol.length == size, "normalVol length must match output length");
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes the implied volatility.
@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.OptionalDouble;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.index.OvernightIndex;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.product.rate.OvernightRateComputation;
+
+/**
+ * Cumulative indices built from the fixings of an overnight index.
+ * <p>
+ * The fixing dates are the business days of the fixing calendar between the first and last date
+ * of the time-series. For each fixing date, the cumulative compounded factor and the cumulative
+ * calendar-day weighted sum of the fixings are stored. The realised compounded factor, or the
+ * realised sum of daily rates, over any range of fixing dates is then obtained from two lookups.
+ * <p>
+ * Instances are cached by time-series, as the time-series is immutable.
+ * The cache holds the time-series weakly and is bounded in size.
+ */
+public final class CumulativeOvernightFixings {
+
+  /**
+   * The cache of instances, keyed by time-series identity.
+   */
+  private static final Cache<LocalDateDoubleTimeSeries, CumulativeOvernightFixings> CACHE =
+      CacheBuilder.newBuilder().weakKeys().maximumSize(1000).build();
+
+  /**
+   * The index.
+   */
+  private final OvernightIndex index;
+  /**
+   * The fixing calendar.
+   */
+  private final HolidayCalendar fixingCalendar;
+  /**
+   * The fixing dates, which are consecutive business days of the fixing calendar.
+   */
+  private final LocalDate[] fixingDates;
+  /**
+   * The fixings, zero where missing.
+   */
+  private final double[] fixings;
+  /**
+   * The cumulative compounded factor, one larger than the dates.
+   * Element 'i' is the product of '1 + af * rate' over the fixings before 'i'.
+   */
+  private final double[] compounded;
+  /**
+   * The cumulative calendar-day weighted sum of fixings, one larger than the dates.
+   * Element 'i' is the sum of 'rate * days' over the fixings before 'i', where 'days' is
+   * the number of calendar days to the next fixing date.
+   */
+  private final double[] cumulativeSum;
+  /**
+   * The cumulative number of missing fixings, one larger than the dates.
+   */
+  private final int[] missing;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the cumulative fixings for the specified index, calendar and time-series.
+   * <p>
+   * The result is cached, thus repeated calls with the same time-series instance are cheap.
+   *
+   * @param index  the overnight index
+   * @param fixingCalendar  the resolved fixing calendar of the index
+   * @param fixings  the time-series of fixings
+   * @return the cumulative fixings
+   */
+  public static CumulativeOvernightFixings of(
+      OvernightIndex index,
+      HolidayCalendar fixingCalendar,
+      LocalDateDoubleTimeSeries fixings) {
+
+    ArgChecker.notNull(index, "index");
+    ArgChecker.notNull(fixingCalendar, "fixingCalendar");
+    ArgChecker.notNull(fixings, "fixings");
+    CumulativeOvernightFixings cached = CACHE.getIfPresent(fixings);
+    if (cached != null && cached.index.equals(index) && cached.fixingCalendar.equals(fixingCalendar)) {
+      return cached;
+    }
+    CumulativeOvernightFixings created = new CumulativeOvernightFixings(index, fixingCalendar, fixings);
+    CACHE.put(fixings, created);
+    return created;
+  }
+
+  // creates an instance
+  private CumulativeOvernightFixings(
+      OvernightIndex index,
+      HolidayCalendar fixingCalendar,
+      LocalDateDoubleTimeSeries timeSeries) {
+
+    this.index = index;
+    this.fixingCalendar = fixingCalendar;
+    if (timeSeries.isEmpty()) {
+      this.fixingDates = new LocalDate[0];
+      this.fixings = new double[0];
+      this.compounded = new double[] {1d};
+      this.cumulativeSum = new double[] {0d};
+      this.missing = new int[] {0};
+      return;
+    }
+    LocalDate end = timeSeries.getLatestDate().plusDays(1);
+    this.fixingDates = fixingCalendar.businessDays(timeSeries.getEarliestDate(), end).toArray(LocalDate[]::new);
+    int size = fixingDates.length;
+    this.fixings = new double[size];
+    this.compounded = new double[size + 1];
+    this.cumulativeSum = new double[size + 1];
+    this.missing = new int[size + 1];
+    DayCount dayCount = index.getDayCount();
+    int effectiveOffset = index.getEffectiveDateOffset();
+    compounded[0] = 1d;
+    for (int i = 0; i < size; i++) {
+      LocalDate fixingDate = fixingDates[i];
+      OptionalDouble fixing = timeSeries.get(fixingDate);
+      if (fixing.isPresent()) {
+        double rate = fixing.getAsDouble();
+        LocalDate effectiveDate = fixingCalendar.shift(fixingDate, effectiveOffset);
+        LocalDate maturityDate = fixingCalendar.next(effectiveDate);
+        double accrualFactor = dayCount.yearFraction(effectiveDate, maturityDate);
+        fixings[i] = rate;
+        compounded[i + 1] = compounded[i] * (1d + accrualFactor * rate);
+        missing[i + 1] = missing[i];
+      } else {
+        compounded[i + 1] = compounded[i];
+        missing[i + 1] = missing[i] + 1;
+      }
+      LocalDate nextDate = i + 1 < size ? fixingDates[i + 1] : fixingCalendar.next(fixingDate);
+      cumulativeSum[i + 1] = cumulativeSum[i] + fixings[i] * ChronoUnit.DAYS.between(fixingDate, nextDate);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of fixing dates.
+   *
+   * @return the number of fixing dates
+   */
+  public int size() {
+    return fixingDates.length;
+  }
+
+  /**
+   * Gets the fixing date at the specified position.
+   *
+   * @param position  the position
+   * @return the fixing date
+   */
+  public LocalDate getFixingDate(int position) {
+    return fixingDates[position];
+  }
+
+  /**
+   * Finds the position of the specified fixing date.
+   * <p>
+   * The result follows {@link Arrays#binarySearch(Object[], Object)}, thus is negative
+   * if the date is not a fixing date.
+   *
+   * @param fixingDate  the fixing date
+   * @return the position, negative if not found
+   */
+  public int positionOf(LocalDate fixingDate) {
+    return Arrays.binarySearch(fixingDates, fixingDate);
+  }
+
+  /**
+   * Finds the first position in the range whose fixing is not published before the valuation date.
+   * <p>
+   * The publication date is monotonic in the fixing date, thus a binary search is used.
+   *
+   * @param fromPosition  the first position, inclusive
+   * @param toPosition  the last position, exclusive
+   * @param valuationDate  the valuation date
+   * @param computation  the computation, used to determine the publication date
+   * @return the first position not published before the valuation date, 'toPosition' if all are published
+   */
+  public int firstUnpublished(
+      int fromPosition,
+      int toPosition,
+      LocalDate valuationDate,
+      OvernightRateComputation computation) {
+
+    int low = fromPosition;
+    int high = toPosition;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (valuationDate.isAfter(computation.calculatePublicationFromFixing(fixingDates[mid]))) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Checks if all the fixings in the range are present.
+   *
+   * @param fromPosition  the first position, inclusive
+   * @param toPosition  the last position, exclusive
+   * @return true if no fixing is missing
+   */
+  public boolean isComplete(int fromPosition, int toPosition) {
+    return missing[toPosition] == missing[fromPosition];
+  }
+
+  /**
+   * Calculates the compounded factor over the range.
+   * <p>
+   * This is the product of '1 + af * rate' over the fixings in the range.
+   *
+   * @param fromPosition  the first position, inclusive
+   * @param toPosition  the last position, exclusive
+   * @return the compounded factor
+   */
+  public double compoundedFactor(int fromPosition, int toPosition) {
+    return compounded[toPosition] / compounded[fromPosition];
+  }
+
+  /**
+   * Calculates the sum of the daily rates over a range of calendar days.
+   * <p>
+   * Each calendar day uses the fixing of the same or previous fixing date.
+   * The start date must not be before the first fixing date, and the end date must not be
+   * after the business day following the last fixing date.
+   *
+   * @param startInclusive  the first calendar day, inclusive
+   * @param endExclusive  the last calendar day, exclusive
+   * @return the sum of the daily rates
+   */
+  public double dailySum(LocalDate startInclusive, LocalDate endExclusive) {
+    return cumulativeDailySum(endExclusive) - cumulativeDailySum(startInclusive);
+  }
+
+  // the sum of daily rates on all calendar days before the specified date
+  private double cumulativeDailySum(LocalDate date) {
+    int position = Arrays.binarySearch(fixingDates, date);
+    if (position >= 0) {
+      return cumulativeSum[position];
+    }
+    int previous = -position - 2;
+    return cumulativeSum[previous] + fixings[previous] * ChronoUnit.DAYS.between(fixingDates[previous], date);
+  }
+
+}
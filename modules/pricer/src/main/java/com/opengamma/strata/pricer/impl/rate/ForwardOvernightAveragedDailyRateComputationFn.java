@@ -5,10 +5,14 @@
  */
 package com.opengamma.strata.pricer.impl.rate;
 
+import static java.time.temporal.ChronoUnit.DAYS;
+
 import java.time.LocalDate;
 
+import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
+import com.opengamma.strata.collect.tuple.ObjDoublePair;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
@@ -22,6 +26,7 @@ import com.opengamma.strata.product.rate.OvernightAveragedDailyRateComputation;
 * <p>
 * The rate computation retrieves the rate at each fixing date in the period 
 * from the {@link RatesProvider} and average them.
+* The fixings published before the valuation date are summed using {@link CumulativeOvernightFixings}.
 */
 public class ForwardOvernightAveragedDailyRateComputationFn
     implements RateComputationFn<OvernightAveragedDailyRateComputation> {
@@ -49,9 +54,10 @@ public class ForwardOvernightAveragedDailyRateComputationFn
     OvernightIndex index = computation.getIndex();
     OvernightIndexRates rates = provider.overnightIndexRates(index);
     LocalDate lastFixingDate = computation.getEndDate();
-    double interestSum = 0d;
-    int numberOfDays = 0;
-    LocalDate currentFixingDate = computation.getStartDate();
+    ObjDoublePair<LocalDate> past = pastInterestSum(computation, rates);
+    double interestSum = past.getSecond();
+    int numberOfDays = Math.toIntExact(DAYS.between(computation.getStartDate(), past.getFirst()));
+    LocalDate currentFixingDate = past.getFirst();
     while (!currentFixingDate.isAfter(lastFixingDate)) {
       LocalDate referenceFixingDate = computation.getFixingCalendar().previousOrSame(currentFixingDate);
       OvernightIndexObservation indexObs = computation.observeOn(referenceFixingDate);
@@ -75,8 +81,9 @@ public class ForwardOvernightAveragedDailyRateComputationFn
     OvernightIndexRates rates = provider.overnightIndexRates(index);
     LocalDate lastFixingDate = computation.getEndDate();
     PointSensitivityBuilder pointSensitivityBuilder = PointSensitivityBuilder.none();
-    int numberOfDays = 0;
-    LocalDate currentFixingDate = computation.getStartDate();
+    // the published fixings have no sensitivity
+    LocalDate currentFixingDate = pastInterestSum(computation, rates).getFirst();
+    int numberOfDays = Math.toIntExact(DAYS.between(computation.getStartDate(), currentFixingDate));
     while (!currentFixingDate.isAfter(lastFixingDate)) {
       LocalDate referenceFixingDate = computation.getFixingCalendar().previousOrSame(currentFixingDate);
       OvernightIndexObservation indexObs = computation.observeOn(referenceFixingDate);
@@ -102,4 +109,36 @@ public class ForwardOvernightAveragedDailyRateComputationFn
     return rate;
   }
 
+  //-------------------------------------------------------------------------
+  // sums the rates of the calendar days whose fixing is published before the valuation date
+  // returns the first day not included in the sum and the sum, the start date if the fixings cannot be used
+  private static ObjDoublePair<LocalDate> pastInterestSum(
+      OvernightAveragedDailyRateComputation computation,
+      OvernightIndexRates rates) {
+
+    LocalDate startDate = computation.getStartDate();
+    HolidayCalendar calendar = computation.getFixingCalendar();
+    LocalDate firstFixing = calendar.previousOrSame(startDate);
+    if (!rates.getValuationDate().isAfter(computation.calculatePublicationFromFixing(firstFixing))) {
+      return ObjDoublePair.of(startDate, 0d);
+    }
+    CumulativeOvernightFixings cumulative =
+        CumulativeOvernightFixings.of(computation.getIndex(), calendar, rates.getFixings());
+    int start = cumulative.positionOf(firstFixing);
+    int last = cumulative.positionOf(calendar.previousOrSame(computation.getEndDate()));
+    int limit = Math.min(last >= 0 ? last + 1 : -last - 1, cumulative.size() - 1);
+    if (start < 0 || start >= limit) {
+      return ObjDoublePair.of(startDate, 0d);
+    }
+    int end = cumulative.firstUnpublished(start, limit, rates.getValuationDate(), computation);
+    if (end == start || !cumulative.isComplete(start, end)) {
+      return ObjDoublePair.of(startDate, 0d);
+    }
+    LocalDate endDate = cumulative.getFixingDate(end);
+    if (endDate.isAfter(computation.getEndDate())) {
+      endDate = computation.getEndDate().plusDays(1);
+    }
+    return ObjDoublePair.of(endDate, cumulative.dailySum(startDate, endDate));
+  }
+
 }
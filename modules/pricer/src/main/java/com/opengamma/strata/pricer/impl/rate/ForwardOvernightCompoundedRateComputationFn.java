@@ -26,6 +26,7 @@ import com.opengamma.strata.product.rate.OvernightCompoundedRateComputation;
 * Rate computation implementation for a rate based on a single overnight index that is compounded.
 * <p>
 * Rates that are already fixed are retrieved from the time series of the {@link RatesProvider}.
+* The fixings published before the valuation date are compounded using {@link CumulativeOvernightFixings}.
 * Rates that are in the future and not in the cut-off period are computed as unique forward rate in the full future period.
 * Rates that are in the cut-off period (already fixed or forward) are compounded.
 */
@@ -128,6 +129,22 @@ public class ForwardOvernightCompoundedRateComputationFn
       double compositionFactor = 1.0d;
       LocalDate currentFixing = firstFixing;
       LocalDate currentPublication = computation.calculatePublicationFromFixing(currentFixing);
+      if (rates.getValuationDate().isAfter(currentPublication)) {
+        // skip the published fixings in the non-cutoff period using the cumulative fixings
+        CumulativeOvernightFixings cumulative = CumulativeOvernightFixings.of(
+            computation.getIndex(), computation.getFixingCalendar(), indexFixingDateSeries);
+        int start = cumulative.positionOf(firstFixing);
+        int last = cumulative.positionOf(lastFixingNonCutoff);
+        int limit = Math.min(last >= 0 ? last : -last - 1, cumulative.size() - 1);
+        if (start >= 0 && start < limit) {
+          int end = cumulative.firstUnpublished(start, limit, rates.getValuationDate(), computation);
+          if (cumulative.isComplete(start, end)) {
+            compositionFactor = cumulative.compoundedFactor(start, end);
+            currentFixing = cumulative.getFixingDate(end);
+            currentPublication = computation.calculatePublicationFromFixing(currentFixing);
+          }
+        }
+      }
       while ((currentFixing.isBefore(lastFixingNonCutoff)) && // fixing in the non-cutoff period
           rates.getValuationDate().isAfter(currentPublication)) { // publication before valuation
         LocalDate effectiveDate = computation.calculateEffectiveFromFixing(currentFixing);
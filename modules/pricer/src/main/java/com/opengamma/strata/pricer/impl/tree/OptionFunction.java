@@ -131,4 +131,37 @@ public interface OptionFunction {
         transitionProbability.get(j, 1) * value.get(j + 1) + transitionProbability.get(j, 0) * value.get(j)));
   }
 
+  /**
+   * Computes the option values in the intermediate nodes, overwriting the input values.
+   * <p>
+   * Given a set of option values in the (i+1)-th layer, stored in the first (2*i+3) elements of {@code values},
+   * option values in the i-th layer are derived and stored in the first (2*i+1) elements of {@code values}.
+   * This allows backward induction to be performed with a single buffer.
+   * <p>
+   * The arrays of state values and transition probabilities must not be altered.
+   * The default implementation delegates to {@link #getNextOptionValues(double, DoubleMatrix, DoubleArray, DoubleArray, int)},
+   * and implementations should override this method to avoid the intermediate copy.
+   * 
+   * @param discountFactor  the discount factor between the two layers
+   * @param transitionProbability  the transition probability, see {@code getNextOptionValues}
+   * @param stateValue  the state value
+   * @param values  the option values, updated in place
+   * @param i  the step number for which the next option values are computed
+   */
+  public default void updateOptionValues(
+      double discountFactor,
+      double[][] transitionProbability,
+      double[] stateValue,
+      double[] values,
+      int i) {
+
+    DoubleArray next = getNextOptionValues(
+        discountFactor,
+        DoubleMatrix.ofUnsafe(transitionProbability),
+        DoubleArray.ofUnsafe(stateValue),
+        DoubleArray.ofUnsafe(values).subArray(0, 2 * i + 3),
+        i);
+    next.copyInto(values, 0);
+  }
+
 }
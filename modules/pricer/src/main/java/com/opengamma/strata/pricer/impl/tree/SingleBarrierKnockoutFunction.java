@@ -129,23 +129,62 @@ abstract class SingleBarrierKnockoutFunction implements OptionFunction {
     return DoubleArray.ofUnsafe(res);
   }
 
+  @Override
+  public void updateOptionValues(
+      double discountFactor,
+      double[][] transitionProbability,
+      double[] stateValue,
+      double[] values,
+      int i) {
+
+    int nNodes = 2 * i + 1;
+    double barrierLevel = getBarrierLevel(i);
+    double rebate = getRebate(i);
+    boolean isDown = getBarrierType().isDown();
+    // values[j] is only read when computing node j, thus the layer can be overwritten in ascending order
+    for (int j = 0; j < nNodes; ++j) {
+      if ((isDown && stateValue[j] <= barrierLevel) ||
+          (!isDown && stateValue[j] >= barrierLevel)) {
+        values[j] = rebate;
+      } else {
+        double[] probs = transitionProbability[j];
+        values[j] = discountFactor * (probs[2] * values[j + 2] + probs[1] * values[j + 1] + probs[0] * values[j]);
+      }
+    }
+    // modification if barrier lies between two consecutive nodes 
+    int index = getLowerBoundIndex(stateValue, nNodes, barrierLevel);
+    if (index > -1 && index < nNodes - 1) {
+      double bd = barrierLevel - stateValue[index];
+      double ub = stateValue[index + 1] - barrierLevel;
+      double ud = stateValue[index + 1] - stateValue[index];
+      if (isDown) {
+        values[index + 1] = 0.5 * values[index + 1] + 0.5 * (bd * rebate + ub * values[index + 1]) / ud;
+      } else {
+        values[index] = 0.5 * values[index] + 0.5 * (ub * rebate + bd * values[index]) / ud;
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   private int getLowerBoundIndex(DoubleArray set, double value) {
-    int n = set.size();
-    if (value < set.get(0)) {
+    return getLowerBoundIndex(set.toArrayUnsafe(), set.size(), value);
+  }
+
+  private int getLowerBoundIndex(double[] set, int n, double value) {
+    if (value < set[0]) {
       return -1;
     }
-    if (value > set.get(n - 1)) {
+    if (value > set[n - 1]) {
       return n - 1;
     }
-    int index = Arrays.binarySearch(set.toArrayUnsafe(), value);
+    int index = Arrays.binarySearch(set, 0, n, value);
     if (index >= 0) {
       // Fast break out if it's an exact match.
       return index;
     }
     index = -(index + 1);
     index--;
-    if (value == -0. && index < n - 1 && set.get(index + 1) == 0.) {
+    if (value == -0. && index < n - 1 && set[index + 1] == 0.) {
       ++index;
     }
     return index;
@@ -5,6 +5,11 @@
  */
 package com.opengamma.strata.pricer.impl.tree;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
@@ -67,6 +72,9 @@ public class TrinomialTree {
 
   /**
    * Price an option under the specified trinomial tree gird.
+   * <p>
+   * The backward induction uses a single buffer, thus the memory used is proportional to the number of nodes
+   * in the final layer.
    * 
    * @param function  the option
    * @param data  the trinomial tree data
@@ -78,12 +86,12 @@ public class TrinomialTree {
 
     int nSteps = data.getNumberOfSteps();
     ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps));
+    double[] values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps)).toArray();
     for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(
-          data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i), data.getStateValueAtLayer(i), values, i);
+      function.updateOptionValues(
+          data.getDiscountFactorAtLayer(i), probabilities(data, i), states(data, i), values, i);
     }
-    return values.get(0);
+    return values[0];
   }
 
   /**
@@ -91,6 +99,9 @@ public class TrinomialTree {
    * <p>
    * The delta is the first derivative of the price with respect to spot, and approximated by the data embedded in 
    * the trinomial tree.
+   * <p>
+   * The backward induction uses a single buffer, thus the memory used is proportional to the number of nodes
+   * in the final layer.
    * 
    * @param function  the option
    * @param data  the trinomial tree data
@@ -102,19 +113,69 @@ public class TrinomialTree {
 
     int nSteps = data.getNumberOfSteps();
     ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps));
+    double[] values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps)).toArray();
     double delta = 0d;
     for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(
-          data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i), data.getStateValueAtLayer(i), values, i);
+      function.updateOptionValues(
+          data.getDiscountFactorAtLayer(i), probabilities(data, i), states(data, i), values, i);
       if (i == 1) {
-        DoubleArray stateValue = data.getStateValueAtLayer(1);
-        double d1 = (values.get(2) - values.get(1)) / (stateValue.get(2) - stateValue.get(1));
-        double d2 = (values.get(1) - values.get(0)) / (stateValue.get(1) - stateValue.get(0));
+        double[] stateValue = states(data, 1);
+        double d1 = (values[2] - values[1]) / (stateValue[2] - stateValue[1]);
+        double d2 = (values[1] - values[0]) / (stateValue[1] - stateValue[0]);
         delta = 0.5 * (d1 + d2);
       }
     }
-    return ValueDerivatives.of(values.get(0), DoubleArray.of(delta));
+    return ValueDerivatives.of(values[0], DoubleArray.of(delta));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Price options under the specified trinomial tree gird.
+   * <p>
+   * All of the options share the same tree, and are priced in parallel.
+   * 
+   * @param functions  the options
+   * @param data  the trinomial tree data
+   * @return the option prices, in the order of the options
+   */
+  public DoubleArray optionPrice(
+      List<? extends OptionFunction> functions,
+      RecombiningTrinomialTreeData data) {
+
+    return DoubleArray.ofUnsafe(IntStream.range(0, functions.size())
+        .parallel()
+        .mapToDouble(i -> optionPrice(functions.get(i), data))
+        .toArray());
+  }
+
+  /**
+   * Compute option prices and deltas under the specified trinomial tree gird.
+   * <p>
+   * All of the options share the same tree, and are priced in parallel.
+   * 
+   * @param functions  the options
+   * @param data  the trinomial tree data
+   * @return the option prices and spot deltas, in the order of the options
+   */
+  public List<ValueDerivatives> optionPriceAdjoint(
+      List<? extends OptionFunction> functions,
+      RecombiningTrinomialTreeData data) {
+
+    return IntStream.range(0, functions.size())
+        .parallel()
+        .mapToObj(i -> optionPriceAdjoint(functions.get(i), data))
+        .collect(toImmutableList());
+  }
+
+  //-------------------------------------------------------------------------
+  // the state values at the layer, without copying
+  private static double[] states(RecombiningTrinomialTreeData data, int layer) {
+    return data.getStateValue().toArrayUnsafe()[layer];
+  }
+
+  // the transition probabilities at the layer, without copying
+  private static double[][] probabilities(RecombiningTrinomialTreeData data, int layer) {
+    return data.getProbabilityAtLayer(layer).toArrayUnsafe();
   }
 
 }
@@ -61,7 +61,7 @@ public class DupireLocalVolatilityCalculator implements LocalVolatilityCalculato
         if (k < SMALL) {
           localVol = Math.sqrt(vol * vol + 2 * vol * t * (divT));
           localVolSensi =
-              volSensi.multipliedBy((vol + t * divT) / localVol).plus(divTSensi.multipliedBy(vol * t / localVol));
+              volSensi.multipliedBy((vol + t * divT) / localVol).plus(divTSensi, vol * t / localVol);
         } else {
           double divK = FIRST_DERIV.differentiate(l -> impliedVolatilitySurface.zValue(t, l)).apply(k);
           DoubleArray divKSensi = FIRST_DERIV_SENSI.differentiate(
@@ -84,9 +84,9 @@ public class DupireLocalVolatilityCalculator implements LocalVolatilityCalculato
               0.5 * localVol * pow2(k * h1 * divK) / vol / den +
               (vol + divT * t + rq * t * k * divK) / (localVol * den) -
               0.5 * divK2 * localVol * k * k * t / den)
-              .plus(divKSensi.multipliedBy((vol * t * rq * k / localVol - localVol * k * h1 * (1d + k * h2 * divK)) / den))
-              .plus(divTSensi.multipliedBy(vol * t / (localVol * den)))
-              .plus(divK2Sensi.multipliedBy(-0.5 * vol * localVol * k * k * t / den));
+              .plus(divKSensi, (vol * t * rq * k / localVol - localVol * k * h1 * (1d + k * h2 * divK)) / den)
+              .plus(divTSensi, vol * t / (localVol * den))
+              .plus(divK2Sensi, -0.5 * vol * localVol * k * k * t / den);
         }
         return ValueDerivatives.of(localVol, localVolSensi);
       }
@@ -135,9 +135,9 @@ public class DupireLocalVolatilityCalculator implements LocalVolatilityCalculato
         double localVol = Math.sqrt(var);
         double factor = 1d / (localVol * k * k * divK2);
         DoubleArray localVolSensi = divTSensi.multipliedBy(factor)
-            .plus(divKSensi.multipliedBy((r - q) * k * factor))
-            .plus(priceSensi.multipliedBy(q * factor))
-            .plus(divK2Sensi.multipliedBy(-0.5 * localVol / divK2));
+            .plus(divKSensi, (r - q) * k * factor)
+            .plus(priceSensi, q * factor)
+            .plus(divK2Sensi, -0.5 * localVol / divK2);
         return ValueDerivatives.of(localVol, localVolSensi);
       }
     };
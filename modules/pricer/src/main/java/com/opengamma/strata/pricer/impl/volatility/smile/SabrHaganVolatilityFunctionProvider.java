@@ -198,6 +198,22 @@ public final class SabrHaganVolatilityFunctionProvider
       double rho,
       double nu) {
 
+    double[] derivatives = new double[6];
+    double volatility = volatilityAdjoint(forward, strike, timeToExpiry, alpha, beta, rho, nu, derivatives);
+    return ValueDerivatives.of(volatility, DoubleArray.ofUnsafe(derivatives));
+  }
+
+  @Override
+  public double volatilityAdjoint(
+      double forward,
+      double strike,
+      double timeToExpiry,
+      double alpha,
+      double beta,
+      double rho,
+      double nu,
+      double[] derivatives) {
+
     ArgChecker.isTrue(forward > 0.0, "forward must be greater than zero");
     ArgChecker.isTrue(strike >= 0.0, "strike must be greater than zero");
     ArgChecker.isTrue(timeToExpiry >= 0.0, "timeToExpiry must be greater than zero");
@@ -221,7 +237,13 @@ public final class SabrHaganVolatilityFunctionProvider
         // so we return an arbitrary large number
         alphaBar = 1e7;
       }
-      return ValueDerivatives.of(0d, DoubleArray.of(0, 0, alphaBar, 0, 0, 0));
+      derivatives[0] = 0d;
+      derivatives[1] = 0d;
+      derivatives[2] = alphaBar;
+      derivatives[3] = 0d;
+      derivatives[4] = 0d;
+      derivatives[5] = 0d;
+      return 0d;
     }
 
     // Implementation note: Forward sweep.
@@ -344,7 +366,13 @@ public final class SabrHaganVolatilityFunctionProvider
         (betaStar / 12 * lnrfKPow2 + pow3(betaStar) / 480 * lnrfKPow4) * sf1Bar +
         (-betaStar * alphaPow2 / (sfKPow2 * 12) + (rho * nu * alpha) / sfKMul4) * timeToExpiry * sf2Bar;
 
-    return ValueDerivatives.of(volatility, DoubleArray.of(forwardBar, strikeBar, alphaBar, betaBar, rhoBar, nuBar));
+    derivatives[0] = forwardBar;
+    derivatives[1] = strikeBar;
+    derivatives[2] = alphaBar;
+    derivatives[3] = betaBar;
+    derivatives[4] = rhoBar;
+    derivatives[5] = nuBar;
+    return volatility;
   }
 
   /**
@@ -381,6 +381,120 @@ public final class SabrInterestRateParameters
     return sabrVolatilityFormula.volatilityAdjoint(forward + shift, strike + shift, expiry, alpha, beta, rho, nu);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the volatilities for arrays of expiry, tenor, strike and forward rate.
+   * <p>
+   * The SABR parameters are only interpolated when the expiry or tenor differs from the previous point.
+   * For best performance, points sharing the same expiry and tenor should therefore be adjacent.
+   * The output array may be the same as one of the input arrays.
+   * 
+   * @param expiry  the times to expiry as year fractions
+   * @param tenor  the tenors as year fractions
+   * @param strike  the strikes
+   * @param forward  the forwards
+   * @param output  the array to store the volatilities in
+   */
+  public void volatility(double[] expiry, double[] tenor, double[] strike, double[] forward, double[] output) {
+    int size = checkLengths(expiry, tenor, strike, forward, output);
+    double lastExpiry = Double.NaN;
+    double lastTenor = Double.NaN;
+    double alpha = 0d;
+    double beta = 0d;
+    double rho = 0d;
+    double nu = 0d;
+    double shift = 0d;
+    for (int i = 0; i < size; i++) {
+      double exp = expiry[i];
+      double ten = tenor[i];
+      if (exp != lastExpiry || ten != lastTenor) {
+        alpha = alpha(exp, ten);
+        beta = beta(exp, ten);
+        rho = rho(exp, ten);
+        nu = nu(exp, ten);
+        shift = shift(exp, ten);
+        lastExpiry = exp;
+        lastTenor = ten;
+      }
+      output[i] = sabrVolatilityFormula.volatility(forward[i] + shift, strike[i] + shift, exp, alpha, beta, rho, nu);
+    }
+  }
+
+  /**
+   * Calculates the volatilities and associated sensitivities for arrays of expiry, tenor, strike and forward rate.
+   * <p>
+   * The SABR parameters are only interpolated when the expiry or tenor differs from the previous point.
+   * For best performance, points sharing the same expiry and tenor should therefore be adjacent.
+   * The output array may be the same as one of the input arrays.
+   * <p>
+   * The derivatives array must have six rows, each the length of the inputs, with:
+   * <ul>
+   * <li>[0] derivative with respect to the forward
+   * <li>[1] derivative with respect to the forward strike
+   * <li>[2] derivative with respect to the alpha
+   * <li>[3] derivative with respect to the beta
+   * <li>[4] derivative with respect to the rho
+   * <li>[5] derivative with respect to the nu
+   * </ul>
+   * 
+   * @param expiry  the times to expiry as year fractions
+   * @param tenor  the tenors as year fractions
+   * @param strike  the strikes
+   * @param forward  the forwards
+   * @param output  the array to store the volatilities in
+   * @param derivatives  the array to store the derivatives in, indexed by derivative then point
+   */
+  public void volatilityAdjoint(
+      double[] expiry,
+      double[] tenor,
+      double[] strike,
+      double[] forward,
+      double[] output,
+      double[][] derivatives) {
+
+    int size = checkLengths(expiry, tenor, strike, forward, output);
+    ArgChecker.isTrue(derivatives.length == 6, "Derivatives must have 6 rows, but was {}", derivatives.length);
+    for (double[] row : derivatives) {
+      ArgChecker.isTrue(row.length == size, "Derivatives must have length {}, but was {}", size, row.length);
+    }
+    double[] pointDerivatives = new double[6];
+    double lastExpiry = Double.NaN;
+    double lastTenor = Double.NaN;
+    double alpha = 0d;
+    double beta = 0d;
+    double rho = 0d;
+    double nu = 0d;
+    double shift = 0d;
+    for (int i = 0; i < size; i++) {
+      double exp = expiry[i];
+      double ten = tenor[i];
+      if (exp != lastExpiry || ten != lastTenor) {
+        alpha = alpha(exp, ten);
+        beta = beta(exp, ten);
+        rho = rho(exp, ten);
+        nu = nu(exp, ten);
+        shift = shift(exp, ten);
+        lastExpiry = exp;
+        lastTenor = ten;
+      }
+      output[i] = sabrVolatilityFormula.volatilityAdjoint(
+          forward[i] + shift, strike[i] + shift, exp, alpha, beta, rho, nu, pointDerivatives);
+      for (int j = 0; j < 6; j++) {
+        derivatives[j][i] = pointDerivatives[j];
+      }
+    }
+  }
+
+  // checks the array lengths match, returning the length
+  private static int checkLengths(double[] expiry, double[] tenor, double[] strike, double[] forward, double[] output) {
+    int size = expiry.length;
+    ArgChecker.isTrue(tenor.length == size, "Tenor must have length {}, but was {}", size, tenor.length);
+    ArgChecker.isTrue(strike.length == size, "Strike must have length {}, but was {}", size, strike.length);
+    ArgChecker.isTrue(forward.length == size, "Forward must have length {}, but was {}", size, forward.length);
+    ArgChecker.isTrue(output.length == size, "Output must have length {}, but was {}", size, output.length);
+    return size;
+  }
+
   //------------------------- AUTOGENERATED START -------------------------
   /**
    * The meta-bean for {@code SabrInterestRateParameters}.
@@ -75,4 +75,36 @@ public interface SabrVolatilityFormula {
       double rho,
       double nu);
 
+  /**
+   * Calculates volatility and the adjoint, writing the derivatives to an array.
+   * <p>
+   * This avoids the creation of a {@link ValueDerivatives} instance for each evaluation.
+   * The derivatives are written to the first six elements of the array, in the same order as
+   * {@link #volatilityAdjoint(double, double, double, double, double, double, double)}.
+   * 
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike value of the option
+   * @param timeToExpiry  the time to expiry of the option
+   * @param alpha  the SABR alpha value
+   * @param beta  the SABR beta value
+   * @param rho  the SABR rho value
+   * @param nu  the SABR nu value
+   * @param derivatives  the array to populate with the derivatives, of length at least 6
+   * @return the volatility
+   */
+  public default double volatilityAdjoint(
+      double forward,
+      double strike,
+      double timeToExpiry,
+      double alpha,
+      double beta,
+      double rho,
+      double nu,
+      double[] derivatives) {
+
+    ValueDerivatives adjoint = volatilityAdjoint(forward, strike, timeToExpiry, alpha, beta, rho, nu);
+    adjoint.getDerivatives().copyInto(derivatives, 0);
+    return adjoint.getValue();
+  }
+
 }
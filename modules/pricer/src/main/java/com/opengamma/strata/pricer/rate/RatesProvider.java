@@ -5,9 +5,14 @@
  */
 package com.opengamma.strata.pricer.rate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyPair;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.index.FxIndex;
@@ -168,11 +173,12 @@ public interface RatesProvider
    */
   public default CurrencyParameterSensitivities parameterSensitivity(PointSensitivities pointSensitivities) {
     CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.empty();
+    // zero rate sensitivities are grouped by curve so they can be converted together
+    Map<Currency, List<ZeroRateSensitivity>> zeroRateSens = new LinkedHashMap<>();
     for (PointSensitivity point : pointSensitivities.getSensitivities()) {
       if (point instanceof ZeroRateSensitivity) {
         ZeroRateSensitivity pt = (ZeroRateSensitivity) point;
-        DiscountFactors factors = discountFactors(pt.getCurveCurrency());
-        sens = sens.combinedWith(factors.parameterSensitivity(pt));
+        zeroRateSens.computeIfAbsent(pt.getCurveCurrency(), ccy -> new ArrayList<>()).add(pt);
 
       } else if (point instanceof IborRateSensitivity) {
         IborRateSensitivity pt = (IborRateSensitivity) point;
@@ -200,6 +206,10 @@ public interface RatesProvider
         sens = sens.combinedWith(rates.parameterSensitivity(pt));
       }
     }
+    for (Map.Entry<Currency, List<ZeroRateSensitivity>> entry : zeroRateSens.entrySet()) {
+      DiscountFactors factors = discountFactors(entry.getKey());
+      sens = sens.combinedWith(factors.parameterSensitivity(entry.getValue()));
+    }
     return sens;
   }
 
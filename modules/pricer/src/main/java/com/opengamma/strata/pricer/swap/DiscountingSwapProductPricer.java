@@ -20,6 +20,7 @@ import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.tuple.Triple;
 import com.opengamma.strata.market.amount.CashFlows;
+import com.opengamma.strata.market.explain.CompactExplainMap;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
@@ -582,12 +583,34 @@ public class DiscountingSwapProductPricer {
    */
   public ExplainMap explainPresentValue(ResolvedSwap swap, RatesProvider provider) {
     ExplainMapBuilder builder = ExplainMap.builder();
+    explainPresentValueInternal(swap, provider, builder);
+    return builder.build();
+  }
+
+  /**
+   * Explains the present value of the swap product in compact form.
+   * <p>
+   * This returns the same explanatory information as {@link #explainPresentValue(ResolvedSwap, RatesProvider)}
+   * without creating the nested maps, which are only created if the result is expanded.
+   * This is intended for explaining a large number of swaps.
+   * 
+   * @param swap  the product
+   * @param provider  the rates provider
+   * @return the explanatory information in compact form
+   */
+  public CompactExplainMap explainPresentValueCompact(ResolvedSwap swap, RatesProvider provider) {
+    ExplainMapBuilder builder = CompactExplainMap.builder();
+    explainPresentValueInternal(swap, provider, builder);
+    return builder.buildCompact();
+  }
+
+  // explain present value into the builder
+  private void explainPresentValueInternal(ResolvedSwap swap, RatesProvider provider, ExplainMapBuilder builder) {
     builder.put(ExplainKey.ENTRY_TYPE, "Swap");
     for (ResolvedSwapLeg leg : swap.getLegs()) {
       builder.addListEntryWithIndex(
           ExplainKey.LEGS, child -> legPricer.explainPresentValueInternal(leg, provider, child));
     }
-    return builder.build();
   }
 
   //-------------------------------------------------------------------------
@@ -10,6 +10,7 @@ import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.amount.CashFlows;
+import com.opengamma.strata.market.explain.CompactExplainMap;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -99,6 +100,21 @@ public class DiscountingSwapTradePricer {
     return productPricer.explainPresentValue(trade.getProduct(), provider);
   }
 
+  /**
+   * Explains the present value of the swap trade in compact form.
+   * <p>
+   * This returns the same explanatory information as {@link #explainPresentValue(ResolvedSwapTrade, RatesProvider)}
+   * without creating the nested maps, which are only created if the result is expanded.
+   * This is intended for explaining a large number of trades, such as a whole book.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @return the explanatory information in compact form
+   */
+  public CompactExplainMap explainPresentValueCompact(ResolvedSwapTrade trade, RatesProvider provider) {
+    return productPricer.explainPresentValueCompact(trade.getProduct(), provider);
+  }
+
   /**
    * Calculates the present value sensitivity of the swap trade.
    * <p>
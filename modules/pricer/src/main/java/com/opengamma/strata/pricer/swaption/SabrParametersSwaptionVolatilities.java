@@ -216,6 +216,44 @@ public final class SabrParametersSwaptionVolatilities
     return parameters.volatilityAdjoint(expiry, tenor, strike, forward);
   }
 
+  /**
+   * Calculates the volatilities for arrays of expiry, tenor, strike and forward rate.
+   * <p>
+   * See {@link SabrInterestRateParameters#volatility(double[], double[], double[], double[], double[])}.
+   * 
+   * @param expiry  the times to expiry as year fractions
+   * @param tenor  the tenors as year fractions
+   * @param strike  the strikes
+   * @param forward  the forwards
+   * @param output  the array to store the volatilities in
+   */
+  public void volatility(double[] expiry, double[] tenor, double[] strike, double[] forward, double[] output) {
+    parameters.volatility(expiry, tenor, strike, forward, output);
+  }
+
+  /**
+   * Calculates the volatilities and associated sensitivities for arrays of expiry, tenor, strike and forward rate.
+   * <p>
+   * See {@link SabrInterestRateParameters#volatilityAdjoint(double[], double[], double[], double[], double[], double[][])}.
+   * 
+   * @param expiry  the times to expiry as year fractions
+   * @param tenor  the tenors as year fractions
+   * @param strike  the strikes
+   * @param forward  the forwards
+   * @param output  the array to store the volatilities in
+   * @param derivatives  the array to store the derivatives in, indexed by derivative then point
+   */
+  public void volatilityAdjoint(
+      double[] expiry,
+      double[] tenor,
+      double[] strike,
+      double[] forward,
+      double[] output,
+      double[][] derivatives) {
+
+    parameters.volatilityAdjoint(expiry, tenor, strike, forward, output, derivatives);
+  }
+
   @Override
   public double alpha(double expiry, double tenor) {
     return parameters.alpha(expiry, tenor);
@@ -35,6 +35,7 @@ import com.opengamma.strata.math.MathException;
 import com.opengamma.strata.math.impl.rootfinding.NewtonRaphsonSingleRootFinder;
 import com.opengamma.strata.math.impl.statistics.leastsquare.LeastSquareResultsWithTransform;
 import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
+import com.opengamma.strata.pricer.impl.option.ImpliedVolatilityFormulaRepository;
 import com.opengamma.strata.pricer.impl.volatility.smile.SabrFormulaData;
 import com.opengamma.strata.pricer.impl.volatility.smile.SabrModelFitter;
 import com.opengamma.strata.pricer.model.SabrInterestRateParameters;
@@ -67,6 +68,10 @@ public final class SabrSwaptionCalibrator {
    * The reference data.
    */
   private final ReferenceData refData;
+  /**
+   * Whether the implied volatilities are computed with {@link ImpliedVolatilityFormulaRepository}.
+   */
+  private final boolean fastImpliedVolatility;
 
   /** The root-finder used in the Alpha calibration to ATM volatility. */
   private static final NewtonRaphsonSingleRootFinder ROOT_FINDER = new NewtonRaphsonSingleRootFinder();
@@ -76,7 +81,7 @@ public final class SabrSwaptionCalibrator {
    */
   public static final SabrSwaptionCalibrator DEFAULT =
       new SabrSwaptionCalibrator(
-          SabrVolatilityFormula.hagan(), DiscountingSwapProductPricer.DEFAULT, ReferenceData.standard());
+          SabrVolatilityFormula.hagan(), DiscountingSwapProductPricer.DEFAULT, ReferenceData.standard(), false);
 
   //-------------------------------------------------------------------------
   /**
@@ -92,7 +97,7 @@ public final class SabrSwaptionCalibrator {
       SabrVolatilityFormula sabrVolatilityFormula,
       DiscountingSwapProductPricer swapPricer) {
 
-    return new SabrSwaptionCalibrator(sabrVolatilityFormula, swapPricer, ReferenceData.standard());
+    return new SabrSwaptionCalibrator(sabrVolatilityFormula, swapPricer, ReferenceData.standard(), false);
   }
 
   /**
@@ -110,17 +115,43 @@ public final class SabrSwaptionCalibrator {
       DiscountingSwapProductPricer swapPricer,
       ReferenceData refData) {
 
-    return new SabrSwaptionCalibrator(sabrVolatilityFormula, swapPricer, refData);
+    return new SabrSwaptionCalibrator(sabrVolatilityFormula, swapPricer, refData, false);
+  }
+
+  /**
+   * Obtains an instance from a SABR volatility function provider and a swap pricer,
+   * specifying how implied volatilities are computed from prices.
+   * <p>
+   * The swap pricer is used to compute the forward rate required for calibration.
+   * If {@code fastImpliedVolatility} is true, the Black implied volatilities are computed using
+   * {@link ImpliedVolatilityFormulaRepository}, which is faster and more accurate than the default
+   * root-finding approach, but may give slightly different calibrated parameters.
+   * 
+   * @param sabrVolatilityFormula  the SABR implied volatility formula
+   * @param swapPricer  the swap pricer
+   * @param refData  the reference data
+   * @param fastImpliedVolatility  whether to use the fast implied volatility formula
+   * @return the calibrator
+   */
+  public static SabrSwaptionCalibrator of(
+      SabrVolatilityFormula sabrVolatilityFormula,
+      DiscountingSwapProductPricer swapPricer,
+      ReferenceData refData,
+      boolean fastImpliedVolatility) {
+
+    return new SabrSwaptionCalibrator(sabrVolatilityFormula, swapPricer, refData, fastImpliedVolatility);
   }
 
   private SabrSwaptionCalibrator(
       SabrVolatilityFormula sabrVolatilityFormula,
       DiscountingSwapProductPricer swapPricer,
-      ReferenceData refData) {
+      ReferenceData refData,
+      boolean fastImpliedVolatility) {
 
     this.sabrVolatilityFormula = ArgChecker.notNull(sabrVolatilityFormula, "sabrVolatilityFormula");
     this.swapPricer = ArgChecker.notNull(swapPricer, "swapPricer");
     this.refData = ArgChecker.notNull(refData, "refData");
+    this.fastImpliedVolatility = fastImpliedVolatility;
   }
 
   //-------------------------------------------------------------------------
@@ -637,14 +668,24 @@ public final class SabrSwaptionCalibrator {
     for (int i = 0; i < nbStrikes; i++) {
       ValueDerivatives price = BlackFormulaRepository.priceAdjoint(
           forward + shiftInput, strikes.get(i) + shiftInput, timeToExpiry, blackVolatilities.get(i), true); // vega-[3]
-      ValueDerivatives iv = BlackFormulaRepository.impliedVolatilityAdjoint(
-          price.getValue(), forward + shiftOutput, strikes.get(i) + shiftOutput, timeToExpiry, true);
+      ValueDerivatives iv = impliedVolatilityAdjoint(
+          price.getValue(), forward + shiftOutput, strikes.get(i) + shiftOutput, timeToExpiry);
       impliedVolatility[i] = iv.getValue();
       impliedVolatilityDerivatives[i] = iv.getDerivative(0) * price.getDerivative(3);
     }
     return Pair.of(DoubleArray.ofUnsafe(impliedVolatility), DoubleArray.ofUnsafe(impliedVolatilityDerivatives));
   }
 
+  // the Black implied volatility of a call and its derivative with respect to the price
+  private ValueDerivatives impliedVolatilityAdjoint(double price, double forward, double strike, double timeToExpiry) {
+    if (!fastImpliedVolatility) {
+      return BlackFormulaRepository.impliedVolatilityAdjoint(price, forward, strike, timeToExpiry, true);
+    }
+    double volatility = ImpliedVolatilityFormulaRepository.blackImpliedVolatility(price, forward, strike, timeToExpiry, true);
+    double vega = BlackFormulaRepository.vega(forward, strike, timeToExpiry, volatility);
+    return ValueDerivatives.of(volatility, DoubleArray.of(1d / vega));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calibrate the SABR parameters to a set of option prices at given moneyness.
@@ -723,8 +764,8 @@ public final class SabrSwaptionCalibrator {
     double[] impliedVolatility = new double[nbStrikes];
     double[] impliedVolatilityDerivatives = new double[nbStrikes];
     for (int i = 0; i < nbStrikes; i++) {
-      ValueDerivatives iv = BlackFormulaRepository.impliedVolatilityAdjoint(
-          prices.get(i), forward + shiftOutput, strikes.get(i) + shiftOutput, timeToExpiry, true);
+      ValueDerivatives iv = impliedVolatilityAdjoint(
+          prices.get(i), forward + shiftOutput, strikes.get(i) + shiftOutput, timeToExpiry);
       impliedVolatility[i] = iv.getValue();
       impliedVolatilityDerivatives[i] = iv.getDerivative(0);
     }
@@ -22,6 +22,7 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.CurveInfoType;
@@ -306,6 +307,24 @@ public class ZeroRatePeriodicDiscountFactorsTest {
     assertThat(sensi1.getCurrency()).isEqualTo(GBP);
   }
 
+  @Test
+  public void test_parameterSensitivity_list() {
+    ZeroRatePeriodicDiscountFactors test = ZeroRatePeriodicDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    ImmutableList<ZeroRateSensitivity> points = ImmutableList.of(
+        ZeroRateSensitivity.of(GBP, 0.5d, 2d),
+        ZeroRateSensitivity.of(GBP, 1.5d, USD, -3d),
+        ZeroRateSensitivity.of(GBP, 3d, 5d),
+        ZeroRateSensitivity.of(GBP, 12d, 7d));
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.empty();
+    for (ZeroRateSensitivity point : points) {
+      expected = expected.combinedWith(test.parameterSensitivity(point));
+    }
+    CurrencyParameterSensitivities computed = test.parameterSensitivity(points);
+    assertThat(computed.size()).isEqualTo(2);
+    assertThat(computed.equalWithTolerance(expected, TOLERANCE_DELTA)).isTrue();
+    assertThat(test.parameterSensitivity(ImmutableList.of())).isEqualTo(CurrencyParameterSensitivities.empty());
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_parameterSensitivity_full() {
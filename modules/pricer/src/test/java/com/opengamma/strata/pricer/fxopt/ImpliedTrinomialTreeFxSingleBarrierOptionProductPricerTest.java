@@ -14,12 +14,15 @@ import static org.assertj.core.data.Offset.offset;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.currency.Payment;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.pricer.DiscountingPaymentPricer;
 import com.opengamma.strata.pricer.fx.RatesProviderFxDataSets;
@@ -332,6 +335,21 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricerTest {
     assertThat(ce).isEqualTo(ceWithData);
   }
 
+  @Test
+  public void test_bulk() {
+    ResolvedFxSingleBarrierOption callDkoRebate = ResolvedFxSingleBarrierOption.of(CALL, BARRIER_DKO, REBATE_BASE);
+    List<ResolvedFxSingleBarrierOption> options = ImmutableList.of(CALL_DKO, CALL_UKI_C, callDkoRebate, CALL_DKO);
+    DoubleArray prices = PRICER_39.price(options, RATE_PROVIDER, VOLS, DATA_39);
+    List<CurrencyAmount> pvs = PRICER_39.presentValue(options, RATE_PROVIDER, VOLS, DATA_39);
+    assertThat(prices.size()).isEqualTo(options.size());
+    assertThat(pvs).hasSize(options.size());
+    for (int i = 0; i < options.size(); ++i) {
+      assertThat(prices.get(i)).isEqualTo(PRICER_39.price(options.get(i), RATE_PROVIDER, VOLS, DATA_39));
+      assertThat(pvs.get(i)).isEqualTo(PRICER_39.presentValue(options.get(i), RATE_PROVIDER, VOLS, DATA_39));
+    }
+    assertThat(PRICER_39.price(ImmutableList.of(), RATE_PROVIDER, VOLS, DATA_39).size()).isEqualTo(0);
+  }
+
   @Test
   public void test_expired_calibration() {
     assertThatIllegalArgumentException()
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
+import java.util.Arrays;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Disabled;
@@ -8940,4 +8941,68 @@ public class BlackFormulaRepositoryTest {
     assertThat(bsD2[1][2]).as("AD Second order: 2nd - str-vol").isCloseTo(bsD2[2][1], offset(TOLERANCE_1));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void batchTest() {
+    double[] strikes = {85.0, 100.0, 104.0, 150.0, 250.0, 0.0, 1.e14, 104.0};
+    double[] vols = {0.2, 0.0, 0.3, 0.5, 1.e-14, 0.2, 0.2, 0.25};
+    double[] times = {4.5, 1.0, 0.0, 2.0, 1.0, 1.0, 1.0, 3.0};
+    int n = strikes.length;
+    double[] forwards = new double[n];
+    Arrays.fill(forwards, FORWARD);
+    double[] output = new double[n];
+    for (boolean isCall : new boolean[] {true, false}) {
+      BlackFormulaRepository.price(forwards, strikes, times, vols, isCall, output);
+      for (int i = 0; i < n; i++) {
+        assertThat(output[i]).isEqualTo(BlackFormulaRepository.price(FORWARD, strikes[i], times[i], vols[i], isCall));
+      }
+      BlackFormulaRepository.delta(forwards, strikes, times, vols, isCall, output);
+      for (int i = 0; i < n; i++) {
+        assertThat(output[i]).isEqualTo(BlackFormulaRepository.delta(FORWARD, strikes[i], times[i], vols[i], isCall));
+      }
+    }
+    BlackFormulaRepository.gamma(forwards, strikes, times, vols, output);
+    for (int i = 0; i < n; i++) {
+      assertThat(output[i]).isEqualTo(BlackFormulaRepository.gamma(FORWARD, strikes[i], times[i], vols[i]));
+    }
+    BlackFormulaRepository.vega(forwards, strikes, times, vols, output);
+    for (int i = 0; i < n; i++) {
+      assertThat(output[i]).isEqualTo(BlackFormulaRepository.vega(FORWARD, strikes[i], times[i], vols[i]));
+    }
+    BlackFormulaRepository.vanna(forwards, strikes, times, vols, output);
+    for (int i = 0; i < n; i++) {
+      assertThat(output[i]).isEqualTo(BlackFormulaRepository.vanna(FORWARD, strikes[i], times[i], vols[i]));
+    }
+    BlackFormulaRepository.vomma(forwards, strikes, times, vols, output);
+    for (int i = 0; i < n; i++) {
+      assertThat(output[i]).isEqualTo(BlackFormulaRepository.vomma(FORWARD, strikes[i], times[i], vols[i]));
+    }
+  }
+
+  @Test
+  public void batchInPlaceTest() {
+    double[] strikes = STRIKES_INPUT.clone();
+    double[] forwards = new double[strikes.length];
+    double[] times = new double[strikes.length];
+    double[] vols = new double[strikes.length];
+    Arrays.fill(forwards, FORWARD);
+    Arrays.fill(times, TIME_TO_EXPIRY);
+    Arrays.fill(vols, VOLS[2]);
+    BlackFormulaRepository.price(forwards, strikes, times, vols, true, strikes);
+    for (int i = 0; i < strikes.length; i++) {
+      assertThat(strikes[i]).isCloseTo(PRE_COMPUTER_PRICES[i][2], offset(1e-13 * PRE_COMPUTER_PRICES[i][2]));
+    }
+  }
+
+  @Test
+  public void batchExceptionTest() {
+    double[] values = {1d, 2d};
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackFormulaRepository.price(values, values, values, new double[1], true, new double[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackFormulaRepository.vega(values, values, values, values, new double[3]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackFormulaRepository.price(values, values, values, new double[] {0.2, -0.2}, true, new double[2]));
+  }
+
 }
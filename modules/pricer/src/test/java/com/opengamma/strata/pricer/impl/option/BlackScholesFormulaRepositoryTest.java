@@ -5773,4 +5773,61 @@ public class BlackScholesFormulaRepositoryTest {
             SPOT, STRIKES_INPUT[1], TIME_TO_EXPIRY, VOLS[1], INTEREST_RATES[1], NAN, true));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void batchTest() {
+    int n = STRIKES_INPUT_EX.length * VOLS_EX.length;
+    double[] spots = new double[n];
+    double[] strikes = new double[n];
+    double[] times = new double[n];
+    double[] vols = new double[n];
+    double[] rates = new double[n];
+    double[] carries = new double[n];
+    for (int i = 0; i < STRIKES_INPUT_EX.length; i++) {
+      for (int j = 0; j < VOLS_EX.length; j++) {
+        int k = i * VOLS_EX.length + j;
+        spots[k] = SPOT_EX[k % SPOT_EX.length];
+        strikes[k] = STRIKES_INPUT_EX[i];
+        times[k] = TIME_TO_EXPIRY_EX[k % TIME_TO_EXPIRY_EX.length];
+        vols[k] = VOLS_EX[j];
+        rates[k] = INTEREST_RATES_EX[k % INTEREST_RATES_EX.length];
+        carries[k] = COST_OF_CARRY_EX[k % COST_OF_CARRY_EX.length];
+      }
+    }
+    double[] output = new double[n];
+    for (boolean isCall : new boolean[] {true, false}) {
+      BlackScholesFormulaRepository.price(spots, strikes, times, vols, rates, carries, isCall, output);
+      for (int i = 0; i < n; i++) {
+        assertThat(output[i]).isEqualTo(
+            BlackScholesFormulaRepository.price(spots[i], strikes[i], times[i], vols[i], rates[i], carries[i], isCall));
+      }
+      BlackScholesFormulaRepository.delta(spots, strikes, times, vols, rates, carries, isCall, output);
+      for (int i = 0; i < n; i++) {
+        assertThat(output[i]).isEqualTo(
+            BlackScholesFormulaRepository.delta(spots[i], strikes[i], times[i], vols[i], rates[i], carries[i], isCall));
+      }
+    }
+    BlackScholesFormulaRepository.gamma(spots, strikes, times, vols, rates, carries, output);
+    for (int i = 0; i < n; i++) {
+      assertThat(output[i]).isEqualTo(
+          BlackScholesFormulaRepository.gamma(spots[i], strikes[i], times[i], vols[i], rates[i], carries[i]));
+    }
+    BlackScholesFormulaRepository.vega(spots, strikes, times, vols, rates, carries, output);
+    for (int i = 0; i < n; i++) {
+      assertThat(output[i]).isEqualTo(
+          BlackScholesFormulaRepository.vega(spots[i], strikes[i], times[i], vols[i], rates[i], carries[i]));
+    }
+  }
+
+  @Test
+  public void batchErrorTest() {
+    double[] values = {SPOT, SPOT};
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackScholesFormulaRepository.price(
+            values, values, values, values, values, new double[1], true, new double[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackScholesFormulaRepository.vega(
+            values, values, new double[] {TIME_TO_EXPIRY, -TIME_TO_EXPIRY}, values, values, values, new double[2]));
+  }
+
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static com.opengamma.strata.product.common.PutCall.CALL;
+import static com.opengamma.strata.product.common.PutCall.PUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Test {@link ImpliedVolatilityFormulaRepository}.
+ */
+public class ImpliedVolatilityFormulaRepositoryTest {
+
+  private static final double FORWARD = 0.025;
+  private static final double[] LOG_MONEYNESS = {-2.5, -1.0, -0.3, -0.05, -1.0e-4, 0.0, 1.0e-4, 0.05, 0.3, 1.0, 2.5};
+  private static final double[] BLACK_VOLS = {0.02, 0.1, 0.3, 0.8, 1.5, 3.0};
+  private static final double[] STRIKE_SPREADS = {-0.04, -0.01, -0.001, 0.0, 0.001, 0.01, 0.04};
+  private static final double[] NORMAL_VOLS = {0.0002, 0.001, 0.005, 0.02};
+  private static final double[] TIMES = {0.02, 1.0, 10.0};
+  private static final double TOLERANCE_VOL = 1.0E-12;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_black_outOfTheMoney() {
+    for (double logMoneyness : LOG_MONEYNESS) {
+      double strike = FORWARD * Math.exp(logMoneyness);
+      boolean isCall = strike >= FORWARD;
+      for (double vol : BLACK_VOLS) {
+        for (double time : TIMES) {
+          double price = BlackFormulaRepository.price(FORWARD, strike, time, vol, isCall);
+          if (price > 0d) {
+            double computed = ImpliedVolatilityFormulaRepository.blackImpliedVolatility(price, FORWARD, strike, time, isCall);
+            double vega = BlackFormulaRepository.vega(FORWARD, strike, time, vol);
+            assertThat(computed).isCloseTo(vol, offset(TOLERANCE_VOL * Math.max(1d, 1d / Math.sqrt(time)) + 1.0E-15 * price / vega));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_black_inTheMoney() {
+    // the time value of in-the-money options is only known to the accuracy of the price
+    for (double logMoneyness : LOG_MONEYNESS) {
+      double strike = FORWARD * Math.exp(logMoneyness);
+      boolean isCall = strike < FORWARD;
+      for (double vol : BLACK_VOLS) {
+        double time = 1d;
+        double price = BlackFormulaRepository.price(FORWARD, strike, time, vol, isCall);
+        double otmPrice = BlackFormulaRepository.price(FORWARD, strike, time, vol, !isCall);
+        if (otmPrice > 1.0E-8 * price) {
+          double computed = ImpliedVolatilityFormulaRepository.blackImpliedVolatility(price, FORWARD, strike, time, isCall);
+          double vega = BlackFormulaRepository.vega(FORWARD, strike, time, vol);
+          assertThat(computed).isCloseTo(vol, offset(1.0E-15 * price / vega + TOLERANCE_VOL));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_black_consistency() {
+    double strike = 0.03;
+    double time = 2d;
+    double price = BlackFormulaRepository.price(FORWARD, strike, time, 0.35, true);
+    double expected = BlackFormulaRepository.impliedVolatility(price, FORWARD, strike, time, true);
+    double computed = ImpliedVolatilityFormulaRepository.blackImpliedVolatility(price, FORWARD, strike, time, true);
+    assertThat(computed).isCloseTo(expected, offset(1.0E-7));
+  }
+
+  @Test
+  public void test_black_intrinsic() {
+    assertThat(ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0d, FORWARD, 0.03, 1d, true)).isEqualTo(0d);
+    assertThat(ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.03 - FORWARD, FORWARD, 0.03, 1d, false)).isEqualTo(0d);
+  }
+
+  @Test
+  public void test_black_bounds() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.004, FORWARD, 0.03, 1d, false));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(FORWARD, FORWARD, 0.03, 1d, true));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(-0.001, FORWARD, 0.03, 1d, true));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.001, -FORWARD, 0.03, 1d, true));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.001, FORWARD, 0.03, 0d, true));
+  }
+
+  @Test
+  public void test_black_batch() {
+    int size = LOG_MONEYNESS.length;
+    double[] price = new double[size];
+    double[] forward = new double[size];
+    double[] strike = new double[size];
+    double[] time = new double[size];
+    for (int i = 0; i < size; i++) {
+      forward[i] = FORWARD;
+      strike[i] = FORWARD * Math.exp(LOG_MONEYNESS[i]);
+      time[i] = 1.5;
+      price[i] = BlackFormulaRepository.price(forward[i], strike[i], time[i], 0.2 + 0.01 * i, true);
+    }
+    double[] output = new double[size];
+    ImpliedVolatilityFormulaRepository.blackImpliedVolatility(price, forward, strike, time, true, output);
+    for (int i = 0; i < size; i++) {
+      assertThat(output[i])
+          .isEqualTo(ImpliedVolatilityFormulaRepository.blackImpliedVolatility(price[i], forward[i], strike[i], time[i], true));
+    }
+    ImpliedVolatilityFormulaRepository.blackImpliedVolatility(price, forward, strike, time, true, price);
+    assertThat(price).containsExactly(output);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(
+            price, forward, strike, new double[1], true, output));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_normal() {
+    for (double spread : STRIKE_SPREADS) {
+      double strike = FORWARD + spread;
+      for (PutCall putCall : PutCall.values()) {
+        for (double vol : NORMAL_VOLS) {
+          for (double time : TIMES) {
+            double price = NormalFormulaRepository.price(FORWARD, strike, time, vol, putCall);
+            double otmPrice = NormalFormulaRepository.price(FORWARD, strike, time, vol, spread >= 0 ? CALL : PUT);
+            if (otmPrice > 1.0E-8 * price) {
+              double computed = ImpliedVolatilityFormulaRepository.normalImpliedVolatility(price, FORWARD, strike, time, putCall);
+              double vega = NormalFormulaRepository.vega(FORWARD, strike, time, vol, putCall);
+              assertThat(computed).isCloseTo(vol, offset(2.0E-16 * price / vega + 1.0E-12 * vol));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_normal_negativeRates() {
+    double forward = -0.004;
+    double strike = -0.001;
+    double price = NormalFormulaRepository.price(forward, strike, 3d, 0.006, CALL);
+    assertThat(ImpliedVolatilityFormulaRepository.normalImpliedVolatility(price, forward, strike, 3d, CALL))
+        .isCloseTo(0.006, offset(TOLERANCE_VOL));
+  }
+
+  @Test
+  public void test_normal_consistency() {
+    double strike = 0.03;
+    double time = 2d;
+    double price = NormalFormulaRepository.price(FORWARD, strike, time, 0.007, PUT);
+    double expected = NormalFormulaRepository.impliedVolatility(price, FORWARD, strike, time, 0.01, 1d, PUT);
+    double computed = ImpliedVolatilityFormulaRepository.normalImpliedVolatility(price, FORWARD, strike, time, PUT);
+    assertThat(computed).isCloseTo(expected, offset(1.0E-12));
+  }
+
+  @Test
+  public void test_normal_intrinsic() {
+    assertThat(ImpliedVolatilityFormulaRepository.normalImpliedVolatility(0d, FORWARD, 0.03, 1d, CALL)).isEqualTo(0d);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ImpliedVolatilityFormulaRepository.normalImpliedVolatility(0.004, FORWARD, 0.03, 1d, PUT));
+  }
+
+  @Test
+  public void test_normal_batch() {
+    int size = STRIKE_SPREADS.length;
+    double[] price = new double[size];
+    double[] forward = new double[size];
+    double[] strike = new double[size];
+    double[] time = new double[size];
+    for (int i = 0; i < size; i++) {
+      forward[i] = FORWARD;
+      strike[i] = FORWARD + STRIKE_SPREADS[i];
+      time[i] = 0.75;
+      price[i] = NormalFormulaRepository.price(forward[i], strike[i], time[i], 0.01 - 0.001 * i, PUT);
+    }
+    double[] output = new double[size];
+    ImpliedVolatilityFormulaRepository.normalImpliedVolatility(price, forward, strike, time, PUT, output);
+    for (int i = 0; i < size; i++) {
+      assertThat(output[i])
+          .isEqualTo(ImpliedVolatilityFormulaRepository.normalImpliedVolatility(price[i], forward[i], strike[i], time[i], PUT));
+    }
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ImpliedVolatilityFormulaRepository.normalImpliedVolatility(
+            price, new double[1], strike, time, PUT, output));
+  }
+
+}
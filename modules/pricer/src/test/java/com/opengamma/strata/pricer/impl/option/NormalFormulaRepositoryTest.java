@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Test {@link NormalFormulaRepository} batch methods.
+ */
+public class NormalFormulaRepositoryTest {
+
+  private static final double[] FORWARDS = {0.01, 0.02, 0.015, 0.03, 0.0, -0.005, 0.02, 0.01};
+  private static final double[] STRIKES = {0.015, 0.02, 0.015, 0.01, 0.0, -0.01, 0.025, 0.01};
+  private static final double[] TIMES = {2.0, 1.0, 0.0, 5.0, 1.0, 0.5, 10.0, 1.0};
+  private static final double[] VOLS = {0.01, 0.008, 0.01, 0.0, 0.005, 0.012, 0.009, 1.e-18};
+
+  @Test
+  public void test_batch() {
+    int n = FORWARDS.length;
+    double[] output = new double[n];
+    for (PutCall putCall : PutCall.values()) {
+      NormalFormulaRepository.price(FORWARDS, STRIKES, TIMES, VOLS, putCall, output);
+      for (int i = 0; i < n; i++) {
+        assertThat(output[i]).isEqualTo(NormalFormulaRepository.price(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall));
+      }
+      NormalFormulaRepository.delta(FORWARDS, STRIKES, TIMES, VOLS, putCall, output);
+      for (int i = 0; i < n; i++) {
+        assertThat(output[i]).isEqualTo(NormalFormulaRepository.delta(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall));
+      }
+      NormalFormulaRepository.gamma(FORWARDS, STRIKES, TIMES, VOLS, putCall, output);
+      for (int i = 0; i < n; i++) {
+        assertThat(output[i]).isEqualTo(NormalFormulaRepository.gamma(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall));
+      }
+      NormalFormulaRepository.theta(FORWARDS, STRIKES, TIMES, VOLS, putCall, output);
+      for (int i = 0; i < n; i++) {
+        assertThat(output[i]).isEqualTo(NormalFormulaRepository.theta(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall));
+      }
+      NormalFormulaRepository.vega(FORWARDS, STRIKES, TIMES, VOLS, putCall, output);
+      for (int i = 0; i < n; i++) {
+        assertThat(output[i]).isEqualTo(NormalFormulaRepository.vega(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall));
+      }
+    }
+  }
+
+  @Test
+  public void test_batch_inPlace() {
+    double[] vols = VOLS.clone();
+    NormalFormulaRepository.vega(FORWARDS, STRIKES, TIMES, vols, PutCall.CALL, vols);
+    for (int i = 0; i < vols.length; i++) {
+      assertThat(vols[i]).isEqualTo(NormalFormulaRepository.vega(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], PutCall.CALL));
+    }
+  }
+
+  @Test
+  public void test_batch_length() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NormalFormulaRepository.price(FORWARDS, STRIKES, TIMES, new double[1], PutCall.CALL, new double[8]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NormalFormulaRepository.delta(FORWARDS, STRIKES, TIMES, VOLS, PutCall.CALL, new double[7]));
+  }
+
+}
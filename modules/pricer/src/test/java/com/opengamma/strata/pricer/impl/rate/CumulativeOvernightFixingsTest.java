@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate;
+
+import static com.opengamma.strata.basics.index.OvernightIndices.GBP_SONIA;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_SOFR;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.product.rate.OvernightCompoundedRateComputation;
+
+/**
+ * Test {@link CumulativeOvernightFixings}.
+ */
+public class CumulativeOvernightFixingsTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final HolidayCalendar CALENDAR = USD_SOFR.getFixingCalendar().resolve(REF_DATA);
+  private static final LocalDate START = date(2015, 1, 2);
+  private static final LocalDate END = date(2020, 1, 2);
+  private static final LocalDateDoubleTimeSeries FIXINGS;
+  static {
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    CALENDAR.businessDays(START, END).forEach(d -> builder.put(d, 0.01 + 0.001 * (d.getDayOfYear() % 7)));
+    FIXINGS = builder.build();
+  }
+  private static final double TOLERANCE = 1e-12;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of_cached() {
+    CumulativeOvernightFixings test = CumulativeOvernightFixings.of(USD_SOFR, CALENDAR, FIXINGS);
+    assertThat(CumulativeOvernightFixings.of(USD_SOFR, CALENDAR, FIXINGS)).isSameAs(test);
+    assertThat(CumulativeOvernightFixings.of(GBP_SONIA, CALENDAR, FIXINGS)).isNotSameAs(test);
+    assertThat(test.size()).isEqualTo(FIXINGS.size());
+    assertThat(test.getFixingDate(0)).isEqualTo(START);
+    assertThat(test.positionOf(START)).isEqualTo(0);
+    assertThat(test.positionOf(date(2015, 1, 3))).isNegative();
+  }
+
+  @Test
+  public void test_of_empty() {
+    CumulativeOvernightFixings test =
+        CumulativeOvernightFixings.of(USD_SOFR, CALENDAR, LocalDateDoubleTimeSeries.empty());
+    assertThat(test.size()).isEqualTo(0);
+    assertThat(test.positionOf(START)).isNegative();
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_compoundedFactor() {
+    CumulativeOvernightFixings test = CumulativeOvernightFixings.of(USD_SOFR, CALENDAR, FIXINGS);
+    LocalDate from = date(2016, 3, 1);
+    LocalDate to = date(2019, 6, 3);
+    double expected = 1d;
+    LocalDate fixingDate = from;
+    while (fixingDate.isBefore(to)) {
+      LocalDate maturityDate = CALENDAR.next(fixingDate);
+      double af = USD_SOFR.getDayCount().yearFraction(fixingDate, maturityDate);
+      expected *= 1d + af * FIXINGS.get(fixingDate).getAsDouble();
+      fixingDate = maturityDate;
+    }
+    int fromPosition = test.positionOf(from);
+    int toPosition = test.positionOf(to);
+    assertThat(test.isComplete(fromPosition, toPosition)).isTrue();
+    assertThat(test.compoundedFactor(fromPosition, toPosition)).isCloseTo(expected, offset(TOLERANCE));
+    assertThat(test.compoundedFactor(fromPosition, fromPosition)).isEqualTo(1d);
+  }
+
+  @Test
+  public void test_dailySum() {
+    CumulativeOvernightFixings test = CumulativeOvernightFixings.of(USD_SOFR, CALENDAR, FIXINGS);
+    LocalDate from = date(2016, 3, 5);
+    LocalDate to = date(2019, 6, 2);
+    double expected = 0d;
+    for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+      expected += FIXINGS.get(CALENDAR.previousOrSame(date)).getAsDouble();
+    }
+    assertThat(test.dailySum(from, to)).isCloseTo(expected, offset(TOLERANCE));
+    assertThat(test.dailySum(from, from)).isEqualTo(0d);
+    LocalDate last = FIXINGS.getLatestDate();
+    assertThat(test.dailySum(last, CALENDAR.next(last)))
+        .isCloseTo(FIXINGS.getLatestValue() * DAYS.between(last, CALENDAR.next(last)), offset(TOLERANCE));
+  }
+
+  @Test
+  public void test_isComplete() {
+    LocalDate missingDate = date(2017, 5, 10);
+    LocalDateDoubleTimeSeries fixings = FIXINGS.filter((date, value) -> !date.equals(missingDate));
+    CumulativeOvernightFixings test = CumulativeOvernightFixings.of(USD_SOFR, CALENDAR, fixings);
+    int missing = test.positionOf(missingDate);
+    assertThat(missing).isNotNegative();
+    assertThat(test.isComplete(0, missing)).isTrue();
+    assertThat(test.isComplete(0, missing + 1)).isFalse();
+    assertThat(test.isComplete(missing + 1, test.size())).isTrue();
+  }
+
+  @Test
+  public void test_firstUnpublished() {
+    CumulativeOvernightFixings test = CumulativeOvernightFixings.of(USD_SOFR, CALENDAR, FIXINGS);
+    OvernightCompoundedRateComputation computation =
+        OvernightCompoundedRateComputation.of(USD_SOFR, date(2017, 1, 3), date(2017, 4, 3), 0, REF_DATA);
+    LocalDate valuationDate = date(2017, 2, 15);
+    int from = test.positionOf(date(2017, 1, 3));
+    int to = test.positionOf(date(2017, 4, 3));
+    int found = test.firstUnpublished(from, to, valuationDate, computation);
+    assertThat(valuationDate.isAfter(computation.calculatePublicationFromFixing(test.getFixingDate(found - 1)))).isTrue();
+    assertThat(valuationDate.isAfter(computation.calculatePublicationFromFixing(test.getFixingDate(found)))).isFalse();
+    assertThat(test.firstUnpublished(from, to, date(2018, 1, 1), computation)).isEqualTo(to);
+    assertThat(test.firstUnpublished(from, to, date(2016, 1, 1), computation)).isEqualTo(from);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_seasonedCompounding() {
+    OvernightCompoundedRateComputation computation =
+        OvernightCompoundedRateComputation.of(USD_SOFR, date(2016, 1, 4), date(2019, 1, 4), 0, REF_DATA);
+    double expected = 1d;
+    LocalDate fixingDate = computation.getStartDate();
+    while (fixingDate.isBefore(computation.getEndDate())) {
+      LocalDate effectiveDate = computation.calculateEffectiveFromFixing(fixingDate);
+      LocalDate maturityDate = computation.calculateMaturityFromEffective(effectiveDate);
+      double af = USD_SOFR.getDayCount().yearFraction(effectiveDate, maturityDate);
+      expected *= 1d + af * FIXINGS.get(fixingDate).getAsDouble();
+      fixingDate = CALENDAR.next(fixingDate);
+    }
+    CumulativeOvernightFixings test = CumulativeOvernightFixings.of(USD_SOFR, CALENDAR, FIXINGS);
+    int from = test.positionOf(computation.getStartDate());
+    int to = test.positionOf(computation.getEndDate());
+    assertThat(test.compoundedFactor(from, to)).isCloseTo(expected, offset(TOLERANCE));
+  }
+
+}
@@ -19,6 +19,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
 import com.opengamma.strata.product.common.PutCall;
+import com.opengamma.strata.product.option.BarrierType;
 
 /**
  * Test {@link TrinomialTree}.
@@ -83,4 +84,75 @@ public class TrinomialTreeTest {
     }
   }
 
+  /**
+   * Test batch pricing and the in-place backward induction against the default implementation.
+   */
+  @Test
+  public void test_batch() {
+    int nSteps = 40;
+    double dt = TIME / nSteps;
+    double interest = 0.03;
+    LatticeSpecification lattice = new CoxRossRubinsteinLatticeSpecification();
+    double[] params = lattice.getParametersTrinomial(0.2, interest, dt).toArray();
+    DoubleArray time = DoubleArray.of(nSteps + 1, i -> dt * i);
+    DoubleArray df = DoubleArray.of(nSteps, i -> Math.exp(-interest * dt));
+    double[][] stateValue = new double[nSteps + 1][];
+    stateValue[0] = new double[] {SPOT };
+    List<DoubleMatrix> prob = new ArrayList<DoubleMatrix>();
+    double[] probs = new double[] {params[5], params[4], params[3] };
+    for (int i = 0; i < nSteps; ++i) {
+      int index = i;
+      stateValue[i + 1] = DoubleArray.of(2 * i + 3,
+          j -> SPOT * Math.pow(params[2], index + 1 - j) * Math.pow(params[1], j)).toArray();
+      double[][] probMatrix = new double[2 * i + 1][];
+      Arrays.fill(probMatrix, probs);
+      prob.add(DoubleMatrix.ofUnsafe(probMatrix));
+    }
+    RecombiningTrinomialTreeData treeData =
+        RecombiningTrinomialTreeData.of(DoubleMatrix.ofUnsafe(stateValue), prob, df, time);
+    List<OptionFunction> functions = new ArrayList<>();
+    for (double strike : STRIKES) {
+      functions.add(EuropeanVanillaOptionFunction.of(strike, TIME, PutCall.CALL, nSteps));
+      functions.add(ConstantContinuousSingleBarrierKnockoutFunction.of(
+          strike, TIME, PutCall.PUT, nSteps, BarrierType.DOWN, 90d, DoubleArray.filled(nSteps + 1, 1d)));
+      functions.add(ConstantContinuousSingleBarrierKnockoutFunction.of(
+          strike, TIME, PutCall.CALL, nSteps, BarrierType.UP, 135d, DoubleArray.filled(nSteps + 1)));
+    }
+    DoubleArray prices = TRINOMIAL_TREE.optionPrice(functions, treeData);
+    List<ValueDerivatives> adjoints = TRINOMIAL_TREE.optionPriceAdjoint(functions, treeData);
+    for (int i = 0; i < functions.size(); ++i) {
+      OptionFunction function = functions.get(i);
+      // the default in-place implementation delegates to the DoubleArray based methods
+      OptionFunction delegating = new OptionFunction() {
+        @Override
+        public double getTimeToExpiry() {
+          return function.getTimeToExpiry();
+        }
+
+        @Override
+        public int getNumberOfSteps() {
+          return function.getNumberOfSteps();
+        }
+
+        @Override
+        public DoubleArray getPayoffAtExpiryTrinomial(DoubleArray stateValue) {
+          return function.getPayoffAtExpiryTrinomial(stateValue);
+        }
+
+        @Override
+        public DoubleArray getNextOptionValues(
+            double discountFactor,
+            DoubleMatrix transitionProbability,
+            DoubleArray stateValue,
+            DoubleArray value,
+            int i) {
+          return function.getNextOptionValues(discountFactor, transitionProbability, stateValue, value, i);
+        }
+      };
+      double expected = TRINOMIAL_TREE.optionPrice(delegating, treeData);
+      assertThat(prices.get(i)).isEqualTo(expected);
+      assertThat(adjoints.get(i)).isEqualTo(TRINOMIAL_TREE.optionPriceAdjoint(delegating, treeData));
+    }
+  }
+
 }
@@ -131,6 +131,21 @@ public class SabrHaganVolatilityFunctionProviderTest extends SabrVolatilityFunct
     assertThat(0.0).isCloseTo(volatilityAdjoint.getDerivative(5), offset(tol));
   }
 
+  @Test
+  public void testVolatilityAdjointArray() {
+    double[] derivatives = new double[6];
+    for (double strike : new double[] {STRIKE_ITM, F, STRIKE_OTM}) {
+      for (SabrFormulaData data : new SabrFormulaData[] {DATA, DATA.withAlpha(0d)}) {
+        ValueDerivatives expected = FUNCTION.volatilityAdjoint(
+            F, strike, T, data.getAlpha(), data.getBeta(), data.getRho(), data.getNu());
+        double computed = FUNCTION.volatilityAdjoint(
+            F, strike, T, data.getAlpha(), data.getBeta(), data.getRho(), data.getNu(), derivatives);
+        assertThat(computed).isEqualTo(expected.getValue());
+        assertThat(derivatives).containsExactly(expected.getDerivatives().toArray());
+      }
+    }
+  }
+
   @Test
   public void testVolatilityAdjointSmallAlpha() {
     double eps = 1e-7;
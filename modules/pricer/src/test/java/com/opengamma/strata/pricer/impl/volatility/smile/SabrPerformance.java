@@ -5,9 +5,19 @@
  */
 package com.opengamma.strata.pricer.impl.volatility.smile;
 
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
+
 import java.util.stream.IntStream;
 
 import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.surface.InterpolatedNodalSurface;
+import com.opengamma.strata.market.surface.Surfaces;
+import com.opengamma.strata.market.surface.interpolator.GridSurfaceInterpolator;
+import com.opengamma.strata.pricer.model.SabrInterestRateParameters;
+import com.opengamma.strata.pricer.model.SabrVolatilityFormula;
 
 /**
  * Test performance.
@@ -45,6 +55,20 @@ public class SabrPerformance {
       System.out.println(hot1 + "ms (hot)");
       System.out.println();
     }
+
+    Cube cube = new Cube();
+    for (boolean batch : new boolean[] {false, true}) {
+      System.out.println(batch ? "Cube (batch)" : "Cube (point by point)");
+      for (int j = 0; j < 5; j++) {
+        System.out.println(sabrCubeAdjoint(cube, batch) + "ms");
+      }
+      double hot = IntStream.range(0, 200)
+          .mapToDouble(index -> sabrCubeAdjoint(cube, batch))
+          .average()
+          .getAsDouble();
+      System.out.println(hot + "ms (hot)");
+      System.out.println();
+    }
   }
 
   private static double sabrVolatility(double beta) {
@@ -81,6 +105,83 @@ public class SabrPerformance {
     return (end - start) / 1_000_000d;
   }
 
+  private static double sabrCubeAdjoint(Cube cube, boolean batch) {
+    double total = 0;
+    long start = System.nanoTime();
+    if (batch) {
+      cube.parameters.volatilityAdjoint(cube.expiries, cube.tenors, cube.strikes, cube.forwards, cube.output, cube.derivatives);
+      total += cube.output[0];
+    } else {
+      for (int i = 0; i < cube.strikes.length; i++) {
+        ValueDerivatives eval =
+            cube.parameters.volatilityAdjoint(cube.expiries[i], cube.tenors[i], cube.strikes[i], cube.forwards[i]);
+        total += eval.getValue();
+      }
+    }
+    long end = System.nanoTime();
+    if (total == 0) {
+      return -1;
+    }
+    return (end - start) / 1_000_000d;
+  }
+
+  static class Cube {
+    private double[] expiryNodes = {0.25, 0.5, 1, 2, 3, 5, 7, 10, 15, 20, 30};
+    private double[] tenorNodes = {1, 2, 3, 5, 7, 10, 15, 20, 30};
+    private int strikeCount = 64;
+    private SabrInterestRateParameters parameters = createParameters();
+    private int size = expiryNodes.length * tenorNodes.length * strikeCount;
+    private double[] expiries = new double[size];
+    private double[] tenors = new double[size];
+    private double[] strikes = new double[size];
+    private double[] forwards = new double[size];
+    private double[] output = new double[size];
+    private double[][] derivatives = new double[6][size];
+
+    Cube() {
+      int k = 0;
+      for (double expiry : expiryNodes) {
+        for (double tenor : tenorNodes) {
+          double forward = 0.02 + 0.0005 * tenor;
+          for (int i = 0; i < strikeCount; i++) {
+            expiries[k] = expiry;
+            tenors[k] = tenor;
+            forwards[k] = forward;
+            strikes[k] = forward * (0.5 + i / (double) strikeCount);
+            k++;
+          }
+        }
+      }
+    }
+
+    SabrInterestRateParameters createParameters() {
+      int nodeCount = expiryNodes.length * tenorNodes.length;
+      double[] x = new double[nodeCount];
+      double[] y = new double[nodeCount];
+      int k = 0;
+      for (double expiry : expiryNodes) {
+        for (double tenor : tenorNodes) {
+          x[k] = expiry;
+          y[k] = tenor;
+          k++;
+        }
+      }
+      GridSurfaceInterpolator interpolator = GridSurfaceInterpolator.of(LINEAR, LINEAR);
+      DoubleArray xValues = DoubleArray.ofUnsafe(x);
+      DoubleArray yValues = DoubleArray.ofUnsafe(y);
+      return SabrInterestRateParameters.of(
+          InterpolatedNodalSurface.of(Surfaces.sabrParameterByExpiryTenor("Alpha", ACT_365F, ValueType.SABR_ALPHA),
+              xValues, yValues, DoubleArray.filled(nodeCount, 0.05), interpolator),
+          InterpolatedNodalSurface.of(Surfaces.sabrParameterByExpiryTenor("Beta", ACT_365F, ValueType.SABR_BETA),
+              xValues, yValues, DoubleArray.filled(nodeCount, 0.5), interpolator),
+          InterpolatedNodalSurface.of(Surfaces.sabrParameterByExpiryTenor("Rho", ACT_365F, ValueType.SABR_RHO),
+              xValues, yValues, DoubleArray.filled(nodeCount, -0.25), interpolator),
+          InterpolatedNodalSurface.of(Surfaces.sabrParameterByExpiryTenor("Nu", ACT_365F, ValueType.SABR_NU),
+              xValues, yValues, DoubleArray.filled(nodeCount, 0.4), interpolator),
+          SabrVolatilityFormula.hagan());
+    }
+  }
+
   static class Data {
     private int cnt = 10;
     private double forward = 100.4456433578360;
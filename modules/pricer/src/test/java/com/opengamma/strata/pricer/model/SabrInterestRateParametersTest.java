@@ -9,9 +9,11 @@ import static com.opengamma.strata.basics.date.DayCounts.ACT_ACT_ISDA;
 import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import org.junit.jupiter.api.Test;
 
+import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.surface.ConstantSurface;
@@ -102,6 +104,44 @@ public class SabrInterestRateParametersTest {
     }
   }
 
+  @Test
+  public void volatility_array() {
+    SabrInterestRateParameters params = SabrInterestRateParameters.of(
+        ALPHA_SURFACE, BETA_SURFACE, RHO_SURFACE, NU_SURFACE, ConstantSurface.of("shift", 0.03), FORMULA);
+    double[] expiry = {0.5, 0.5, 0.5, 2.0, 2.0, 0.5};
+    double[] tenor = {1.0, 1.0, 1.0, 3.0, 5.0, 1.0};
+    double[] strike = {-0.01, 0.01, 0.02, 0.015, 0.03, 0.025};
+    double[] forward = {0.01, 0.01, 0.01, 0.02, 0.025, 0.01};
+    int size = expiry.length;
+    double[] volatility = new double[size];
+    params.volatility(expiry, tenor, strike, forward, volatility);
+    double[] adjointVolatility = new double[size];
+    double[][] derivatives = new double[6][size];
+    params.volatilityAdjoint(expiry, tenor, strike, forward, adjointVolatility, derivatives);
+    for (int i = 0; i < size; i++) {
+      assertThat(volatility[i]).isEqualTo(params.volatility(expiry[i], tenor[i], strike[i], forward[i]));
+      ValueDerivatives expected = params.volatilityAdjoint(expiry[i], tenor[i], strike[i], forward[i]);
+      assertThat(adjointVolatility[i]).isEqualTo(expected.getValue());
+      for (int j = 0; j < 6; j++) {
+        assertThat(derivatives[j][i]).isEqualTo(expected.getDerivative(j));
+      }
+    }
+    // output may be an input array
+    params.volatility(expiry, tenor, strike, forward, strike);
+    assertThat(strike).containsExactly(volatility);
+  }
+
+  @Test
+  public void volatility_array_invalid() {
+    double[] points = {1d, 2d};
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PARAMETERS.volatility(points, points, points, new double[1], new double[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PARAMETERS.volatilityAdjoint(points, points, points, points, new double[2], new double[5][2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PARAMETERS.volatilityAdjoint(points, points, points, points, new double[2], new double[6][1]));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
@@ -86,6 +86,7 @@ import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.explain.CompactExplainMap;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
@@ -954,6 +955,20 @@ public class DiscountingSwapProductPricerTest {
     assertThat(pricerTrade.explainPresentValue(SWAP_TRADE, MOCK_PROV)).isEqualTo(pricerSwap.explainPresentValue(SWAP, MOCK_PROV));
   }
 
+  @Test
+  public void test_explainPresentValueCompact() {
+    ResolvedSwapTrade swapTrade = SWAP_USD_FIXED_6M_LIBOR_3M_5Y.resolve(REF_DATA);
+    ExplainMap expected = SWAP_PRODUCT_PRICER.explainPresentValue(swapTrade.getProduct(), MULTI_USD);
+    CompactExplainMap compact = SWAP_PRODUCT_PRICER.explainPresentValueCompact(swapTrade.getProduct(), MULTI_USD);
+    assertThat(compact.get(ExplainKey.ENTRY_TYPE)).isEqualTo(expected.get(ExplainKey.ENTRY_TYPE));
+    assertThat(compact.toExplainMap()).isEqualTo(expected);
+    assertThat(compact.getDoubles(ExplainKey.DISCOUNT_FACTOR).size()).isEqualTo(30);
+
+    // test via SwapTrade
+    assertThat(DiscountingSwapTradePricer.DEFAULT.explainPresentValueCompact(swapTrade, MULTI_USD).toExplainMap())
+        .isEqualTo(expected);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_parSpread_fixedIbor() {
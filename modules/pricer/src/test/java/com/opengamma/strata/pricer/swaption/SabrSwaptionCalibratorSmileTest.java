@@ -28,6 +28,7 @@ import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
 import com.opengamma.strata.pricer.impl.option.NormalFormulaRepository;
 import com.opengamma.strata.pricer.impl.volatility.smile.SabrFormulaData;
 import com.opengamma.strata.pricer.model.SabrVolatilityFormula;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
 import com.opengamma.strata.product.common.PutCall;
 
 /**
@@ -145,6 +146,27 @@ public class SabrSwaptionCalibratorSmileTest {
     checkCalibrationPrice(MONEYNESS_5, VOLATILITY_BLACK_5, startParameters, fixed, shift, TOLERANCE_PRICE_CALIBRATION_LS);
   }
 
+  @Test
+  public void black_volatilities_from_prices_fast() {
+    SabrSwaptionCalibrator fastCalibration =
+        SabrSwaptionCalibrator.of(SABR_FORMULA, DiscountingSwapProductPricer.DEFAULT, REF_DATA, true);
+    double shift = 0.0100; // 100 bps
+    DoubleArray strikes = MONEYNESS_5.plus(FORWARD);
+    DoubleArray prices = DoubleArray.of(MONEYNESS_5.size(), i -> BlackFormulaRepository
+        .price(FORWARD, strikes.get(i), TIME_EXPIRY, VOLATILITY_BLACK_5.get(i), true));
+    Pair<DoubleArray, DoubleArray> expected =
+        SABR_CALIBRATION.blackVolatilitiesShiftedFromPrices(FORWARD, shift, TIME_EXPIRY, strikes, prices);
+    Pair<DoubleArray, DoubleArray> computed =
+        fastCalibration.blackVolatilitiesShiftedFromPrices(FORWARD, shift, TIME_EXPIRY, strikes, prices);
+    Pair<DoubleArray, DoubleArray> unshifted =
+        fastCalibration.blackVolatilitiesShiftedFromPrices(FORWARD, 0d, TIME_EXPIRY, strikes, prices);
+    for (int i = 0; i < MONEYNESS_5.size(); i++) {
+      assertThat(computed.getFirst().get(i)).isCloseTo(expected.getFirst().get(i), offset(1.0E-7));
+      assertThat(computed.getSecond().get(i)).isCloseTo(expected.getSecond().get(i), offset(1.0E-4));
+      assertThat(unshifted.getFirst().get(i)).isCloseTo(VOLATILITY_BLACK_5.get(i), offset(1.0E-12));
+    }
+  }
+
   private void checkCalibrationNormal(
       DoubleArray moneyness,
       DoubleArray normalVol,
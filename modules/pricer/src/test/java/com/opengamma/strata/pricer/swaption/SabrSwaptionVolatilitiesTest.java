@@ -26,6 +26,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.DoubleArrayMath;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.scenario.MarketDataBox;
@@ -133,6 +134,37 @@ public class SabrSwaptionVolatilitiesTest {
     }
   }
 
+  @Test
+  public void test_volatility_array() {
+    SabrParametersSwaptionVolatilities prov = SabrParametersSwaptionVolatilities.of(NAME, CONV, DATE_TIME, PARAM);
+    int size = NB_TEST * NB_STRIKE;
+    double[] expiry = new double[size];
+    double[] tenor = new double[size];
+    double[] strike = new double[size];
+    double[] forward = new double[size];
+    for (int i = 0; i < NB_TEST; i++) {
+      for (int j = 0; j < NB_STRIKE; ++j) {
+        int k = i * NB_STRIKE + j;
+        expiry[k] = prov.relativeTime(TEST_OPTION_EXPIRY[i]);
+        tenor[k] = TEST_TENOR[i];
+        strike[k] = TEST_STRIKE[j];
+        forward[k] = TEST_FORWARD;
+      }
+    }
+    double[] volatility = new double[size];
+    prov.volatility(expiry, tenor, strike, forward, volatility);
+    double[] adjointVolatility = new double[size];
+    double[][] derivatives = new double[6][size];
+    prov.volatilityAdjoint(expiry, tenor, strike, forward, adjointVolatility, derivatives);
+    for (int k = 0; k < size; k++) {
+      assertThat(volatility[k]).isCloseTo(PARAM.volatility(expiry[k], tenor[k], strike[k], forward[k]), offset(TOLERANCE_VOL));
+      ValueDerivatives expected = PARAM.volatilityAdjoint(expiry[k], tenor[k], strike[k], forward[k]);
+      assertThat(adjointVolatility[k]).isCloseTo(expected.getValue(), offset(TOLERANCE_VOL));
+      assertThat(derivatives[2][k]).isCloseTo(expected.getDerivative(2), offset(TOLERANCE_VOL));
+      assertThat(derivatives[5][k]).isCloseTo(expected.getDerivative(5), offset(TOLERANCE_VOL));
+    }
+  }
+
   @Test
   public void test_parameterSensitivity() {
     double alphaSensi = 2.24, betaSensi = 3.45, rhoSensi = -2.12, nuSensi = -0.56;